@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+#
+# JFR記録の集計
+# app.jfr.enabled=true で起動したアプリケーションの記録から、サービス・リポジトリの呼び出しを操作ごとに集計し、
+# レイテンシ（p50/p95/p99/最大/合計、平均件数・SQL発行数）と割り当ての表を出力する。
+#
+# 使用例:
+#   mvn -B compile
+#   java -XX:StartFlightRecording=settings=target/classes/jfr/employee-management.jfc,filename=app.jfr,dumponexit=true \
+#        -Dapp.jfr.enabled=true -jar target/employee-management-system-1.0.0.jar
+#   scripts/jfr-summary.sh app.jfr
+#
+set -euo pipefail
+
+if [[ $# -ne 1 ]]; then
+    echo "使用方法: $0 <記録ファイル.jfr>" >&2
+    exit 2
+fi
+
+PROJECT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+CLASSES="$PROJECT_DIR/target/classes"
+
+if [[ ! -f "$CLASSES/com/company/system/jfr/RecordingAnalyzer.class" ]]; then
+    echo "解析ツールがビルドされていません（mvn -B compile を実行してください）" >&2
+    exit 1
+fi
+
+exec java -cp "$CLASSES" com.company.system.jfr.RecordingAnalyzer "$1"
@@ -0,0 +1,100 @@
+#!/usr/bin/env bash
+#
+# 起動ベンチマーク
+# アプリケーションを起動し、初回リクエストが成功するまでの時間と、その時点のRSS、
+# ウォームアップを終えてレディネスが受け付け開始になるまでの時間を計測する。
+# 予算（MAX_STARTUP_MS / MAX_READY_MS / MAX_RSS_MB）を超えた場合は終了コード1を返す。
+#
+# 使用例:
+#   mvn -Pfaststart package -DskipTests
+#   scripts/startup-benchmark.sh faststart
+#   scripts/startup-benchmark.sh default
+#
+set -euo pipefail
+
+MODE="${1:-faststart}"
+RUNS="${RUNS:-3}"
+PORT="${PORT:-8080}"
+MAX_STARTUP_MS="${MAX_STARTUP_MS:-10000}"
+MAX_READY_MS="${MAX_READY_MS:-20000}"
+MAX_RSS_MB="${MAX_RSS_MB:-400}"
+FIRST_REQUEST_PATH="${FIRST_REQUEST_PATH:-/api/v1/departments}"
+READINESS_PATH="${READINESS_PATH:-/actuator/health/readiness}"
+
+PROJECT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+VERSION="1.0.0"
+
+case "$MODE" in
+    faststart)
+        JAR="$PROJECT_DIR/target/faststart/employee-management-system-$VERSION-faststart.jar"
+        JAVA_OPTS=(-XX:SharedArchiveFile="$PROJECT_DIR/target/faststart/application.jsa"
+                   -Dspring.aot.enabled=true -Dspring.profiles.active=faststart)
+        ;;
+    default)
+        JAR="$PROJECT_DIR/target/employee-management-system-$VERSION.jar"
+        JAVA_OPTS=()
+        ;;
+    *)
+        echo "不明なモード: $MODE（faststart または default を指定してください）" >&2
+        exit 2
+        ;;
+esac
+
+if [[ ! -f "$JAR" ]]; then
+    echo "JARが見つかりません: $JAR" >&2
+    exit 2
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+# 指定したパスが成功するまで待つ（アプリケーションが異常終了した場合は終了コード1）
+wait_for() {
+    local path="$1" pid="$2" run="$3"
+    until curl -sf -o /dev/null "http://localhost:$PORT$path"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "アプリケーションが異常終了しました（/tmp/startup-benchmark-$run.log を確認してください）" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+}
+
+total_ms=0
+total_ready_ms=0
+max_rss_kb=0
+for run in $(seq 1 "$RUNS"); do
+    start=$(now_ms)
+    java "${JAVA_OPTS[@]}" -Dserver.port="$PORT" -jar "$JAR" > "/tmp/startup-benchmark-$run.log" 2>&1 &
+    pid=$!
+
+    wait_for "$FIRST_REQUEST_PATH" "$pid" "$run"
+    elapsed=$(( $(now_ms) - start ))
+    rss_kb=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+
+    # レディネスはウォームアップの完了（または上限到達）まで503を返す
+    wait_for "$READINESS_PATH" "$pid" "$run"
+    ready_ms=$(( $(now_ms) - start ))
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+
+    echo "run=$run time_to_first_request_ms=$elapsed time_to_ready_ms=$ready_ms rss_mb=$(( rss_kb / 1024 ))"
+    total_ms=$(( total_ms + elapsed ))
+    total_ready_ms=$(( total_ready_ms + ready_ms ))
+    if (( rss_kb > max_rss_kb )); then
+        max_rss_kb=$rss_kb
+    fi
+done
+
+avg_ms=$(( total_ms / RUNS ))
+avg_ready_ms=$(( total_ready_ms / RUNS ))
+max_rss_mb=$(( max_rss_kb / 1024 ))
+echo "mode=$MODE avg_time_to_first_request_ms=$avg_ms avg_time_to_ready_ms=$avg_ready_ms max_rss_mb=$max_rss_mb" \
+     "(budget: ${MAX_STARTUP_MS}ms, ready ${MAX_READY_MS}ms, ${MAX_RSS_MB}MB)"
+
+if (( avg_ms > MAX_STARTUP_MS || avg_ready_ms > MAX_READY_MS || max_rss_mb > MAX_RSS_MB )); then
+    echo "起動予算を超過しました" >&2
+    exit 1
+fi
@@ -0,0 +1,76 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 流量制御（アドミッションコントロール）設定
+ */
+@Data
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionControlProperties {
+
+    /**
+     * 流量制御を有効にするかどうか
+     */
+    private boolean enabled = true;
+
+    private RateLimit rateLimit = new RateLimit();
+
+    private Concurrency concurrency = new Concurrency();
+
+    /**
+     * クライアントごとのレート制限設定
+     */
+    @Data
+    public static class RateLimit {
+
+        /**
+         * 1秒あたりの許可リクエスト数
+         */
+        private double permitsPerSecond = 50;
+
+        /**
+         * 瞬間的に許可するリクエスト数（バケット容量）
+         */
+        private int burst = 100;
+
+        /**
+         * バケットを保持するクライアント数の上限（超えた後の新しいクライアントは共有のバケット1つで制限）
+         */
+        private int maxClients = 100_000;
+
+        /**
+         * 満タンまで回復したバケットを削除する間隔
+         */
+        private Duration purgeInterval = Duration.ofSeconds(10);
+    }
+
+    /**
+     * 適応型同時実行数制限の設定
+     */
+    @Data
+    public static class Concurrency {
+
+        private int initialLimit = 20;
+        private int minLimit = 5;
+        private int maxLimit = 200;
+
+        /**
+         * 長期平均レイテンシに対して許容する悪化倍率
+         */
+        private double tolerance = 2.0;
+
+        /**
+         * 制限値の更新に対する平滑化係数（0〜1）
+         */
+        private double smoothing = 0.2;
+
+        /**
+         * 同時実行数超過時にクライアントへ返す再試行待ち時間
+         */
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,39 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 社員変更履歴の記録設定
+ */
+@Data
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+
+    /**
+     * 書き込み待ちキューの最大件数
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * 1回の一括登録の最大件数
+     */
+    private int batchSize = 200;
+
+    /**
+     * 一括登録の最大間隔
+     */
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    /**
+     * キューが満杯の場合に空きを待つ最大時間（超過時は呼び出し元スレッドで登録）
+     */
+    private Duration offerTimeout = Duration.ofMillis(100);
+
+    /**
+     * 停止時にキューを書き出す最大時間
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,54 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * ノード間のキャッシュ無効化設定
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache-invalidation")
+public class CacheInvalidationProperties {
+
+    /**
+     * 無効化ログによるノード間のキャッシュ整合を有効にするか（複数ノードで同じデータベースを共有する場合に有効化）
+     */
+    private boolean enabled = false;
+
+    /**
+     * ノード識別子（未指定の場合は「プロセスID@ホスト名」）
+     */
+    private String nodeId;
+
+    /**
+     * 無効化ログの読み取り間隔
+     */
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    /**
+     * 1回に読み取る無効化ログの最大件数（パーティションごと）
+     */
+    private int batchSize = 500;
+
+    /**
+     * キャッシュの古さの上限（無効化ログをこの時間読み取れない場合はキャッシュをすべて破棄する）
+     */
+    private Duration maxStaleness = Duration.ofSeconds(5);
+
+    /**
+     * 欠番（読み取り時に未コミットだった番号）を待つ時間（書き込みトランザクションのコミット所要時間より長くすること）
+     */
+    private Duration gapTimeout = Duration.ofMinutes(1);
+
+    /**
+     * 無効化ログの保持期間
+     */
+    private Duration retention = Duration.ofHours(1);
+
+    /**
+     * 保持期間を過ぎた無効化ログの削除間隔
+     */
+    private Duration purgeInterval = Duration.ofMinutes(10);
+}
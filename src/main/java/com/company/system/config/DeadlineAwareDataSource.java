@@ -0,0 +1,220 @@
+package com.company.system.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * リクエストの処理期限でSQLを取り消すデータソース
+ * <p>
+ * 処理期限が設定されたスレッドで取得した接続の文を包み、実行時に期限までの残り時間で取り消しを予約する。
+ * 期限を過ぎていれば実行せず、実行中に期限を過ぎた場合は{@link Statement#cancel()}で取り消して
+ * {@link SQLTimeoutException}を送出する（JPAからはクエリタイムアウトとして扱われる）。
+ * JDBCのクエリタイムアウト（秒単位、H2では接続単位の設定でプールに返した後も残る）は使用しない。
+ */
+@Slf4j
+public class DeadlineAwareDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    /**
+     * 期限超過を示すSQLSTATE（クエリの取り消し）
+     */
+    private static final String QUERY_CANCELED_SQL_STATE = "57014";
+
+    private final ScheduledExecutorService canceller;
+
+    public DeadlineAwareDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "sql-deadline-canceller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        this.canceller = Executors.unconfigurableScheduledExecutorService(executor);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    /**
+     * 取り消し用のスレッドを停止し、元のデータソース（接続プール）を閉じる
+     */
+    @Override
+    public void close() throws Exception {
+        canceller.shutdownNow();
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrap(Connection connection) throws SQLException {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null) {
+            return connection;
+        }
+        if (deadline.isExpired()) {
+            connection.close();
+            throw timeout(deadline, null);
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static SQLTimeoutException timeout(RequestDeadline deadline, SQLException cause) {
+        return new SQLTimeoutException("処理期限（" + deadline.getTimeout().toMillis() + "ms）を過ぎたためSQLを取り消しました",
+                QUERY_CANCELED_SQL_STATE, cause);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static boolean isIdentityMethod(Method method) {
+        return method.getDeclaringClass() == Object.class;
+    }
+
+    /**
+     * equals / hashCode / toString はプロキシ自身で応答する
+     */
+    private static Object invokeIdentity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> "DeadlineAware@" + Integer.toHexString(System.identityHashCode(proxy));
+        };
+    }
+
+    /**
+     * 接続から生成する文を包む
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return invokeIdentity(proxy, method, args);
+            }
+            Object result = DeadlineAwareDataSource.invoke(connection, method, args);
+            Class<?> type = switch (method.getName()) {
+                case "createStatement" -> Statement.class;
+                case "prepareStatement" -> PreparedStatement.class;
+                case "prepareCall" -> CallableStatement.class;
+                default -> null;
+            };
+            if (type == null) {
+                return result;
+            }
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler((Statement) result));
+        }
+    }
+
+    /**
+     * 文の実行時に期限での取り消しを予約する
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+
+        StatementHandler(Statement statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return invokeIdentity(proxy, method, args);
+            }
+            RequestDeadline deadline = RequestDeadline.current();
+            if (deadline == null || !method.getName().startsWith("execute")) {
+                return DeadlineAwareDataSource.invoke(statement, method, args);
+            }
+            long remainingNanos = deadline.remainingNanos();
+            if (remainingNanos <= 0) {
+                throw timeout(deadline, null);
+            }
+            Cancellation cancellation = new Cancellation(statement);
+            ScheduledFuture<?> scheduled = canceller.schedule(cancellation, remainingNanos, TimeUnit.NANOSECONDS);
+            try {
+                return DeadlineAwareDataSource.invoke(statement, method, args);
+            } catch (SQLException e) {
+                if (cancellation.finish()) {
+                    log.warn("処理期限を過ぎたためSQLを取り消しました: timeout={}ms", deadline.getTimeout().toMillis());
+                    throw timeout(deadline, e);
+                }
+                throw e;
+            } finally {
+                cancellation.finish();
+                scheduled.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * 実行中の文の取り消し（実行終了後は取り消さず、プールに返した接続の別の文に影響させない）
+     */
+    private static final class Cancellation implements Runnable {
+
+        private final Statement statement;
+        private boolean running = true;
+        private boolean cancelled;
+
+        Cancellation(Statement statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        public synchronized void run() {
+            if (!running) {
+                return;
+            }
+            try {
+                statement.cancel();
+                cancelled = true;
+            } catch (SQLException e) {
+                log.debug("SQLの取り消しに失敗しました", e);
+            }
+        }
+
+        /**
+         * 実行終了を記録し、取り消したかどうかを返す
+         */
+        synchronized boolean finish() {
+            running = false;
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.company.system.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * リクエストの処理期限設定
+ * <p>
+ * 処理期限の設定はDeadlineInterceptor（WebConfigで登録）、SQLの取り消しはアプリケーションのデータソース
+ * （パーティション分割・読み取りレプリカの振り分けを含む最上位のもの）を包むDeadlineAwareDataSourceで行う。
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.deadline", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    /**
+     * アプリケーションのデータソースを処理期限でSQLを取り消すデータソースで包む
+     *
+     * @return BeanPostProcessor
+     */
+    @Bean
+    public static BeanPostProcessor deadlineAwareDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof DeadlineAwareDataSource)
+                        ? new DeadlineAwareDataSource(dataSource) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * リクエストの処理期限設定
+ */
+@Data
+@ConfigurationProperties(prefix = "app.deadline")
+public class DeadlineProperties {
+
+    /**
+     * 処理期限を有効にするか
+     */
+    private boolean enabled = true;
+
+    /**
+     * 処理時間の上限（ミリ秒）を指定するリクエストヘッダー
+     */
+    private String header = "X-Request-Timeout";
+
+    /**
+     * ヘッダーもAPIごとの既定値もない場合の処理時間の上限
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(10);
+
+    /**
+     * ヘッダーで指定できる処理時間の上限の最大値
+     */
+    private Duration maxTimeout = Duration.ofSeconds(30);
+
+    /**
+     * APIごとの処理時間の上限の既定値（キーはパスパターン、先に記載したものを優先）
+     */
+    private Map<String, Duration> endpoints = new LinkedHashMap<>();
+}
@@ -0,0 +1,12 @@
+package com.company.system.config;
+
+/**
+ * 部署IDの剰余で登録先パーティションを決定する戦略（既定）
+ */
+public class DepartmentPartitionRoutingStrategy implements PartitionRoutingStrategy {
+
+    @Override
+    public int partitionFor(Long departmentId, int partitionCount) {
+        return (int) Math.floorMod(departmentId, (long) partitionCount);
+    }
+}
@@ -0,0 +1,12 @@
+package com.company.system.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 社員ディレクトリのスナップショット設定
+ */
+@Configuration
+@EnableConfigurationProperties(DirectorySnapshotProperties.class)
+public class DirectorySnapshotConfig {
+}
@@ -0,0 +1,34 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 社員ディレクトリのスナップショット設定
+ */
+@Data
+@ConfigurationProperties(prefix = "app.directory-snapshot")
+public class DirectorySnapshotProperties {
+
+    /**
+     * 社員ディレクトリをファイルへ保存し、再起動時に復元するか（永続化されたデータベースを使用する場合に有効化）
+     */
+    private boolean enabled = false;
+
+    /**
+     * スナップショットファイルのパス
+     */
+    private String path = System.getProperty("java.io.tmpdir") + "/employee-directory.snapshot";
+
+    /**
+     * スナップショットを保存する間隔（前回の保存から変更がない場合は保存しない）
+     */
+    private Duration saveInterval = Duration.ofMinutes(10);
+
+    /**
+     * 復元時に再読み込みする変更の遡り幅（保存時点より前に更新され、保存後にコミットされた変更を取りこぼさないための余裕）
+     */
+    private Duration replayOverlap = Duration.ofMinutes(1);
+}
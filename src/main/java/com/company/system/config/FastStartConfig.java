@@ -0,0 +1,49 @@
+package com.company.system.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * 起動高速化設定
+ */
+@Configuration
+public class FastStartConfig {
+
+    /**
+     * 遅延初期化の対象外とするBean
+     * <p>
+     * データソースとJPAは初回リクエストで必ず使用されるため、起動時に初期化しておく。
+     *
+     * @return 遅延初期化除外フィルター
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerInfrastructureFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DataSource.class,
+                AbstractEntityManagerFactoryBean.class,
+                PlatformTransactionManager.class
+        );
+    }
+
+    /**
+     * 移行済みデータベースを考慮したSQLスクリプト初期化
+     *
+     * @param dataSource データソース
+     * @param properties SQL初期化設定
+     * @return スクリプト初期化クラス
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.sql-init", name = "skip-if-migrated", havingValue = "true")
+    public SqlDataSourceScriptDatabaseInitializer dataSourceScriptDatabaseInitializer(
+            DataSource dataSource, SqlInitializationProperties properties) {
+        return new MigratedDatabaseAwareScriptInitializer(dataSource, properties);
+    }
+}
@@ -0,0 +1,12 @@
+package com.company.system.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 高頻度キーの検出設定
+ */
+@Configuration
+@EnableConfigurationProperties(HotKeyProperties.class)
+public class HotKeyConfig {
+}
@@ -0,0 +1,39 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 高頻度キーの検出設定
+ */
+@Data
+@ConfigurationProperties(prefix = "app.hot-keys")
+public class HotKeyProperties {
+
+    /**
+     * 検出を有効にするか
+     */
+    private boolean enabled = true;
+
+    /**
+     * 種別ごとに保持する上位キーの数
+     */
+    private int topK = 20;
+
+    /**
+     * カウンター表の幅（推定誤差は全体の回数に対しておよそ e / 幅）
+     */
+    private int width = 2048;
+
+    /**
+     * カウンター表の段数
+     */
+    private int depth = 4;
+
+    /**
+     * 集計窓の長さ（直前の窓の回数は経過時間に応じて減衰させて加える）
+     */
+    private Duration window = Duration.ofMinutes(1);
+}
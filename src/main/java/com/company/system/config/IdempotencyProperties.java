@@ -0,0 +1,39 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 冪等キー設定
+ */
+@Data
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Idempotency-Keyヘッダーによる再送検出を有効にするか
+     */
+    private boolean enabled = true;
+
+    /**
+     * 処理結果を保持する期間
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * ロックを分割する数
+     */
+    private int stripes = 64;
+
+    /**
+     * メモリに保持する処理結果の最大件数（超過分はテーブルから復元する）
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * 期限切れの処理結果をテーブルから削除する間隔
+     */
+    private Duration purgeInterval = Duration.ofMinutes(10);
+}
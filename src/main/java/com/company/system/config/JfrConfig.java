@@ -0,0 +1,71 @@
+package com.company.system.config;
+
+import com.company.system.jfr.OperationEventInterceptor;
+import com.company.system.repository.EmployeeRepository;
+import com.company.system.service.DepartmentService;
+import com.company.system.service.EmployeeService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * JFRイベントの記録設定
+ * <p>
+ * EmployeeService・DepartmentService・EmployeeRepositoryの呼び出しを{@link com.company.system.jfr.OperationEvent}として記録する。
+ * 無効（既定）の場合はアドバイザーを登録しないため、呼び出しに処理は追加されない。
+ * 有効な場合もイベントは既定で無効であり、同梱のJFC（jfr/employee-management.jfc）でイベントを有効にした記録の間だけ計測する。
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.jfr", name = "enabled", havingValue = "true")
+public class JfrConfig {
+
+    /**
+     * SQL文を数えるHibernate設定（処理区間の計測など、先に設定された StatementInspector の後に呼び出す）
+     *
+     * @return Hibernate設定のカスタマイズ
+     */
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public HibernatePropertiesCustomizer operationEventHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            Object configured = hibernateProperties.get(AvailableSettings.STATEMENT_INSPECTOR);
+            StatementInspector delegate = configured instanceof StatementInspector inspector ? inspector : sql -> sql;
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                    (StatementInspector) sql -> delegate.inspect(OperationEventInterceptor.onStatementPrepared(sql)));
+        };
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor employeeServiceOperationEventAdvisor() {
+        return advisor(EmployeeService.class, "service");
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor departmentServiceOperationEventAdvisor() {
+        return advisor(DepartmentService.class, "service");
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor employeeRepositoryOperationEventAdvisor() {
+        return advisor(EmployeeRepository.class, "repository");
+    }
+
+    private static Advisor advisor(Class<?> type, String layer) {
+        return new DefaultPointcutAdvisor(new ComposablePointcut(new RootClassFilter(type)),
+                new OperationEventInterceptor(layer, type.getSimpleName()));
+    }
+}
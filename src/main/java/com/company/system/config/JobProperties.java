@@ -0,0 +1,59 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 非同期ジョブ設定
+ */
+@Data
+@ConfigurationProperties(prefix = "app.jobs")
+public class JobProperties {
+
+    /**
+     * ジョブを実行するスレッド数
+     */
+    private int workerThreads = 2;
+
+    /**
+     * 実行待ちジョブの最大件数（超過時は受け付けない）
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * 1トランザクションで処理する件数
+     */
+    private int chunkSize = 500;
+
+    /**
+     * エクスポート結果の出力先ディレクトリ
+     */
+    private String resultDir = System.getProperty("java.io.tmpdir") + "/employee-jobs";
+
+    /**
+     * 受け付けられない場合にクライアントへ返す再試行待ち時間
+     */
+    private Duration retryAfter = Duration.ofSeconds(5);
+
+    /**
+     * 停止時に実行中のチャンクの完了を待つ最大時間
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+    /**
+     * ノード識別子（ジョブの実行担当として記録、未指定の場合は「プロセスID@ホスト名」）
+     */
+    private String nodeId;
+
+    /**
+     * 実行担当のジョブの生存通知と、担当のいないジョブの再開を行う間隔
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(10);
+
+    /**
+     * 生存通知がこの時間途絶えたジョブを担当ノードの停止とみなし、他のノードが引き継ぐ
+     */
+    private Duration leaseTimeout = Duration.ofMinutes(1);
+}
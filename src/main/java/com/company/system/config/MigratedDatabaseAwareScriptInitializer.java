@@ -0,0 +1,84 @@
+package com.company.system.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 移行済みのデータベースではdata.sqlの実行をスキップするスクリプト初期化クラス
+ * <p>
+ * schema.sqlは冪等（CREATE ... IF NOT EXISTSと参照テーブルの差分反映）のため常に実行し、
+ * 移行済みのデータベースにも後から追加されたテーブル・シーケンスを作成する。
+ */
+@Slf4j
+public class MigratedDatabaseAwareScriptInitializer extends SqlDataSourceScriptDatabaseInitializer {
+
+    /**
+     * 移行済みかどうかの判定に使用するテーブル名
+     */
+    private static final String MARKER_TABLE = "employees";
+
+    private final DataSource dataSource;
+    private final SqlInitializationProperties properties;
+
+    public MigratedDatabaseAwareScriptInitializer(DataSource dataSource, SqlInitializationProperties properties) {
+        super(dataSource, properties);
+        this.dataSource = dataSource;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean initializeDatabase() {
+        if (isMigrated()) {
+            log.info("移行済みのデータベースのため初期データ（data.sql）の投入をスキップします");
+            return new SqlDataSourceScriptDatabaseInitializer(dataSource, withoutDataScripts(properties))
+                    .initializeDatabase();
+        }
+        return super.initializeDatabase();
+    }
+
+    /**
+     * マーカーテーブルが存在するかどうかを判定
+     *
+     * @return 存在する場合true
+     */
+    private boolean isMigrated() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            return tableExists(metaData, MARKER_TABLE.toUpperCase()) || tableExists(metaData, MARKER_TABLE);
+        } catch (SQLException e) {
+            log.warn("テーブルの存在確認に失敗したためSQLスクリプトを実行します: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean tableExists(DatabaseMetaData metaData, String tableName) throws SQLException {
+        try (ResultSet tables = metaData.getTables(null, null, tableName, new String[]{"TABLE"})) {
+            return tables.next();
+        }
+    }
+
+    /**
+     * data.sqlを除いたSQL初期化設定を生成
+     */
+    private static SqlInitializationProperties withoutDataScripts(SqlInitializationProperties source) {
+        SqlInitializationProperties schemaOnly = new SqlInitializationProperties();
+        schemaOnly.setSchemaLocations(source.getSchemaLocations());
+        schemaOnly.setDataLocations(List.of());
+        schemaOnly.setPlatform(source.getPlatform());
+        schemaOnly.setUsername(source.getUsername());
+        schemaOnly.setPassword(source.getPassword());
+        schemaOnly.setContinueOnError(source.isContinueOnError());
+        schemaOnly.setSeparator(source.getSeparator());
+        schemaOnly.setEncoding(source.getEncoding());
+        schemaOnly.setMode(source.getMode());
+        return schemaOnly;
+    }
+}
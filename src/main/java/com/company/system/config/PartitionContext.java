@@ -0,0 +1,37 @@
+package com.company.system.config;
+
+/**
+ * 現在のスレッドで使用するパーティション番号の保持
+ * <p>
+ * 接続はトランザクション内の最初のSQL実行時に取得されるため、最初のSQLより前に設定する必要がある。
+ * 未設定の場合は既定のパーティション（0）を使用する。
+ */
+public final class PartitionContext {
+
+    private static final ThreadLocal<Integer> CURRENT_PARTITION = new ThreadLocal<>();
+
+    private PartitionContext() {
+    }
+
+    /**
+     * 現在のスレッドのパーティション番号を取得
+     *
+     * @return パーティション番号（未設定の場合null）
+     */
+    public static Integer current() {
+        return CURRENT_PARTITION.get();
+    }
+
+    /**
+     * 現在のスレッドのパーティション番号を設定
+     *
+     * @param partition パーティション番号（nullの場合はクリア）
+     */
+    public static void set(Integer partition) {
+        if (partition == null) {
+            CURRENT_PARTITION.remove();
+        } else {
+            CURRENT_PARTITION.set(partition);
+        }
+    }
+}
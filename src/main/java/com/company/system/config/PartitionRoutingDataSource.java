@@ -0,0 +1,14 @@
+package com.company.system.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * {@link PartitionContext}のパーティション番号で接続先を切り替えるデータソース
+ */
+public class PartitionRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return PartitionContext.current();
+    }
+}
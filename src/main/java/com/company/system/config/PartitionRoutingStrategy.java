@@ -0,0 +1,19 @@
+package com.company.system.config;
+
+/**
+ * 新規社員の登録先パーティションを決定する戦略
+ * <p>
+ * 登録後の社員はIDからパーティションを特定するため、部署を変更しても移動しない。
+ * 独自の戦略（テナント単位など）はこのインターフェースを実装したBeanを登録して差し替える。
+ */
+public interface PartitionRoutingStrategy {
+
+    /**
+     * 登録先のパーティション番号を決定
+     *
+     * @param departmentId 部署ID
+     * @param partitionCount パーティション数
+     * @return パーティション番号（0以上partitionCount未満）
+     */
+    int partitionFor(Long departmentId, int partitionCount);
+}
@@ -0,0 +1,131 @@
+package com.company.system.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * パーティション分割データソース設定
+ * <p>
+ * {@code app.partitioning.enabled=true}の場合のみ有効になる。部署は全パーティションに同じ内容を持ち、
+ * 社員はパーティションごとに採番を分け（パーティションpのIDは p+1, p+1+N, ...）、IDから格納先を特定できるようにする。
+ * 読み取りレプリカ振り分けとは併用できない。
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.partitioning", name = "enabled", havingValue = "true")
+public class PartitionedDataSourceConfig {
+
+    @Bean
+    public PartitionDataSources partitionDataSources(PartitioningProperties properties) {
+        List<PartitioningProperties.Partition> partitions = properties.getPartitions();
+        if (partitions.isEmpty()) {
+            throw new IllegalStateException("app.partitioning.partitionsが指定されていません");
+        }
+        PartitionDataSources dataSources = new PartitionDataSources();
+        for (int i = 0; i < partitions.size(); i++) {
+            PartitioningProperties.Partition partition = partitions.get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("partition-" + i);
+            dataSource.setJdbcUrl(partition.getUrl());
+            dataSource.setUsername(partition.getUsername());
+            dataSource.setPassword(partition.getPassword());
+            if (partition.getDriverClassName() != null) {
+                dataSource.setDriverClassName(partition.getDriverClassName());
+            }
+            dataSource.setMaximumPoolSize(partition.getMaximumPoolSize());
+            dataSources.add(dataSource);
+        }
+        return dataSources;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(PartitionDataSources partitionDataSources) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < partitionDataSources.size(); i++) {
+            targets.put(i, partitionDataSources.get(i));
+        }
+        PartitionRoutingDataSource routingDataSource = new PartitionRoutingDataSource();
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(partitionDataSources.get(0));
+        routingDataSource.afterPropertiesSet();
+        log.info("パーティション分割を有効化: パーティション数={}", partitionDataSources.size());
+        // 接続取得を最初のSQL実行時まで遅延させ、トランザクション開始後にパーティションを選択できるようにする
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 全パーティションのSQLスクリプト初期化
+     *
+     * @param partitionDataSources パーティションのデータソース
+     * @param properties SQL初期化設定
+     * @return スクリプト初期化クラス
+     */
+    @Bean
+    public SqlDataSourceScriptDatabaseInitializer partitionScriptDatabaseInitializer(
+            PartitionDataSources partitionDataSources, SqlInitializationProperties properties) {
+        return new SqlDataSourceScriptDatabaseInitializer(partitionDataSources.get(0), properties) {
+            @Override
+            public boolean initializeDatabase() {
+                boolean initialized = false;
+                int partitionCount = partitionDataSources.size();
+                for (int i = 0; i < partitionCount; i++) {
+                    DataSource dataSource = partitionDataSources.get(i);
+                    initialized |= new SqlDataSourceScriptDatabaseInitializer(dataSource, properties).initializeDatabase();
+                    alignEmployeeIdentity(new JdbcTemplate(dataSource), i, partitionCount);
+                }
+                return initialized;
+            }
+        };
+    }
+
+    /**
+     * パーティションごとに社員IDの採番を分ける（既存の最大IDより大きく、剰余がパーティション番号に対応する値から再開）
+     */
+    private static void alignEmployeeIdentity(JdbcTemplate jdbcTemplate, int partition, int partitionCount) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM employees", Long.class);
+        long next = maxId + 1;
+        next += Math.floorMod(partition - (next - 1), (long) partitionCount);
+        jdbcTemplate.execute("ALTER TABLE employees ALTER COLUMN id RESTART WITH " + next
+                + " SET INCREMENT BY " + partitionCount);
+    }
+
+    /**
+     * パーティションのデータソース一覧（コンテキスト終了時に接続プールを閉じる）
+     */
+    public static class PartitionDataSources implements AutoCloseable {
+
+        private final List<HikariDataSource> dataSources = new ArrayList<>();
+
+        void add(HikariDataSource dataSource) {
+            dataSources.add(dataSource);
+        }
+
+        public HikariDataSource get(int partition) {
+            return dataSources.get(partition);
+        }
+
+        public int size() {
+            return dataSources.size();
+        }
+
+        @Override
+        public void close() {
+            dataSources.forEach(HikariDataSource::close);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.system.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * パーティション分割設定
+ */
+@Configuration
+@EnableConfigurationProperties(PartitioningProperties.class)
+public class PartitioningConfig {
+
+    /**
+     * 登録先パーティションの決定戦略（独自の戦略Beanがない場合は部署単位）
+     *
+     * @return 登録先パーティションの決定戦略
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public PartitionRoutingStrategy partitionRoutingStrategy() {
+        return new DepartmentPartitionRoutingStrategy();
+    }
+}
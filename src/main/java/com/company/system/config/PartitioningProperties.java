@@ -0,0 +1,53 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * データベースのパーティション分割設定
+ */
+@Data
+@ConfigurationProperties(prefix = "app.partitioning")
+public class PartitioningProperties {
+
+    /**
+     * 社員データを複数のパーティションへ分割するかどうか
+     */
+    private boolean enabled = false;
+
+    /**
+     * パーティションの接続先（定義順がパーティション番号）
+     */
+    private List<Partition> partitions = new ArrayList<>();
+
+    /**
+     * 全パーティションへの並列問い合わせに使用するスレッド数
+     */
+    private int scatterThreads = 8;
+
+    /**
+     * 全パーティションへの並列問い合わせの最大待ち時間
+     */
+    private Duration scatterTimeout = Duration.ofSeconds(10);
+
+    /**
+     * パーティションの接続先
+     */
+    @Data
+    public static class Partition {
+
+        private String url;
+        private String username = "sa";
+        private String password = "";
+        private String driverClassName;
+
+        /**
+         * 接続プールの最大接続数
+         */
+        private int maximumPoolSize = 10;
+    }
+}
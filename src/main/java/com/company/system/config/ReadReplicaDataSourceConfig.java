@@ -0,0 +1,143 @@
+package com.company.system.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 読み取りレプリカ振り分け設定
+ * <p>
+ * {@code app.datasource.replica.enabled=true}の場合のみ有効になり、
+ * 読み取り専用トランザクションをレプリカ接続プールへ振り分ける。
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    /**
+     * セッション識別に使用するリクエストヘッダー
+     */
+    public static final String SESSION_HEADER = "X-Session-Id";
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReadReplicaProperties replicaProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(replicaProperties.getUrl());
+        dataSource.setUsername(replicaProperties.getUsername());
+        dataSource.setPassword(replicaProperties.getPassword());
+        if (replicaProperties.getDriverClassName() != null) {
+            dataSource.setDriverClassName(replicaProperties.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * プライマリのH2データベースをレプリカのH2データベースへ一定間隔で複製するコンポーネント（ローカル検証用）
+     *
+     * @return レプリカの同期コンポーネント
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.replica", name = "sync-interval")
+    public ReplicaSynchronizer replicaSynchronizer(HikariDataSource primaryDataSource,
+                                                   ReadReplicaProperties replicaProperties) {
+        return new ReplicaSynchronizer(primaryDataSource, replicaProperties.getUrl(),
+                replicaProperties.getUsername(), replicaProperties.getPassword(), replicaProperties.getSyncInterval());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReadReplicaProperties replicaProperties) {
+        return new ReadYourWritesTracker(replicaProperties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 HikariDataSource replicaDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(readYourWritesTracker);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReadWriteRoutingDataSource.Route.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        log.info("読み取りレプリカ振り分けを有効化: primary={}, replica={}",
+                primaryDataSource.getJdbcUrl(), replicaDataSource.getJdbcUrl());
+        // 接続取得をトランザクション属性の確定後まで遅延させる
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * リクエストごとにセッションキーを設定するフィルター
+     *
+     * @return セッションキー設定フィルター
+     */
+    @Bean
+    public OncePerRequestFilter readYourWritesSessionFilter() {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain filterChain) throws ServletException, IOException {
+                ReadYourWritesTracker.setCurrentSession(resolveSessionKey(request));
+                try {
+                    filterChain.doFilter(request, response);
+                } finally {
+                    ReadYourWritesTracker.clearCurrentSession();
+                }
+            }
+        };
+    }
+
+    /**
+     * セッションキーを解決（ヘッダー、HTTPセッションの順）
+     * <p>
+     * ロードバランサー配下では同じリモートアドレスを多数のクライアントが共有するため、リモートアドレスは使用しない。
+     * どちらもないリクエストは書き込み直後の固定の対象外とする。
+     *
+     * @param request HTTPリクエスト
+     * @return セッションキー（識別できない場合null）
+     */
+    private static String resolveSessionKey(HttpServletRequest request) {
+        String header = request.getHeader(SESSION_HEADER);
+        if (header != null && !header.isBlank()) {
+            return header;
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            return session.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 読み取りレプリカ設定
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReadReplicaProperties {
+
+    /**
+     * 読み取り専用トランザクションをレプリカへ振り分けるかどうか
+     */
+    private boolean enabled = false;
+
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+
+    /**
+     * レプリカ接続プールの最大接続数
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * 書き込み後にプライマリへ固定する期間（0で固定しない）
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * ローカル検証用にプライマリのH2データベースをレプリカへ複製する間隔（未設定の場合は複製しない）
+     * <p>
+     * 複製の間隔がレプリカの遅延になる。本番のレプリカはデータベースのレプリケーションで同期するため設定しない。
+     */
+    private Duration syncInterval;
+}
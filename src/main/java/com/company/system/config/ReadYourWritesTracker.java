@@ -0,0 +1,80 @@
+package com.company.system.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 書き込み直後の読み取りをプライマリへ固定するためのトラッカー
+ * <p>
+ * セッションごとに最終書き込み時刻を保持し、固定期間内の読み取りはレプリカの遅延を避けるためプライマリへ振り分ける。
+ */
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private static final ThreadLocal<String> CURRENT_SESSION = new ThreadLocal<>();
+
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * 現在のスレッドで処理中のセッションキーを設定
+     *
+     * @param sessionKey セッションキー（null可）
+     */
+    public static void setCurrentSession(String sessionKey) {
+        if (sessionKey == null) {
+            CURRENT_SESSION.remove();
+        } else {
+            CURRENT_SESSION.set(sessionKey);
+        }
+    }
+
+    /**
+     * 現在のスレッドのセッションキーをクリア
+     */
+    public static void clearCurrentSession() {
+        CURRENT_SESSION.remove();
+    }
+
+    /**
+     * 現在のセッションで書き込みが完了したことを記録
+     */
+    public void recordWrite() {
+        String sessionKey = CURRENT_SESSION.get();
+        if (sessionKey == null || windowNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        lastWriteNanos.put(sessionKey, now);
+        if (lastWriteNanos.size() > PURGE_THRESHOLD) {
+            lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+        }
+    }
+
+    /**
+     * 現在のセッションがプライマリへ固定されているかどうか
+     *
+     * @return 固定期間内であればtrue
+     */
+    public boolean isPinnedToPrimary() {
+        String sessionKey = CURRENT_SESSION.get();
+        if (sessionKey == null || windowNanos <= 0) {
+            return false;
+        }
+        Long writtenAt = lastWriteNanos.get(sessionKey);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt > windowNanos) {
+            lastWriteNanos.remove(sessionKey, writtenAt);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,187 @@
+package com.company.system.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ローカル検証用に、プライマリのH2データベースの内容をレプリカのH2データベースへ一定間隔で複製するコンポーネント
+ * <p>
+ * 起動時にプライマリのテーブル定義（外部キーを除く）をレプリカへ作成し、以降は同期間隔ごとに全テーブルの内容を
+ * 1トランザクションで置き換える。同期間隔がそのままレプリカの遅延になるため、レプリカの古い読み取りと
+ * 書き込み直後のプライマリへの固定をローカルで確認できる。本番のレプリカはデータベースのレプリケーションで同期する。
+ */
+@Slf4j
+public class ReplicaSynchronizer implements SmartLifecycle {
+
+    /**
+     * 他のコンポーネントがレプリカを読み取る前に開始するフェーズ
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 8192;
+
+    private static final String TABLES_QUERY = "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+            + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE' ORDER BY TABLE_NAME";
+
+    private final DataSource primaryDataSource;
+    private final String replicaUrl;
+    private final String username;
+    private final String password;
+    private final Duration interval;
+
+    private ScheduledExecutorService scheduler;
+    private List<String> tables = Collections.emptyList();
+    private volatile boolean running;
+
+    public ReplicaSynchronizer(DataSource primaryDataSource, String replicaUrl, String username, String password,
+                               Duration interval) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaUrl = replicaUrl;
+        this.username = username;
+        this.password = password;
+        this.interval = interval;
+    }
+
+    /**
+     * プライマリの全テーブルの内容をレプリカへ複製
+     *
+     * @return 複製した行数
+     */
+    public synchronized long synchronize() {
+        long start = System.nanoTime();
+        long rows = 0;
+        try (Connection primary = primaryDataSource.getConnection();
+             Connection replica = DriverManager.getConnection(replicaUrl, username, password)) {
+            // 全テーブルを同じ時点の内容で複製する
+            primary.setAutoCommit(false);
+            primary.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            replica.setAutoCommit(false);
+            try {
+                for (String table : tables) {
+                    rows += copy(primary, replica, table);
+                }
+                replica.commit();
+            } catch (SQLException e) {
+                replica.rollback();
+                throw e;
+            } finally {
+                primary.rollback();
+            }
+        } catch (SQLException e) {
+            log.warn("レプリカの同期に失敗しました: replica={}", replicaUrl, e);
+            return 0;
+        }
+        log.debug("レプリカを同期: テーブル数={}, 行数={}, 所要時間={}ms",
+                tables.size(), rows, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    @Override
+    public void start() {
+        try {
+            createSchema();
+        } catch (SQLException e) {
+            throw new IllegalStateException("レプリカのテーブルを作成できません: replica=" + replicaUrl, e);
+        }
+        synchronize();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-synchronizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(1, interval.toMillis());
+        scheduler.scheduleWithFixedDelay(this::synchronize, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+        log.info("レプリカの同期を開始: replica={}, 同期間隔={}", replicaUrl, interval);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * プライマリのテーブル定義をレプリカへ作成（読み取り専用のため外部キーは作成しない）
+     */
+    private synchronized void createSchema() throws SQLException {
+        List<String> ddl = new ArrayList<>();
+        List<String> tableNames = new ArrayList<>();
+        try (Connection primary = primaryDataSource.getConnection();
+             Statement statement = primary.createStatement()) {
+            try (ResultSet script = statement.executeQuery("SCRIPT NODATA")) {
+                while (script.next()) {
+                    String sql = script.getString(1);
+                    if (!sql.startsWith("--") && !sql.startsWith("CREATE USER") && !sql.contains("FOREIGN KEY")) {
+                        ddl.add(sql);
+                    }
+                }
+            }
+            try (ResultSet names = statement.executeQuery(TABLES_QUERY)) {
+                while (names.next()) {
+                    tableNames.add(names.getString(1));
+                }
+            }
+        }
+        try (Connection replica = DriverManager.getConnection(replicaUrl, username, password);
+             Statement statement = replica.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : ddl) {
+                statement.execute(sql);
+            }
+        }
+        tables = List.copyOf(tableNames);
+    }
+
+    private static long copy(Connection primary, Connection replica, String table) throws SQLException {
+        String quoted = "\"" + table + "\"";
+        try (Statement delete = replica.createStatement()) {
+            delete.executeUpdate("DELETE FROM " + quoted);
+        }
+        long rows = 0;
+        try (Statement select = primary.createStatement();
+             ResultSet source = select.executeQuery("SELECT * FROM " + quoted)) {
+            int columns = source.getMetaData().getColumnCount();
+            String placeholders = String.join(", ", Collections.nCopies(columns, "?"));
+            try (PreparedStatement insert = replica.prepareStatement(
+                    "INSERT INTO " + quoted + " VALUES (" + placeholders + ")")) {
+                while (source.next()) {
+                    for (int column = 1; column <= columns; column++) {
+                        insert.setObject(column, source.getObject(column));
+                    }
+                    insert.addBatch();
+                    if (++rows % 500 == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+        }
+        return rows;
+    }
+}
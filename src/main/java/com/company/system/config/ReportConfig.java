@@ -0,0 +1,12 @@
+package com.company.system.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 集計レポート設定
+ */
+@Configuration
+@EnableConfigurationProperties(ReportProperties.class)
+public class ReportConfig {
+}
@@ -0,0 +1,32 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 集計レポート設定
+ */
+@Data
+@ConfigurationProperties(prefix = "app.reports")
+public class ReportProperties {
+
+    /**
+     * 集計に使用するスレッド数（0の場合はCPUコア数）
+     */
+    private int parallelism = 0;
+
+    /**
+     * 1スレッドでまとめて集計する社員数（これを超える範囲は分割して並列に集計する）
+     */
+    private int splitThreshold = 16384;
+
+    /**
+     * 月次の入社・退職レポートで指定できる最大月数
+     */
+    private int maxMonths = 120;
+
+    /**
+     * データが変更されるまで保持する集計結果の最大数（条件の組み合わせごと）
+     */
+    private int maxCachedResults = 256;
+}
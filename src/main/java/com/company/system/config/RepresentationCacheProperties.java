@@ -0,0 +1,29 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * レスポンスJSONキャッシュ設定
+ */
+@Data
+@ConfigurationProperties(prefix = "app.representation-cache")
+public class RepresentationCacheProperties {
+
+    /**
+     * キャッシュを有効にするか
+     */
+    private boolean enabled = true;
+
+    /**
+     * 種別（社員・部署）ごとの最大保持件数（超えた場合は古いものから削除）
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * 削除の記録を保持する期間（削除前に読み取った内容での復活を防ぐ期間）
+     */
+    private Duration tombstoneTtl = Duration.ofMinutes(1);
+}
@@ -0,0 +1,116 @@
+package com.company.system.config;
+
+import com.company.system.exception.DeadlineExceededException;
+
+import java.time.Duration;
+
+/**
+ * リクエストの処理期限
+ * <p>
+ * リクエストを処理するスレッドに紐づけて保持し、SQLの実行時に残り時間を過ぎたら実行中の文を取り消す。
+ * パーティションごとの並列問い合わせでは、呼び出し元の期限を各スレッドへ引き継ぐ。
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final Duration timeout;
+    private final long deadlineNanos;
+
+    private RequestDeadline(Duration timeout, long deadlineNanos) {
+        this.timeout = timeout;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 現在時刻から指定時間後の期限を生成
+     *
+     * @param timeout 処理時間の上限
+     * @return 期限
+     */
+    public static RequestDeadline after(Duration timeout) {
+        return new RequestDeadline(timeout, System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * 現在のスレッドの期限を取得
+     *
+     * @return 期限（未設定の場合null）
+     */
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 現在のスレッドの期限を設定
+     *
+     * @param deadline 期限（nullの場合はクリア）
+     */
+    public static void set(RequestDeadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    /**
+     * 現在のスレッドの期限を過ぎていれば例外を送出
+     *
+     * @throws DeadlineExceededException 期限を過ぎている場合
+     */
+    public static void checkCurrent() {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline != null) {
+            deadline.check();
+        }
+    }
+
+    /**
+     * 期限を過ぎていれば例外を送出
+     *
+     * @throws DeadlineExceededException 期限を過ぎている場合
+     */
+    public void check() {
+        if (isExpired()) {
+            throw exceeded(null);
+        }
+    }
+
+    /**
+     * 期限超過の例外を生成
+     *
+     * @param cause 原因（ない場合null）
+     * @return 期限超過の例外
+     */
+    public DeadlineExceededException exceeded(Throwable cause) {
+        return new DeadlineExceededException("処理が期限（" + timeout.toMillis() + "ms）内に完了しませんでした", cause);
+    }
+
+    /**
+     * 期限までの残り時間
+     *
+     * @return 残り時間（ナノ秒、期限を過ぎている場合は0以下）
+     */
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * 期限を過ぎているか
+     *
+     * @return 過ぎている場合true
+     */
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * 処理時間の上限
+     *
+     * @return 処理時間の上限
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+}
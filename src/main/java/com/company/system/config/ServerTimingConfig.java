@@ -0,0 +1,106 @@
+package com.company.system.config;
+
+import com.company.system.web.RequestTiming;
+import com.company.system.web.RequestTimingMethodInterceptor;
+import com.company.system.web.RequestTimingSessionListener;
+import com.company.system.web.ServerTimingFilter;
+import com.company.system.web.TimedJsonHttpMessageConverter;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.repository.Repository;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 処理区間ごとの所要時間の計測設定
+ * <p>
+ * コントローラー・サービス・リポジトリの呼び出しはアドバイザー、SQLの実行はHibernateのセッションイベント、
+ * JSONシリアライズはメッセージコンバーターで計測し、ServerTimingFilterがリクエストごとに集計する。
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ServerTimingProperties.class)
+@ConditionalOnProperty(prefix = "app.server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    private final ServerTimingProperties properties;
+
+    /**
+     * 計測結果を集計するフィルター（他のフィルターの処理時間も含めるため最初に実行）
+     *
+     * @return フィルター登録
+     */
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter() {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(properties));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * SQLの実行時間を記録するHibernate設定（StatementInspector を包む設定より先に適用する）
+     *
+     * @return Hibernate設定のカスタマイズ
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public HibernatePropertiesCustomizer requestTimingHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                    RequestTimingSessionListener.class.getName());
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                    (StatementInspector) RequestTiming::onStatementPrepared);
+        };
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor controllerTimingAdvisor() {
+        return new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(RestController.class, true),
+                new RequestTimingMethodInterceptor(RequestTiming.Phase.CONTROLLER));
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceTimingAdvisor() {
+        return new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Service.class, true),
+                new RequestTimingMethodInterceptor(RequestTiming.Phase.SERVICE));
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor repositoryTimingAdvisor() {
+        return new DefaultPointcutAdvisor(new ComposablePointcut(new RootClassFilter(Repository.class)),
+                new RequestTimingMethodInterceptor(RequestTiming.Phase.REPOSITORY));
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+                ? new TimedJsonHttpMessageConverter(((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+                : converter);
+    }
+}
@@ -0,0 +1,34 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 処理区間ごとの所要時間の計測設定（Server-Timingヘッダーと低速リクエストログ）
+ */
+@Data
+@ConfigurationProperties(prefix = "app.server-timing")
+public class ServerTimingProperties {
+
+    /**
+     * 計測を有効にするか
+     */
+    private boolean enabled = false;
+
+    /**
+     * Server-Timingヘッダーをクライアントへ返すか（SQL件数など内部の情報を含むため、信頼できる環境でのみ有効化）
+     */
+    private boolean exposeHeader = false;
+
+    /**
+     * 内訳とSQL文をログに出力する所要時間の閾値（0の場合はログを出力しない）
+     */
+    private Duration slowRequestThreshold = Duration.ofMillis(500);
+
+    /**
+     * 低速リクエストログに出力するSQL文の最大数
+     */
+    private int maxLoggedStatements = 50;
+}
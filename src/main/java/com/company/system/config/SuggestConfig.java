@@ -0,0 +1,12 @@
+package com.company.system.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 社員候補検索（入力補完）設定
+ */
+@Configuration
+@EnableConfigurationProperties(SuggestProperties.class)
+public class SuggestConfig {
+}
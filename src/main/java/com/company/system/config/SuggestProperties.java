@@ -0,0 +1,42 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 社員候補検索（入力補完）設定
+ */
+@Data
+@ConfigurationProperties(prefix = "app.suggest")
+public class SuggestProperties {
+
+    /**
+     * 件数を指定しない場合に返す候補数
+     */
+    private int defaultLimit = 10;
+
+    /**
+     * 返す候補数の上限
+     */
+    private int maxLimit = 50;
+
+    /**
+     * 検索文字列の最大長
+     */
+    private int maxQueryLength = 100;
+
+    /**
+     * 社員名に一致した場合の重み
+     */
+    private double nameWeight = 1.0;
+
+    /**
+     * メールアドレス（ローカル部）に一致した場合の重み
+     */
+    private double emailWeight = 0.8;
+
+    /**
+     * 入力が語全体に一致した場合の加点
+     */
+    private double exactMatchBoost = 0.5;
+}
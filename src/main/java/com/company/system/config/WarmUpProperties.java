@@ -0,0 +1,49 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 起動時のウォームアップ設定
+ */
+@Data
+@ConfigurationProperties(prefix = "app.warm-up")
+public class WarmUpProperties {
+
+    /**
+     * 起動後、トラフィックを受け付ける前にウォームアップを実行するか
+     */
+    private boolean enabled = true;
+
+    /**
+     * 事前に開く接続プールごとの接続数（0の場合は接続プールの最小アイドル数）
+     */
+    private int connections = 0;
+
+    /**
+     * 1ラウンドで操作ごとに実行する回数
+     */
+    private int requestsPerRound = 50;
+
+    /**
+     * 最大ラウンド数
+     */
+    private int maxRounds = 20;
+
+    /**
+     * 最大実行時間（収束しない場合もこの時間で打ち切る）
+     */
+    private Duration maxDuration = Duration.ofSeconds(60);
+
+    /**
+     * 前ラウンドとのp99レイテンシの差をこの割合以内とみなすと収束とする
+     */
+    private double tolerance = 0.2;
+
+    /**
+     * 収束とみなすために必要な、差が許容範囲内のラウンドの連続数
+     */
+    private int stableRounds = 3;
+}
@@ -0,0 +1,51 @@
+package com.company.system.config;
+
+import com.company.system.web.AdmissionControlInterceptor;
+import com.company.system.web.DeadlineInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web MVC設定
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties({
+        AdmissionControlProperties.class,
+        RepresentationCacheProperties.class,
+        IdempotencyProperties.class,
+        DeadlineProperties.class
+})
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AdmissionControlProperties admissionControlProperties;
+    private final DeadlineProperties deadlineProperties;
+
+    /**
+     * 流量制御インターセプター（停止時にバケットの定期削除を終了する）
+     *
+     * @return 流量制御インターセプター
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public AdmissionControlInterceptor admissionControlInterceptor() {
+        return new AdmissionControlInterceptor(admissionControlProperties);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (admissionControlProperties.isEnabled()) {
+            registry.addInterceptor(admissionControlInterceptor())
+                    .addPathPatterns("/api/v1/employees/**", "/api/v1/departments/**");
+        }
+        if (deadlineProperties.isEnabled()) {
+            registry.addInterceptor(new DeadlineInterceptor(deadlineProperties))
+                    .addPathPatterns("/api/**");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.company.system.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 同時書き込みのまとめ設定
+ */
+@Configuration
+@EnableConfigurationProperties(WriteCombiningProperties.class)
+public class WriteCombiningConfig {
+}
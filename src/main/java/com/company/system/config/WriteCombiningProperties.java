@@ -0,0 +1,44 @@
+package com.company.system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 同時書き込みのまとめ設定
+ */
+@Data
+@ConfigurationProperties(prefix = "app.write-combining")
+public class WriteCombiningProperties {
+
+    /**
+     * 同時に届いた書き込みを1トランザクションにまとめるか（無効の場合は呼び出し元スレッドで個別に書き込む）
+     */
+    private boolean enabled = true;
+
+    /**
+     * 1トランザクションにまとめる最大件数
+     */
+    private int maxBatchSize = 50;
+
+    /**
+     * 後続の書き込みを待つ時間の上限（実際の待ち時間は負荷に応じて0からこの値の間で調整する）
+     */
+    private Duration maxWindow = Duration.ofMillis(5);
+
+    /**
+     * 最初の書き込みの受け付けから完了までの目標時間（超過した場合は待ち時間を縮める）
+     */
+    private Duration latencyTarget = Duration.ofMillis(50);
+
+    /**
+     * 書き込み待ちキューの最大件数（満杯の場合は呼び出し元スレッドで個別に書き込む）
+     */
+    private int queueCapacity = 1_000;
+
+    /**
+     * 停止時にキューを書き出す最大時間
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -1,9 +1,14 @@
 package com.company.system.controller;
 
 import com.company.system.dto.DepartmentDto;
+import com.company.system.dto.DepartmentRosterDto;
 import com.company.system.service.DepartmentService;
+import com.company.system.service.HotKeyTracker;
+import com.company.system.web.RepresentationCache;
+import com.fasterxml.jackson.databind.util.RawValue;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,6 +23,8 @@ import java.util.List;
 public class DepartmentController {
 
     private final DepartmentService departmentService;
+    private final RepresentationCache representationCache;
+    private final HotKeyTracker hotKeyTracker;
 
     /**
      * 部署一覧を取得
@@ -25,9 +32,24 @@ public class DepartmentController {
      * @return 部署一覧
      */
     @GetMapping
-    public ResponseEntity<List<DepartmentDto>> getDepartments() {
+    public ResponseEntity<List<RawValue>> getDepartments() {
         List<DepartmentDto> departments = departmentService.findAll();
-        return ResponseEntity.ok(departments);
+        // 各部署はシリアライズ済みのJSONをそのまま埋め込む
+        return ResponseEntity.ok(departments.stream()
+                .map(department -> new RawValue(representationCache.departmentJson(department)))
+                .toList());
+    }
+
+    /**
+     * 所属社員付きの部署一覧を取得（include=employees を指定した場合）
+     *
+     * @param employeesLimit 部署ごとの社員の上限件数（デフォルト: 20）
+     * @return 所属社員付き部署一覧
+     */
+    @GetMapping(params = "include=employees")
+    public ResponseEntity<List<DepartmentRosterDto>> getDepartmentsWithEmployees(
+            @RequestParam(defaultValue = "20") int employeesLimit) {
+        return ResponseEntity.ok(departmentService.findAllWithEmployees(employeesLimit));
     }
 
     /**
@@ -37,9 +59,16 @@ public class DepartmentController {
      * @return 部署
      */
     @GetMapping("/{id}")
-    public ResponseEntity<DepartmentDto> getDepartment(@PathVariable Long id) {
-        DepartmentDto department = departmentService.findById(id);
-        return ResponseEntity.ok(department);
+    public ResponseEntity<byte[]> getDepartment(@PathVariable Long id) {
+        byte[] json = representationCache.findDepartment(id);
+        if (json != null) {
+            // キャッシュから返す場合はサービスを経由しないため、ここで参照を記録する
+            hotKeyTracker.record(HotKeyTracker.Category.DEPARTMENT, id);
+        } else {
+            DepartmentDto department = departmentService.findById(id);
+            json = representationCache.departmentJson(department).asUnquotedUTF8();
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json);
     }
 }
 
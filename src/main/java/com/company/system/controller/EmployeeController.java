@@ -2,15 +2,27 @@ package com.company.system.controller;
 
 import com.company.system.dto.CreateEmployeeRequest;
 import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.EmployeeListCriteria;
+import com.company.system.dto.EmployeeSearchCriteria;
+import com.company.system.dto.EmployeeSuggestionDto;
 import com.company.system.dto.UpdateEmployeeRequest;
 import com.company.system.service.EmployeeService;
+import com.company.system.service.HotKeyTracker;
+import com.company.system.web.IdempotencyStore;
+import com.company.system.web.JsonPage;
+import com.company.system.web.RepresentationCache;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * 社員コントローラー
  */
@@ -19,25 +31,90 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class EmployeeController {
 
+    /**
+     * 再送を識別するリクエストヘッダー
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * 保存済みの結果を返したことを示すレスポンスヘッダー
+     */
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final EmployeeService employeeService;
+    private final RepresentationCache representationCache;
+    private final HotKeyTracker hotKeyTracker;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * 社員一覧を取得
      *
      * @param page ページ番号（デフォルト: 0）
      * @param size 1ページあたりの件数（デフォルト: 20）
-     * @param name 社員名（検索条件、任意）
-     * @param departmentId 部署ID（検索条件、任意）
+     * @param name 社員名（部分一致、任意）
+     * @param departmentId 部署ID（複数指定可、いずれかに一致）
+     * @param joinedFrom 入社日の下限（ISO-8601形式、任意）
+     * @param joinedTo 入社日の上限（ISO-8601形式、任意）
+     * @param sort 並び順（id / employeeNumber / joinDate の昇順、デフォルト: id）
      * @return 社員ページ
      */
     @GetMapping
-    public ResponseEntity<Page<EmployeeDto>> getEmployees(
+    public ResponseEntity<JsonPage<EmployeeDto>> getEmployees(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String name,
-            @RequestParam(required = false) Long departmentId) {
-        Page<EmployeeDto> employees = employeeService.findAll(page, size, name, departmentId);
-        return ResponseEntity.ok(employees);
+            @RequestParam(required = false) List<Long> departmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedTo,
+            @RequestParam(required = false) String sort) {
+        EmployeeListCriteria criteria = new EmployeeListCriteria(name, departmentId, joinedFrom, joinedTo, sort);
+        Page<EmployeeDto> employees = employeeService.findAll(criteria, page, size);
+        // 各社員はシリアライズ済みのJSONをそのまま埋め込む
+        return ResponseEntity.ok(JsonPage.ofRaw(employees, representationCache::employeeJson));
+    }
+
+    /**
+     * 社員を複合条件で検索
+     *
+     * @param departmentId 部署ID（複数指定可、いずれかに一致）
+     * @param joinedFrom 入社日の下限（ISO-8601形式、任意）
+     * @param joinedTo 入社日の上限（ISO-8601形式、任意）
+     * @param emailDomain メールアドレスのドメイン（複数指定可、いずれかに一致）
+     * @param name 社員名（部分一致、任意）
+     * @param status 在籍状態（ACTIVE/DELETED/ALL、デフォルト: ACTIVE）
+     * @param page ページ番号（デフォルト: 0）
+     * @param size 1ページあたりの件数（デフォルト: 20）
+     * @return 社員ページ
+     */
+    @GetMapping("/search")
+    public ResponseEntity<JsonPage<EmployeeDto>> searchEmployees(
+            @RequestParam(required = false) List<Long> departmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedTo,
+            @RequestParam(required = false) List<String> emailDomain,
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "ACTIVE") EmployeeSearchCriteria.Status status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria(
+                departmentId, joinedFrom, joinedTo, emailDomain, name, status);
+        // 削除済みの社員を含み得るため、レスポンスJSONキャッシュは使用しない
+        Page<EmployeeDto> employees = employeeService.search(criteria, page, size);
+        return ResponseEntity.ok(JsonPage.of(employees));
+    }
+
+    /**
+     * 入力途中の文字列に前方一致する社員候補を取得（入力補完用）
+     *
+     * @param q 入力文字列（社員名またはメールアドレスの前方一致、未指定の場合は空の一覧）
+     * @param limit 最大件数（任意）
+     * @return 社員候補（一致度の高い順）
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<EmployeeSuggestionDto>> suggestEmployees(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(employeeService.suggest(q, limit));
     }
 
     /**
@@ -47,21 +124,42 @@ public class EmployeeController {
      * @return 社員
      */
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeDto> getEmployee(@PathVariable Long id) {
-        EmployeeDto employee = employeeService.findById(id);
-        return ResponseEntity.ok(employee);
+    public ResponseEntity<byte[]> getEmployee(@PathVariable Long id) {
+        byte[] json = representationCache.findEmployee(id);
+        if (json != null) {
+            // キャッシュから返す場合はサービスを経由しないため、ここで参照を記録する
+            hotKeyTracker.record(HotKeyTracker.Category.EMPLOYEE, id);
+        } else {
+            EmployeeDto employee = employeeService.findById(id);
+            json = representationCache.employeeJson(employee).asUnquotedUTF8();
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json);
     }
 
     /**
      * 社員を作成
+     * <p>
+     * Idempotency-Keyヘッダーが指定された場合、同じキーの再送には初回の結果を返し、社員を重複して作成しない。
      *
+     * @param idempotencyKey 冪等キー（任意）
      * @param request 作成リクエスト
      * @return 作成された社員
      */
     @PostMapping
-    public ResponseEntity<EmployeeDto> createEmployee(@Valid @RequestBody CreateEmployeeRequest request) {
-        EmployeeDto employee = employeeService.create(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(employee);
+    public ResponseEntity<byte[]> createEmployee(
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CreateEmployeeRequest request) {
+        IdempotencyStore.IdempotentResponse response = idempotencyStore.execute(idempotencyKey, request, () -> {
+            EmployeeDto employee = employeeService.create(request);
+            byte[] json = representationCache.employeeJson(employee).asUnquotedUTF8();
+            return new IdempotencyStore.IdempotentResponse(HttpStatus.CREATED.value(), json, false);
+        });
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.status())
+                .contentType(MediaType.APPLICATION_JSON);
+        if (response.replayed()) {
+            builder.header(IDEMPOTENT_REPLAYED_HEADER, "true");
+        }
+        return builder.body(response.body());
     }
 
     /**
@@ -0,0 +1,55 @@
+package com.company.system.controller;
+
+import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.EmployeeHistoryDto;
+import com.company.system.service.EmployeeHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 社員変更履歴コントローラー
+ */
+@RestController
+@RequestMapping("/api/v1/employees/{employeeId}/history")
+@RequiredArgsConstructor
+public class EmployeeHistoryController {
+
+    private final EmployeeHistoryService employeeHistoryService;
+
+    /**
+     * 社員の変更履歴を取得
+     *
+     * @param employeeId 社員ID
+     * @param page ページ番号（デフォルト: 0）
+     * @param size 1ページあたりの件数（デフォルト: 20）
+     * @return 変更履歴ページ
+     */
+    @GetMapping
+    public ResponseEntity<Page<EmployeeHistoryDto>> getHistory(
+            @PathVariable Long employeeId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<EmployeeHistoryDto> histories = employeeHistoryService.findHistory(employeeId, page, size);
+        return ResponseEntity.ok(histories);
+    }
+
+    /**
+     * 指定日時時点の社員情報を取得
+     *
+     * @param employeeId 社員ID
+     * @param at 基準日時（ISO-8601形式）
+     * @return 基準日時時点の社員
+     */
+    @GetMapping("/as-of")
+    public ResponseEntity<EmployeeDto> getEmployeeAsOf(
+            @PathVariable Long employeeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        EmployeeDto employee = employeeHistoryService.findAsOf(employeeId, at);
+        return ResponseEntity.ok(employee);
+    }
+}
@@ -0,0 +1,57 @@
+package com.company.system.controller;
+
+import com.company.system.config.HotKeyProperties;
+import com.company.system.service.HeavyHitterSketch;
+import com.company.system.service.HotKeyTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 参照の多いキーを返す管理用エンドポイント（/actuator/hotkeys）
+ */
+@Component
+@Endpoint(id = "hotkeys")
+@RequiredArgsConstructor
+public class HotKeysEndpoint {
+
+    private final HotKeyTracker hotKeyTracker;
+    private final HotKeyProperties properties;
+
+    /**
+     * 全種別の上位キーを取得
+     *
+     * @return 集計窓と種別ごとの上位キー
+     */
+    @ReadOperation
+    public Map<String, Object> hotKeys() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("window", properties.getWindow().toString());
+        for (HotKeyTracker.Category category : HotKeyTracker.Category.values()) {
+            result.put(category.getId(), hotKeyTracker.top(category));
+        }
+        return result;
+    }
+
+    /**
+     * 指定した種別の上位キーを取得
+     *
+     * @param category 種別（employee / department / employeeQuery）
+     * @return 上位キー（存在しない種別の場合null、404を返す）
+     */
+    @ReadOperation
+    public List<HeavyHitterSketch.HotKey> hotKeys(@Selector String category) {
+        return Arrays.stream(HotKeyTracker.Category.values())
+                .filter(candidate -> candidate.getId().equals(category))
+                .findFirst()
+                .map(hotKeyTracker::top)
+                .orElse(null);
+    }
+}
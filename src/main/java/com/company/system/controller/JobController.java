@@ -0,0 +1,73 @@
+package com.company.system.controller;
+
+import com.company.system.dto.CreateJobRequest;
+import com.company.system.dto.JobDto;
+import com.company.system.service.JobService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * 非同期ジョブコントローラー
+ */
+@RestController
+@RequestMapping("/api/v1/jobs")
+@RequiredArgsConstructor
+public class JobController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private final JobService jobService;
+
+    /**
+     * ジョブを登録
+     *
+     * @param request ジョブ登録リクエスト
+     * @return 受け付けたジョブ（202 Accepted、Locationヘッダーに状態取得URL）
+     */
+    @PostMapping
+    public ResponseEntity<JobDto> submitJob(@Valid @RequestBody CreateJobRequest request) {
+        JobDto job = jobService.submit(request);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    /**
+     * ジョブの状態を取得
+     *
+     * @param id ジョブID
+     * @return ジョブ
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<JobDto> getJob(@PathVariable Long id) {
+        return ResponseEntity.ok(jobService.findById(id));
+    }
+
+    /**
+     * ジョブの結果ファイルを取得
+     *
+     * @param id ジョブID
+     * @return 結果ファイル（CSV）
+     */
+    @GetMapping("/{id}/result")
+    public ResponseEntity<Resource> getJobResult(@PathVariable Long id) {
+        Path result = jobService.findResult(id);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + result.getFileName() + "\"")
+                .body(new FileSystemResource(result));
+    }
+}
@@ -0,0 +1,60 @@
+package com.company.system.controller;
+
+import com.company.system.dto.HeadcountReportDto;
+import com.company.system.dto.HiringAttritionReportDto;
+import com.company.system.dto.TenureReportDto;
+import com.company.system.service.EmployeeReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 集計レポートコントローラー
+ */
+@RestController
+@RequestMapping("/api/v1/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final EmployeeReportService employeeReportService;
+
+    /**
+     * 部署・入社年別の在籍人数を取得
+     *
+     * @return 在籍人数レポート
+     */
+    @GetMapping("/headcount")
+    public ResponseEntity<HeadcountReportDto> getHeadcount() {
+        return ResponseEntity.ok(employeeReportService.headcount());
+    }
+
+    /**
+     * 勤続年数の分布を取得
+     *
+     * @param asOf 基準日（ISO-8601形式、デフォルト: 本日）
+     * @return 勤続年数レポート
+     */
+    @GetMapping("/tenure")
+    public ResponseEntity<TenureReportDto> getTenure(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return ResponseEntity.ok(employeeReportService.tenure(asOf));
+    }
+
+    /**
+     * 月次の入社数・退職数を取得
+     *
+     * @param from 開始月（yyyy-MM形式、デフォルト: 終了月の11か月前）
+     * @param to 終了月（yyyy-MM形式、デフォルト: 今月）
+     * @return 入社・退職レポート
+     */
+    @GetMapping("/hiring-attrition")
+    public ResponseEntity<HiringAttritionReportDto> getHiringAttrition(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return ResponseEntity.ok(employeeReportService.hiringAttrition(from, to));
+    }
+}
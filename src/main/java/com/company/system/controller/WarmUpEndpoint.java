@@ -0,0 +1,29 @@
+package com.company.system.controller;
+
+import com.company.system.dto.WarmUpReportDto;
+import com.company.system.service.WarmUpRunner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 起動時のウォームアップの結果を返す管理用エンドポイント（/actuator/warmup）
+ */
+@Component
+@Endpoint(id = "warmup")
+@RequiredArgsConstructor
+public class WarmUpEndpoint {
+
+    private final WarmUpRunner warmUpRunner;
+
+    /**
+     * ウォームアップの結果を取得
+     *
+     * @return 状態・所要時間・事前に開いた接続数・ラウンドごとのレイテンシ
+     */
+    @ReadOperation
+    public WarmUpReportDto warmUp() {
+        return warmUpRunner.getReport();
+    }
+}
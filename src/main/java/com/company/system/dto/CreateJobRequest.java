@@ -0,0 +1,25 @@
+package com.company.system.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * ジョブ登録リクエストDTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateJobRequest implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @NotBlank(message = "ジョブ種別は必須です")
+    private String type;
+
+    private Map<String, Object> parameters;
+}
@@ -0,0 +1,31 @@
+package com.company.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 所属社員付き部署DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentRosterDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+    private String name;
+    private String code;
+    /**
+     * 所属社員数（削除されていない社員の総数、employeesの件数ではない）
+     */
+    private long employeeCount;
+    /**
+     * 所属社員（ID順、部署ごとの上限件数まで）
+     */
+    private List<EmployeeDto> employees;
+}
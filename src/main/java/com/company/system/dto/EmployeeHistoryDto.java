@@ -0,0 +1,27 @@
+package com.company.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 社員変更履歴DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeHistoryDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+    private Long employeeId;
+    private String changeType;
+    private String changedBy;
+    private LocalDateTime changedAt;
+    private EmployeeDto before;
+    private EmployeeDto after;
+}
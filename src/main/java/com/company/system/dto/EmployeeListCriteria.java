@@ -0,0 +1,40 @@
+package com.company.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 社員一覧の絞り込み条件と並び順
+ * <p>
+ * 指定された条件はすべてAND、部署の複数指定はORで評価する。未指定（null）の条件は問い合わせに含めない。
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeListCriteria {
+
+    private String name;
+    private List<Long> departmentIds;
+    private LocalDate joinedFrom;
+    private LocalDate joinedTo;
+
+    /**
+     * 並び順（id / employeeNumber / joinDate の昇順、nullの場合はid）
+     */
+    private String sort;
+
+    /**
+     * 社員名・部署で絞り込む条件
+     *
+     * @param name 社員名（部分一致、null可）
+     * @param departmentId 部署ID（null可）
+     * @return 絞り込み条件
+     */
+    public static EmployeeListCriteria of(String name, Long departmentId) {
+        return new EmployeeListCriteria(name, departmentId != null ? List.of(departmentId) : null, null, null, null);
+    }
+}
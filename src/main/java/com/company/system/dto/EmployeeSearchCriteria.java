@@ -0,0 +1,35 @@
+package com.company.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 社員検索条件
+ * <p>
+ * 指定された条件はすべてAND、同一項目内の複数値はORで評価する。
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSearchCriteria {
+
+    /**
+     * 在籍状態
+     */
+    public enum Status {
+        ACTIVE,
+        DELETED,
+        ALL
+    }
+
+    private List<Long> departmentIds;
+    private LocalDate joinedFrom;
+    private LocalDate joinedTo;
+    private List<String> emailDomains;
+    private String name;
+    private Status status = Status.ACTIVE;
+}
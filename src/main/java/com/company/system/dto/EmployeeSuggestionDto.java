@@ -0,0 +1,23 @@
+package com.company.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 社員候補DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSuggestionDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+    private String employeeNumber;
+    private String name;
+    private String email;
+}
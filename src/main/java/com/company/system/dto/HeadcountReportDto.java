@@ -0,0 +1,37 @@
+package com.company.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 部署・入社年別の在籍人数レポートDTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadcountReportDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private long total;
+    private List<Row> rows;
+
+    /**
+     * 部署・入社年ごとの在籍人数
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private DepartmentDto department;
+        private int joinYear;
+        private long headcount;
+    }
+}
@@ -0,0 +1,41 @@
+package com.company.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 月次の入社・退職レポートDTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HiringAttritionReportDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private YearMonth from;
+    private YearMonth to;
+    private long openingHeadcount;
+    private List<Month> months;
+
+    /**
+     * 月ごとの入社数・退職数と月末の在籍人数
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Month implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private YearMonth month;
+        private long hires;
+        private long leavers;
+        private long headcount;
+    }
+}
@@ -0,0 +1,31 @@
+package com.company.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * ジョブDTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+    private String type;
+    private String status;
+    private long processedCount;
+    private Long totalCount;
+    private Integer progress;
+    private String errorMessage;
+    private boolean resultAvailable;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
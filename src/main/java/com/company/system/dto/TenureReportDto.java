@@ -0,0 +1,38 @@
+package com.company.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 勤続年数の分布レポートDTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenureReportDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private LocalDate asOf;
+    private long total;
+    private List<Bucket> buckets;
+
+    /**
+     * 勤続年数（満年数）ごとの在籍人数
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private int years;
+        private long headcount;
+    }
+}
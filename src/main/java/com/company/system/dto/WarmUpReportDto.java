@@ -0,0 +1,85 @@
+package com.company.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 起動時のウォームアップの結果DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarmUpReportDto implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Status status;
+    private LocalDateTime startedAt;
+    private long durationMillis;
+    private boolean converged;
+    private Map<String, Integer> connections;
+    private List<Round> rounds;
+
+    /**
+     * ウォームアップの状態
+     */
+    public enum Status {
+        /**
+         * 未実行（アプリケーションの起動完了前）
+         */
+        PENDING,
+        /**
+         * 実行中
+         */
+        RUNNING,
+        /**
+         * 完了
+         */
+        COMPLETED,
+        /**
+         * 失敗（トラフィックの受け付けは開始する）
+         */
+        FAILED,
+        /**
+         * 無効
+         */
+        DISABLED
+    }
+
+    /**
+     * ラウンドごとのレイテンシ
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Round implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private int round;
+        private List<OperationLatency> operations;
+    }
+
+    /**
+     * 操作ごとのレイテンシ（マイクロ秒）
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OperationLatency implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private String operation;
+        private int count;
+        private long meanMicros;
+        private long p50Micros;
+        private long p99Micros;
+    }
+}
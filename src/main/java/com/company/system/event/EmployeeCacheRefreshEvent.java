@@ -0,0 +1,50 @@
+package com.company.system.event;
+
+import com.company.system.dto.EmployeeDto;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 社員キャッシュの再読み込みイベント
+ * <p>
+ * 無効化ログ（他ノードを含む社員変更）を読み取った後に、対象社員のデータベース上の現在の内容とともに発行される。
+ * allがtrueの場合は無効化ログを一定時間読み取れなかったことを示し、キャッシュをすべて破棄する。
+ */
+@Value
+public class EmployeeCacheRefreshEvent {
+
+    boolean all;
+    List<Refresh> refreshes;
+
+    /**
+     * キャッシュをすべて破棄するイベント
+     *
+     * @return 再読み込みイベント
+     */
+    public static EmployeeCacheRefreshEvent all() {
+        return new EmployeeCacheRefreshEvent(true, List.of());
+    }
+
+    /**
+     * 社員ごとの再読み込み内容
+     */
+    @Value
+    public static class Refresh {
+
+        Long employeeId;
+        /**
+         * 無効化ログの変更日時（キャッシュのバージョン）
+         */
+        LocalDateTime changedAt;
+        /**
+         * データベース上の現在の内容（データベースに存在しない場合null）
+         */
+        EmployeeDto current;
+        /**
+         * 削除済みか
+         */
+        boolean deleted;
+    }
+}
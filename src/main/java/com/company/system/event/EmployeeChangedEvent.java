@@ -0,0 +1,42 @@
+package com.company.system.event;
+
+import com.company.system.dto.EmployeeDto;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 社員変更イベント
+ * <p>
+ * 社員の作成・更新・削除時に発行される。作成時の変更前、削除時の変更後はnullとなる。
+ */
+@Value
+@AllArgsConstructor
+public class EmployeeChangedEvent {
+
+    /**
+     * 変更種別
+     */
+    public enum ChangeType {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+
+    ChangeType changeType;
+    Long employeeId;
+    EmployeeDto before;
+    EmployeeDto after;
+    LocalDateTime changedAt;
+
+    /**
+     * 操作者（nullの場合は変更履歴の記録時に処理中のリクエストから解決する）
+     */
+    String changedBy;
+
+    public EmployeeChangedEvent(ChangeType changeType, Long employeeId, EmployeeDto before, EmployeeDto after,
+                                LocalDateTime changedAt) {
+        this(changeType, employeeId, before, after, changedAt, null);
+    }
+}
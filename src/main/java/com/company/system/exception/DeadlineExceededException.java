@@ -0,0 +1,15 @@
+package com.company.system.exception;
+
+/**
+ * リクエストの処理期限を過ぎた場合の例外
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,13 +2,19 @@ package com.company.system.exception;
 
 import com.company.system.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import java.sql.SQLTimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +31,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNoResourceFoundException(NoResourceFoundException e) {
+        log.warn("存在しないパスへのリクエスト: {}", e.getResourcePath());
+        ErrorResponse error = new ErrorResponse("ERR004", "リソースが見つかりません");
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(ValidationException e) {
         log.warn("バリデーションエラー: {}", e.getMessage());
@@ -49,6 +62,41 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException e) {
+        log.warn("リクエスト数超過: {}", e.getMessage());
+        ErrorResponse error = new ErrorResponse("ERR429", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException e) {
+        log.warn("サービス一時利用不可: {}", e.getMessage());
+        ErrorResponse error = new ErrorResponse("ERR503", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    @ExceptionHandler({DeadlineExceededException.class, QueryTimeoutException.class,
+            jakarta.persistence.QueryTimeoutException.class})
+    public ResponseEntity<ErrorResponse> handleDeadlineExceededException(RuntimeException e) {
+        log.warn("処理期限超過: {}", e.getMessage());
+        ErrorResponse error = new ErrorResponse("ERR504", "処理が期限内に完了しませんでした");
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(error);
+    }
+
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponse> handleCannotCreateTransactionException(CannotCreateTransactionException e) {
+        // 処理期限を過ぎた後の接続取得はトランザクション開始時の例外として通知される
+        if (NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLTimeoutException) {
+            return handleDeadlineExceededException(e);
+        }
+        return handleException(e);
+    }
+
     @ExceptionHandler(InternalServerException.class)
     public ResponseEntity<ErrorResponse> handleInternalServerException(InternalServerException e) {
         log.error("サーバーエラー: {}", e.getMessage(), e);
@@ -0,0 +1,59 @@
+package com.company.system.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * サービス・リポジトリの呼び出しを記録するJFRイベント
+ * <p>
+ * 既定では無効とし、同梱のJFC（jfr/employee-management.jfc）などで有効にした記録でのみ出力する。
+ * 行数・SQL発行数・割り当てバイト数は入れ子の呼び出しを含む（呼び出しスレッドで実行した分のみ）。
+ */
+@Name(OperationEvent.NAME)
+@Label("Operation")
+@Description("社員管理システムのサービス・リポジトリの呼び出し")
+@Category({"Employee Management System", "Operations"})
+@Enabled(false)
+@StackTrace(false)
+public class OperationEvent extends Event {
+
+    /**
+     * イベント名（JFC・記録の解析で使用）
+     */
+    public static final String NAME = "com.company.system.Operation";
+
+    @Label("Layer")
+    @Description("呼び出し区間（service / repository）")
+    String layer;
+
+    @Label("Operation")
+    @Description("クラス名.メソッド名")
+    String operation;
+
+    @Label("Parameters")
+    @Description("絞り込み条件などの引数")
+    String parameters;
+
+    @Label("Rows")
+    @Description("返却した件数")
+    long rows;
+
+    @Label("Statements")
+    @Description("発行したSQL文の数")
+    long statements;
+
+    @Label("Allocated")
+    @Description("呼び出し中に割り当てたヒープ")
+    @DataAmount
+    long allocated;
+
+    @Label("Failure")
+    @Description("送出した例外のクラス名（正常終了の場合null）")
+    String failure;
+}
@@ -0,0 +1,173 @@
+package com.company.system.jfr;
+
+import com.company.system.dto.EmployeeListCriteria;
+import com.company.system.dto.EmployeeSearchCriteria;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.lang.management.ManagementFactory;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * サービス・リポジトリの呼び出しを{@link OperationEvent}として記録するインターセプター
+ * <p>
+ * 記録中のJFRでイベントが有効な場合のみ計測し、無効な場合はイベントの有効判定だけで呼び出しを続ける。
+ * SQL発行数はHibernateの StatementInspector から呼び出される{@link #onStatementPrepared(String)}でスレッドごとに数える
+ * （JdbcTemplateで直接実行するSQLは含まない）。
+ */
+public class OperationEventInterceptor implements MethodInterceptor {
+
+    /**
+     * 記録する引数の最大文字数
+     */
+    static final int MAX_PARAMETERS_LENGTH = 256;
+
+    private static final ThreadLocal<long[]> STATEMENTS = ThreadLocal.withInitial(() -> new long[1]);
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    private final String layer;
+    private final String typeName;
+
+    /**
+     * @param layer 呼び出し区間（service / repository）
+     * @param typeName 操作名に使用するクラス名
+     */
+    public OperationEventInterceptor(String layer, String typeName) {
+        this.layer = layer;
+        this.typeName = typeName;
+    }
+
+    /**
+     * 実行するSQL文を数える（Hibernateの StatementInspector から呼び出す）
+     *
+     * @param sql SQL文
+     * @return 変更しないSQL文
+     */
+    public static String onStatementPrepared(String sql) {
+        STATEMENTS.get()[0]++;
+        return sql;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        OperationEvent event = new OperationEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        long[] statements = STATEMENTS.get();
+        long statementsBefore = statements[0];
+        long allocatedBefore = allocatedBytes();
+        Object result = null;
+        Throwable failure = null;
+        event.begin();
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                long allocatedAfter = allocatedBytes();
+                event.layer = layer;
+                event.operation = typeName + "." + invocation.getMethod().getName();
+                event.parameters = describe(invocation.getArguments());
+                event.rows = failure == null ? rowCount(result) : 0;
+                event.statements = statements[0] - statementsBefore;
+                event.allocated = allocatedBefore >= 0 && allocatedAfter >= 0 ? allocatedAfter - allocatedBefore : -1;
+                event.failure = failure != null ? failure.getClass().getName() : null;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * 引数を記録用の文字列にする（絞り込み条件・ID・ページ情報などは値、リクエストやエンティティは型名、コレクションは件数）
+     *
+     * @param arguments 引数
+     * @return 引数の文字列（最大{@value #MAX_PARAMETERS_LENGTH}文字）
+     */
+    static String describe(Object[] arguments) {
+        if (arguments == null || arguments.length == 0) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Object argument : arguments) {
+            if (!builder.isEmpty()) {
+                builder.append(", ");
+            }
+            builder.append(describeArgument(argument));
+            if (builder.length() >= MAX_PARAMETERS_LENGTH) {
+                builder.setLength(MAX_PARAMETERS_LENGTH);
+                break;
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 返却した件数（ページは要素数、Optionalは有無、単一の値は1件）
+     *
+     * @param result 戻り値
+     * @return 件数
+     */
+    static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+
+    private static String describeArgument(Object argument) {
+        if (argument == null) {
+            return "null";
+        }
+        if (argument instanceof CharSequence || argument instanceof Number || argument instanceof Boolean
+                || argument instanceof Enum<?> || argument instanceof TemporalAccessor
+                || argument instanceof Pageable || argument instanceof Sort
+                || argument instanceof EmployeeListCriteria || argument instanceof EmployeeSearchCriteria) {
+            return String.valueOf(argument);
+        }
+        if (argument instanceof Collection<?> collection) {
+            return "[" + collection.size() + " items]";
+        }
+        if (argument instanceof Map<?, ?> map) {
+            return "{" + map.size() + " entries}";
+        }
+        return argument.getClass().getSimpleName();
+    }
+
+    private static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            if (!threads.isThreadAllocatedMemoryEnabled()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+            }
+            return threads;
+        }
+        return null;
+    }
+}
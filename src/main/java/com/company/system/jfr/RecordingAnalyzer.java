@@ -0,0 +1,186 @@
+package com.company.system.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * JFRの記録から{@link OperationEvent}を集計し、操作ごとのレイテンシと割り当ての表を出力する解析ツール
+ * <p>
+ * JDKのクラスのみを使用するため、ビルド済みのクラスから実行できる。
+ * <pre>
+ * java -cp target/classes com.company.system.jfr.RecordingAnalyzer recording.jfr
+ * </pre>
+ */
+public final class RecordingAnalyzer {
+
+    private RecordingAnalyzer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("使用方法: java -cp target/classes " + RecordingAnalyzer.class.getName() + " <記録ファイル.jfr>");
+            System.exit(2);
+        }
+        System.out.print(format(summarize(Path.of(args[0]))));
+    }
+
+    /**
+     * 記録を読み取り、操作ごとに集計
+     *
+     * @param recording JFRの記録ファイル
+     * @return 操作ごとの集計（合計時間の長い順）
+     * @throws IOException 記録を読み取れない場合
+     */
+    public static List<OperationSummary> summarize(Path recording) throws IOException {
+        Map<String, Accumulator> accumulators = new HashMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (!OperationEvent.NAME.equals(event.getEventType().getName())) {
+                    continue;
+                }
+                accumulators.computeIfAbsent(event.getString("operation"), operation -> new Accumulator(event.getString("layer")))
+                        .add(event);
+            }
+        }
+        List<OperationSummary> summaries = new ArrayList<>(accumulators.size());
+        accumulators.forEach((operation, accumulator) -> summaries.add(accumulator.summarize(operation)));
+        summaries.sort(Comparator.comparingLong(OperationSummary::totalNanos).reversed()
+                .thenComparing(OperationSummary::operation));
+        return summaries;
+    }
+
+    /**
+     * 集計結果をレイテンシの表と割り当ての表にする
+     *
+     * @param summaries 操作ごとの集計
+     * @return 表の文字列
+     */
+    public static String format(List<OperationSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return "記録に " + OperationEvent.NAME + " イベントがありません"
+                    + "（app.jfr.enabled=true で起動し、jfr/employee-management.jfc で記録してください）\n";
+        }
+        int width = Math.max("operation".length(),
+                summaries.stream().mapToInt(summary -> summary.operation().length()).max().orElse(0));
+        StringBuilder builder = new StringBuilder();
+        builder.append("■ 操作ごとのレイテンシ（合計時間の長い順）\n");
+        builder.append(String.format(Locale.ROOT, "%-" + width + "s %-10s %8s %8s %10s %10s %10s %10s %12s %10s %10s%n",
+                "operation", "layer", "count", "failed", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "total(ms)",
+                "avg rows", "avg stmts"));
+        for (OperationSummary summary : summaries) {
+            builder.append(String.format(Locale.ROOT,
+                    "%-" + width + "s %-10s %8d %8d %10.3f %10.3f %10.3f %10.3f %12.3f %10.1f %10.1f%n",
+                    summary.operation(), summary.layer(), summary.count(), summary.failures(),
+                    millis(summary.p50Nanos()), millis(summary.p95Nanos()), millis(summary.p99Nanos()),
+                    millis(summary.maxNanos()), millis(summary.totalNanos()),
+                    summary.averageRows(), summary.averageStatements()));
+        }
+        List<OperationSummary> byAllocation = new ArrayList<>(summaries);
+        byAllocation.sort(Comparator.comparingLong(OperationSummary::totalAllocatedBytes).reversed()
+                .thenComparing(OperationSummary::operation));
+        builder.append('\n');
+        builder.append("■ 操作ごとの割り当て（合計割り当ての多い順）\n");
+        builder.append(String.format(Locale.ROOT, "%-" + width + "s %8s %14s %14s %14s%n",
+                "operation", "count", "avg(KiB)", "max(KiB)", "total(MiB)"));
+        for (OperationSummary summary : byAllocation) {
+            builder.append(String.format(Locale.ROOT, "%-" + width + "s %8d %14.1f %14.1f %14.2f%n",
+                    summary.operation(), summary.count(), summary.averageAllocatedBytes() / 1024.0,
+                    summary.maxAllocatedBytes() / 1024.0, summary.totalAllocatedBytes() / (1024.0 * 1024.0)));
+        }
+        return builder.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * 操作ごとの集計
+     *
+     * @param operation 操作名（クラス名.メソッド名）
+     * @param layer 呼び出し区間
+     * @param count 呼び出し回数
+     * @param failures 例外で終了した回数
+     * @param p50Nanos 所要時間の中央値
+     * @param p95Nanos 所要時間の95パーセンタイル
+     * @param p99Nanos 所要時間の99パーセンタイル
+     * @param maxNanos 所要時間の最大値
+     * @param totalNanos 所要時間の合計
+     * @param averageRows 平均件数
+     * @param averageStatements 平均SQL発行数
+     * @param averageAllocatedBytes 平均割り当てバイト数
+     * @param maxAllocatedBytes 最大割り当てバイト数
+     * @param totalAllocatedBytes 合計割り当てバイト数
+     */
+    public record OperationSummary(String operation, String layer, long count, long failures,
+                                   long p50Nanos, long p95Nanos, long p99Nanos, long maxNanos, long totalNanos,
+                                   double averageRows, double averageStatements,
+                                   double averageAllocatedBytes, long maxAllocatedBytes, long totalAllocatedBytes) {
+    }
+
+    /**
+     * 操作ごとの集計途中の値
+     */
+    private static final class Accumulator {
+
+        private final String layer;
+        private long[] durations = new long[16];
+        private int count;
+        private long failures;
+        private long totalNanos;
+        private long totalRows;
+        private long totalStatements;
+        private long totalAllocatedBytes;
+        private long maxAllocatedBytes;
+
+        Accumulator(String layer) {
+            this.layer = layer;
+        }
+
+        void add(RecordedEvent event) {
+            long nanos = event.getDuration().toNanos();
+            if (count == durations.length) {
+                durations = Arrays.copyOf(durations, count * 2);
+            }
+            durations[count++] = nanos;
+            totalNanos += nanos;
+            totalRows += event.getLong("rows");
+            totalStatements += event.getLong("statements");
+            // 割り当てを計測できない環境では負の値になるため集計しない
+            long allocated = Math.max(0, event.getLong("allocated"));
+            totalAllocatedBytes += allocated;
+            maxAllocatedBytes = Math.max(maxAllocatedBytes, allocated);
+            if (event.getString("failure") != null) {
+                failures++;
+            }
+        }
+
+        OperationSummary summarize(String operation) {
+            long[] sorted = Arrays.copyOf(durations, count);
+            Arrays.sort(sorted);
+            return new OperationSummary(operation, layer, count, failures,
+                    percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), sorted[count - 1], totalNanos,
+                    (double) totalRows / count, (double) totalStatements / count,
+                    (double) totalAllocatedBytes / count, maxAllocatedBytes, totalAllocatedBytes);
+        }
+
+        /**
+         * 最近順位法によるパーセンタイル
+         */
+        private static long percentile(long[] sorted, int percent) {
+            int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+    }
+}
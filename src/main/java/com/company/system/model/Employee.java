@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * 社員エンティティ
@@ -47,15 +48,24 @@ public class Employee {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    /**
+     * 現在日時（TIMESTAMPカラムの精度（マイクロ秒）に丸め、保存後に読み直した値と一致させる）
+     *
+     * @return 現在日時
+     */
+    public static LocalDateTime currentTimestamp() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        createdAt = currentTimestamp();
+        updatedAt = createdAt;
     }
 
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        updatedAt = currentTimestamp();
     }
 }
 
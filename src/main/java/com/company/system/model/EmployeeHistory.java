@@ -0,0 +1,43 @@
+package com.company.system.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 社員変更履歴エンティティ
+ */
+@Entity
+@Table(name = "employee_history")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "change_type", nullable = false, length = 10)
+    private String changeType;
+
+    @Column(name = "changed_by", nullable = false, length = 100)
+    private String changedBy;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    @Lob
+    @Column(name = "before_data")
+    private String beforeData;
+
+    @Lob
+    @Column(name = "after_data")
+    private String afterData;
+}
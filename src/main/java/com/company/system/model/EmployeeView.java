@@ -0,0 +1,52 @@
+package com.company.system.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 社員参照エンティティ（参照専用）
+ * <p>
+ * 削除されていない社員を部署名・部署コードと合わせて1行に保持する非正規化テーブル。
+ * 社員の書き込みと同じトランザクションで{@link com.company.system.service.EmployeeViewProjection}が更新する。
+ */
+@Entity
+@Immutable
+@Table(name = "employee_view")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeView {
+
+    @Id
+    private Long id;
+
+    @Column(name = "employee_number", nullable = false, unique = true, length = 20)
+    private String employeeNumber;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(name = "department_id", nullable = false)
+    private Long departmentId;
+
+    @Column(name = "department_name", nullable = false, length = 100)
+    private String departmentName;
+
+    @Column(name = "department_code", nullable = false, length = 20)
+    private String departmentCode;
+
+    @Column(name = "join_date", nullable = false)
+    private LocalDate joinDate;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
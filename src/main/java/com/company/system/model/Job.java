@@ -0,0 +1,84 @@
+package com.company.system.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 非同期ジョブエンティティ
+ */
+@Entity
+@Table(name = "jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Job {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_type", nullable = false, length = 50)
+    private String jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobStatus status;
+
+    @Lob
+    @Column(name = "parameters")
+    private String parameters;
+
+    @Column(length = 255)
+    private String checkpoint;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "total_count")
+    private Long totalCount;
+
+    @Column(name = "result_path", length = 500)
+    private String resultPath;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    /**
+     * 実行担当のノード（担当の取得・解放は条件付き更新で行うため、エンティティの保存では更新しない）
+     */
+    @Column(name = "owner", updatable = false)
+    private String owner;
+
+    /**
+     * 実行担当のノードが最後に生存を通知した日時
+     */
+    @Column(name = "heartbeat_at", updatable = false)
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
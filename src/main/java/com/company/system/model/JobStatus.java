@@ -0,0 +1,27 @@
+package com.company.system.model;
+
+/**
+ * ジョブの状態
+ */
+public enum JobStatus {
+
+    /**
+     * 実行待ち
+     */
+    QUEUED,
+
+    /**
+     * 実行中（再起動時はチェックポイントから再開する）
+     */
+    RUNNING,
+
+    /**
+     * 正常終了
+     */
+    SUCCEEDED,
+
+    /**
+     * 異常終了
+     */
+    FAILED
+}
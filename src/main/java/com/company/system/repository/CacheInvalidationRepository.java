@@ -0,0 +1,73 @@
+package com.company.system.repository;
+
+import com.company.system.model.CacheInvalidation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * キャッシュ無効化ログリポジトリ
+ */
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    /**
+     * 無効化ログを追記（呼び出し元のトランザクションに参加し、変更と同時にコミットする）
+     *
+     * @param record 無効化ログ
+     * @return 登録件数
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO cache_invalidation (entity_type, entity_id, origin_node, changed_at, created_at) " +
+                   "VALUES (:#{#record.entityType}, :#{#record.entityId}, :#{#record.originNode}, " +
+                   ":#{#record.changedAt}, :#{#record.createdAt})",
+           nativeQuery = true)
+    int append(@Param("record") CacheInvalidation record);
+
+    /**
+     * 指定した番号より後の無効化ログを番号順に取得
+     *
+     * @param seq 読み取り済みの番号
+     * @param pageable 取得件数
+     * @return 無効化ログ
+     */
+    @Query("SELECT c FROM CacheInvalidation c WHERE c.seq > :seq ORDER BY c.seq")
+    List<CacheInvalidation> findAfter(@Param("seq") long seq, Pageable pageable);
+
+    /**
+     * 指定した番号の無効化ログを取得（読み取り時に未コミットだった番号の再確認）
+     *
+     * @param seqs 番号
+     * @return 無効化ログ
+     */
+    @Query("SELECT c FROM CacheInvalidation c WHERE c.seq IN :seqs ORDER BY c.seq")
+    List<CacheInvalidation> findBySeqIn(@Param("seqs") Collection<Long> seqs);
+
+    /**
+     * 最新の番号を取得
+     *
+     * @return 最新の番号（ログがない場合は0）
+     */
+    @Query("SELECT COALESCE(MAX(c.seq), 0) FROM CacheInvalidation c")
+    long findMaxSeq();
+
+    /**
+     * 保持期間を過ぎた無効化ログを削除
+     *
+     * @param threshold この日時より前に登録したログを削除
+     * @return 削除件数
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CacheInvalidation c WHERE c.createdAt < :threshold")
+    int deleteCreatedBefore(@Param("threshold") LocalDateTime threshold);
+}
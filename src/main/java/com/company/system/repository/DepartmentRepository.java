@@ -10,7 +10,7 @@ import java.util.Optional;
  * 部署リポジトリ
  */
 @Repository
-public interface DepartmentRepository extends JpaRepository<Department, Long> {
+public interface DepartmentRepository extends JpaRepository<Department, Long>, DepartmentRosterRepository {
 
     /**
      * 部署コードで部署を検索
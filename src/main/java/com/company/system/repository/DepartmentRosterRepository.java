@@ -0,0 +1,38 @@
+package com.company.system.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 所属社員付き部署一覧の読み取りリポジトリ
+ */
+public interface DepartmentRosterRepository {
+
+    /**
+     * 全部署と、部署ごとにID順で上限件数までの所属社員を1回の問い合わせで取得（削除されていない社員のみ）
+     *
+     * @param limit 部署ごとの社員の上限件数
+     * @return 部署ID・社員ID順の行（社員のいない部署は社員の項目がnullの1行）
+     */
+    List<RosterRow> findRosters(int limit);
+
+    /**
+     * 部署と所属社員1人分の行
+     *
+     * @param departmentId 部署ID
+     * @param departmentName 部署名
+     * @param departmentCode 部署コード
+     * @param employeeCount 部署の所属社員数（上限件数で絞り込む前の件数）
+     * @param employeeId 社員ID（社員のいない部署はnull）
+     * @param employeeNumber 社員番号
+     * @param name 社員名
+     * @param email メールアドレス
+     * @param joinDate 入社日
+     * @param createdAt 作成日時
+     */
+    record RosterRow(long departmentId, String departmentName, String departmentCode, long employeeCount,
+                     Long employeeId, String employeeNumber, String name, String email,
+                     LocalDate joinDate, LocalDateTime createdAt) {
+    }
+}
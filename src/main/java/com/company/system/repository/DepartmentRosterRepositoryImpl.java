@@ -0,0 +1,46 @@
+package com.company.system.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 所属社員付き部署一覧の読み取りリポジトリ実装
+ * <p>
+ * 社員参照テーブル（employee_view）をウィンドウ関数で部署ごとに番号付け・件数集計し、上限件数までの行を部署へ外部結合する。
+ * 部署ごとの件数取得・社員一覧取得を部署の数だけ繰り返さず、1回の問い合わせで取得する。
+ * 呼び出し元のトランザクションの接続を使用する。
+ */
+@RequiredArgsConstructor
+public class DepartmentRosterRepositoryImpl implements DepartmentRosterRepository {
+
+    private static final String SELECT_SQL =
+            "SELECT d.id, d.name, d.code, COALESCE(r.employee_count, 0), "
+            + "r.id, r.employee_number, r.name, r.email, r.join_date, r.created_at "
+            + "FROM departments d "
+            + "LEFT JOIN (SELECT v.id, v.employee_number, v.name, v.email, v.department_id, v.join_date, v.created_at, "
+            + "ROW_NUMBER() OVER (PARTITION BY v.department_id ORDER BY v.id) AS rn, "
+            + "COUNT(*) OVER (PARTITION BY v.department_id) AS employee_count "
+            + "FROM employee_view v) r ON r.department_id = d.id AND r.rn <= ? "
+            + "ORDER BY d.id, r.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<RosterRow> findRosters(int limit) {
+        return jdbcTemplate.query(SELECT_SQL, (resultSet, rowNum) -> new RosterRow(
+                resultSet.getLong(1),
+                resultSet.getString(2),
+                resultSet.getString(3),
+                resultSet.getLong(4),
+                resultSet.getObject(5, Long.class),
+                resultSet.getString(6),
+                resultSet.getString(7),
+                resultSet.getString(8),
+                resultSet.getObject(9, LocalDate.class),
+                resultSet.getObject(10, LocalDateTime.class)), limit);
+    }
+}
@@ -0,0 +1,18 @@
+package com.company.system.repository;
+
+import com.company.system.model.Employee;
+
+import java.util.List;
+
+/**
+ * 社員の一括登録リポジトリ
+ */
+public interface EmployeeBatchRepository {
+
+    /**
+     * 社員をJDBCバッチで一括登録（採番されたID・作成日時・更新日時を各社員に設定する）
+     *
+     * @param employees 社員（IDは未設定）
+     */
+    void batchInsert(List<Employee> employees);
+}
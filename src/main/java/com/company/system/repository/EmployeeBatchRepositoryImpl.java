@@ -0,0 +1,66 @@
+package com.company.system.repository;
+
+import com.company.system.model.Employee;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 社員の一括登録リポジトリ実装
+ * <p>
+ * IDENTITY採番のエンティティはHibernateでバッチ登録できないため、JDBCバッチで登録し、採番されたIDを生成キーから取得する。
+ * 登録した社員は永続化コンテキストで管理されない。
+ */
+@RequiredArgsConstructor
+public class EmployeeBatchRepositoryImpl implements EmployeeBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO employees " +
+            "(employee_number, name, email, department_id, join_date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void batchInsert(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        // @PrePersistは呼ばれないため作成日時・更新日時をここで設定する
+        LocalDateTime now = Employee.currentTimestamp();
+        jdbcTemplate.execute(connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                (PreparedStatement statement) -> {
+                    for (Employee employee : employees) {
+                        employee.setCreatedAt(now);
+                        employee.setUpdatedAt(now);
+                        statement.setString(1, employee.getEmployeeNumber());
+                        statement.setString(2, employee.getName());
+                        statement.setString(3, employee.getEmail());
+                        statement.setLong(4, employee.getDepartment().getId());
+                        statement.setDate(5, Date.valueOf(employee.getJoinDate()));
+                        statement.setTimestamp(6, Timestamp.valueOf(now));
+                        statement.setTimestamp(7, Timestamp.valueOf(now));
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        for (Employee employee : employees) {
+                            if (!keys.next()) {
+                                throw new IncorrectResultSizeDataAccessException("採番されたIDの件数が登録件数と一致しません",
+                                        employees.size());
+                            }
+                            employee.setId(keys.getLong(1));
+                        }
+                    }
+                    return null;
+                });
+    }
+}
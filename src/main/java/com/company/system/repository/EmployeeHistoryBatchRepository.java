@@ -0,0 +1,18 @@
+package com.company.system.repository;
+
+import com.company.system.model.EmployeeHistory;
+
+import java.util.List;
+
+/**
+ * 社員変更履歴の一括登録リポジトリ
+ */
+public interface EmployeeHistoryBatchRepository {
+
+    /**
+     * 変更履歴をJDBCバッチで一括登録
+     *
+     * @param histories 変更履歴
+     */
+    void batchInsert(List<EmployeeHistory> histories);
+}
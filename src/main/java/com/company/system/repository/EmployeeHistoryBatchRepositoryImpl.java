@@ -0,0 +1,37 @@
+package com.company.system.repository;
+
+import com.company.system.model.EmployeeHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 社員変更履歴の一括登録リポジトリ実装
+ * <p>
+ * IDENTITY採番のエンティティはHibernateでバッチ登録できないため、JDBCバッチで登録する。
+ */
+@RequiredArgsConstructor
+public class EmployeeHistoryBatchRepositoryImpl implements EmployeeHistoryBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO employee_history " +
+            "(employee_id, change_type, changed_by, changed_at, before_data, after_data) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void batchInsert(List<EmployeeHistory> histories) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, histories, histories.size(), (statement, history) -> {
+            statement.setLong(1, history.getEmployeeId());
+            statement.setString(2, history.getChangeType());
+            statement.setString(3, history.getChangedBy());
+            statement.setTimestamp(4, Timestamp.valueOf(history.getChangedAt()));
+            statement.setString(5, history.getBeforeData());
+            statement.setString(6, history.getAfterData());
+        });
+    }
+}
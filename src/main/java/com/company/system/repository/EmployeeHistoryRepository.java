@@ -0,0 +1,47 @@
+package com.company.system.repository;
+
+import com.company.system.model.EmployeeHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 社員変更履歴リポジトリ
+ */
+@Repository
+public interface EmployeeHistoryRepository extends JpaRepository<EmployeeHistory, Long>,
+        EmployeeHistoryBatchRepository {
+
+    /**
+     * 社員の変更履歴を新しい順に取得
+     *
+     * @param employeeId 社員ID
+     * @param pageable ページネーション情報
+     * @return 変更履歴ページ
+     */
+    @Query("SELECT h FROM EmployeeHistory h WHERE h.employeeId = :employeeId " +
+           "ORDER BY h.changedAt DESC, h.id DESC")
+    Page<EmployeeHistory> findByEmployeeId(@Param("employeeId") Long employeeId, Pageable pageable);
+
+    /**
+     * 指定日時時点で最新の変更履歴を取得
+     * <p>
+     * idx_employee_history_employee_changed を使用する。
+     *
+     * @param employeeId 社員ID
+     * @param asOf 基準日時
+     * @param pageable 取得件数（先頭1件を指定）
+     * @return 変更履歴
+     */
+    @Query("SELECT h FROM EmployeeHistory h WHERE h.employeeId = :employeeId AND h.changedAt <= :asOf " +
+           "ORDER BY h.changedAt DESC, h.id DESC")
+    List<EmployeeHistory> findLatestAsOf(@Param("employeeId") Long employeeId,
+                                         @Param("asOf") LocalDateTime asOf,
+                                         Pageable pageable);
+}
@@ -0,0 +1,31 @@
+package com.company.system.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 社員の集計レポート用の読み取りリポジトリ
+ */
+public interface EmployeeReportRepository {
+
+    /**
+     * 全社員の集計項目を順に読み取る（削除済みを含む、順序は不定）
+     *
+     * @param handler 社員1人ごとに呼び出す処理
+     */
+    void scanForReport(ReportRowHandler handler);
+
+    /**
+     * 社員1人分の集計項目を受け取る処理
+     */
+    @FunctionalInterface
+    interface ReportRowHandler {
+
+        /**
+         * @param departmentId 部署ID
+         * @param joinDate 入社日
+         * @param deletedAt 削除日時（削除されていない場合はnull）
+         */
+        void accept(long departmentId, LocalDate joinDate, LocalDateTime deletedAt);
+    }
+}
@@ -0,0 +1,36 @@
+package com.company.system.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 社員の集計レポート用の読み取りリポジトリ実装
+ * <p>
+ * 全社員を読み取るため、エンティティや射影のオブジェクトを生成せずにJDBCで結果セットを順に読み取る。
+ * 呼び出し元のトランザクションの接続を使用する。
+ */
+@RequiredArgsConstructor
+public class EmployeeReportRepositoryImpl implements EmployeeReportRepository {
+
+    private static final String SELECT_SQL = "SELECT department_id, join_date, deleted_at FROM employees";
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void scanForReport(ReportRowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_SQL);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, resultSet -> {
+            handler.accept(resultSet.getLong(1), resultSet.getObject(2, LocalDate.class),
+                    resultSet.getObject(3, LocalDateTime.class));
+        });
+    }
+}
@@ -1,20 +1,24 @@
 package com.company.system.repository;
 
 import com.company.system.model.Employee;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * 社員リポジトリ
  */
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeReportRepository,
+        EmployeeBatchRepository {
 
     /**
      * メールアドレスで社員を検索（削除されていないもののみ）
@@ -25,6 +29,15 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     @Query("SELECT e FROM Employee e WHERE e.email = :email AND e.deletedAt IS NULL")
     Optional<Employee> findByEmail(@Param("email") String email);
 
+    /**
+     * 指定したメールアドレスのうち使用中のものを取得（削除されていないもののみ）
+     *
+     * @param emails メールアドレス
+     * @return 使用中のメールアドレス
+     */
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails AND e.deletedAt IS NULL")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
     /**
      * 社員番号で社員を検索（削除されていないもののみ）
      *
@@ -40,32 +53,98 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      * @param id 社員ID
      * @return 社員
      */
-    @Query("SELECT e FROM Employee e WHERE e.id = :id AND e.deletedAt IS NULL")
+    @Query("SELECT e FROM Employee e JOIN FETCH e.department WHERE e.id = :id AND e.deletedAt IS NULL")
     Optional<Employee> findByIdAndNotDeleted(@Param("id") Long id);
 
     /**
-     * 条件で社員を検索（削除されていないもののみ）
+     * IDの一覧で社員を部署と合わせて取得（削除済みを含む）
      *
-     * @param name 社員名（部分一致、null可）
-     * @param departmentId 部署ID（null可）
-     * @param pageable ページネーション情報
-     * @return 社員ページ
+     * @param ids 社員ID一覧
+     * @return 社員一覧（順序は不定）
      */
-    @Query("SELECT e FROM Employee e WHERE e.deletedAt IS NULL " +
-           "AND (:name IS NULL OR e.name LIKE %:name%) " +
-           "AND (:departmentId IS NULL OR e.department.id = :departmentId)")
-    Page<Employee> findByConditions(@Param("name") String name,
-                                     @Param("departmentId") Long departmentId,
-                                     Pageable pageable);
+    @Query("SELECT e FROM Employee e JOIN FETCH e.department WHERE e.id IN :ids")
+    List<Employee> findAllWithDepartmentByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
-     * 削除されていない社員を全件取得
+     * 指定IDより後の社員を部署と合わせてID順に取得（削除されていないもののみ）
      *
-     * @param pageable ページネーション情報
-     * @return 社員ページ
+     * @param lastId 取得済みの最大ID
+     * @param pageable 取得件数
+     * @return 社員一覧
      */
-    @Query("SELECT e FROM Employee e WHERE e.deletedAt IS NULL")
-    Page<Employee> findAllActive(Pageable pageable);
-}
+    @Query("SELECT e FROM Employee e JOIN FETCH e.department WHERE e.deletedAt IS NULL AND e.id > :lastId ORDER BY e.id")
+    List<Employee> findActiveAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 部署に所属する社員のうち、指定IDより後の社員IDをID順に取得（削除されていないもののみ）
+     *
+     * @param departmentId 部署ID
+     * @param lastId 取得済みの最大ID
+     * @param pageable 取得件数
+     * @return 社員ID一覧
+     */
+    @Query("SELECT e.id FROM Employee e WHERE e.deletedAt IS NULL AND e.department.id = :departmentId " +
+           "AND e.id > :lastId ORDER BY e.id")
+    List<Long> findActiveIdsByDepartmentAfterId(@Param("departmentId") Long departmentId,
+                                                @Param("lastId") Long lastId,
+                                                Pageable pageable);
+
+    /**
+     * 削除されていない社員数を取得
+     *
+     * @return 社員数
+     */
+    @Query("SELECT COUNT(e) FROM Employee e WHERE e.deletedAt IS NULL")
+    long countActive();
+
+    /**
+     * 部署に所属する社員数を取得（削除されていないもののみ）
+     *
+     * @param departmentId 部署ID
+     * @return 社員数
+     */
+    @Query("SELECT COUNT(e) FROM Employee e WHERE e.deletedAt IS NULL AND e.department.id = :departmentId")
+    long countActiveByDepartment(@Param("departmentId") Long departmentId);
 
+    /**
+     * 社員ディレクトリ構築用に全社員の項目を取得（削除済みを含む）
+     *
+     * @return 社員ディレクトリの項目一覧
+     */
+    @Query("SELECT e.id AS id, e.employeeNumber AS employeeNumber, e.name AS name, e.email AS email, " +
+           "e.department.id AS departmentId, e.joinDate AS joinDate, e.deletedAt AS deletedAt FROM Employee e")
+    List<DirectoryRow> findAllForDirectory();
 
+    /**
+     * 指定日時以降に作成・更新・削除された社員の項目を取得（スナップショットからの復元後の差分反映用）
+     * <p>
+     * idx_employee_updated_at を使用する。
+     *
+     * @param since 基準日時
+     * @return 社員ディレクトリの項目一覧
+     */
+    @Query("SELECT e.id AS id, e.employeeNumber AS employeeNumber, e.name AS name, e.email AS email, " +
+           "e.department.id AS departmentId, e.joinDate AS joinDate, e.deletedAt AS deletedAt " +
+           "FROM Employee e WHERE e.updatedAt >= :since")
+    List<DirectoryRow> findDirectoryChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 社員ディレクトリの項目
+     */
+    interface DirectoryRow {
+
+        Long getId();
+
+        String getEmployeeNumber();
+
+        String getName();
+
+        String getEmail();
+
+        Long getDepartmentId();
+
+        LocalDate getJoinDate();
+
+        LocalDateTime getDeletedAt();
+    }
+}
@@ -0,0 +1,87 @@
+package com.company.system.repository;
+
+import com.company.system.dto.EmployeeListCriteria;
+import com.company.system.model.EmployeeView;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * 社員一覧の検索条件
+ * <p>
+ * 社員参照テーブル（employee_view）は削除されていない社員のみを保持するため、削除済みの除外条件は不要。
+ * 指定された条件だけを述語として組み立てる。{@code (:param IS NULL OR ...)} のような汎用の条件式は
+ * 全条件で同じ実行計画になりインデックスが使われないため使用しない。
+ */
+public final class EmployeeSpecifications {
+
+    private EmployeeSpecifications() {
+    }
+
+    /**
+     * 絞り込み条件から検索条件を組み立てる
+     *
+     * @param criteria 絞り込み条件
+     * @return 指定された条件をすべて満たす社員の検索条件
+     */
+    public static Specification<EmployeeView> of(EmployeeListCriteria criteria) {
+        Specification<EmployeeView> specification = Specification.where(null);
+        if (StringUtils.hasText(criteria.getName())) {
+            specification = specification.and(nameContains(criteria.getName()));
+        }
+        if (criteria.getDepartmentIds() != null && !criteria.getDepartmentIds().isEmpty()) {
+            specification = specification.and(departmentIn(criteria.getDepartmentIds()));
+        }
+        if (criteria.getJoinedFrom() != null) {
+            specification = specification.and(joinedOnOrAfter(criteria.getJoinedFrom()));
+        }
+        if (criteria.getJoinedTo() != null) {
+            specification = specification.and(joinedOnOrBefore(criteria.getJoinedTo()));
+        }
+        return specification;
+    }
+
+    /**
+     * 社員名の部分一致
+     *
+     * @param name 社員名
+     * @return 検索条件
+     */
+    public static Specification<EmployeeView> nameContains(String name) {
+        return (root, query, builder) -> builder.like(root.get("name"), "%" + name + "%");
+    }
+
+    /**
+     * 部署のいずれかに所属（1件の場合は等価条件、idx_employee_view_department を使用する）
+     *
+     * @param departmentIds 部署ID一覧
+     * @return 検索条件
+     */
+    public static Specification<EmployeeView> departmentIn(Collection<Long> departmentIds) {
+        return (root, query, builder) -> departmentIds.size() == 1
+                ? builder.equal(root.get("departmentId"), departmentIds.iterator().next())
+                : root.get("departmentId").in(departmentIds);
+    }
+
+    /**
+     * 入社日が指定日以降（idx_employee_view_join_date を使用する）
+     *
+     * @param from 入社日の下限
+     * @return 検索条件
+     */
+    public static Specification<EmployeeView> joinedOnOrAfter(LocalDate from) {
+        return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("joinDate"), from);
+    }
+
+    /**
+     * 入社日が指定日以前（idx_employee_view_join_date を使用する）
+     *
+     * @param to 入社日の上限
+     * @return 検索条件
+     */
+    public static Specification<EmployeeView> joinedOnOrBefore(LocalDate to) {
+        return (root, query, builder) -> builder.lessThanOrEqualTo(root.get("joinDate"), to);
+    }
+}
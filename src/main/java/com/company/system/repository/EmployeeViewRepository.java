@@ -0,0 +1,47 @@
+package com.company.system.repository;
+
+import com.company.system.dto.EmployeeDto;
+import com.company.system.model.EmployeeView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 社員参照リポジトリ
+ * <p>
+ * 社員の参照はすべて主キーまたは本テーブルのインデックスで完結し、社員テーブル・部署テーブルを結合しない。
+ */
+@Repository
+public interface EmployeeViewRepository extends JpaRepository<EmployeeView, Long>, JpaSpecificationExecutor<EmployeeView> {
+
+    /**
+     * 社員の現在の内容を登録・更新（呼び出し元のトランザクションに参加し、変更と同時にコミットする）
+     *
+     * @param employee 変更後の社員DTO
+     * @return 登録・更新件数
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "MERGE INTO employee_view (id, employee_number, name, email, department_id, department_name, " +
+                   "department_code, join_date, created_at) KEY (id) " +
+                   "VALUES (:#{#employee.id}, :#{#employee.employeeNumber}, :#{#employee.name}, :#{#employee.email}, " +
+                   ":#{#employee.department.id}, :#{#employee.department.name}, :#{#employee.department.code}, " +
+                   ":#{#employee.joinDate}, :#{#employee.createdAt})",
+           nativeQuery = true)
+    int upsert(@Param("employee") EmployeeDto employee);
+
+    /**
+     * 削除した社員を除外（呼び出し元のトランザクションに参加し、変更と同時にコミットする）
+     *
+     * @param id 社員ID
+     * @return 削除件数
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM employee_view WHERE id = :id", nativeQuery = true)
+    int remove(@Param("id") Long id);
+}
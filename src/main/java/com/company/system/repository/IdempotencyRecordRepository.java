@@ -0,0 +1,45 @@
+package com.company.system.repository;
+
+import com.company.system.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 冪等キーの処理結果リポジトリ
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * 処理結果を登録・更新（存在確認のSELECTを行わず、期限切れで削除前の同じキーの行は置き換える）
+     *
+     * @param record 処理結果
+     * @return 登録・更新件数
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "MERGE INTO idempotency_keys " +
+                   "(idempotency_key, request_hash, status_code, response_body, created_at, expires_at) " +
+                   "KEY (idempotency_key) " +
+                   "VALUES (:#{#record.idempotencyKey}, :#{#record.requestHash}, :#{#record.statusCode}, " +
+                   ":#{#record.responseBody}, :#{#record.createdAt}, :#{#record.expiresAt})",
+           nativeQuery = true)
+    int upsert(@Param("record") IdempotencyRecord record);
+
+    /**
+     * 期限切れの処理結果を削除
+     *
+     * @param now 現在日時
+     * @return 削除件数
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,102 @@
+package com.company.system.repository;
+
+import com.company.system.model.Job;
+import com.company.system.model.JobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 非同期ジョブリポジトリ
+ */
+@Repository
+public interface JobRepository extends JpaRepository<Job, Long> {
+
+    /**
+     * 実行担当のいない未完了のジョブを検索（担当が不在、自ノードが担当、または担当の生存通知が途絶えたもの、登録順）
+     *
+     * @param statuses 未完了の状態
+     * @param owner 自ノード
+     * @param expiredBefore この日時より前に生存通知が途絶えた担当は停止とみなす
+     * @return ジョブ一覧
+     */
+    @Query("SELECT j FROM Job j WHERE j.status IN :statuses " +
+           "AND (j.owner IS NULL OR j.owner = :owner OR j.heartbeatAt < :expiredBefore) ORDER BY j.id")
+    List<Job> findClaimable(@Param("statuses") Collection<JobStatus> statuses, @Param("owner") String owner,
+                            @Param("expiredBefore") LocalDateTime expiredBefore);
+
+    /**
+     * 未完了のジョブの実行担当を取得（他のノードが担当中の場合は取得しない）
+     *
+     * @param id ジョブID
+     * @param statuses 未完了の状態
+     * @param owner 自ノード
+     * @param now 現在日時
+     * @param expiredBefore この日時より前に生存通知が途絶えた担当は停止とみなす
+     * @return 取得できた場合1
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.owner = :owner, j.heartbeatAt = :now WHERE j.id = :id AND j.status IN :statuses " +
+           "AND (j.owner IS NULL OR j.owner = :owner OR j.heartbeatAt < :expiredBefore)")
+    int claim(@Param("id") Long id, @Param("statuses") Collection<JobStatus> statuses, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("expiredBefore") LocalDateTime expiredBefore);
+
+    /**
+     * 実行担当のジョブの生存を通知
+     *
+     * @param id ジョブID
+     * @param owner 自ノード
+     * @param now 現在日時
+     * @return 担当を維持している場合1（他のノードに引き継がれた場合0）
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.heartbeatAt = :now WHERE j.id = :id AND j.owner = :owner")
+    int renew(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    /**
+     * 実行担当の全ジョブの生存を通知
+     *
+     * @param owner 自ノード
+     * @param statuses 未完了の状態
+     * @param now 現在日時
+     * @return 更新件数
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.heartbeatAt = :now WHERE j.owner = :owner AND j.status IN :statuses")
+    int renewAll(@Param("owner") String owner, @Param("statuses") Collection<JobStatus> statuses,
+                 @Param("now") LocalDateTime now);
+
+    /**
+     * ジョブの実行担当を解放（他のノードが直ちに引き継げるようにする）
+     *
+     * @param id ジョブID
+     * @param owner 自ノード
+     * @return 解放した場合1
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.owner = NULL, j.heartbeatAt = NULL WHERE j.id = :id AND j.owner = :owner")
+    int release(@Param("id") Long id, @Param("owner") String owner);
+
+    /**
+     * 自ノードが担当する未完了のジョブの実行担当をすべて解放
+     *
+     * @param owner 自ノード
+     * @param statuses 未完了の状態
+     * @return 解放件数
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.owner = NULL, j.heartbeatAt = NULL WHERE j.owner = :owner AND j.status IN :statuses")
+    int releaseAll(@Param("owner") String owner, @Param("statuses") Collection<JobStatus> statuses);
+}
@@ -0,0 +1,60 @@
+package com.company.system.service;
+
+/**
+ * 書き込みをまとめる待ち時間を負荷に応じて調整するウィンドウ
+ * <p>
+ * 同時に届いた書き込みがまとまり、完了までの時間が目標以内の間は待ち時間を一定量ずつ延ばし、
+ * 1件しか届かない場合や目標を超えた場合は半分に縮める（加算増加・乗算減少）。
+ * 低負荷時は待ち時間が0に収束し、単独の書き込みに遅延を加えない。
+ */
+public class AdaptiveBatchWindow {
+
+    /**
+     * 待ち時間の上限を何段階で延ばすか
+     */
+    private static final int INCREASE_STEPS = 10;
+
+    private final long maxWindowNanos;
+    private final long latencyTargetNanos;
+    private final long stepNanos;
+
+    private volatile long windowNanos;
+
+    public AdaptiveBatchWindow(long maxWindowNanos, long latencyTargetNanos) {
+        if (maxWindowNanos < 0 || latencyTargetNanos <= 0) {
+            throw new IllegalArgumentException("maxWindowとlatencyTargetの指定が不正です");
+        }
+        this.maxWindowNanos = maxWindowNanos;
+        this.latencyTargetNanos = latencyTargetNanos;
+        this.stepNanos = Math.max(1, maxWindowNanos / INCREASE_STEPS);
+    }
+
+    /**
+     * 現在の待ち時間を取得
+     *
+     * @return 最初の書き込みの受け付けから後続の書き込みを待つ時間（ナノ秒）
+     */
+    public long getWindowNanos() {
+        return windowNanos;
+    }
+
+    /**
+     * まとめた書き込みの結果を待ち時間に反映
+     *
+     * @param batchSize まとめた件数
+     * @param latencyNanos 最初の書き込みの受け付けから完了までの時間（ナノ秒）
+     */
+    public synchronized void update(int batchSize, long latencyNanos) {
+        long window = windowNanos;
+        if (latencyNanos > latencyTargetNanos || batchSize <= 1) {
+            window /= 2;
+            // 1段階未満まで縮んだ場合は待たない
+            if (window < stepNanos) {
+                window = 0;
+            }
+        } else {
+            window = Math.min(maxWindowNanos, window + stepNanos);
+        }
+        windowNanos = window;
+    }
+}
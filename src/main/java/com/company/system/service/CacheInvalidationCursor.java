@@ -0,0 +1,119 @@
+package com.company.system.service;
+
+import com.company.system.model.CacheInvalidation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 無効化ログの読み取り位置（パーティションごと）
+ * <p>
+ * 番号は登録時に採番されるためコミット順とは一致しない。読み取った最大の番号より小さい未読の番号は欠番として保持し、
+ * 以降の読み取りで再確認する（コミットが遅れたログを読み落とさない）。
+ * 欠番は一定時間経過したらロールバックされたものとみなして破棄する。スレッドセーフではない。
+ */
+public final class CacheInvalidationCursor {
+
+    /**
+     * 保持する欠番の上限（超えた場合は古い番号から破棄する）
+     */
+    static final int MAX_GAPS = 10_000;
+
+    private final long gapTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final NavigableMap<Long, Long> gaps = new TreeMap<>();
+    private long maxSeen;
+
+    /**
+     * @param start 読み取り済みとみなす番号
+     * @param gapTimeoutNanos 欠番を待つ時間（ナノ秒）
+     * @param nanoClock 現在時刻（ナノ秒）
+     */
+    public CacheInvalidationCursor(long start, long gapTimeoutNanos, LongSupplier nanoClock) {
+        this.maxSeen = start;
+        this.gapTimeoutNanos = gapTimeoutNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 読み取った最大の番号
+     *
+     * @return 番号
+     */
+    public long getMaxSeen() {
+        return maxSeen;
+    }
+
+    /**
+     * 再確認する欠番を古い順に取得
+     *
+     * @param limit 最大件数
+     * @return 欠番
+     */
+    public List<Long> pendingGaps(int limit) {
+        return gaps.keySet().stream().limit(limit).toList();
+    }
+
+    /**
+     * 保持している欠番の数
+     *
+     * @return 欠番の数
+     */
+    public int gapCount() {
+        return gaps.size();
+    }
+
+    /**
+     * 読み取ったログを反映し、初めて読み取ったものを返す
+     *
+     * @param rows 最大の番号より後のログと、欠番を再確認したログ
+     * @return 未反映のログ（番号順）
+     */
+    public List<CacheInvalidation> accept(List<CacheInvalidation> rows) {
+        List<CacheInvalidation> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing(CacheInvalidation::getSeq));
+        List<CacheInvalidation> accepted = new ArrayList<>(sorted.size());
+        long now = nanoClock.getAsLong();
+        for (CacheInvalidation row : sorted) {
+            long seq = row.getSeq();
+            if (seq <= maxSeen) {
+                if (gaps.remove(seq) != null) {
+                    accepted.add(row);
+                }
+                continue;
+            }
+            for (long missing = Math.max(maxSeen + 1, seq - MAX_GAPS); missing < seq; missing++) {
+                gaps.put(missing, now);
+            }
+            maxSeen = seq;
+            accepted.add(row);
+        }
+        while (gaps.size() > MAX_GAPS) {
+            gaps.pollFirstEntry();
+        }
+        return accepted;
+    }
+
+    /**
+     * 待ち時間を過ぎた欠番を破棄
+     *
+     * @return 破棄した欠番の数
+     */
+    public int expireGaps() {
+        long now = nanoClock.getAsLong();
+        int expired = 0;
+        for (Iterator<Map.Entry<Long, Long>> it = gaps.entrySet().iterator(); it.hasNext(); ) {
+            if (now - it.next().getValue() >= gapTimeoutNanos) {
+                it.remove();
+                expired++;
+            }
+        }
+        return expired;
+    }
+}
@@ -0,0 +1,294 @@
+package com.company.system.service;
+
+import com.company.system.config.CacheInvalidationProperties;
+import com.company.system.config.PartitionContext;
+import com.company.system.event.EmployeeCacheRefreshEvent;
+import com.company.system.event.EmployeeChangedEvent;
+import com.company.system.model.CacheInvalidation;
+import com.company.system.repository.CacheInvalidationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 無効化ログによるノード間のキャッシュ整合
+ * <p>
+ * 社員の変更時に変更と同じトランザクションで無効化ログ（cache_invalidation）へ1行追記し、
+ * 各ノードはバックグラウンドスレッドで番号順にログを読み取って、対象社員の現在の内容でキャッシュを置き換える。
+ * 自ノードの変更も読み取り対象とし、変更イベントとデータベースからの読み取りが前後した場合も次の読み取りで収束させる。
+ * 無効化ログを上限時間内に読み取れない場合はキャッシュをすべて破棄し、古さの上限を保証する。
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.cache-invalidation", name = "enabled", havingValue = "true")
+public class CacheInvalidationLog implements SmartLifecycle {
+
+    private static final String METRIC_PREFIX = "app.cache.invalidation";
+
+    /**
+     * 1回に再確認する欠番の最大数
+     */
+    private static final int MAX_GAP_LOOKUP = 1000;
+
+    private final CacheInvalidationRepository repository;
+    private final EmployeeService employeeService;
+    private final PartitionTemplate partitionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheInvalidationProperties properties;
+    private final String nodeId;
+
+    private final Timer localLag;
+    private final Timer remoteLag;
+    private final Counter fullInvalidations;
+    private final Counter expiredGaps;
+
+    private volatile CacheInvalidationCursor[] cursors;
+    private volatile long lastPolledNanos = System.nanoTime();
+    private volatile boolean stale;
+    private long nextPurgeNanos;
+
+    private volatile boolean running;
+    private volatile Thread poller;
+
+    public CacheInvalidationLog(CacheInvalidationRepository repository,
+                                EmployeeService employeeService,
+                                PartitionTemplate partitionTemplate,
+                                ApplicationEventPublisher eventPublisher,
+                                CacheInvalidationProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.employeeService = employeeService;
+        this.partitionTemplate = partitionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.nodeId = properties.getNodeId() != null && !properties.getNodeId().isBlank()
+                ? properties.getNodeId() : ManagementFactory.getRuntimeMXBean().getName();
+        this.localLag = lagTimer(meterRegistry, "local");
+        this.remoteLag = lagTimer(meterRegistry, "remote");
+        this.fullInvalidations = Counter.builder(METRIC_PREFIX + ".full")
+                .description("無効化ログを読み取れずキャッシュをすべて破棄した回数")
+                .register(meterRegistry);
+        this.expiredGaps = Counter.builder(METRIC_PREFIX + ".gaps.expired")
+                .description("待ち時間を過ぎて破棄した欠番の数")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".staleness", this, CacheInvalidationLog::stalenessSeconds)
+                .description("最後に無効化ログを読み取ってからの経過時間")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".gaps", this, CacheInvalidationLog::gapCount)
+                .description("コミットを待っている欠番の数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 社員の変更を無効化ログへ追記（変更と同じトランザクションでコミットする）
+     *
+     * @param event 社員変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        repository.append(new CacheInvalidation(null, CacheInvalidation.ENTITY_EMPLOYEE, event.getEmployeeId(),
+                nodeId, event.getChangedAt(), LocalDateTime.now()));
+    }
+
+    /**
+     * 全パーティションの未読の無効化ログを読み取り、キャッシュへ反映
+     *
+     * @return 反映したログの件数
+     */
+    public int poll() {
+        long started = System.nanoTime();
+        CacheInvalidationCursor[] current = cursors;
+        List<CacheInvalidation> rows = new ArrayList<>();
+        partitionTemplate.scatter(() -> read(current[partitionIndex()])).forEach(rows::addAll);
+        if (!rows.isEmpty()) {
+            apply(rows);
+        }
+        lastPolledNanos = started;
+        if (stale) {
+            stale = false;
+            // 読み取れなかった間に破棄後のキャッシュへ古い内容が載った可能性があるため、再度すべて破棄する
+            eventPublisher.publishEvent(EmployeeCacheRefreshEvent.all());
+            log.info("無効化ログの読み取りが回復しました");
+        }
+        return rows.size();
+    }
+
+    /**
+     * ノード識別子を取得
+     *
+     * @return ノード識別子
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void start() {
+        long gapTimeoutNanos = properties.getGapTimeout().toNanos();
+        // 起動前のログは読み取らない（キャッシュは空のため）
+        List<Long> maxSeqs = partitionTemplate.scatter(repository::findMaxSeq);
+        CacheInvalidationCursor[] initial = new CacheInvalidationCursor[maxSeqs.size()];
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = new CacheInvalidationCursor(maxSeqs.get(i), gapTimeoutNanos, System::nanoTime);
+        }
+        cursors = initial;
+        lastPolledNanos = System.nanoTime();
+        nextPurgeNanos = lastPolledNanos + properties.getPurgeInterval().toNanos();
+        running = true;
+        Thread thread = new Thread(this::runPollLoop, "cache-invalidation-poller");
+        thread.setDaemon(true);
+        poller = thread;
+        thread.start();
+        log.info("無効化ログの読み取りを開始: nodeId={}, pollInterval={}, maxStaleness={}",
+                nodeId, properties.getPollInterval(), properties.getMaxStaleness());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = poller;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(properties.getPollInterval().multipliedBy(10).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("無効化ログの読み取りを停止");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runPollLoop() {
+        long pollIntervalNanos = properties.getPollInterval().toNanos();
+        while (running) {
+            long started = System.nanoTime();
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                if (!stale) {
+                    log.warn("無効化ログの読み取りに失敗しました", e);
+                }
+            }
+            enforceMaxStaleness();
+            purgeIfDue();
+            LockSupport.parkNanos(this, pollIntervalNanos - (System.nanoTime() - started));
+        }
+    }
+
+    private List<CacheInvalidation> read(CacheInvalidationCursor cursor) {
+        List<CacheInvalidation> rows = new ArrayList<>(repository.findAfter(cursor.getMaxSeen(),
+                PageRequest.of(0, properties.getBatchSize())));
+        if (cursor.gapCount() > 0) {
+            rows.addAll(repository.findBySeqIn(cursor.pendingGaps(MAX_GAP_LOOKUP)));
+        }
+        List<CacheInvalidation> accepted = cursor.accept(rows);
+        int expired = cursor.expireGaps();
+        if (expired > 0) {
+            expiredGaps.increment(expired);
+            log.debug("欠番をロールバック済みとして破棄: 件数={}", expired);
+        }
+        return accepted;
+    }
+
+    private void apply(List<CacheInvalidation> rows) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, LocalDateTime> changedAtById = new LinkedHashMap<>();
+        for (CacheInvalidation row : rows) {
+            changedAtById.merge(row.getEntityId(), row.getChangedAt(),
+                    (current, next) -> next.isAfter(current) ? next : current);
+            Timer lag = nodeId.equals(row.getOriginNode()) ? localLag : remoteLag;
+            lag.record(Duration.between(row.getCreatedAt(), now));
+        }
+        List<EmployeeCacheRefreshEvent.Refresh> refreshes = employeeService.loadCacheRefreshes(changedAtById);
+        eventPublisher.publishEvent(new EmployeeCacheRefreshEvent(false, refreshes));
+        log.debug("無効化ログをキャッシュへ反映: ログ件数={}, 社員数={}", rows.size(), refreshes.size());
+    }
+
+    /**
+     * 上限時間を過ぎても無効化ログを読み取れていない場合はキャッシュをすべて破棄（回復するまで毎回破棄する）
+     */
+    private void enforceMaxStaleness() {
+        if (System.nanoTime() - lastPolledNanos <= properties.getMaxStaleness().toNanos()) {
+            return;
+        }
+        if (!stale) {
+            stale = true;
+            log.warn("無効化ログを{}以上読み取れていないため、キャッシュを破棄します", properties.getMaxStaleness());
+        }
+        fullInvalidations.increment();
+        eventPublisher.publishEvent(EmployeeCacheRefreshEvent.all());
+    }
+
+    private void purgeIfDue() {
+        long now = System.nanoTime();
+        if (now < nextPurgeNanos) {
+            return;
+        }
+        nextPurgeNanos = now + properties.getPurgeInterval().toNanos();
+        LocalDateTime threshold = LocalDateTime.now().minus(properties.getRetention());
+        for (int partition = 0; partition < partitionTemplate.getPartitionCount(); partition++) {
+            try (PartitionTemplate.Scope ignored = partitionTemplate.enter(partition)) {
+                int deleted = repository.deleteCreatedBefore(threshold);
+                if (deleted > 0) {
+                    log.info("保持期間を過ぎた無効化ログを削除: partition={}, 件数={}", partition, deleted);
+                }
+            } catch (RuntimeException e) {
+                log.warn("無効化ログの削除に失敗しました: partition={}", partition, e);
+            }
+        }
+    }
+
+    private double stalenessSeconds() {
+        return (System.nanoTime() - lastPolledNanos) / 1_000_000_000.0;
+    }
+
+    private double gapCount() {
+        CacheInvalidationCursor[] current = cursors;
+        if (current == null) {
+            return 0;
+        }
+        int count = 0;
+        for (CacheInvalidationCursor cursor : current) {
+            count += cursor.gapCount();
+        }
+        return count;
+    }
+
+    private static int partitionIndex() {
+        Integer partition = PartitionContext.current();
+        return partition != null ? partition : 0;
+    }
+
+    private static Timer lagTimer(MeterRegistry meterRegistry, String origin) {
+        return Timer.builder(METRIC_PREFIX + ".lag")
+                .description("変更のコミットから無効化ログを反映するまでの時間")
+                .tag("origin", origin)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
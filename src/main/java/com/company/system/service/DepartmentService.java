@@ -1,14 +1,25 @@
 package com.company.system.service;
 
 import com.company.system.dto.DepartmentDto;
+import com.company.system.dto.DepartmentRosterDto;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.exception.ValidationException;
 import com.company.system.model.Department;
 import com.company.system.repository.DepartmentRepository;
+import com.company.system.repository.DepartmentRosterRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -20,40 +31,117 @@ import java.util.stream.Collectors;
 @Transactional
 public class DepartmentService {
 
+    /**
+     * 所属社員付き部署一覧で部署ごとに取得できる社員の最大件数
+     */
+    public static final int MAX_ROSTER_LIMIT = 100;
+
     private final DepartmentRepository departmentRepository;
+    private final RequestCoalescer requestCoalescer;
+    private final HotKeyTracker hotKeyTracker;
+    private final PartitionTemplate partitionTemplate;
 
     /**
      * 部署一覧を取得
      *
      * @return 部署一覧
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<DepartmentDto> findAll() {
         log.info("部署一覧取得開始");
-        List<Department> departments = departmentRepository.findAll();
-        List<DepartmentDto> result = departments.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        // 同時リクエストは1回の問い合わせにまとめる
+        List<DepartmentDto> result = requestCoalescer.execute("department.findAll",
+                List.of("department.findAll"),
+                () -> departmentRepository.findAll().stream()
+                        .map(this::convertToDto)
+                        .collect(Collectors.toList()));
         log.info("部署一覧取得完了: 件数={}", result.size());
         return result;
     }
 
+    /**
+     * 所属社員付きの部署一覧を取得
+     * <p>
+     * 全部署と部署ごとの所属社員（ID順に上限件数まで）・所属社員数をパーティションごとに1回の問い合わせで取得し、部署ごとにまとめる。
+     *
+     * @param limit 部署ごとの社員の上限件数
+     * @return 所属社員付き部署一覧（部署ID順）
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<DepartmentRosterDto> findAllWithEmployees(int limit) {
+        if (limit < 1 || limit > MAX_ROSTER_LIMIT) {
+            throw new ValidationException("部署ごとの社員数は1以上" + MAX_ROSTER_LIMIT + "以下で指定してください");
+        }
+        log.info("所属社員付き部署一覧取得開始: limit={}", limit);
+        // 同時リクエストは1回の問い合わせにまとめる
+        List<DepartmentRosterDto> result = requestCoalescer.execute("department.findAllWithEmployees",
+                Arrays.asList("department.findAllWithEmployees", limit),
+                () -> assembleRosters(partitionTemplate.scatter(() -> departmentRepository.findRosters(limit)), limit));
+        log.info("所属社員付き部署一覧取得完了: 件数={}", result.size());
+        return result;
+    }
+
     /**
      * IDで部署を取得
      *
      * @param id 部署ID
      * @return 部署DTO
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public DepartmentDto findById(Long id) {
         log.info("部署取得開始: id={}", id);
-        Department department = departmentRepository.findById(id)
-                .orElseThrow(() -> new com.company.system.exception.ResourceNotFoundException("部署が見つかりません"));
-        DepartmentDto result = convertToDto(department);
+        hotKeyTracker.record(HotKeyTracker.Category.DEPARTMENT, id);
+        // 同一IDの同時リクエストは1回の問い合わせにまとめる
+        DepartmentDto result = requestCoalescer.execute("department.findById",
+                Arrays.asList("department.findById", id),
+                () -> convertToDto(departmentRepository.findById(id)
+                        .orElseThrow(() -> new com.company.system.exception.ResourceNotFoundException("部署が見つかりません"))));
         log.info("部署取得完了: id={}", id);
         return result;
     }
 
+    /**
+     * パーティションごとの行を部署ごとにまとめる
+     * <p>
+     * 部署は全パーティションに存在し、社員は所属部署のパーティションに格納されるため、社員数は合算し、社員はID順に上限件数までとする。
+     *
+     * @param partitions パーティションごとの行（部署ID・社員ID順）
+     * @param limit 部署ごとの社員の上限件数
+     * @return 所属社員付き部署一覧（部署ID順）
+     */
+    private List<DepartmentRosterDto> assembleRosters(List<List<DepartmentRosterRepository.RosterRow>> partitions,
+                                                      int limit) {
+        Map<Long, DepartmentRosterDto> rosters = new LinkedHashMap<>();
+        for (List<DepartmentRosterRepository.RosterRow> rows : partitions) {
+            Map<Long, Long> countedInPartition = new HashMap<>();
+            for (DepartmentRosterRepository.RosterRow row : rows) {
+                DepartmentRosterDto roster = rosters.computeIfAbsent(row.departmentId(), id ->
+                        new DepartmentRosterDto(id, row.departmentName(), row.departmentCode(), 0, new ArrayList<>()));
+                // 社員数は部署の各行に同じ値が入るため、パーティションごとに1回だけ加算する
+                if (countedInPartition.putIfAbsent(row.departmentId(), row.employeeCount()) == null) {
+                    roster.setEmployeeCount(roster.getEmployeeCount() + row.employeeCount());
+                }
+                if (row.employeeId() != null) {
+                    roster.getEmployees().add(new EmployeeDto(row.employeeId(), row.employeeNumber(), row.name(),
+                            row.email(), new DepartmentDto(row.departmentId(), row.departmentName(), row.departmentCode()),
+                            row.joinDate(), row.createdAt()));
+                }
+            }
+        }
+        List<DepartmentRosterDto> result = new ArrayList<>(rosters.values());
+        result.sort(Comparator.comparing(DepartmentRosterDto::getId));
+        if (partitions.size() > 1) {
+            for (DepartmentRosterDto roster : result) {
+                List<EmployeeDto> employees = roster.getEmployees();
+                employees.sort(Comparator.comparing(EmployeeDto::getId));
+                if (employees.size() > limit) {
+                    roster.setEmployees(new ArrayList<>(employees.subList(0, limit)));
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * エンティティをDTOに変換
      *
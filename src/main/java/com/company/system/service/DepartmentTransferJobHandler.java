@@ -0,0 +1,85 @@
+package com.company.system.service;
+
+import com.company.system.dto.UpdateEmployeeRequest;
+import com.company.system.exception.ResourceNotFoundException;
+import com.company.system.exception.ValidationException;
+import com.company.system.repository.DepartmentRepository;
+import com.company.system.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 部署の所属社員を一括で別部署へ異動させるジョブ
+ * <p>
+ * パラメータ: fromDepartmentId（異動元部署ID）、toDepartmentId（異動先部署ID）。
+ * 社員ごとの更新は社員サービスを経由するため、変更履歴・キャッシュ・検索インデックスにも反映される。
+ */
+@Component
+@RequiredArgsConstructor
+public class DepartmentTransferJobHandler implements JobHandler {
+
+    public static final String TYPE = "DEPARTMENT_TRANSFER";
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final EmployeeService employeeService;
+    private final PartitionTemplate partitionTemplate;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void validate(JsonNode parameters) {
+        Long fromDepartmentId = departmentId(parameters, "fromDepartmentId");
+        Long toDepartmentId = departmentId(parameters, "toDepartmentId");
+        if (fromDepartmentId.equals(toDepartmentId)) {
+            throw new ValidationException("異動元と異動先に同じ部署は指定できません");
+        }
+        if (!departmentRepository.existsById(fromDepartmentId) || !departmentRepository.existsById(toDepartmentId)) {
+            throw new ResourceNotFoundException("部署が存在しません");
+        }
+    }
+
+    @Override
+    public long countTotal(JsonNode parameters) {
+        Long fromDepartmentId = departmentId(parameters, "fromDepartmentId");
+        return partitionTemplate.scatter(() -> employeeRepository.countActiveByDepartment(fromDepartmentId)).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Override
+    public ChunkResult processChunk(Long jobId, JsonNode parameters, String checkpoint, int chunkSize) {
+        Long fromDepartmentId = departmentId(parameters, "fromDepartmentId");
+        Long toDepartmentId = departmentId(parameters, "toDepartmentId");
+        EmployeeJobCursor cursor = EmployeeJobCursor.parse(checkpoint);
+
+        try (PartitionTemplate.Scope ignored = partitionTemplate.enter(cursor.partition())) {
+            List<Long> ids = employeeRepository.findActiveIdsByDepartmentAfterId(
+                    fromDepartmentId, cursor.lastId(), PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                EmployeeJobCursor next = cursor.nextPartition();
+                return new ChunkResult(next.format(), 0, next.partition() >= partitionTemplate.getPartitionCount(), null);
+            }
+            UpdateEmployeeRequest request = new UpdateEmployeeRequest(null, null, toDepartmentId);
+            for (Long id : ids) {
+                employeeService.update(id, request);
+            }
+            return new ChunkResult(cursor.advanceTo(ids.get(ids.size() - 1), 0).format(), ids.size(), false, null);
+        }
+    }
+
+    private static Long departmentId(JsonNode parameters, String name) {
+        JsonNode value = parameters.get(name);
+        if (value == null || !value.canConvertToLong()) {
+            throw new ValidationException(name + "を数値で指定してください");
+        }
+        return value.asLong();
+    }
+}
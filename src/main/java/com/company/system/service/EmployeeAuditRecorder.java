@@ -0,0 +1,294 @@
+package com.company.system.service;
+
+import com.company.system.config.AuditProperties;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.event.EmployeeChangedEvent;
+import com.company.system.model.EmployeeHistory;
+import com.company.system.repository.EmployeeHistoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 社員変更履歴の非同期記録
+ * <p>
+ * コミット済みの変更イベントを上限付きのロックフリーキューに積み、バックグラウンドスレッドでまとめて登録する。
+ * キューが満杯の場合は一定時間空きを待ち、それでも空かなければ呼び出し元スレッドで登録する（履歴は破棄しない）。
+ * 一括登録に失敗した場合は1件ずつ登録し直し、それでも失敗した履歴はキューへ戻して次回の書き出しで再登録する。
+ */
+@Slf4j
+@Component
+public class EmployeeAuditRecorder implements SmartLifecycle {
+
+    private static final String SYSTEM_OPERATOR = "system";
+    private static final int OPERATOR_MAX_LENGTH = 100;
+    private static final long BACKPRESSURE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final EmployeeHistoryRepository employeeHistoryRepository;
+    private final ObjectMapper objectMapper;
+    private final AuditProperties properties;
+
+    private final ConcurrentLinkedQueue<EmployeeHistory> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+
+    private volatile boolean running;
+    private volatile Thread flusher;
+
+    public EmployeeAuditRecorder(EmployeeHistoryRepository employeeHistoryRepository,
+                                 ObjectMapper objectMapper,
+                                 AuditProperties properties) {
+        this.employeeHistoryRepository = employeeHistoryRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * コミット済みの社員変更を記録
+     *
+     * @param event 社員変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        record(toHistory(event));
+    }
+
+    /**
+     * 変更履歴を書き込み待ちキューに追加
+     *
+     * @param history 変更履歴
+     */
+    public void record(EmployeeHistory history) {
+        if (!running) {
+            write(List.of(history));
+            return;
+        }
+        if (tryEnqueue(history)) {
+            if (!running) {
+                // 追加の直前に停止し、書き出しスレッドの最後の書き出しが終わっている場合は自身で書き出す
+                drainRemaining();
+            } else if (queuedCount.get() >= properties.getBatchSize()) {
+                LockSupport.unpark(flusher);
+            }
+            return;
+        }
+
+        // キューが満杯の場合は書き出しを促しながら空きを待つ
+        long deadline = System.nanoTime() + properties.getOfferTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            LockSupport.unpark(flusher);
+            LockSupport.parkNanos(this, BACKPRESSURE_PARK_NANOS);
+            if (tryEnqueue(history)) {
+                if (!running) {
+                    drainRemaining();
+                }
+                return;
+            }
+        }
+        log.warn("変更履歴キューが満杯のため呼び出し元スレッドで登録します: employeeId={}", history.getEmployeeId());
+        requeue(write(List.of(history)));
+    }
+
+    /**
+     * 書き込み待ちの件数を取得
+     *
+     * @return 書き込み待ちの件数
+     */
+    public int getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::runFlushLoop, "employee-audit-flusher");
+        thread.setDaemon(true);
+        flusher = thread;
+        thread.start();
+        log.info("社員変更履歴の記録を開始: queueCapacity={}, batchSize={}",
+                properties.getQueueCapacity(), properties.getBatchSize());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = flusher;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!thread.isAlive()) {
+            // 書き出しスレッドの終了後に追加された履歴を書き出す
+            drainRemaining();
+        }
+        if (thread.isAlive()) {
+            log.warn("変更履歴の書き出しが時間内に完了しませんでした: 残件数={}", queuedCount.get());
+        } else if (queuedCount.get() > 0) {
+            log.error("変更履歴を登録できないまま停止しました: 残件数={}", queuedCount.get());
+        } else {
+            log.info("社員変更履歴の記録を停止");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Webサーバー停止後に停止し、処理中のリクエストの履歴も書き出す
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runFlushLoop() {
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        while (running) {
+            if (queuedCount.get() < properties.getBatchSize()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            drain();
+        }
+        drainRemaining();
+    }
+
+    /**
+     * 停止時に残りをすべて書き出す（登録できなかった履歴はもう1回だけ登録し直す）
+     */
+    private void drainRemaining() {
+        drain();
+        drain();
+    }
+
+    private void drain() {
+        int batchSize = properties.getBatchSize();
+        List<EmployeeHistory> batch = new ArrayList<>(batchSize);
+        List<EmployeeHistory> failed = new ArrayList<>();
+        EmployeeHistory history;
+        while ((history = queue.poll()) != null) {
+            batch.add(history);
+            if (batch.size() >= batchSize) {
+                queuedCount.addAndGet(-batch.size());
+                failed.addAll(write(batch));
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            queuedCount.addAndGet(-batch.size());
+            failed.addAll(write(batch));
+        }
+        requeue(failed);
+    }
+
+    /**
+     * 登録できなかった変更履歴をキューへ戻し、次回の書き出し（書き出し間隔の経過後）で再登録する（キューの上限を超えても戻す）
+     */
+    private void requeue(List<EmployeeHistory> failed) {
+        if (failed.isEmpty()) {
+            return;
+        }
+        queuedCount.addAndGet(failed.size());
+        failed.forEach(queue::offer);
+        log.warn("変更履歴の登録に失敗したため次回の書き出しで再登録します: 件数={}", failed.size());
+    }
+
+    private boolean tryEnqueue(EmployeeHistory history) {
+        int current;
+        do {
+            current = queuedCount.get();
+            if (current >= properties.getQueueCapacity()) {
+                return false;
+            }
+        } while (!queuedCount.compareAndSet(current, current + 1));
+        queue.offer(history);
+        return true;
+    }
+
+    /**
+     * 変更履歴をまとめて登録（失敗した場合は1件ずつ登録し直す）
+     *
+     * @param batch 変更履歴
+     * @return 登録できなかった変更履歴
+     */
+    private List<EmployeeHistory> write(List<EmployeeHistory> batch) {
+        try {
+            employeeHistoryRepository.batchInsert(batch);
+            log.debug("変更履歴を登録: 件数={}", batch.size());
+            return List.of();
+        } catch (RuntimeException e) {
+            log.warn("変更履歴の一括登録に失敗したため1件ずつ登録します: 件数={}", batch.size(), e);
+        }
+        List<EmployeeHistory> failed = new ArrayList<>();
+        for (EmployeeHistory history : batch) {
+            try {
+                employeeHistoryRepository.batchInsert(List.of(history));
+            } catch (RuntimeException e) {
+                log.error("変更履歴の登録に失敗しました: employeeId={}", history.getEmployeeId(), e);
+                failed.add(history);
+            }
+        }
+        return failed;
+    }
+
+    private EmployeeHistory toHistory(EmployeeChangedEvent event) {
+        EmployeeHistory history = new EmployeeHistory();
+        history.setEmployeeId(event.getEmployeeId());
+        history.setChangeType(event.getChangeType().name());
+        history.setChangedBy(event.getChangedBy() != null ? event.getChangedBy() : currentOperator());
+        history.setChangedAt(event.getChangedAt());
+        history.setBeforeData(toJson(event.getBefore()));
+        history.setAfterData(toJson(event.getAfter()));
+        return history;
+    }
+
+    private String toJson(EmployeeDto employee) {
+        if (employee == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(employee);
+        } catch (JsonProcessingException e) {
+            log.error("変更履歴のシリアライズに失敗しました: id={}", employee.getId(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 現在のスレッドで処理中のリクエストの認証済みユーザーを操作者として解決（未認証・リクエスト外の場合はsystem）
+     * <p>
+     * クライアントが任意の値を指定できるリクエストヘッダーは、履歴の操作者を詐称できるため使用しない。
+     *
+     * @return 操作者
+     */
+    public static String currentOperator() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            Principal principal = servletAttributes.getRequest().getUserPrincipal();
+            String operator = principal != null ? principal.getName() : null;
+            if (operator != null && !operator.isBlank()) {
+                return operator.length() > OPERATOR_MAX_LENGTH ? operator.substring(0, OPERATOR_MAX_LENGTH) : operator;
+            }
+        }
+        return SYSTEM_OPERATOR;
+    }
+}
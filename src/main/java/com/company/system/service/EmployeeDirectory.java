@@ -0,0 +1,276 @@
+package com.company.system.service;
+
+import com.company.system.dto.EmployeeDto;
+import com.company.system.event.EmployeeCacheRefreshEvent;
+import com.company.system.event.EmployeeChangedEvent;
+import com.company.system.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 社員ディレクトリ（全社員の検索・候補検索用の項目のインメモリ複製）
+ * <p>
+ * 社員検索インデックスと社員候補検索インデックスはこのディレクトリから構築する。
+ * 初回参照時にデータベースから全件読み込むか、起動時にスナップショットから復元して保存後の変更だけを読み込み、
+ * 以降はコミット済みの社員変更イベントで差分を反映する。
+ * 変更イベントは各インデックスより先に反映する（インデックスの構築中に反映済みの変更を取りこぼさないため）。
+ */
+@Slf4j
+@Component
+public class EmployeeDirectory {
+
+    private final EmployeeRepository employeeRepository;
+    private final PartitionTemplate partitionTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private boolean loaded;
+    private Map<Long, Entry> entries = new HashMap<>();
+    private long modificationCount;
+
+    public EmployeeDirectory(EmployeeRepository employeeRepository, PartitionTemplate partitionTemplate) {
+        this.employeeRepository = employeeRepository;
+        this.partitionTemplate = partitionTemplate;
+    }
+
+    /**
+     * 全社員の項目を取得（未構築の場合はデータベースから読み込む）
+     *
+     * @return 社員ディレクトリの項目一覧（削除済みを含む、ID順）
+     */
+    public List<Entry> entries() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            List<Entry> result = new ArrayList<>(entries.values());
+            result.sort(Comparator.comparingLong(Entry::id));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * スナップショットとして保存する内容を取得
+     *
+     * @return 現在の内容と取得日時（未構築の場合はnull）
+     */
+    public Capture capture() {
+        lock.readLock().lock();
+        try {
+            if (!loaded) {
+                return null;
+            }
+            // 取得日時は内容の取得前に記録し、取得中にコミットされた変更を復元時の読み込み対象に含める
+            LocalDateTime capturedAt = LocalDateTime.now();
+            return new Capture(capturedAt, modificationCount, new ArrayList<>(entries.values()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 前回の取得以降に変更があったかを判定
+     *
+     * @param capture 前回の取得結果
+     * @return 変更があった場合（再構築された場合を含む）はtrue
+     */
+    public boolean isModifiedSince(Capture capture) {
+        lock.readLock().lock();
+        try {
+            return loaded && modificationCount != capture.modificationCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * スナップショットから復元し、保存後に変更された社員をデータベースから読み込んで反映
+     * <p>
+     * 反映後の社員数がデータベースと一致しない場合（別のデータベースのスナップショットや、物理削除された社員がある場合）は
+     * 復元せず、初回参照時にデータベースから全件読み込む。
+     *
+     * @param snapshot スナップショット
+     * @param replayOverlap 保存日時から遡って読み込む幅
+     * @return 復元した場合はtrue
+     */
+    public boolean restore(EmployeeDirectorySnapshot snapshot, Duration replayOverlap) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return false;
+            }
+            if (snapshot.getPartitionCount() != partitionTemplate.getPartitionCount()) {
+                log.warn("パーティション数が異なるため社員ディレクトリのスナップショットを使用しません: スナップショット={}, 現在={}",
+                        snapshot.getPartitionCount(), partitionTemplate.getPartitionCount());
+                return false;
+            }
+            Map<Long, Entry> restored = new HashMap<>(Math.max(16, snapshot.getEntries().size() * 4 / 3 + 1));
+            for (Entry entry : snapshot.getEntries()) {
+                restored.put(entry.id(), entry);
+            }
+            LocalDateTime since = snapshot.getCapturedAt().minus(replayOverlap);
+            int replayed = 0;
+            for (List<EmployeeRepository.DirectoryRow> rows : partitionTemplate.scatter(
+                    () -> employeeRepository.findDirectoryChangedSince(since))) {
+                for (EmployeeRepository.DirectoryRow row : rows) {
+                    restored.put(row.getId(), Entry.of(row));
+                    replayed++;
+                }
+            }
+            long total = partitionTemplate.scatter(employeeRepository::count).stream()
+                    .mapToLong(Long::longValue)
+                    .sum();
+            if (total != restored.size()) {
+                log.warn("社員数がデータベースと一致しないため社員ディレクトリのスナップショットを使用しません: "
+                        + "復元={}, データベース={}", restored.size(), total);
+                return false;
+            }
+            entries = restored;
+            loaded = true;
+            modificationCount++;
+            log.info("社員ディレクトリをスナップショットから復元: 件数={}, 保存日時={}, 差分件数={}",
+                    restored.size(), snapshot.getCapturedAt(), replayed);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * コミット済みの社員変更をディレクトリへ反映
+     *
+     * @param event 社員変更イベント
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                // 未構築の場合は構築時にデータベースから読み込む
+                return;
+            }
+            boolean deleted = event.getChangeType() == EmployeeChangedEvent.ChangeType.DELETE;
+            EmployeeDto employee = deleted ? event.getBefore() : event.getAfter();
+            entries.put(event.getEmployeeId(), Entry.of(employee, deleted));
+            modificationCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 無効化ログから読み取った社員の現在の内容をディレクトリへ反映（他ノードでの変更の反映）
+     *
+     * @param event 社員キャッシュの再読み込みイベント
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onEmployeeCacheRefresh(EmployeeCacheRefreshEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.isAll()) {
+                // 次回参照時にデータベースから再構築する
+                loaded = false;
+                entries = new HashMap<>();
+                return;
+            }
+            if (!loaded) {
+                return;
+            }
+            for (EmployeeCacheRefreshEvent.Refresh refresh : event.getRefreshes()) {
+                if (refresh.getCurrent() != null) {
+                    entries.put(refresh.getEmployeeId(), Entry.of(refresh.getCurrent(), refresh.isDeleted()));
+                } else {
+                    entries.remove(refresh.getEmployeeId());
+                }
+            }
+            modificationCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            long start = System.nanoTime();
+            Map<Long, Entry> loadedEntries = new HashMap<>();
+            for (List<EmployeeRepository.DirectoryRow> rows : partitionTemplate.scatter(
+                    employeeRepository::findAllForDirectory)) {
+                for (EmployeeRepository.DirectoryRow row : rows) {
+                    loadedEntries.put(row.getId(), Entry.of(row));
+                }
+            }
+            entries = loadedEntries;
+            loaded = true;
+            modificationCount++;
+            log.info("社員ディレクトリをデータベースから構築: 件数={}, 所要時間={}ms",
+                    loadedEntries.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 社員ディレクトリの項目
+     *
+     * @param id 社員ID
+     * @param employeeNumber 社員番号
+     * @param name 社員名
+     * @param email メールアドレス
+     * @param departmentId 部署ID
+     * @param joinDate 入社日
+     * @param deleted 削除済みか
+     */
+    public record Entry(long id, String employeeNumber, String name, String email, long departmentId,
+                        LocalDate joinDate, boolean deleted) {
+
+        static Entry of(EmployeeRepository.DirectoryRow row) {
+            return new Entry(row.getId(), row.getEmployeeNumber(), row.getName(), row.getEmail(),
+                    row.getDepartmentId(), row.getJoinDate(), row.getDeletedAt() != null);
+        }
+
+        static Entry of(EmployeeDto employee, boolean deleted) {
+            return new Entry(employee.getId(), employee.getEmployeeNumber(), employee.getName(), employee.getEmail(),
+                    employee.getDepartment().getId(), employee.getJoinDate(), deleted);
+        }
+    }
+
+    /**
+     * スナップショットとして保存する内容
+     *
+     * @param capturedAt 取得日時（復元時はこの日時以降の変更をデータベースから読み込む）
+     * @param modificationCount 取得時点の変更回数
+     * @param entries 全社員の項目（順序は不定）
+     */
+    public record Capture(LocalDateTime capturedAt, long modificationCount, List<Entry> entries) {
+    }
+}
@@ -0,0 +1,215 @@
+package com.company.system.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 社員ディレクトリのスナップショットファイル
+ * <p>
+ * ヘッダー（識別子・形式バージョン・取得日時・パーティション数・件数・本体のCRC32）に続けて、
+ * 社員ごとに社員ID・部署ID・入社日（エポック日）・削除フラグと、社員番号・社員名・メールアドレス（長さ付きUTF-8）を並べる。
+ * 書き込みはメモリマップした一時ファイルへ行ってから置き換え、読み込みはファイルをメモリマップして行う。
+ */
+public final class EmployeeDirectorySnapshot {
+
+    /**
+     * ファイルの識別子（"EDIR"）
+     */
+    private static final int MAGIC = 0x45444952;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4 + 4 + 4 + 8;
+
+    private static final int FIXED_ENTRY_SIZE = 8 + 8 + 4 + 1;
+
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private final LocalDateTime capturedAt;
+    private final int partitionCount;
+    private final List<EmployeeDirectory.Entry> entries;
+
+    private EmployeeDirectorySnapshot(LocalDateTime capturedAt, int partitionCount,
+                                      List<EmployeeDirectory.Entry> entries) {
+        this.capturedAt = capturedAt;
+        this.partitionCount = partitionCount;
+        this.entries = entries;
+    }
+
+    /**
+     * スナップショットを書き込む（同じディレクトリの一時ファイルへ書き込んでから置き換える）
+     *
+     * @param path ファイルパス
+     * @param partitionCount パーティション数
+     * @param capture 保存する内容
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public static void write(Path path, int partitionCount, EmployeeDirectory.Capture capture) throws IOException {
+        List<EmployeeDirectory.Entry> entries = capture.entries();
+        long bodySize = 0;
+        for (EmployeeDirectory.Entry entry : entries) {
+            bodySize += FIXED_ENTRY_SIZE + encodedSize(entry.employeeNumber()) + encodedSize(entry.name())
+                    + encodedSize(entry.email());
+        }
+        if (HEADER_SIZE + bodySize > Integer.MAX_VALUE) {
+            throw new IOException("スナップショットが大きすぎます: " + (HEADER_SIZE + bodySize) + "バイト");
+        }
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + bodySize);
+                buffer.putInt(MAGIC)
+                        .putInt(FORMAT_VERSION)
+                        .putLong(capture.capturedAt().toEpochSecond(ZoneOffset.UTC))
+                        .putInt(capture.capturedAt().getNano())
+                        .putInt(partitionCount)
+                        .putInt(entries.size())
+                        .putLong(0);
+                for (EmployeeDirectory.Entry entry : entries) {
+                    buffer.putLong(entry.id())
+                            .putLong(entry.departmentId())
+                            .putInt((int) entry.joinDate().toEpochDay())
+                            .put((byte) (entry.deleted() ? 1 : 0));
+                    putString(buffer, entry.employeeNumber());
+                    putString(buffer, entry.name());
+                    putString(buffer, entry.email());
+                }
+                buffer.putLong(HEADER_SIZE - 8, checksum(buffer));
+                buffer.force();
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * スナップショットを読み込む
+     *
+     * @param path ファイルパス
+     * @return スナップショット
+     * @throws IOException 読み込みに失敗した場合、または形式が不正な場合（破損を含む）
+     */
+    public static EmployeeDirectorySnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("スナップショットの形式が不正です: サイズ=" + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("スナップショットの形式が不正です: 識別子またはバージョンが一致しません");
+            }
+            LocalDateTime capturedAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            int partitionCount = buffer.getInt();
+            int count = buffer.getInt();
+            long expectedChecksum = buffer.getLong();
+            if (checksum(buffer) != expectedChecksum) {
+                throw new IOException("スナップショットが破損しています: チェックサムが一致しません");
+            }
+            List<EmployeeDirectory.Entry> entries = new ArrayList<>(count);
+            try {
+                for (int i = 0; i < count; i++) {
+                    long id = buffer.getLong();
+                    long departmentId = buffer.getLong();
+                    LocalDate joinDate = LocalDate.ofEpochDay(buffer.getInt());
+                    boolean deleted = buffer.get() != 0;
+                    entries.add(new EmployeeDirectory.Entry(id, getString(buffer), getString(buffer),
+                            getString(buffer), departmentId, joinDate, deleted));
+                }
+            } catch (RuntimeException e) {
+                throw new IOException("スナップショットの形式が不正です: 件数=" + count, e);
+            }
+            return new EmployeeDirectorySnapshot(capturedAt, partitionCount, Collections.unmodifiableList(entries));
+        }
+    }
+
+    /**
+     * 取得日時（この日時以降の変更はスナップショットに含まれていない可能性がある）
+     *
+     * @return 取得日時
+     */
+    public LocalDateTime getCapturedAt() {
+        return capturedAt;
+    }
+
+    /**
+     * 保存時のパーティション数
+     *
+     * @return パーティション数
+     */
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    /**
+     * 全社員の項目
+     *
+     * @return 社員ディレクトリの項目一覧（削除済みを含む）
+     */
+    public List<EmployeeDirectory.Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * ヘッダーより後（本体）のCRC32
+     */
+    private static long checksum(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(HEADER_SIZE).limit(buffer.capacity()));
+        return crc.getValue();
+    }
+
+    private static int encodedSize(String value) {
+        int bytes = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // 対になっていないサロゲートは置換文字（?）1バイトに符号化される
+                bytes += 1;
+            } else {
+                bytes += 3;
+            }
+        }
+        if (bytes > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("文字列が長すぎます: " + bytes + "バイト");
+        }
+        return 2 + bytes;
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,143 @@
+package com.company.system.service;
+
+import com.company.system.config.DirectorySnapshotProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 社員ディレクトリのスナップショットの保存と復元
+ * <p>
+ * 起動時（Webサーバーがリクエストを受け付ける前）にスナップショットから社員ディレクトリを復元し、
+ * 保存後に変更された社員だけをデータベースから読み込む。スナップショットは一定間隔（変更があった場合のみ）と
+ * 停止時（Webサーバーの停止後）に保存する。
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.directory-snapshot", name = "enabled", havingValue = "true")
+public class EmployeeDirectorySnapshotStore implements SmartLifecycle {
+
+    /**
+     * Webサーバーの起動より前に開始し、停止より後に停止するフェーズ
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final EmployeeDirectory employeeDirectory;
+    private final PartitionTemplate partitionTemplate;
+    private final DirectorySnapshotProperties properties;
+    private final Path path;
+
+    private ScheduledExecutorService scheduler;
+    private EmployeeDirectory.Capture lastSaved;
+    private volatile boolean running;
+
+    public EmployeeDirectorySnapshotStore(EmployeeDirectory employeeDirectory,
+                                          PartitionTemplate partitionTemplate,
+                                          DirectorySnapshotProperties properties) {
+        this.employeeDirectory = employeeDirectory;
+        this.partitionTemplate = partitionTemplate;
+        this.properties = properties;
+        this.path = Paths.get(properties.getPath());
+    }
+
+    /**
+     * スナップショットから社員ディレクトリを復元
+     *
+     * @return 復元した場合はtrue（ファイルがない場合や使用できない場合はfalse）
+     */
+    public boolean restore() {
+        if (!Files.exists(path)) {
+            log.info("社員ディレクトリのスナップショットがありません: path={}", path);
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            EmployeeDirectorySnapshot snapshot = EmployeeDirectorySnapshot.read(path);
+            boolean restored = employeeDirectory.restore(snapshot, properties.getReplayOverlap());
+            if (restored) {
+                log.info("社員ディレクトリのスナップショットを読み込み: path={}, 所要時間={}ms",
+                        path, (System.nanoTime() - start) / 1_000_000);
+            }
+            return restored;
+        } catch (IOException | RuntimeException e) {
+            log.warn("社員ディレクトリのスナップショットを使用できません: path={}", path, e);
+            return false;
+        }
+    }
+
+    /**
+     * 社員ディレクトリの現在の内容をスナップショットとして保存（未構築の場合は保存しない）
+     *
+     * @return 保存した場合はtrue
+     */
+    public synchronized boolean save() {
+        EmployeeDirectory.Capture capture = employeeDirectory.capture();
+        if (capture == null) {
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            EmployeeDirectorySnapshot.write(path, partitionTemplate.getPartitionCount(), capture);
+            lastSaved = capture;
+            log.info("社員ディレクトリのスナップショットを保存: path={}, 件数={}, 所要時間={}ms",
+                    path, capture.entries().size(), (System.nanoTime() - start) / 1_000_000);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("社員ディレクトリのスナップショットの保存に失敗しました: path={}", path, e);
+            return false;
+        }
+    }
+
+    @Override
+    public void start() {
+        restore();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "directory-snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.getSaveInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::saveIfModified, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            // 書き込み中の保存を中断しないよう、割り込まずに終了を待つ
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        save();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private synchronized void saveIfModified() {
+        if (lastSaved == null || employeeDirectory.isModifiedSince(lastSaved)) {
+            save();
+        }
+    }
+}
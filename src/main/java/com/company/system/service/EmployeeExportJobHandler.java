@@ -0,0 +1,124 @@
+package com.company.system.service;
+
+import com.company.system.config.JobProperties;
+import com.company.system.exception.InternalServerException;
+import com.company.system.model.Employee;
+import com.company.system.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 社員一覧をCSVファイルへ出力するジョブ
+ * <p>
+ * チャンクごとにファイルへ追記し、出力済みのバイト数をチェックポイントに保持する。
+ * 再開時はチェックポイント以降に書き込まれた内容を切り詰めてから追記する。
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeExportJobHandler implements JobHandler {
+
+    public static final String TYPE = "EMPLOYEE_EXPORT";
+
+    private static final String HEADER = "id,employeeNumber,name,email,departmentCode,joinDate\n";
+
+    private final EmployeeRepository employeeRepository;
+    private final PartitionTemplate partitionTemplate;
+    private final JobProperties properties;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void validate(JsonNode parameters) {
+        // パラメータなし
+    }
+
+    @Override
+    public long countTotal(JsonNode parameters) {
+        return partitionTemplate.scatter(employeeRepository::countActive).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Override
+    public ChunkResult processChunk(Long jobId, JsonNode parameters, String checkpoint, int chunkSize) {
+        EmployeeJobCursor cursor = EmployeeJobCursor.parse(checkpoint);
+        Path resultPath = Paths.get(properties.getResultDir(), "job-" + jobId + ".csv");
+
+        List<Employee> employees;
+        try (PartitionTemplate.Scope ignored = partitionTemplate.enter(cursor.partition())) {
+            employees = employeeRepository.findActiveAfterId(cursor.lastId(), PageRequest.of(0, chunkSize));
+        }
+
+        StringBuilder csv = new StringBuilder();
+        if (cursor.offset() == 0) {
+            csv.append(HEADER);
+        }
+        for (Employee employee : employees) {
+            csv.append(employee.getId()).append(',')
+                    .append(escape(employee.getEmployeeNumber())).append(',')
+                    .append(escape(employee.getName())).append(',')
+                    .append(escape(employee.getEmail())).append(',')
+                    .append(escape(employee.getDepartment().getCode())).append(',')
+                    .append(employee.getJoinDate()).append('\n');
+        }
+        long offset = append(resultPath, cursor.offset(), csv.toString());
+
+        if (employees.isEmpty()) {
+            EmployeeJobCursor next = cursor.advanceTo(cursor.lastId(), offset).nextPartition();
+            boolean finished = next.partition() >= partitionTemplate.getPartitionCount();
+            return new ChunkResult(next.format(), 0, finished, resultPath.toString());
+        }
+        long lastId = employees.get(employees.size() - 1).getId();
+        return new ChunkResult(cursor.advanceTo(lastId, offset).format(), employees.size(), false,
+                resultPath.toString());
+    }
+
+    /**
+     * チェックポイントの位置から追記
+     *
+     * @return 追記後のファイルサイズ
+     */
+    private static long append(Path path, long offset, String content) {
+        try {
+            Files.createDirectories(path.getParent());
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                // 前回のチェックポイント以降に書き込まれた内容（未確定のチャンク）を破棄
+                channel.truncate(offset);
+                channel.position(offset);
+                ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+                return channel.position();
+            }
+        } catch (IOException e) {
+            throw new InternalServerException("エクスポートファイルの書き込みに失敗しました: " + path, e);
+        }
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
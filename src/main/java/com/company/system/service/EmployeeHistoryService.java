@@ -0,0 +1,101 @@
+package com.company.system.service;
+
+import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.EmployeeHistoryDto;
+import com.company.system.exception.InternalServerException;
+import com.company.system.exception.ResourceNotFoundException;
+import com.company.system.model.EmployeeHistory;
+import com.company.system.repository.EmployeeHistoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 社員変更履歴サービス
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EmployeeHistoryService {
+
+    private final EmployeeHistoryRepository employeeHistoryRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 社員の変更履歴を取得（新しい順）
+     *
+     * @param employeeId 社員ID
+     * @param page ページ番号
+     * @param size 1ページあたりの件数
+     * @return 変更履歴ページ
+     */
+    public Page<EmployeeHistoryDto> findHistory(Long employeeId, int page, int size) {
+        log.info("社員変更履歴取得開始: employeeId={}, page={}, size={}", employeeId, page, size);
+        Page<EmployeeHistoryDto> result = employeeHistoryRepository
+                .findByEmployeeId(employeeId, PageRequest.of(page, size))
+                .map(this::convertToDto);
+        log.info("社員変更履歴取得完了: employeeId={}, 総件数={}", employeeId, result.getTotalElements());
+        return result;
+    }
+
+    /**
+     * 指定日時時点の社員情報を取得
+     *
+     * @param employeeId 社員ID
+     * @param asOf 基準日時
+     * @return 基準日時時点の社員DTO
+     * @throws ResourceNotFoundException 基準日時時点で社員が存在しない場合
+     */
+    public EmployeeDto findAsOf(Long employeeId, LocalDateTime asOf) {
+        log.info("社員時点情報取得開始: employeeId={}, asOf={}", employeeId, asOf);
+        EmployeeHistory history = employeeHistoryRepository
+                .findLatestAsOf(employeeId, asOf, PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("指定日時時点の社員が見つかりません"));
+        EmployeeDto result = fromJson(history.getAfterData());
+        if (result == null) {
+            // 基準日時時点で削除済み
+            throw new ResourceNotFoundException("指定日時時点の社員が見つかりません");
+        }
+        log.info("社員時点情報取得完了: employeeId={}, historyId={}", employeeId, history.getId());
+        return result;
+    }
+
+    /**
+     * エンティティをDTOに変換
+     *
+     * @param history 変更履歴エンティティ
+     * @return 変更履歴DTO
+     */
+    private EmployeeHistoryDto convertToDto(EmployeeHistory history) {
+        return new EmployeeHistoryDto(
+                history.getId(),
+                history.getEmployeeId(),
+                history.getChangeType(),
+                history.getChangedBy(),
+                history.getChangedAt(),
+                fromJson(history.getBeforeData()),
+                fromJson(history.getAfterData())
+        );
+    }
+
+    private EmployeeDto fromJson(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, EmployeeDto.class);
+        } catch (JsonProcessingException e) {
+            throw new InternalServerException("変更履歴の読み込みに失敗しました", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.company.system.service;
+
+/**
+ * 社員を対象とするジョブのチェックポイント
+ * <p>
+ * パーティションごとにID順で処理するため、処理中のパーティション番号と処理済みの最大IDを保持する。
+ * ファイルへ出力するジョブは出力済みのバイト数も保持する。
+ *
+ * @param partition 処理中のパーティション番号
+ * @param lastId 処理済みの最大社員ID
+ * @param offset 出力済みのバイト数
+ */
+public record EmployeeJobCursor(int partition, long lastId, long offset) {
+
+    private static final EmployeeJobCursor INITIAL = new EmployeeJobCursor(0, 0, 0);
+
+    /**
+     * チェックポイント文字列から復元
+     *
+     * @param checkpoint チェックポイント文字列（nullの場合は先頭）
+     * @return チェックポイント
+     */
+    public static EmployeeJobCursor parse(String checkpoint) {
+        if (checkpoint == null || checkpoint.isBlank()) {
+            return INITIAL;
+        }
+        String[] parts = checkpoint.split(":");
+        return new EmployeeJobCursor(Integer.parseInt(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+    }
+
+    /**
+     * 指定IDまで処理した位置
+     *
+     * @param processedId 処理済みの最大社員ID
+     * @param newOffset 出力済みのバイト数
+     * @return チェックポイント
+     */
+    public EmployeeJobCursor advanceTo(long processedId, long newOffset) {
+        return new EmployeeJobCursor(partition, processedId, newOffset);
+    }
+
+    /**
+     * 次のパーティションの先頭
+     *
+     * @return チェックポイント
+     */
+    public EmployeeJobCursor nextPartition() {
+        return new EmployeeJobCursor(partition + 1, 0, offset);
+    }
+
+    /**
+     * チェックポイント文字列に変換
+     *
+     * @return チェックポイント文字列
+     */
+    public String format() {
+        return partition + ":" + lastId + ":" + offset;
+    }
+}
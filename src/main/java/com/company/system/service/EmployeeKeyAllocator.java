@@ -0,0 +1,185 @@
+package com.company.system.service;
+
+import com.company.system.config.PartitionedDataSourceConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 社員番号の採番とメールアドレスの予約を全パーティションで一意に行うコンポーネント
+ * <p>
+ * 社員番号はパーティション0（分割が無効の場合は唯一のデータベース）のシーケンスから採番し、同時の作成でも重複しない。
+ * パーティション分割時は各パーティションの一意制約では別パーティションの社員との重複を防げないため、
+ * メールアドレスをパーティション0の予約テーブルへ登録してから社員を登録する（登録がロールバックされた場合は予約を取り消す）。
+ * 分割が無効の場合はメールアドレスの一意制約で重複を防ぐため予約しない。
+ */
+@Slf4j
+@Component
+public class EmployeeKeyAllocator implements SmartInitializingSingleton {
+
+    /**
+     * 社員番号の接頭辞
+     */
+    private static final String EMPLOYEE_NUMBER_PREFIX = "EMP";
+
+    /**
+     * 起動時の整合で取り消す、社員が登録されていない予約の経過時間（登録中の予約を取り消さないための猶予）
+     */
+    private static final Duration STALE_RESERVATION_AGE = Duration.ofMinutes(1);
+
+    private static final String NEXT_NUMBERS_SQL =
+            "SELECT NEXT VALUE FOR employee_number_seq FROM SYSTEM_RANGE(1, ?)";
+    private static final String MAX_NUMBER_SQL = "SELECT COALESCE(MAX(CAST(SUBSTRING(employee_number, 4) AS BIGINT)), 0) "
+            + "FROM employees WHERE REGEXP_LIKE(employee_number, '^EMP[0-9]{1,18}$')";
+    private static final String NEXT_SEQUENCE_VALUE_SQL = "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES "
+            + "WHERE SEQUENCE_SCHEMA = 'PUBLIC' AND SEQUENCE_NAME = 'EMPLOYEE_NUMBER_SEQ'";
+
+    private final List<DataSource> dataSources;
+    private final JdbcTemplate coordinator;
+    private final boolean partitioned;
+
+    public EmployeeKeyAllocator(DataSource dataSource,
+                                ObjectProvider<PartitionedDataSourceConfig.PartitionDataSources> partitionDataSources) {
+        PartitionedDataSourceConfig.PartitionDataSources partitions = partitionDataSources.getIfAvailable();
+        this.dataSources = new ArrayList<>();
+        if (partitions != null) {
+            for (int i = 0; i < partitions.size(); i++) {
+                dataSources.add(partitions.get(i));
+            }
+        } else {
+            dataSources.add(dataSource);
+        }
+        this.coordinator = new JdbcTemplate(dataSources.get(0));
+        this.partitioned = dataSources.size() > 1;
+    }
+
+    /**
+     * 社員番号を採番
+     *
+     * @param count 件数
+     * @return 社員番号（昇順）
+     */
+    public List<String> allocateEmployeeNumbers(int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        return coordinator.queryForList(NEXT_NUMBERS_SQL, Long.class, count).stream()
+                .sorted()
+                .map(number -> String.format(EMPLOYEE_NUMBER_PREFIX + "%03d", number))
+                .toList();
+    }
+
+    /**
+     * メールアドレスを予約（パーティション分割時のみ、現在のトランザクションがロールバックされた場合は予約を取り消す）
+     *
+     * @param email メールアドレス
+     * @return 予約できた場合（分割が無効の場合を含む）はtrue、別の社員が予約済みの場合はfalse
+     */
+    public boolean reserveEmail(String email) {
+        if (!partitioned) {
+            return true;
+        }
+        try {
+            coordinator.update("INSERT INTO employee_email_reservations (email, reserved_at) VALUES (?, ?)",
+                    email, Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        releaseEmail(email);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    /**
+     * 現在のトランザクションのコミット後にメールアドレスの予約を取り消す（メールアドレスの変更で使用しなくなった場合）
+     *
+     * @param email メールアドレス
+     */
+    public void releaseEmailAfterCommit(String email) {
+        if (!partitioned) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            releaseEmail(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releaseEmail(email);
+            }
+        });
+    }
+
+    /**
+     * 起動時に採番と予約を既存の社員に合わせる
+     * <p>
+     * シーケンスは全パーティションの社員番号の最大値より後から採番し、予約テーブルには全パーティションのメールアドレスを登録する。
+     * 社員の登録前に停止した場合などに残った、社員のいない古い予約は取り消す。
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        long maxNumber = 0;
+        for (DataSource dataSource : dataSources) {
+            Long max = new JdbcTemplate(dataSource).queryForObject(MAX_NUMBER_SQL, Long.class);
+            maxNumber = Math.max(maxNumber, max != null ? max : 0);
+        }
+        Long nextNumber = coordinator.queryForObject(NEXT_SEQUENCE_VALUE_SQL, Long.class);
+        if (nextNumber == null || nextNumber <= maxNumber) {
+            coordinator.execute("ALTER SEQUENCE employee_number_seq RESTART WITH " + (maxNumber + 1));
+            log.info("社員番号の採番を既存の社員に合わせました: 次の番号={}", maxNumber + 1);
+        }
+        if (partitioned) {
+            reconcileReservations();
+        }
+    }
+
+    private void reconcileReservations() {
+        Timestamp reservedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<String> emails = new ArrayList<>();
+        for (DataSource dataSource : dataSources) {
+            emails.addAll(new JdbcTemplate(dataSource).queryForList("SELECT email FROM employees", String.class));
+        }
+        coordinator.batchUpdate("INSERT INTO employee_email_reservations (email, reserved_at) SELECT ?, ? "
+                        + "WHERE NOT EXISTS (SELECT 1 FROM employee_email_reservations WHERE email = ?)",
+                emails.stream().map(email -> new Object[]{email, reservedAt, email}).toList());
+        Set<String> registered = new HashSet<>(emails);
+        List<String> stale = coordinator.queryForList(
+                "SELECT email FROM employee_email_reservations WHERE reserved_at < ?", String.class,
+                Timestamp.valueOf(LocalDateTime.now().minus(STALE_RESERVATION_AGE))).stream()
+                .filter(email -> !registered.contains(email))
+                .toList();
+        stale.forEach(this::releaseEmail);
+        log.info("メールアドレスの予約を整合: 社員数={}, 取り消した予約={}", emails.size(), stale.size());
+    }
+
+    private void releaseEmail(String email) {
+        try {
+            coordinator.update("DELETE FROM employee_email_reservations WHERE email = ?", email);
+        } catch (RuntimeException e) {
+            log.warn("メールアドレスの予約を取り消せませんでした: email={}", email, e);
+        }
+    }
+}
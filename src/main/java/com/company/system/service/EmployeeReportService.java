@@ -0,0 +1,408 @@
+package com.company.system.service;
+
+import com.company.system.config.ReportProperties;
+import com.company.system.dto.DepartmentDto;
+import com.company.system.dto.HeadcountReportDto;
+import com.company.system.dto.HiringAttritionReportDto;
+import com.company.system.dto.TenureReportDto;
+import com.company.system.event.EmployeeCacheRefreshEvent;
+import com.company.system.event.EmployeeChangedEvent;
+import com.company.system.exception.ValidationException;
+import com.company.system.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 社員の集計レポートサービス
+ * <p>
+ * 全社員の集計項目（部署・入社日・削除日）をデータベースから1回の問い合わせで順に読み取り、列ごとのプリミティブ配列に保持する。
+ * 各レポートは社員の範囲を分割してフォーク・ジョインで並列に集計し、long型のキーごとの件数表で合算する。
+ * 読み込んだ内容と集計結果は社員が変更されるまで保持し、変更後の最初の要求で読み込み直す。
+ */
+@Slf4j
+@Service
+public class EmployeeReportService implements DisposableBean {
+
+    /**
+     * 削除されていないことを示す削除日（どの日付よりも後）
+     */
+    private static final int NOT_DELETED = Integer.MAX_VALUE;
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentService departmentService;
+    private final PartitionTemplate partitionTemplate;
+    private final RequestCoalescer requestCoalescer;
+    private final ReportProperties properties;
+    private final ForkJoinPool pool;
+
+    private final AtomicLong dataVersion = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public EmployeeReportService(EmployeeRepository employeeRepository,
+                                 DepartmentService departmentService,
+                                 PartitionTemplate partitionTemplate,
+                                 RequestCoalescer requestCoalescer,
+                                 ReportProperties properties) {
+        this.employeeRepository = employeeRepository;
+        this.departmentService = departmentService;
+        this.partitionTemplate = partitionTemplate;
+        this.requestCoalescer = requestCoalescer;
+        this.properties = properties;
+        this.pool = newPool(properties.getParallelism() > 0
+                ? properties.getParallelism() : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 部署・入社年別の在籍人数を集計
+     *
+     * @return 在籍人数レポート（部署ID・入社年の昇順）
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public HeadcountReportDto headcount() {
+        Snapshot current = currentSnapshot();
+        return cached(current, "headcount", () -> {
+            LongCountMap counts = count(current, 1, (departmentId, joinDate, deletedDate, result) -> {
+                if (deletedDate == NOT_DELETED) {
+                    // 部署IDを上位、入社年を下位16ビットに詰めたキー
+                    result[0].add(departmentId << 16 | year(joinDate), 1);
+                }
+            })[0];
+            Map<Long, DepartmentDto> departments = departmentService.findAll().stream()
+                    .collect(Collectors.toMap(DepartmentDto::getId, Function.identity()));
+            List<HeadcountReportDto.Row> rows = new ArrayList<>(counts.size());
+            long total = 0;
+            for (long key : counts.sortedKeys()) {
+                long departmentId = key >>> 16;
+                long headcount = counts.get(key);
+                DepartmentDto department = departments.getOrDefault(departmentId,
+                        new DepartmentDto(departmentId, null, null));
+                rows.add(new HeadcountReportDto.Row(department, (int) (key & 0xFFFF), headcount));
+                total += headcount;
+            }
+            return new HeadcountReportDto(total, rows);
+        });
+    }
+
+    /**
+     * 基準日時点の在籍者の勤続年数（満年数）の分布を集計
+     *
+     * @param asOf 基準日（nullの場合は本日）
+     * @return 勤続年数レポート（勤続年数の昇順）
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public TenureReportDto tenure(LocalDate asOf) {
+        LocalDate date = asOf != null ? asOf : LocalDate.now();
+        int asOfDate = toDate(date);
+        Snapshot current = currentSnapshot();
+        return cached(current, "tenure:" + date, () -> {
+            LongCountMap counts = count(current, 1, (departmentId, joinDate, deletedDate, result) -> {
+                if (joinDate <= asOfDate && deletedDate > asOfDate) {
+                    // yyyymmdd形式の差を10000で割ると満年数になる
+                    result[0].add((asOfDate - joinDate) / 10000, 1);
+                }
+            })[0];
+            List<TenureReportDto.Bucket> buckets = new ArrayList<>(counts.size());
+            long total = 0;
+            for (long years : counts.sortedKeys()) {
+                long headcount = counts.get(years);
+                buckets.add(new TenureReportDto.Bucket((int) years, headcount));
+                total += headcount;
+            }
+            return new TenureReportDto(date, total, buckets);
+        });
+    }
+
+    /**
+     * 月ごとの入社数・退職数（削除数）と月末の在籍人数を集計
+     *
+     * @param from 開始月（nullの場合は終了月の11か月前）
+     * @param to 終了月（nullの場合は今月）
+     * @return 入社・退職レポート（開始月から終了月までの全月）
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public HiringAttritionReportDto hiringAttrition(YearMonth from, YearMonth to) {
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(11);
+        if (start.isAfter(end)) {
+            throw new ValidationException("開始月は終了月以前で指定してください");
+        }
+        long months = ChronoUnit.MONTHS.between(start, end) + 1;
+        if (months > properties.getMaxMonths()) {
+            throw new ValidationException("期間は" + properties.getMaxMonths() + "か月以内で指定してください");
+        }
+        int startDate = toDate(start.atDay(1));
+        int startMonth = monthIndex(startDate);
+        int endMonth = monthIndex(toDate(end.atDay(1)));
+        Snapshot current = currentSnapshot();
+        return cached(current, "hiring-attrition:" + start + ":" + end, () -> {
+            LongCountMap[] counts = count(current, 3, (departmentId, joinDate, deletedDate, result) -> {
+                int joinMonth = monthIndex(joinDate);
+                if (joinMonth >= startMonth && joinMonth <= endMonth) {
+                    result[0].add(joinMonth, 1);
+                }
+                if (deletedDate != NOT_DELETED) {
+                    int deletedMonth = monthIndex(deletedDate);
+                    if (deletedMonth >= startMonth && deletedMonth <= endMonth) {
+                        result[1].add(deletedMonth, 1);
+                    }
+                }
+                if (joinDate < startDate && deletedDate >= startDate) {
+                    result[2].add(0, 1);
+                }
+            });
+            long opening = counts[2].get(0);
+            long headcount = opening;
+            List<HiringAttritionReportDto.Month> rows = new ArrayList<>((int) months);
+            for (int month = startMonth; month <= endMonth; month++) {
+                long hires = counts[0].get(month);
+                long leavers = counts[1].get(month);
+                headcount += hires - leavers;
+                rows.add(new HiringAttritionReportDto.Month(YearMonth.of(month / 12, month % 12 + 1),
+                        hires, leavers, headcount));
+            }
+            return new HiringAttritionReportDto(start, end, opening, rows);
+        });
+    }
+
+    /**
+     * コミット済みの社員変更で読み込んだ内容と集計結果を破棄
+     *
+     * @param event 社員変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * 他ノードでの社員変更で読み込んだ内容と集計結果を破棄
+     *
+     * @param event 社員キャッシュの再読み込みイベント
+     */
+    @EventListener
+    public void onEmployeeCacheRefresh(EmployeeCacheRefreshEvent event) {
+        if (event.isAll() || !event.getRefreshes().isEmpty()) {
+            invalidate();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    private void invalidate() {
+        dataVersion.incrementAndGet();
+        snapshot = null;
+    }
+
+    /**
+     * 現在のデータの読み込み結果を取得（変更後は読み込み直し、同時の読み込みは1回にまとめる）
+     */
+    private Snapshot currentSnapshot() {
+        long version = dataVersion.get();
+        Snapshot current = snapshot;
+        if (current != null && current.version == version) {
+            return current;
+        }
+        Snapshot loaded = requestCoalescer.execute("report.snapshot", List.of("report.snapshot", version),
+                () -> load(version));
+        if (dataVersion.get() == version) {
+            snapshot = loaded;
+        }
+        return loaded;
+    }
+
+    private Snapshot load(long version) {
+        long start = System.nanoTime();
+        List<Columns> partitions = partitionTemplate.scatter(() -> {
+            Columns columns = new Columns();
+            employeeRepository.scanForReport(columns::add);
+            return columns;
+        });
+        Snapshot loaded = new Snapshot(version, partitions);
+        log.info("集計レポート用に社員を読み込み: 件数={}, 所要時間={}ms",
+                loaded.size, (System.nanoTime() - start) / 1_000_000);
+        return loaded;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(Snapshot current, String key, Supplier<T> aggregation) {
+        Object result = current.results.get(key);
+        if (result != null) {
+            log.debug("集計結果を再利用: report={}", key);
+            return (T) result;
+        }
+        long start = System.nanoTime();
+        T computed = aggregation.get();
+        if (current.results.size() < properties.getMaxCachedResults()) {
+            current.results.putIfAbsent(key, computed);
+        }
+        log.info("集計レポートを作成: report={}, 社員数={}, 所要時間={}ms",
+                key, current.size, (System.nanoTime() - start) / 1_000_000);
+        return computed;
+    }
+
+    private LongCountMap[] count(Snapshot current, int measures, RowCounter counter) {
+        return pool.invoke(new CountTask(current, measures, counter, 0, current.size));
+    }
+
+    private static ForkJoinPool newPool(int parallelism) {
+        return new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("report-aggregator-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * 日付をyyyymmdd形式の整数に変換（大小関係は日付の前後と一致する）
+     */
+    private static int toDate(LocalDate date) {
+        return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    private static int year(int date) {
+        return date / 10000;
+    }
+
+    /**
+     * yyyymmdd形式の日付を月の通し番号（年×12＋月−1）に変換
+     */
+    private static int monthIndex(int date) {
+        return year(date) * 12 + date / 100 % 100 - 1;
+    }
+
+    /**
+     * 社員1人分の集計処理
+     */
+    @FunctionalInterface
+    private interface RowCounter {
+
+        /**
+         * @param departmentId 部署ID
+         * @param joinDate 入社日（yyyymmdd形式）
+         * @param deletedDate 削除日（yyyymmdd形式、削除されていない場合は{@link #NOT_DELETED}）
+         * @param counts 集計先（集計項目ごとの件数表）
+         */
+        void count(long departmentId, int joinDate, int deletedDate, LongCountMap[] counts);
+    }
+
+    /**
+     * 社員の範囲を分割して並列に集計するタスク
+     */
+    private final class CountTask extends RecursiveTask<LongCountMap[]> {
+
+        private final Snapshot snapshot;
+        private final int measures;
+        private final RowCounter counter;
+        private final int from;
+        private final int to;
+
+        CountTask(Snapshot snapshot, int measures, RowCounter counter, int from, int to) {
+            this.snapshot = snapshot;
+            this.measures = measures;
+            this.counter = counter;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LongCountMap[] compute() {
+            if (to - from <= Math.max(1, properties.getSplitThreshold())) {
+                LongCountMap[] counts = new LongCountMap[measures];
+                for (int i = 0; i < measures; i++) {
+                    counts[i] = new LongCountMap();
+                }
+                for (int row = from; row < to; row++) {
+                    counter.count(snapshot.departmentIds[row], snapshot.joinDates[row], snapshot.deletedDates[row],
+                            counts);
+                }
+                return counts;
+            }
+            int middle = (from + to) >>> 1;
+            CountTask left = new CountTask(snapshot, measures, counter, from, middle);
+            left.fork();
+            LongCountMap[] right = new CountTask(snapshot, measures, counter, middle, to).compute();
+            LongCountMap[] counts = left.join();
+            for (int i = 0; i < measures; i++) {
+                counts[i].addAll(right[i]);
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * パーティションごとの読み込み中の集計項目
+     */
+    private static final class Columns {
+
+        private long[] departmentIds = new long[1024];
+        private int[] joinDates = new int[1024];
+        private int[] deletedDates = new int[1024];
+        private int size;
+
+        void add(long departmentId, LocalDate joinDate, LocalDateTime deletedAt) {
+            if (size == departmentIds.length) {
+                int capacity = size * 2;
+                departmentIds = Arrays.copyOf(departmentIds, capacity);
+                joinDates = Arrays.copyOf(joinDates, capacity);
+                deletedDates = Arrays.copyOf(deletedDates, capacity);
+            }
+            departmentIds[size] = departmentId;
+            joinDates[size] = toDate(joinDate);
+            deletedDates[size] = deletedAt != null ? toDate(deletedAt.toLocalDate()) : NOT_DELETED;
+            size++;
+        }
+    }
+
+    /**
+     * 読み込んだ全社員の集計項目と、同じ内容に対する集計結果
+     */
+    private static final class Snapshot {
+
+        private final long version;
+        private final int size;
+        private final long[] departmentIds;
+        private final int[] joinDates;
+        private final int[] deletedDates;
+        private final Map<String, Object> results = new ConcurrentHashMap<>();
+
+        Snapshot(long version, List<Columns> partitions) {
+            this.version = version;
+            this.size = partitions.stream().mapToInt(columns -> columns.size).sum();
+            this.departmentIds = new long[size];
+            this.joinDates = new int[size];
+            this.deletedDates = new int[size];
+            int offset = 0;
+            for (Columns columns : partitions) {
+                System.arraycopy(columns.departmentIds, 0, departmentIds, offset, columns.size);
+                System.arraycopy(columns.joinDates, 0, joinDates, offset, columns.size);
+                System.arraycopy(columns.deletedDates, 0, deletedDates, offset, columns.size);
+                offset += columns.size;
+            }
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.company.system.service;
+
+import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.EmployeeSearchCriteria;
+import com.company.system.event.EmployeeCacheRefreshEvent;
+import com.company.system.event.EmployeeChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 社員検索用のインメモリインデックス
+ * <p>
+ * 社員の検索項目を行番号ごとのプリミティブ配列（列形式）で保持し、部署・入社年・メールドメイン・在籍状態ごとに
+ * 該当行のビットマップを持つ。検索条件はビットマップの論理積で評価し、該当する社員IDのページを返す。
+ * 初回検索時に社員ディレクトリから構築し、以降はコミット済みの社員変更イベントで差分を反映する。
+ */
+@Slf4j
+@Component
+public class EmployeeSearchIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final EmployeeDirectory employeeDirectory;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private boolean loaded;
+    private int rowCount;
+    private long[] employeeIds = new long[INITIAL_CAPACITY];
+    private long[] departmentIds = new long[INITIAL_CAPACITY];
+    private int[] joinEpochDays = new int[INITIAL_CAPACITY];
+    private String[] emailDomains = new String[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private final Map<Long, Integer> rowByEmployeeId = new HashMap<>();
+    private final Map<Long, BitSet> rowsByDepartment = new HashMap<>();
+    private final NavigableMap<Integer, BitSet> rowsByJoinYear = new TreeMap<>();
+    private final Map<String, BitSet> rowsByEmailDomain = new HashMap<>();
+    private final BitSet activeRows = new BitSet();
+    private final BitSet deletedRows = new BitSet();
+
+    public EmployeeSearchIndex(EmployeeDirectory employeeDirectory) {
+        this.employeeDirectory = employeeDirectory;
+    }
+
+    /**
+     * 条件に一致する社員IDを検索（登録順）
+     *
+     * @param criteria 検索条件
+     * @param page ページ番号
+     * @param size 1ページあたりの件数
+     * @return 該当する社員IDのページと総件数
+     */
+    public SearchResult search(EmployeeSearchCriteria criteria, int page, int size) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            BitSet matches = statusRows(criteria.getStatus());
+            if (criteria.getDepartmentIds() != null && !criteria.getDepartmentIds().isEmpty()) {
+                matches.and(union(criteria.getDepartmentIds().stream().map(rowsByDepartment::get).toList()));
+            }
+            if (criteria.getEmailDomains() != null && !criteria.getEmailDomains().isEmpty()) {
+                matches.and(union(criteria.getEmailDomains().stream()
+                        .map(domain -> rowsByEmailDomain.get(normalizeDomain(domain)))
+                        .toList()));
+            }
+            if (criteria.getJoinedFrom() != null || criteria.getJoinedTo() != null) {
+                matches.and(joinYearRows(criteria.getJoinedFrom(), criteria.getJoinedTo()));
+                // 年単位のビットマップで絞り込んだ後、境界の年は入社日で判定する
+                filterByJoinDate(matches, criteria.getJoinedFrom(), criteria.getJoinedTo());
+            }
+            if (criteria.getName() != null && !criteria.getName().isEmpty()) {
+                filterByName(matches, criteria.getName());
+            }
+            return page(matches, page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * コミット済みの社員変更をインデックスへ反映
+     *
+     * @param event 社員変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                // 未構築の場合は構築時に社員ディレクトリから読み込む
+                return;
+            }
+            if (event.getChangeType() == EmployeeChangedEvent.ChangeType.DELETE) {
+                Integer row = rowByEmployeeId.get(event.getEmployeeId());
+                if (row != null) {
+                    activeRows.clear(row);
+                    deletedRows.set(row);
+                }
+            } else {
+                EmployeeDto employee = event.getAfter();
+                upsert(employee.getId(), employee.getDepartment().getId(), employee.getJoinDate(),
+                        employee.getEmail(), employee.getName(), false);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 無効化ログから読み取った社員の現在の内容をインデックスへ反映（他ノードでの変更の反映）
+     *
+     * @param event 社員キャッシュの再読み込みイベント
+     */
+    @EventListener
+    public void onEmployeeCacheRefresh(EmployeeCacheRefreshEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.isAll()) {
+                // 次回検索時に社員ディレクトリから再構築する
+                clear();
+                return;
+            }
+            if (!loaded) {
+                return;
+            }
+            for (EmployeeCacheRefreshEvent.Refresh refresh : event.getRefreshes()) {
+                EmployeeDto employee = refresh.getCurrent();
+                if (employee != null) {
+                    upsert(employee.getId(), employee.getDepartment().getId(), employee.getJoinDate(),
+                            employee.getEmail(), employee.getName(), refresh.isDeleted());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * インデックスに登録されている社員数を取得
+     *
+     * @return 社員数（削除済みを含む）
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rowCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            long start = System.nanoTime();
+            for (EmployeeDirectory.Entry entry : employeeDirectory.entries()) {
+                upsert(entry.id(), entry.departmentId(), entry.joinDate(), entry.email(), entry.name(),
+                        entry.deleted());
+            }
+            loaded = true;
+            log.info("社員検索インデックスを構築: 件数={}, 所要時間={}ms",
+                    rowCount, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void clear() {
+        loaded = false;
+        rowCount = 0;
+        rowByEmployeeId.clear();
+        rowsByDepartment.clear();
+        rowsByJoinYear.clear();
+        rowsByEmailDomain.clear();
+        activeRows.clear();
+        deletedRows.clear();
+    }
+
+    private void upsert(Long employeeId, Long departmentId, LocalDate joinDate, String email, String name,
+                        boolean deleted) {
+        Integer existing = rowByEmployeeId.get(employeeId);
+        int row;
+        if (existing != null) {
+            row = existing;
+            // 変更前の値のビットを落とす
+            rowsByDepartment.get(departmentIds[row]).clear(row);
+            rowsByJoinYear.get(LocalDate.ofEpochDay(joinEpochDays[row]).getYear()).clear(row);
+            rowsByEmailDomain.get(emailDomains[row]).clear(row);
+        } else {
+            row = rowCount++;
+            ensureCapacity(rowCount);
+            rowByEmployeeId.put(employeeId, row);
+        }
+
+        String domain = normalizeDomain(email.substring(email.indexOf('@') + 1));
+        employeeIds[row] = employeeId;
+        departmentIds[row] = departmentId;
+        joinEpochDays[row] = (int) joinDate.toEpochDay();
+        emailDomains[row] = domain;
+        names[row] = name;
+        rowsByDepartment.computeIfAbsent(departmentId, key -> new BitSet()).set(row);
+        rowsByJoinYear.computeIfAbsent(joinDate.getYear(), key -> new BitSet()).set(row);
+        rowsByEmailDomain.computeIfAbsent(domain, key -> new BitSet()).set(row);
+        activeRows.set(row, !deleted);
+        deletedRows.set(row, deleted);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= employeeIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, employeeIds.length * 2);
+        employeeIds = Arrays.copyOf(employeeIds, capacity);
+        departmentIds = Arrays.copyOf(departmentIds, capacity);
+        joinEpochDays = Arrays.copyOf(joinEpochDays, capacity);
+        emailDomains = Arrays.copyOf(emailDomains, capacity);
+        names = Arrays.copyOf(names, capacity);
+    }
+
+    private BitSet statusRows(EmployeeSearchCriteria.Status status) {
+        BitSet rows = new BitSet(rowCount);
+        switch (status == null ? EmployeeSearchCriteria.Status.ACTIVE : status) {
+            case ACTIVE -> rows.or(activeRows);
+            case DELETED -> rows.or(deletedRows);
+            case ALL -> rows.set(0, rowCount);
+        }
+        return rows;
+    }
+
+    private BitSet joinYearRows(LocalDate from, LocalDate to) {
+        if (rowsByJoinYear.isEmpty()) {
+            return new BitSet();
+        }
+        int fromYear = from != null ? from.getYear() : rowsByJoinYear.firstKey();
+        int toYear = to != null ? to.getYear() : rowsByJoinYear.lastKey();
+        if (fromYear > toYear) {
+            return new BitSet();
+        }
+        return union(rowsByJoinYear.subMap(fromYear, true, toYear, true).values());
+    }
+
+    private void filterByJoinDate(BitSet rows, LocalDate from, LocalDate to) {
+        long fromDay = from != null ? from.toEpochDay() : Long.MIN_VALUE;
+        long toDay = to != null ? to.toEpochDay() : Long.MAX_VALUE;
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            if (joinEpochDays[row] < fromDay || joinEpochDays[row] > toDay) {
+                rows.clear(row);
+            }
+        }
+    }
+
+    private void filterByName(BitSet rows, String name) {
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            if (!names[row].contains(name)) {
+                rows.clear(row);
+            }
+        }
+    }
+
+    private SearchResult page(BitSet matches, int page, int size) {
+        long offset = (long) page * size;
+        List<Long> ids = new ArrayList<>(size);
+        int index = 0;
+        for (int row = matches.nextSetBit(0); row >= 0 && ids.size() < size; row = matches.nextSetBit(row + 1)) {
+            if (index++ >= offset) {
+                ids.add(employeeIds[row]);
+            }
+        }
+        return new SearchResult(ids, matches.cardinality());
+    }
+
+    private static BitSet union(Collection<BitSet> bitSets) {
+        BitSet result = new BitSet();
+        for (BitSet bitSet : bitSets) {
+            if (bitSet != null) {
+                result.or(bitSet);
+            }
+        }
+        return result;
+    }
+
+    private static String normalizeDomain(String domain) {
+        return domain.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 検索結果
+     *
+     * @param ids 該当する社員ID（ページ内、登録順）
+     * @param totalElements 該当する社員の総数
+     */
+    public record SearchResult(List<Long> ids, long totalElements) {
+    }
+}
@@ -1,29 +1,58 @@
 package com.company.system.service;
 
+import com.company.system.config.SuggestProperties;
 import com.company.system.dto.CreateEmployeeRequest;
 import com.company.system.dto.DepartmentDto;
 import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.EmployeeListCriteria;
+import com.company.system.dto.EmployeeSearchCriteria;
+import com.company.system.dto.EmployeeSuggestionDto;
 import com.company.system.dto.UpdateEmployeeRequest;
+import com.company.system.event.EmployeeCacheRefreshEvent;
+import com.company.system.event.EmployeeChangedEvent;
 import com.company.system.exception.DuplicateResourceException;
 import com.company.system.exception.ResourceNotFoundException;
+import com.company.system.exception.ValidationException;
 import com.company.system.model.Department;
 import com.company.system.model.Employee;
+import com.company.system.model.EmployeeView;
 import com.company.system.repository.DepartmentRepository;
 import com.company.system.repository.EmployeeRepository;
+import com.company.system.repository.EmployeeSpecifications;
+import com.company.system.repository.EmployeeViewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 社員サービス
+ * <p>
+ * 社員の参照（一覧・取得・検索）は社員参照テーブル（employee_view）から部署を結合せずに取得する。
+ * 参照テーブルは社員の書き込みと同じトランザクションで{@link EmployeeViewProjection}が更新する。
  */
 @Slf4j
 @Service
@@ -31,32 +60,113 @@ import java.util.Optional;
 @Transactional
 public class EmployeeService {
 
+    /**
+     * 社員一覧で指定できる並び順（インデックスの順に読み出せる昇順のみ、一意にならない項目はIDで順序を確定させる）
+     */
+    private static final Map<String, SortOrder> SORT_ORDERS = sortOrders();
+
     private final EmployeeRepository employeeRepository;
+    private final EmployeeViewRepository employeeViewRepository;
     private final DepartmentRepository departmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RequestCoalescer requestCoalescer;
+    private final PartitionTemplate partitionTemplate;
+    private final EmployeeSearchIndex employeeSearchIndex;
+    private final EmployeeSuggestIndex employeeSuggestIndex;
+    private final SuggestProperties suggestProperties;
+    private final HotKeyTracker hotKeyTracker;
+    private final WriteCombiner writeCombiner;
+    private final EmployeeKeyAllocator employeeKeyAllocator;
 
     /**
      * 社員一覧を取得（ページネーション対応）
      *
+     * @param criteria 絞り込み条件と並び順
+     * @param page ページ番号
+     * @param size 1ページあたりの件数
+     * @return 社員ページ
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Page<EmployeeDto> findAll(EmployeeListCriteria criteria, int page, int size) {
+        log.info("社員一覧取得開始: criteria={}, page={}, size={}", criteria, page, size);
+        SortOrder sortOrder = resolveSortOrder(criteria);
+        hotKeyTracker.record(HotKeyTracker.Category.EMPLOYEE_QUERY, queryKey(criteria));
+        // 同一条件の同時リクエストは1回の問い合わせにまとめる
+        Page<EmployeeDto> result = requestCoalescer.execute("employee.findAll",
+                Arrays.asList("employee.findAll", page, size, criteria),
+                () -> loadPage(criteria, sortOrder, page, size));
+        log.info("社員一覧取得完了: 総件数={}", result.getTotalElements());
+        return result;
+    }
+
+    /**
+     * 社員を複合条件で検索（検索インデックスで絞り込み、該当ページの社員のみデータベースから取得）
+     *
+     * @param criteria 検索条件
      * @param page ページ番号
      * @param size 1ページあたりの件数
-     * @param name 社員名（検索条件、任意）
-     * @param departmentId 部署ID（検索条件、任意）
      * @return 社員ページ
      */
     @Transactional(readOnly = true)
-    public Page<EmployeeDto> findAll(int page, int size, String name, Long departmentId) {
-        log.info("社員一覧取得開始: page={}, size={}, name={}, departmentId={}", page, size, name, departmentId);
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Employee> employees;
+    public Page<EmployeeDto> search(EmployeeSearchCriteria criteria, int page, int size) {
+        log.info("社員検索開始: criteria={}, page={}, size={}", criteria, page, size);
+        EmployeeSearchIndex.SearchResult searchResult = employeeSearchIndex.search(criteria, page, size);
+        List<Long> ids = searchResult.ids();
         
-        if (name != null || departmentId != null) {
-            employees = employeeRepository.findByConditions(name, departmentId, pageable);
-        } else {
-            employees = employeeRepository.findAllActive(pageable);
+        Map<Long, EmployeeDto> employees = partitionTemplate.scatter(() -> loadSearchedEmployees(criteria.getStatus(), ids))
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toMap(EmployeeDto::getId, Function.identity(), (first, second) -> first));
+        List<EmployeeDto> content = ids.stream()
+                .map(employees::get)
+                .filter(Objects::nonNull)
+                .toList();
+        Page<EmployeeDto> result = new PageImpl<>(content, PageRequest.of(page, size), searchResult.totalElements());
+        log.info("社員検索完了: 総件数={}", result.getTotalElements());
+        return result;
+    }
+
+    /**
+     * 検索で絞り込んだ社員を取得
+     * <p>
+     * 参照テーブルは削除されていない社員のみを持つため、削除済みの社員を含む検索は社員テーブルから部署と合わせて取得する。
+     *
+     * @param status 検索条件の在籍状態
+     * @param ids 社員ID
+     * @return 社員DTOの一覧（順序は不定）
+     */
+    private List<EmployeeDto> loadSearchedEmployees(EmployeeSearchCriteria.Status status, List<Long> ids) {
+        if (status == null || status == EmployeeSearchCriteria.Status.ACTIVE) {
+            return employeeViewRepository.findAllById(ids).stream()
+                    .map(this::convertToDto)
+                    .toList();
         }
-        
-        Page<EmployeeDto> result = employees.map(this::convertToDto);
-        log.info("社員一覧取得完了: 総件数={}", result.getTotalElements());
+        return employeeRepository.findAllWithDepartmentByIdIn(ids).stream()
+                .map(this::convertToDto)
+                .toList();
+    }
+
+    /**
+     * 入力途中の文字列に前方一致する社員候補を取得（入力補完用）
+     *
+     * @param query 入力文字列
+     * @param limit 最大件数（nullの場合は既定値、上限を超える場合は上限に丸める）
+     * @return 社員候補（一致度の高い順）
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeSuggestionDto> suggest(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        if (query.length() > suggestProperties.getMaxQueryLength()) {
+            throw new ValidationException("検索文字列は" + suggestProperties.getMaxQueryLength() + "文字以内で指定してください");
+        }
+        if (limit != null && limit < 1) {
+            throw new ValidationException("件数は1以上で指定してください");
+        }
+        int size = Math.min(limit != null ? limit : suggestProperties.getDefaultLimit(), suggestProperties.getMaxLimit());
+        List<EmployeeSuggestionDto> result = employeeSuggestIndex.suggest(query, size);
+        log.debug("社員候補検索完了: query={}, 件数={}", query, result.size());
         return result;
     }
 
@@ -66,47 +176,57 @@ public class EmployeeService {
      * @param id 社員ID
      * @return 社員DTO
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public EmployeeDto findById(Long id) {
         log.info("社員取得開始: id={}", id);
-        Employee employee = employeeRepository.findByIdAndNotDeleted(id)
-                .orElseThrow(() -> new ResourceNotFoundException("社員が見つかりません"));
-        EmployeeDto result = convertToDto(employee);
+        hotKeyTracker.record(HotKeyTracker.Category.EMPLOYEE, id);
+        // 同一IDの同時リクエストは1回の問い合わせにまとめる
+        EmployeeDto result = requestCoalescer.execute("employee.findById",
+                Arrays.asList("employee.findById", id),
+                () -> loadById(id));
         log.info("社員取得完了: id={}", id);
         return result;
     }
 
+    /**
+     * 無効化ログで通知された社員の現在の内容を取得（キャッシュの再読み込み用）
+     *
+     * @param changedAtById 社員IDごとの無効化ログの変更日時
+     * @return 社員ごとの再読み込み内容（削除済みの社員を含む）
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeCacheRefreshEvent.Refresh> loadCacheRefreshes(Map<Long, LocalDateTime> changedAtById) {
+        Set<Long> ids = changedAtById.keySet();
+        Map<Long, Employee> employees = partitionTemplate.scatter(() -> employeeRepository.findAllWithDepartmentByIdIn(ids))
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toMap(Employee::getId, Function.identity(), (first, second) -> first));
+        return changedAtById.entrySet().stream()
+                .map(entry -> {
+                    Employee employee = employees.get(entry.getKey());
+                    return new EmployeeCacheRefreshEvent.Refresh(entry.getKey(), entry.getValue(),
+                            employee != null ? convertToDto(employee) : null,
+                            employee == null || employee.getDeletedAt() != null);
+                })
+                .toList();
+    }
+
     /**
      * 社員を作成
+     * <p>
+     * 同じパーティションへの同時の作成要求は1トランザクションにまとめて登録する（呼び出し元のトランザクション内の場合はまとめない）。
      *
      * @param request 作成リクエスト
      * @return 作成された社員DTO
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EmployeeDto create(CreateEmployeeRequest request) {
         log.info("社員作成開始: name={}, email={}", request.getName(), request.getEmail());
-        
-        // メールアドレスの重複チェック
-        if (employeeRepository.findByEmail(request.getEmail()).isPresent()) {
-            throw new DuplicateResourceException("メールアドレスが重複しています");
-        }
-        
-        // 部署の存在チェック
-        Department department = departmentRepository.findById(request.getDepartmentId())
-                .orElseThrow(() -> new ResourceNotFoundException("部署が存在しません"));
-        
-        // 社員番号の自動採番
-        String employeeNumber = generateEmployeeNumber();
-        
-        // 社員エンティティの作成
-        Employee employee = new Employee();
-        employee.setEmployeeNumber(employeeNumber);
-        employee.setName(request.getName());
-        employee.setEmail(request.getEmail());
-        employee.setDepartment(department);
-        employee.setJoinDate(request.getJoinDate());
-        
-        Employee savedEmployee = employeeRepository.save(employee);
-        EmployeeDto result = convertToDto(savedEmployee);
+        int partition = partitionTemplate.partitionForNewEmployee(request.getDepartmentId());
+        // 登録は別スレッドでコミットされ得るため、操作者は呼び出し元スレッドで解決しておく
+        NewEmployee newEmployee = new NewEmployee(request, partition, EmployeeAuditRecorder.currentOperator());
+        EmployeeDto result = writeCombiner.execute("employee.create", Arrays.asList("employee.create", partition),
+                newEmployee, this::insert, this::insertAll);
         log.info("社員作成完了: id={}, employeeNumber={}", result.getId(), result.getEmployeeNumber());
         return result;
     }
@@ -121,31 +241,38 @@ public class EmployeeService {
     public EmployeeDto update(Long id, UpdateEmployeeRequest request) {
         log.info("社員更新開始: id={}", id);
         
-        Employee employee = employeeRepository.findByIdAndNotDeleted(id)
-                .orElseThrow(() -> new ResourceNotFoundException("社員が見つかりません"));
-        
-        // メールアドレスの変更がある場合、重複チェック
-        if (request.getEmail() != null && !request.getEmail().equals(employee.getEmail())) {
-            if (employeeRepository.findByEmail(request.getEmail()).isPresent()) {
-                throw new DuplicateResourceException("メールアドレスが重複しています");
+        EmployeeDto before;
+        EmployeeDto result;
+        try (PartitionTemplate.Scope ignored = partitionTemplate.enter(partitionTemplate.partitionForEmployee(id))) {
+            Employee employee = employeeRepository.findByIdAndNotDeleted(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("社員が見つかりません"));
+            before = convertToDto(employee);
+            
+            // メールアドレスの変更がある場合、重複チェック
+            if (request.getEmail() != null && !request.getEmail().equals(employee.getEmail())) {
+                if (isEmailTaken(request.getEmail()) || !employeeKeyAllocator.reserveEmail(request.getEmail())) {
+                    throw new DuplicateResourceException("メールアドレスが重複しています");
+                }
+                employeeKeyAllocator.releaseEmailAfterCommit(employee.getEmail());
+                employee.setEmail(request.getEmail());
             }
-            employee.setEmail(request.getEmail());
-        }
-        
-        // 名前の更新
-        if (request.getName() != null) {
-            employee.setName(request.getName());
-        }
-        
-        // 部署の更新
-        if (request.getDepartmentId() != null) {
-            Department department = departmentRepository.findById(request.getDepartmentId())
-                    .orElseThrow(() -> new ResourceNotFoundException("部署が存在しません"));
-            employee.setDepartment(department);
+            
+            // 名前の更新
+            if (request.getName() != null) {
+                employee.setName(request.getName());
+            }
+            
+            // 部署の更新（所属パーティションは変わらない）
+            if (request.getDepartmentId() != null) {
+                Department department = departmentRepository.findById(request.getDepartmentId())
+                        .orElseThrow(() -> new ResourceNotFoundException("部署が存在しません"));
+                employee.setDepartment(department);
+            }
+            
+            Employee updatedEmployee = employeeRepository.save(employee);
+            result = convertToDto(updatedEmployee);
         }
-        
-        Employee updatedEmployee = employeeRepository.save(employee);
-        EmployeeDto result = convertToDto(updatedEmployee);
+        publishChange(EmployeeChangedEvent.ChangeType.UPDATE, id, before, result);
         log.info("社員更新完了: id={}", id);
         return result;
     }
@@ -158,46 +285,257 @@ public class EmployeeService {
     public void delete(Long id) {
         log.info("社員削除開始: id={}", id);
         
-        Employee employee = employeeRepository.findByIdAndNotDeleted(id)
-                .orElseThrow(() -> new ResourceNotFoundException("社員が見つかりません"));
-        
-        employee.setDeletedAt(LocalDateTime.now());
-        employeeRepository.save(employee);
+        EmployeeDto before;
+        try (PartitionTemplate.Scope ignored = partitionTemplate.enter(partitionTemplate.partitionForEmployee(id))) {
+            Employee employee = employeeRepository.findByIdAndNotDeleted(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("社員が見つかりません"));
+            
+            before = convertToDto(employee);
+            employee.setDeletedAt(Employee.currentTimestamp());
+            employeeRepository.save(employee);
+        }
+        publishChange(EmployeeChangedEvent.ChangeType.DELETE, id, before, null);
         log.info("社員削除完了: id={}", id);
     }
 
     /**
-     * 社員番号を自動採番
+     * 社員を1件登録
      *
-     * @return 社員番号
+     * @param newEmployee 作成要求
+     * @return 作成された社員DTO
      */
-    private String generateEmployeeNumber() {
-        // 既存の社員番号の最大値を取得（削除されていないもののみ）
-        long count = employeeRepository.findAllActive(PageRequest.of(0, 1)).getTotalElements();
+    private EmployeeDto insert(NewEmployee newEmployee) {
+        CreateEmployeeRequest request = newEmployee.request();
+        // メールアドレスの重複チェック（パーティション分割時は全パーティションで予約）
+        if (isEmailTaken(request.getEmail()) || !employeeKeyAllocator.reserveEmail(request.getEmail())) {
+            throw new DuplicateResourceException("メールアドレスが重複しています");
+        }
         
-        // 既存の社員番号から最大値を取得
-        int maxNumber = 0;
-        if (count > 0) {
-            // 全社員を取得して最大の社員番号を探す（簡易実装）
-            // 本番環境では、シーケンスや専用のテーブルを使用することを推奨
-            List<Employee> allEmployees = employeeRepository.findAll();
-            for (Employee emp : allEmployees) {
-                if (emp.getDeletedAt() == null && emp.getEmployeeNumber() != null) {
-                    try {
-                        String numStr = emp.getEmployeeNumber().replace("EMP", "");
-                        int num = Integer.parseInt(numStr);
-                        if (num > maxNumber) {
-                            maxNumber = num;
-                        }
-                    } catch (NumberFormatException e) {
-                        // 無効な形式の場合はスキップ
-                    }
+        EmployeeDto result;
+        try (PartitionTemplate.Scope ignored = partitionTemplate.enter(newEmployee.partition())) {
+            // 部署の存在チェック
+            Department department = departmentRepository.findById(request.getDepartmentId())
+                    .orElseThrow(() -> new ResourceNotFoundException("部署が存在しません"));
+            
+            // 社員番号の自動採番
+            String employeeNumber = employeeKeyAllocator.allocateEmployeeNumbers(1).get(0);
+            
+            Employee savedEmployee = employeeRepository.save(toEntity(request, department, employeeNumber));
+            result = convertToDto(savedEmployee);
+        }
+        publishChange(EmployeeChangedEvent.ChangeType.CREATE, result.getId(), null, result, newEmployee.operator());
+        return result;
+    }
+
+    /**
+     * 同じパーティションへの社員をまとめて登録
+     * <p>
+     * 重複チェック・部署の取得・社員番号の採番をまとめて1回ずつ行い、登録はJDBCバッチで実行する。
+     * メールアドレスの重複（まとめた要求同士を含む）・部署の不存在は要求ごとの失敗として返す。
+     *
+     * @param newEmployees 作成要求
+     * @return 要求と同じ順の結果
+     */
+    private List<WriteCombiner.Result<EmployeeDto>> insertAll(List<NewEmployee> newEmployees) {
+        List<String> emails = newEmployees.stream().map(newEmployee -> newEmployee.request().getEmail()).toList();
+        Set<String> usedEmails = partitionTemplate.scatter(() -> employeeRepository.findEmailsIn(emails)).stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        List<WriteCombiner.Result<EmployeeDto>> results = new ArrayList<>(newEmployees.size());
+        Map<Integer, Employee> employeesByIndex = new LinkedHashMap<>();
+        try (PartitionTemplate.Scope ignored = partitionTemplate.enter(newEmployees.get(0).partition())) {
+            Set<Long> departmentIds = newEmployees.stream()
+                    .map(newEmployee -> newEmployee.request().getDepartmentId())
+                    .collect(Collectors.toSet());
+            Map<Long, Department> departments = departmentRepository.findAllById(departmentIds).stream()
+                    .collect(Collectors.toMap(Department::getId, Function.identity()));
+            Map<Integer, CreateEmployeeRequest> accepted = new LinkedHashMap<>();
+            for (NewEmployee newEmployee : newEmployees) {
+                CreateEmployeeRequest request = newEmployee.request();
+                if (usedEmails.contains(request.getEmail())) {
+                    results.add(WriteCombiner.Result.failed(new DuplicateResourceException("メールアドレスが重複しています")));
+                } else if (!departments.containsKey(request.getDepartmentId())) {
+                    results.add(WriteCombiner.Result.failed(new ResourceNotFoundException("部署が存在しません")));
+                } else if (!employeeKeyAllocator.reserveEmail(request.getEmail())) {
+                    // 別パーティションへの同時の作成で予約済み
+                    results.add(WriteCombiner.Result.failed(new DuplicateResourceException("メールアドレスが重複しています")));
+                } else {
+                    usedEmails.add(request.getEmail());
+                    accepted.put(results.size(), request);
+                    results.add(null);
                 }
             }
+            Iterator<String> employeeNumbers = employeeKeyAllocator.allocateEmployeeNumbers(accepted.size()).iterator();
+            accepted.forEach((index, request) -> employeesByIndex.put(index,
+                    toEntity(request, departments.get(request.getDepartmentId()), employeeNumbers.next())));
+            employeeRepository.batchInsert(List.copyOf(employeesByIndex.values()));
+        }
+        employeesByIndex.forEach((index, employee) -> {
+            EmployeeDto result = convertToDto(employee);
+            results.set(index, WriteCombiner.Result.of(result));
+            publishChange(EmployeeChangedEvent.ChangeType.CREATE, result.getId(), null, result,
+                    newEmployees.get(index).operator());
+        });
+        return results;
+    }
+
+    /**
+     * 作成リクエストから社員エンティティを作成
+     *
+     * @param request 作成リクエスト
+     * @param department 所属部署
+     * @param employeeNumber 社員番号
+     * @return 社員エンティティ（未登録）
+     */
+    private Employee toEntity(CreateEmployeeRequest request, Department department, String employeeNumber) {
+        Employee employee = new Employee();
+        employee.setEmployeeNumber(employeeNumber);
+        employee.setName(request.getName());
+        employee.setEmail(request.getEmail());
+        employee.setDepartment(department);
+        employee.setJoinDate(request.getJoinDate());
+        return employee;
+    }
+
+    /**
+     * 社員一覧をデータベースから取得
+     *
+     * @param criteria 絞り込み条件
+     * @param sortOrder 並び順
+     * @param page ページ番号
+     * @param size 1ページあたりの件数
+     * @return 社員ページ
+     */
+    private Page<EmployeeDto> loadPage(EmployeeListCriteria criteria, SortOrder sortOrder, int page, int size) {
+        if (partitionTemplate.getPartitionCount() > 1) {
+            return loadPageFromPartitions(criteria, sortOrder, page, size);
         }
+        return employeeViewRepository.findAll(EmployeeSpecifications.of(criteria),
+                PageRequest.of(page, size, sortOrder.sort())).map(this::convertToDto);
+    }
+
+    /**
+     * 社員一覧を全パーティションから並列に取得し、並び順にマージしてページ分割
+     *
+     * @param criteria 絞り込み条件
+     * @param sortOrder 並び順
+     * @param page ページ番号
+     * @param size 1ページあたりの件数
+     * @return 社員ページ
+     */
+    private Page<EmployeeDto> loadPageFromPartitions(EmployeeListCriteria criteria, SortOrder sortOrder,
+                                                     int page, int size) {
+        // 各パーティションから要求ページの末尾までを取得すれば、マージ後のページを構成できる
+        int limit = (int) Math.min(Integer.MAX_VALUE, (long) (page + 1) * size);
+        Pageable partitionPageable = PageRequest.of(0, limit, sortOrder.sort());
+        List<Page<EmployeeDto>> partials = partitionTemplate.scatter(
+                () -> employeeViewRepository.findAll(EmployeeSpecifications.of(criteria), partitionPageable)
+                        .map(this::convertToDto));
         
-        int nextNumber = maxNumber + 1;
-        return String.format("EMP%03d", nextNumber);
+        long totalElements = partials.stream().mapToLong(Page::getTotalElements).sum();
+        List<EmployeeDto> content = partials.stream()
+                .flatMap(partial -> partial.getContent().stream())
+                .sorted(sortOrder.comparator())
+                .skip((long) page * size)
+                .limit(size)
+                .toList();
+        return new PageImpl<>(content, PageRequest.of(page, size), totalElements);
+    }
+
+    /**
+     * 絞り込み条件を検証し、並び順を解決
+     *
+     * @param criteria 絞り込み条件と並び順
+     * @return 並び順
+     */
+    private static SortOrder resolveSortOrder(EmployeeListCriteria criteria) {
+        if (criteria.getJoinedFrom() != null && criteria.getJoinedTo() != null
+                && criteria.getJoinedFrom().isAfter(criteria.getJoinedTo())) {
+            throw new ValidationException("入社日の下限は上限以前の日付で指定してください");
+        }
+        String sort = criteria.getSort() != null ? criteria.getSort() : "id";
+        SortOrder sortOrder = SORT_ORDERS.get(sort);
+        if (sortOrder == null) {
+            throw new ValidationException("並び順は" + String.join(", ", SORT_ORDERS.keySet()) + "のいずれかで指定してください");
+        }
+        return sortOrder;
+    }
+
+    /**
+     * IDで社員をデータベースから取得（社員参照テーブルの主キーで取得）
+     *
+     * @param id 社員ID
+     * @return 社員DTO
+     */
+    private EmployeeDto loadById(Long id) {
+        try (PartitionTemplate.Scope ignored = partitionTemplate.enter(partitionTemplate.partitionForEmployee(id))) {
+            EmployeeView employee = employeeViewRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("社員が見つかりません"));
+            return convertToDto(employee);
+        }
+    }
+
+    /**
+     * メールアドレスが使用済みか判定（全パーティションを検索）
+     *
+     * @param email メールアドレス
+     * @return 使用済みの場合true
+     */
+    private boolean isEmailTaken(String email) {
+        return partitionTemplate.scatter(() -> employeeRepository.findByEmail(email).isPresent()).contains(true);
+    }
+
+    /**
+     * 社員変更イベントを発行
+     *
+     * @param changeType 変更種別
+     * @param employeeId 社員ID
+     * @param before 変更前の社員DTO（作成時はnull）
+     * @param after 変更後の社員DTO（削除時はnull）
+     */
+    private void publishChange(EmployeeChangedEvent.ChangeType changeType, Long employeeId,
+                               EmployeeDto before, EmployeeDto after) {
+        publishChange(changeType, employeeId, before, after, null);
+    }
+
+    /**
+     * 操作者を指定して社員変更イベントを発行
+     *
+     * @param changeType 変更種別
+     * @param employeeId 社員ID
+     * @param before 変更前の社員DTO（作成時はnull）
+     * @param after 変更後の社員DTO（削除時はnull）
+     * @param operator 操作者（nullの場合は変更履歴の記録時に解決する）
+     */
+    private void publishChange(EmployeeChangedEvent.ChangeType changeType, Long employeeId,
+                               EmployeeDto before, EmployeeDto after, String operator) {
+        eventPublisher.publishEvent(
+                new EmployeeChangedEvent(changeType, employeeId, before, after, LocalDateTime.now(), operator));
+    }
+
+    /**
+     * 高頻度キーの検出に使う社員一覧の検索条件
+     *
+     * @param criteria 絞り込み条件と並び順
+     * @return 検索条件を表すキー
+     */
+    private static String queryKey(EmployeeListCriteria criteria) {
+        StringBuilder key = new StringBuilder();
+        appendQueryKey(key, "name", criteria.getName());
+        if (criteria.getDepartmentIds() != null) {
+            criteria.getDepartmentIds().forEach(departmentId -> appendQueryKey(key, "departmentId", departmentId));
+        }
+        appendQueryKey(key, "joinedFrom", criteria.getJoinedFrom());
+        appendQueryKey(key, "joinedTo", criteria.getJoinedTo());
+        appendQueryKey(key, "sort", criteria.getSort());
+        return key.isEmpty() ? "(条件なし)" : key.toString();
+    }
+
+    private static void appendQueryKey(StringBuilder key, String name, Object value) {
+        if (value != null) {
+            key.append(key.isEmpty() ? "" : "&").append(name).append('=').append(value);
+        }
     }
 
     /**
@@ -223,5 +561,50 @@ public class EmployeeService {
                 employee.getCreatedAt()
         );
     }
-}
 
+    /**
+     * 社員参照エンティティをDTOに変換
+     *
+     * @param employee 社員参照エンティティ
+     * @return 社員DTO
+     */
+    private EmployeeDto convertToDto(EmployeeView employee) {
+        return new EmployeeDto(
+                employee.getId(),
+                employee.getEmployeeNumber(),
+                employee.getName(),
+                employee.getEmail(),
+                new DepartmentDto(employee.getDepartmentId(), employee.getDepartmentName(), employee.getDepartmentCode()),
+                employee.getJoinDate(),
+                employee.getCreatedAt()
+        );
+    }
+
+    private static Map<String, SortOrder> sortOrders() {
+        Map<String, SortOrder> sortOrders = new LinkedHashMap<>();
+        // 主キー
+        sortOrders.put("id", new SortOrder(Sort.by("id"), Comparator.comparing(EmployeeDto::getId)));
+        // employee_view.employee_number（一意）
+        sortOrders.put("employeeNumber", new SortOrder(Sort.by("employeeNumber"),
+                Comparator.comparing(EmployeeDto::getEmployeeNumber)));
+        // idx_employee_view_join_date（入社日, ID）
+        sortOrders.put("joinDate", new SortOrder(Sort.by("joinDate", "id"),
+                Comparator.comparing(EmployeeDto::getJoinDate).thenComparing(EmployeeDto::getId)));
+        return Collections.unmodifiableMap(sortOrders);
+    }
+
+    /**
+     * 社員一覧の並び順
+     *
+     * @param sort データベースでの並び順
+     * @param comparator パーティションの結果をマージする際の並び順
+     */
+    private record SortOrder(Sort sort, Comparator<EmployeeDto> comparator) {
+    }
+
+    /**
+     * 社員の作成要求（登録先パーティションと、呼び出し元で解決した操作者を含む）
+     */
+    private record NewEmployee(CreateEmployeeRequest request, int partition, String operator) {
+    }
+}
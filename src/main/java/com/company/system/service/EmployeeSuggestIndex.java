@@ -0,0 +1,314 @@
+package com.company.system.service;
+
+import com.company.system.config.SuggestProperties;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.EmployeeSuggestionDto;
+import com.company.system.event.EmployeeCacheRefreshEvent;
+import com.company.system.event.EmployeeChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 社員候補検索（入力補完）用のインメモリインデックス
+ * <p>
+ * 社員名（全体と空白区切りの各語）とメールアドレスのローカル部（全体と記号区切りの各語）を正規化して
+ * 圧縮トライに登録し、入力に前方一致する社員を点数順に返す。
+ * 点数は「語の重み × 入力長 / 語の長さ」に、語全体に一致した場合の加点を足したもの。
+ * 初回検索時に社員ディレクトリから構築し、以降はコミット済みの社員変更イベントで差分を反映する。
+ */
+@Slf4j
+@Component
+public class EmployeeSuggestIndex {
+
+    private static final Pattern NAME_SEPARATOR = Pattern.compile("\\s+");
+    private static final Pattern EMAIL_SEPARATOR = Pattern.compile("[._+\\-]+");
+
+    private static final Comparator<Candidate> RANKING = Comparator.comparingDouble(Candidate::score).reversed()
+            .thenComparing(candidate -> candidate.entry().name())
+            .thenComparingLong(candidate -> candidate.entry().id());
+
+    private final EmployeeDirectory employeeDirectory;
+    private final SuggestProperties properties;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private boolean loaded;
+    private PrefixTrie<Posting> trie = new PrefixTrie<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    public EmployeeSuggestIndex(EmployeeDirectory employeeDirectory, SuggestProperties properties) {
+        this.employeeDirectory = employeeDirectory;
+        this.properties = properties;
+    }
+
+    /**
+     * 入力に前方一致する社員を点数の高い順に取得
+     *
+     * @param query 入力文字列
+     * @param limit 最大件数
+     * @return 社員候補
+     */
+    public List<EmployeeSuggestionDto> suggest(String query, int limit) {
+        String normalized = normalize(query).replace(" ", "");
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return collect(normalized, limit).stream()
+                    .map(candidate -> candidate.entry().toDto())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * コミット済みの社員変更をインデックスへ反映
+     *
+     * @param event 社員変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                // 未構築の場合は構築時に社員ディレクトリから読み込む
+                return;
+            }
+            remove(event.getEmployeeId());
+            if (event.getChangeType() != EmployeeChangedEvent.ChangeType.DELETE) {
+                EmployeeDto employee = event.getAfter();
+                add(employee.getId(), employee.getEmployeeNumber(), employee.getName(), employee.getEmail());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 無効化ログから読み取った社員の現在の内容をインデックスへ反映（他ノードでの変更の反映）
+     *
+     * @param event 社員キャッシュの再読み込みイベント
+     */
+    @EventListener
+    public void onEmployeeCacheRefresh(EmployeeCacheRefreshEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.isAll()) {
+                // 次回検索時に社員ディレクトリから再構築する
+                loaded = false;
+                trie = new PrefixTrie<>();
+                entries.clear();
+                return;
+            }
+            if (!loaded) {
+                return;
+            }
+            for (EmployeeCacheRefreshEvent.Refresh refresh : event.getRefreshes()) {
+                remove(refresh.getEmployeeId());
+                if (!refresh.isDeleted()) {
+                    EmployeeDto employee = refresh.getCurrent();
+                    add(employee.getId(), employee.getEmployeeNumber(), employee.getName(), employee.getEmail());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * インデックスに登録されている社員数を取得
+     *
+     * @return 社員数
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 短い語から順に上位の候補だけを保持しながら集め、残りの語で上位が入れ替わらなくなった時点で打ち切る
+     */
+    private List<Candidate> collect(String query, int limit) {
+        // 先頭が最も順位の低い候補になるヒープと、ヒープ内の候補の社員ごとの索引
+        PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        Map<Long, Candidate> inTop = new HashMap<>();
+        double maxWeight = Math.max(properties.getNameWeight(), properties.getEmailWeight());
+        trie.visitByPrefix(query, (keyLength, postings) -> {
+            if (top.size() == limit && top.peek().score() >= maxWeight * query.length() / keyLength) {
+                return false;
+            }
+            for (Posting posting : postings) {
+                double score = score(posting.field(), query.length(), keyLength);
+                if (top.size() == limit && top.peek().score() > score) {
+                    continue;
+                }
+                Candidate candidate = new Candidate(entries.get(posting.employeeId()), score);
+                Candidate current = inTop.get(posting.employeeId());
+                if (current != null) {
+                    if (current.score() >= score) {
+                        continue;
+                    }
+                    top.remove(current);
+                } else if (top.size() == limit && RANKING.compare(candidate, top.peek()) > 0) {
+                    // 同点で社員名順も下位の候補はヒープに入れない
+                    continue;
+                }
+                top.add(candidate);
+                inTop.put(posting.employeeId(), candidate);
+                if (top.size() > limit) {
+                    inTop.remove(top.poll().entry().id());
+                }
+            }
+            return true;
+        });
+        List<Candidate> result = new ArrayList<>(top);
+        result.sort(RANKING);
+        return result;
+    }
+
+    private double score(Field field, int queryLength, int keyLength) {
+        double weight = field == Field.NAME ? properties.getNameWeight() : properties.getEmailWeight();
+        double score = weight * queryLength / keyLength;
+        return queryLength == keyLength ? score + properties.getExactMatchBoost() : score;
+    }
+
+    private void ensureLoaded() {
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            long start = System.nanoTime();
+            for (EmployeeDirectory.Entry entry : employeeDirectory.entries()) {
+                if (!entry.deleted()) {
+                    add(entry.id(), entry.employeeNumber(), entry.name(), entry.email());
+                }
+            }
+            loaded = true;
+            log.info("社員候補検索インデックスを構築: 件数={}, 語数={}, 所要時間={}ms",
+                    entries.size(), trie.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(Long id, String employeeNumber, String name, String email) {
+        List<Term> terms = new ArrayList<>();
+        for (String key : nameKeys(name)) {
+            terms.add(new Term(key, new Posting(id, Field.NAME)));
+        }
+        for (String key : emailKeys(email)) {
+            terms.add(new Term(key, new Posting(id, Field.EMAIL)));
+        }
+        for (Term term : terms) {
+            trie.add(term.key(), term.posting());
+        }
+        entries.put(id, new Entry(id, employeeNumber, name, email, terms));
+    }
+
+    private void remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (Term term : entry.terms()) {
+            trie.remove(term.key(), term.posting());
+        }
+    }
+
+    private static Set<String> nameKeys(String name) {
+        Set<String> keys = new LinkedHashSet<>();
+        String normalized = normalize(name);
+        keys.add(normalized.replace(" ", ""));
+        for (String token : NAME_SEPARATOR.split(normalized)) {
+            keys.add(token);
+        }
+        keys.remove("");
+        return keys;
+    }
+
+    private static Set<String> emailKeys(String email) {
+        Set<String> keys = new LinkedHashSet<>();
+        String localPart = normalize(email.substring(0, Math.max(0, email.indexOf('@'))));
+        keys.add(localPart);
+        for (String token : EMAIL_SEPARATOR.split(localPart)) {
+            keys.add(token);
+        }
+        keys.remove("");
+        return keys;
+    }
+
+    /**
+     * 表記ゆれを吸収するための正規化（NFKC正規化、小文字化、カタカナをひらがなに変換、空白を1文字にまとめる）
+     */
+    static String normalize(String value) {
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+        StringBuilder builder = new StringBuilder(normalized.length());
+        boolean previousSpace = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!previousSpace) {
+                    builder.append(' ');
+                }
+                previousSpace = true;
+                continue;
+            }
+            previousSpace = false;
+            builder.append(c >= 'ァ' && c <= 'ヶ' ? (char) (c - 0x60) : c);
+        }
+        return builder.toString();
+    }
+
+    private enum Field {
+        NAME,
+        EMAIL
+    }
+
+    private record Posting(long employeeId, Field field) {
+    }
+
+    private record Term(String key, Posting posting) {
+    }
+
+    private record Candidate(Entry entry, double score) {
+    }
+
+    private record Entry(long id, String employeeNumber, String name, String email, List<Term> terms) {
+
+        EmployeeSuggestionDto toDto() {
+            return new EmployeeSuggestionDto(id, employeeNumber, name, email);
+        }
+    }
+}
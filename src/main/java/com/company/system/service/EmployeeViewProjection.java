@@ -0,0 +1,38 @@
+package com.company.system.service;
+
+import com.company.system.event.EmployeeChangedEvent;
+import com.company.system.repository.EmployeeViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 社員参照テーブル（employee_view）の更新
+ * <p>
+ * 社員の変更を変更と同じトランザクションで社員参照テーブルへ反映する。作成・更新は変更後の内容（部署名・部署コードを含む）で
+ * 行を置き換え、削除は行を取り除く。反映に失敗した場合は社員の変更もロールバックされるため、参照テーブルが社員テーブルと食い違うことはない。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeViewProjection {
+
+    private final EmployeeViewRepository employeeViewRepository;
+
+    /**
+     * 社員の変更を社員参照テーブルへ反映（変更と同じトランザクションでコミットする）
+     *
+     * @param event 社員変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.getAfter() != null) {
+            employeeViewRepository.upsert(event.getAfter());
+        } else {
+            employeeViewRepository.remove(event.getEmployeeId());
+        }
+        log.debug("社員参照テーブルを更新: id={}, changeType={}", event.getEmployeeId(), event.getChangeType());
+    }
+}
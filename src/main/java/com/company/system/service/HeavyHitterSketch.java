@@ -0,0 +1,241 @@
+package com.company.system.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 出現頻度の高いキー（ヘビーヒッター）の推定
+ * <p>
+ * キーごとの出現回数をカウントミンスケッチ（固定サイズのカウンター表）で推定し、上位になり得るキーだけを候補として保持する。
+ * 集計は一定時間の窓単位で行い、直前の窓の回数を現在の窓の経過割合に応じて減衰させて加えることで、直近1窓分の回数を推定する。
+ * 記録はカウンターの加算と候補表への登録だけで行い、ロックを取得しない。
+ */
+public final class HeavyHitterSketch {
+
+    /**
+     * 上位キーの数に対して保持する候補の倍率（超えた時点で上位キーだけに絞り込む）
+     */
+    private static final int CANDIDATES_PER_CAPACITY = 8;
+
+    private final int capacity;
+    private final int depth;
+    private final int width;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<Window> window;
+    private final Map<String, Boolean> candidates = new ConcurrentHashMap<>();
+    private final AtomicBoolean pruning = new AtomicBoolean();
+    private volatile long admissionThreshold;
+
+    /**
+     * @param capacity 保持する上位キーの数
+     * @param width カウンター表の幅（2のべき乗に切り上げる。大きいほど推定誤差が小さい）
+     * @param depth カウンター表の段数（大きいほど推定誤差が大きくなる確率が小さい）
+     * @param windowNanos 集計窓の長さ（ナノ秒）
+     * @param nanoClock 現在時刻（ナノ秒）
+     */
+    public HeavyHitterSketch(int capacity, int width, int depth, long windowNanos, LongSupplier nanoClock) {
+        this.capacity = Math.max(1, capacity);
+        this.depth = Math.max(1, depth);
+        this.width = Integer.highestOneBit(Math.max(2, width) * 2 - 1);
+        this.windowNanos = Math.max(1, windowNanos);
+        this.nanoClock = nanoClock;
+        this.window = new AtomicReference<>(new Window(nanoClock.getAsLong(), newCounters(), null));
+    }
+
+    /**
+     * キーの出現を記録
+     *
+     * @param key キー
+     */
+    public void record(String key) {
+        Window current = currentWindow(nanoClock.getAsLong());
+        long estimate = current.increment(key.hashCode());
+        if (estimate >= admissionThreshold && candidates.putIfAbsent(key, Boolean.TRUE) == null
+                && candidates.size() > capacity * CANDIDATES_PER_CAPACITY) {
+            prune();
+        }
+    }
+
+    /**
+     * 推定回数の多いキーを取得
+     *
+     * @return 上位キー（推定回数の多い順）
+     */
+    public List<HotKey> top() {
+        long now = nanoClock.getAsLong();
+        Window current = currentWindow(now);
+        double previousWeight = current.previousWeight(now);
+        double total = current.total(previousWeight);
+        double seconds = windowNanos / 1_000_000_000.0;
+        PriorityQueue<HotKey> top = new PriorityQueue<>(capacity + 1, Comparator.comparingDouble(HotKey::estimatedCount));
+        for (String key : candidates.keySet()) {
+            double count = current.estimate(key.hashCode(), previousWeight);
+            if (count <= 0) {
+                continue;
+            }
+            top.add(new HotKey(key, count, count / seconds, total > 0 ? Math.min(1.0, count / total) : 0));
+            if (top.size() > capacity) {
+                top.poll();
+            }
+        }
+        List<HotKey> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingDouble(HotKey::estimatedCount).reversed().thenComparing(HotKey::key));
+        return result;
+    }
+
+    private Window currentWindow(long now) {
+        Window current = window.get();
+        long elapsed = now - current.startNanos;
+        if (elapsed < windowNanos) {
+            return current;
+        }
+        long windows = elapsed / windowNanos;
+        // 2窓以上経過した場合は直前の窓にも記録がない
+        Window next = new Window(current.startNanos + windows * windowNanos, newCounters(),
+                windows == 1 ? current : null);
+        if (!window.compareAndSet(current, next)) {
+            return window.get();
+        }
+        admissionThreshold = 0;
+        prune();
+        return next;
+    }
+
+    /**
+     * 候補を上位のキーだけに絞り込み、以降に候補へ登録する現在の窓での回数の下限を更新
+     * <p>
+     * 同時に呼び出された場合は1スレッドだけが実行し、他のスレッドは待たずに戻る。
+     */
+    private void prune() {
+        if (!pruning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = nanoClock.getAsLong();
+            Window current = window.get();
+            double previousWeight = current.previousWeight(now);
+            PriorityQueue<Candidate> top = new PriorityQueue<>(capacity + 1,
+                    Comparator.comparingDouble(Candidate::estimate));
+            for (String key : candidates.keySet()) {
+                top.add(new Candidate(key, current.estimate(key.hashCode(), previousWeight)));
+                if (top.size() > capacity) {
+                    top.poll();
+                }
+            }
+            if (top.size() < capacity) {
+                return;
+            }
+            candidates.keySet().retainAll(top.stream().map(Candidate::key).toList());
+            admissionThreshold = top.stream()
+                    .mapToLong(candidate -> current.count(candidate.key().hashCode()))
+                    .min()
+                    .orElse(0);
+        } finally {
+            pruning.set(false);
+        }
+    }
+
+    private AtomicLongArray newCounters() {
+        return new AtomicLongArray(depth * width);
+    }
+
+    /**
+     * 上位キー
+     *
+     * @param key キー
+     * @param estimatedCount 直近1窓分の推定回数
+     * @param ratePerSecond 推定頻度（回/秒）
+     * @param share 全体に占める推定割合
+     */
+    public record HotKey(String key, double estimatedCount, double ratePerSecond, double share) {
+    }
+
+    private record Candidate(String key, double estimate) {
+    }
+
+    /**
+     * 集計窓
+     */
+    private final class Window {
+
+        private final long startNanos;
+        private final AtomicLongArray counters;
+        private final LongAdder totalCount = new LongAdder();
+        private final AtomicLongArray previousCounters;
+        private final long previousTotalCount;
+
+        Window(long startNanos, AtomicLongArray counters, Window previous) {
+            this.startNanos = startNanos;
+            this.counters = counters;
+            this.previousCounters = previous != null ? previous.counters : null;
+            this.previousTotalCount = previous != null ? previous.totalCount.sum() : 0;
+        }
+
+        /**
+         * カウンターを加算し、加算後の現在の窓での推定回数を返す
+         */
+        long increment(int hash) {
+            totalCount.increment();
+            long min = Long.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                min = Math.min(min, counters.incrementAndGet(index(hash, row)));
+            }
+            return min;
+        }
+
+        /**
+         * 現在の窓での推定回数
+         */
+        long count(int hash) {
+            return count(counters, hash);
+        }
+
+        /**
+         * 直前の窓の推定回数を減衰させて加えた推定回数
+         */
+        double estimate(int hash, double previousWeight) {
+            double count = count(counters, hash);
+            if (previousCounters != null && previousWeight > 0) {
+                count += previousWeight * count(previousCounters, hash);
+            }
+            return count;
+        }
+
+        double total(double previousWeight) {
+            return totalCount.sum() + previousWeight * previousTotalCount;
+        }
+
+        /**
+         * 直前の窓の重み（現在の窓の経過割合に応じて1から0へ減衰）
+         */
+        double previousWeight(long now) {
+            return Math.max(0, 1.0 - (double) (now - startNanos) / windowNanos);
+        }
+
+        private long count(AtomicLongArray table, int hash) {
+            long min = Long.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                min = Math.min(min, table.get(index(hash, row)));
+            }
+            return min;
+        }
+
+        private int index(int hash, int row) {
+            int h = (hash + row * 0x9E3779B9) * 0x85EBCA6B;
+            h ^= h >>> 13;
+            h *= 0xC2B2AE35;
+            h ^= h >>> 16;
+            return row * width + (h & (width - 1));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.company.system.service;
+
+import com.company.system.config.HotKeyProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 参照の多い社員・部署・検索条件の検出
+ * <p>
+ * 種別ごとに{@link HeavyHitterSketch}で直近の参照回数を推定し、キャッシュの容量設計や特定キーへの集中の把握に使用する。
+ */
+@Component
+public class HotKeyTracker {
+
+    private final boolean enabled;
+    private final Map<Category, HeavyHitterSketch> sketches = new EnumMap<>(Category.class);
+    private final ThreadLocal<Boolean> suppressed = new ThreadLocal<>();
+
+    public HotKeyTracker(HotKeyProperties properties) {
+        this.enabled = properties.isEnabled();
+        for (Category category : Category.values()) {
+            sketches.put(category, new HeavyHitterSketch(properties.getTopK(), properties.getWidth(),
+                    properties.getDepth(), properties.getWindow().toNanos(), System::nanoTime));
+        }
+    }
+
+    /**
+     * 参照を記録
+     *
+     * @param category 種別
+     * @param key キー
+     */
+    public void record(Category category, Object key) {
+        if (enabled && suppressed.get() == null) {
+            sketches.get(category).record(String.valueOf(key));
+        }
+    }
+
+    /**
+     * 処理中の参照を記録せずに実行（ウォームアップなど、利用者による参照ではない処理用）
+     *
+     * @param action 処理
+     * @param <T> 処理結果の型
+     * @return 処理結果
+     */
+    public <T> T untracked(Supplier<T> action) {
+        if (suppressed.get() != null) {
+            return action.get();
+        }
+        suppressed.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            suppressed.remove();
+        }
+    }
+
+    /**
+     * 参照の多いキーを取得
+     *
+     * @param category 種別
+     * @return 上位キー（推定回数の多い順）
+     */
+    public List<HeavyHitterSketch.HotKey> top(Category category) {
+        return sketches.get(category).top();
+    }
+
+    /**
+     * 集計する種別
+     */
+    public enum Category {
+        /**
+         * 社員（社員ID）
+         */
+        EMPLOYEE("employee"),
+        /**
+         * 部署（部署ID）
+         */
+        DEPARTMENT("department"),
+        /**
+         * 社員一覧の検索条件
+         */
+        EMPLOYEE_QUERY("employeeQuery");
+
+        private final String id;
+
+        Category(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+    }
+}
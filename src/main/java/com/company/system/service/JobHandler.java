@@ -0,0 +1,57 @@
+package com.company.system.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 非同期ジョブの処理内容
+ * <p>
+ * ジョブはチャンク単位で実行され、チャンクごとにトランザクションをコミットした後でチェックポイントを保存する。
+ * 保存前に停止した場合は同じチェックポイントからチャンクを再実行するため、処理は再実行しても結果が変わらないように実装すること。
+ */
+public interface JobHandler {
+
+    /**
+     * ジョブ種別を取得
+     *
+     * @return ジョブ種別
+     */
+    String getType();
+
+    /**
+     * ジョブパラメータを検証
+     *
+     * @param parameters ジョブパラメータ
+     * @throws com.company.system.exception.ValidationException パラメータが不正な場合
+     */
+    void validate(JsonNode parameters);
+
+    /**
+     * 処理対象の総件数を取得（進捗表示用）
+     *
+     * @param parameters ジョブパラメータ
+     * @return 処理対象の総件数
+     */
+    long countTotal(JsonNode parameters);
+
+    /**
+     * 1チャンク分の処理を実行（呼び出し元でトランザクションを開始済み）
+     *
+     * @param jobId ジョブID
+     * @param parameters ジョブパラメータ
+     * @param checkpoint 前回のチェックポイント（初回はnull）
+     * @param chunkSize 1チャンクの最大件数
+     * @return チャンクの処理結果
+     */
+    ChunkResult processChunk(Long jobId, JsonNode parameters, String checkpoint, int chunkSize);
+
+    /**
+     * チャンクの処理結果
+     *
+     * @param checkpoint 次回のチェックポイント
+     * @param processedCount このチャンクで処理した件数
+     * @param finished すべての処理が完了した場合true
+     * @param resultPath 結果ファイルのパス（結果ファイルがない場合null）
+     */
+    record ChunkResult(String checkpoint, int processedCount, boolean finished, String resultPath) {
+    }
+}
@@ -0,0 +1,332 @@
+package com.company.system.service;
+
+import com.company.system.config.JobProperties;
+import com.company.system.model.Job;
+import com.company.system.model.JobStatus;
+import com.company.system.repository.JobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 非同期ジョブの実行
+ * <p>
+ * ジョブを上限付きのキューを持つスレッドプールで実行する。ジョブはチャンクごとに別トランザクションで処理し、
+ * コミット後にチェックポイントと処理件数を保存する。停止時は実行中のチャンクの完了を待って中断し、担当を解放する。
+ * <p>
+ * 複数ノードで同じデータベースを共有しても同じジョブを重複して実行しないよう、ジョブは条件付き更新で実行担当を
+ * 取得してから実行し、担当中は一定間隔で生存を通知する。担当のいないジョブ（停止したノードのジョブや、
+ * キューが満杯で再開できなかったジョブ）は生存通知の間隔ごとに取得し、チェックポイントから再開する。
+ */
+@Slf4j
+@Component
+public class JobRunner implements SmartLifecycle {
+
+    private static final int ERROR_MESSAGE_MAX_LENGTH = 1000;
+
+    /**
+     * 未完了（実行担当が必要）の状態
+     */
+    private static final Set<JobStatus> UNFINISHED = EnumSet.of(JobStatus.QUEUED, JobStatus.RUNNING);
+
+    private final JobRepository jobRepository;
+    private final Map<String, JobHandler> handlers = new HashMap<>();
+    private final ObjectMapper objectMapper;
+    private final TransactionOperations chunkTransaction;
+    private final JobProperties properties;
+    private final String owner;
+    /**
+     * 自ノードの実行キューに追加済み・実行中のジョブ
+     */
+    private final Set<Long> activeJobs = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean running;
+    private volatile ThreadPoolExecutor executor;
+    private volatile ScheduledExecutorService heartbeat;
+
+    @Autowired
+    public JobRunner(JobRepository jobRepository,
+                     List<JobHandler> handlers,
+                     ObjectMapper objectMapper,
+                     PlatformTransactionManager transactionManager,
+                     JobProperties properties) {
+        this(jobRepository, handlers, objectMapper, new TransactionTemplate(transactionManager), properties);
+    }
+
+    public JobRunner(JobRepository jobRepository,
+                     List<JobHandler> handlers,
+                     ObjectMapper objectMapper,
+                     TransactionOperations chunkTransaction,
+                     JobProperties properties) {
+        this.jobRepository = jobRepository;
+        this.objectMapper = objectMapper;
+        this.chunkTransaction = chunkTransaction;
+        this.properties = properties;
+        this.owner = properties.getNodeId() != null && !properties.getNodeId().isBlank()
+                ? properties.getNodeId() : ManagementFactory.getRuntimeMXBean().getName();
+        for (JobHandler handler : handlers) {
+            if (this.handlers.put(handler.getType(), handler) != null) {
+                throw new IllegalStateException("ジョブ種別が重複しています: " + handler.getType());
+            }
+        }
+    }
+
+    /**
+     * ジョブ種別に対応する処理を取得
+     *
+     * @param type ジョブ種別
+     * @return ジョブの処理（未対応の種別の場合null）
+     */
+    public JobHandler getHandler(String type) {
+        return handlers.get(type);
+    }
+
+    /**
+     * 実行担当として記録する自ノードの識別子を取得
+     *
+     * @return ノード識別子
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * ジョブの実行担当を取得して実行キューに追加
+     *
+     * @param jobId ジョブID
+     * @return 受け付けた場合true（停止中、他のノードが担当中、またはキューが満杯の場合false）
+     */
+    public boolean submit(Long jobId) {
+        ThreadPoolExecutor current = executor;
+        if (!running || current == null) {
+            return false;
+        }
+        if (!activeJobs.add(jobId)) {
+            return true;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (jobRepository.claim(jobId, UNFINISHED, owner, now, now.minus(properties.getLeaseTimeout())) == 0) {
+            activeJobs.remove(jobId);
+            return false;
+        }
+        try {
+            current.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    activeJobs.remove(jobId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            activeJobs.remove(jobId);
+            // 担当を解放し、次回の確認（または他のノード）で再開する
+            jobRepository.release(jobId, owner);
+            return false;
+        }
+    }
+
+    /**
+     * ジョブを実行（チェックポイントがある場合は続きから）
+     *
+     * @param jobId ジョブID
+     */
+    public void run(Long jobId) {
+        Job job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() == JobStatus.SUCCEEDED || job.getStatus() == JobStatus.FAILED) {
+            return;
+        }
+        try {
+            JobHandler handler = handlers.get(job.getJobType());
+            if (handler == null) {
+                throw new IllegalStateException("未対応のジョブ種別です: " + job.getJobType());
+            }
+            JsonNode parameters = readParameters(job.getParameters());
+            if (job.getStatus() == JobStatus.QUEUED) {
+                job.setStatus(JobStatus.RUNNING);
+                job.setStartedAt(LocalDateTime.now());
+                job.setTotalCount(handler.countTotal(parameters));
+                job = jobRepository.save(job);
+                log.info("ジョブを開始: id={}, type={}, totalCount={}", jobId, job.getJobType(), job.getTotalCount());
+            } else {
+                log.info("ジョブを再開: id={}, type={}, checkpoint={}", jobId, job.getJobType(), job.getCheckpoint());
+            }
+
+            while (running) {
+                if (jobRepository.renew(jobId, owner, LocalDateTime.now()) == 0) {
+                    log.warn("他のノードに引き継がれたためジョブを中断: id={}, checkpoint={}", jobId, job.getCheckpoint());
+                    return;
+                }
+                String checkpoint = job.getCheckpoint();
+                JobHandler.ChunkResult result = chunkTransaction.execute(status ->
+                        handler.processChunk(jobId, parameters, checkpoint, properties.getChunkSize()));
+                // チャンクのコミット後に進捗を保存（保存前に停止した場合は同じチャンクを再実行する）
+                job.setCheckpoint(result.checkpoint());
+                job.setProcessedCount(job.getProcessedCount() + result.processedCount());
+                if (result.resultPath() != null) {
+                    job.setResultPath(result.resultPath());
+                }
+                if (result.finished()) {
+                    job.setStatus(JobStatus.SUCCEEDED);
+                    job.setFinishedAt(LocalDateTime.now());
+                }
+                job = jobRepository.save(job);
+                if (result.finished()) {
+                    log.info("ジョブが完了: id={}, processedCount={}", jobId, job.getProcessedCount());
+                    return;
+                }
+            }
+            log.info("停止のためジョブを中断: id={}, checkpoint={}", jobId, job.getCheckpoint());
+        } catch (RuntimeException e) {
+            log.error("ジョブが失敗しました: id={}", jobId, e);
+            fail(job, e);
+        }
+    }
+
+    @Override
+    public void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                properties.getWorkerThreads(), properties.getWorkerThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "job-worker-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor = pool;
+        running = true;
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(1, properties.getHeartbeatInterval().toMillis());
+        scheduler.scheduleWithFixedDelay(this::heartbeat, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        heartbeat = scheduler;
+        log.info("ジョブの実行を開始: owner={}, workerThreads={}, queueCapacity={}",
+                owner, properties.getWorkerThreads(), properties.getQueueCapacity());
+    }
+
+    /**
+     * 担当中のジョブの生存を通知し、担当のいないジョブを取得して再開
+     */
+    private void heartbeat() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            jobRepository.renewAll(owner, UNFINISHED, now);
+            int skipped = 0;
+            for (Job job : jobRepository.findClaimable(UNFINISHED, owner, now.minus(properties.getLeaseTimeout()))) {
+                if (!running) {
+                    return;
+                }
+                if (activeJobs.contains(job.getId())) {
+                    continue;
+                }
+                if (submit(job.getId())) {
+                    log.info("担当のいないジョブを再開: id={}, previousOwner={}", job.getId(), job.getOwner());
+                } else {
+                    skipped++;
+                }
+            }
+            if (skipped > 0) {
+                log.warn("ジョブを再開できませんでした（キューが満杯、または他のノードが担当済み、次回の確認で再試行）: 件数={}",
+                        skipped);
+            }
+        } catch (RuntimeException e) {
+            log.warn("ジョブの生存通知・再開に失敗しました", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        ScheduledExecutorService scheduler = heartbeat;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        ThreadPoolExecutor pool = executor;
+        if (pool == null) {
+            return;
+        }
+        // 実行待ちのジョブは状態を残したまま破棄し、担当の解放後に他のノード（または次回起動時）で再開する
+        pool.getQueue().clear();
+        activeJobs.clear();
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("実行中のジョブが時間内に中断できませんでした");
+                pool.shutdownNow();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pool.shutdownNow();
+            return;
+        }
+        try {
+            int released = jobRepository.releaseAll(owner, UNFINISHED);
+            log.info("ジョブの実行を停止: 解放したジョブ={}", released);
+        } catch (RuntimeException e) {
+            log.warn("ジョブの担当を解放できませんでした（担当の期限切れ後に他のノードが引き継ぎます）", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Webサーバーより先に開始し、Webサーバー停止後に停止する
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private JsonNode readParameters(String parameters) {
+        try {
+            return objectMapper.readTree(parameters == null ? "{}" : parameters);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("ジョブパラメータを読み込めません", e);
+        }
+    }
+
+    private void fail(Job job, RuntimeException cause) {
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName();
+        job.setStatus(JobStatus.FAILED);
+        job.setErrorMessage(message.length() > ERROR_MESSAGE_MAX_LENGTH
+                ? message.substring(0, ERROR_MESSAGE_MAX_LENGTH) : message);
+        job.setFinishedAt(LocalDateTime.now());
+        try {
+            jobRepository.save(job);
+        } catch (RuntimeException e) {
+            log.error("ジョブの失敗を記録できませんでした: id={}", job.getId(), e);
+        }
+    }
+}
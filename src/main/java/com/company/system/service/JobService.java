@@ -0,0 +1,146 @@
+package com.company.system.service;
+
+import com.company.system.config.JobProperties;
+import com.company.system.dto.CreateJobRequest;
+import com.company.system.dto.JobDto;
+import com.company.system.exception.ResourceNotFoundException;
+import com.company.system.exception.ServiceUnavailableException;
+import com.company.system.exception.ValidationException;
+import com.company.system.model.Job;
+import com.company.system.model.JobStatus;
+import com.company.system.repository.JobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 非同期ジョブサービス
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class JobService {
+
+    private final JobRepository jobRepository;
+    private final JobRunner jobRunner;
+    private final ObjectMapper objectMapper;
+    private final JobProperties properties;
+
+    /**
+     * ジョブを登録して実行を依頼
+     * <p>
+     * ワーカーが登録前の行を読まないよう、登録をコミットしてから実行キューに追加する。
+     * 他のノードが担当のいないジョブとして先に取得しないよう、自ノードを実行担当として登録する。
+     *
+     * @param request ジョブ登録リクエスト
+     * @return 登録したジョブ
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public JobDto submit(CreateJobRequest request) {
+        JobHandler handler = jobRunner.getHandler(request.getType());
+        if (handler == null) {
+            throw new ValidationException("ジョブ種別が不正です: " + request.getType());
+        }
+        JsonNode parameters = objectMapper.valueToTree(
+                request.getParameters() != null ? request.getParameters() : Map.of());
+        handler.validate(parameters);
+
+        Job job = new Job();
+        job.setJobType(handler.getType());
+        job.setStatus(JobStatus.QUEUED);
+        job.setParameters(writeParameters(parameters));
+        job.setOwner(jobRunner.getOwner());
+        job.setHeartbeatAt(LocalDateTime.now());
+        job = jobRepository.save(job);
+
+        if (!jobRunner.submit(job.getId())) {
+            job.setStatus(JobStatus.FAILED);
+            job.setErrorMessage("実行キューが満杯のため受け付けられませんでした");
+            job.setFinishedAt(LocalDateTime.now());
+            jobRepository.save(job);
+            log.warn("実行キューが満杯のためジョブを拒否: id={}, type={}", job.getId(), job.getJobType());
+            throw new ServiceUnavailableException("ジョブの実行キューが満杯です",
+                    Math.max(1, properties.getRetryAfter().toSeconds()));
+        }
+        log.info("ジョブを受け付け: id={}, type={}", job.getId(), job.getJobType());
+        return toDto(job);
+    }
+
+    /**
+     * ジョブの状態を取得
+     *
+     * @param id ジョブID
+     * @return ジョブ
+     */
+    public JobDto findById(Long id) {
+        return toDto(loadJob(id));
+    }
+
+    /**
+     * ジョブの結果ファイルを取得
+     *
+     * @param id ジョブID
+     * @return 結果ファイルのパス
+     */
+    public Path findResult(Long id) {
+        Job job = loadJob(id);
+        if (!isResultAvailable(job)) {
+            throw new ResourceNotFoundException("ジョブの結果がありません");
+        }
+        return Paths.get(job.getResultPath());
+    }
+
+    private Job loadJob(Long id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ジョブが存在しません"));
+    }
+
+    private String writeParameters(JsonNode parameters) {
+        try {
+            return objectMapper.writeValueAsString(parameters);
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("ジョブパラメータが不正です");
+        }
+    }
+
+    private static boolean isResultAvailable(Job job) {
+        return job.getStatus() == JobStatus.SUCCEEDED
+                && job.getResultPath() != null
+                && Files.isReadable(Paths.get(job.getResultPath()));
+    }
+
+    private static JobDto toDto(Job job) {
+        Integer progress = null;
+        if (job.getStatus() == JobStatus.SUCCEEDED) {
+            progress = 100;
+        } else if (job.getTotalCount() != null) {
+            progress = job.getTotalCount() == 0 ? 0
+                    : (int) Math.min(99, job.getProcessedCount() * 100 / job.getTotalCount());
+        }
+        return new JobDto(
+                job.getId(),
+                job.getJobType(),
+                job.getStatus().name(),
+                job.getProcessedCount(),
+                job.getTotalCount(),
+                progress,
+                job.getErrorMessage(),
+                isResultAvailable(job),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,134 @@
+package com.company.system.service;
+
+import java.util.Arrays;
+
+/**
+ * long型のキーごとの件数（オープンアドレス法のハッシュ表）
+ * <p>
+ * キーと件数をプリミティブ配列で保持し、集計時にキーや件数のオブジェクトを生成しない。
+ * スレッドセーフではないため、並列集計ではスレッドごとに作成して{@link #addAll(LongCountMap)}で合算する。
+ */
+public final class LongCountMap {
+
+    /**
+     * 空きスロットを示すキー（キーとして使用できない）
+     */
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys;
+    private long[] counts;
+    private int size;
+
+    public LongCountMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * キーの件数を加算
+     *
+     * @param key キー（{@link Long#MIN_VALUE}以外）
+     * @param delta 加算する件数
+     */
+    public void add(long key, long delta) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("キーにLong.MIN_VALUEは使用できません");
+        }
+        int slot = slot(key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            if (++size * 2 > keys.length) {
+                counts[slot] = delta;
+                resize();
+                return;
+            }
+        }
+        counts[slot] += delta;
+    }
+
+    /**
+     * キーの件数を取得
+     *
+     * @param key キー
+     * @return 件数（登録されていない場合は0）
+     */
+    public long get(long key) {
+        if (key == EMPTY) {
+            return 0;
+        }
+        int slot = slot(key);
+        return keys[slot] == EMPTY ? 0 : counts[slot];
+    }
+
+    /**
+     * 別の集計結果の件数を加算
+     *
+     * @param other 加算する集計結果
+     */
+    public void addAll(LongCountMap other) {
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.keys[i] != EMPTY) {
+                add(other.keys[i], other.counts[i]);
+            }
+        }
+    }
+
+    /**
+     * 登録されているキーの数
+     *
+     * @return キーの数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 登録されているキーを昇順で取得
+     *
+     * @return キー一覧
+     */
+    public long[] sortedKeys() {
+        long[] result = new long[size];
+        int index = 0;
+        for (long key : keys) {
+            if (key != EMPTY) {
+                result[index++] = key;
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * キーの格納先（登録済みの場合はそのスロット、未登録の場合は空きスロット）
+     */
+    private int slot(long key) {
+        int mask = keys.length - 1;
+        long hash = key * 0x9E3779B97F4A7C15L;
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldCounts = counts;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        counts = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+}
@@ -0,0 +1,217 @@
+package com.company.system.service;
+
+import com.company.system.config.PartitionContext;
+import com.company.system.config.PartitionRoutingStrategy;
+import com.company.system.config.PartitioningProperties;
+import com.company.system.config.RequestDeadline;
+import com.company.system.exception.InternalServerException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * パーティション単位のデータアクセスを補助するコンポーネント
+ * <p>
+ * 単一パーティションへのアクセスは{@link #enter(int)}でパーティションを選択してから行い、
+ * 全パーティションへの問い合わせは{@link #scatter(Supplier)}で並列に実行する。
+ * パーティション分割が無効の場合は呼び出し元スレッドでそのまま実行する。
+ */
+@Slf4j
+@Component
+public class PartitionTemplate implements DisposableBean {
+
+    private static final Scope NO_OP_SCOPE = () -> {
+    };
+
+    private final int partitionCount;
+    private final PartitionRoutingStrategy routingStrategy;
+    private final TransactionOperations readOnlyTransaction;
+    private final Duration scatterTimeout;
+    private final ExecutorService executor;
+
+    @Autowired
+    public PartitionTemplate(PartitioningProperties properties,
+                             PartitionRoutingStrategy routingStrategy,
+                             PlatformTransactionManager transactionManager) {
+        this(properties.isEnabled() ? properties.getPartitions().size() : 1,
+                routingStrategy,
+                readOnlyTemplate(transactionManager),
+                properties.getScatterThreads(),
+                properties.getScatterTimeout());
+    }
+
+    public PartitionTemplate(int partitionCount,
+                             PartitionRoutingStrategy routingStrategy,
+                             TransactionOperations readOnlyTransaction,
+                             int scatterThreads,
+                             Duration scatterTimeout) {
+        this.partitionCount = Math.max(1, partitionCount);
+        this.routingStrategy = routingStrategy;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.scatterTimeout = scatterTimeout;
+        this.executor = this.partitionCount > 1 ? newScatterExecutor(scatterThreads) : null;
+    }
+
+    /**
+     * パーティション数を取得
+     *
+     * @return パーティション数（分割が無効の場合は1）
+     */
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    /**
+     * 社員IDから格納先のパーティション番号を取得
+     *
+     * @param employeeId 社員ID
+     * @return パーティション番号
+     */
+    public int partitionForEmployee(Long employeeId) {
+        if (partitionCount == 1) {
+            return 0;
+        }
+        return (int) Math.floorMod(employeeId - 1, (long) partitionCount);
+    }
+
+    /**
+     * 新規社員の登録先パーティション番号を取得
+     *
+     * @param departmentId 部署ID
+     * @return パーティション番号
+     */
+    public int partitionForNewEmployee(Long departmentId) {
+        if (partitionCount == 1) {
+            return 0;
+        }
+        int partition = routingStrategy.partitionFor(departmentId, partitionCount);
+        if (partition < 0 || partition >= partitionCount) {
+            throw new IllegalStateException("パーティション番号が範囲外です: " + partition);
+        }
+        return partition;
+    }
+
+    /**
+     * 現在のスレッドで使用するパーティションを選択
+     * <p>
+     * トランザクション内の最初のSQLより前に呼び出し、try-with-resourcesで元に戻すこと。
+     *
+     * @param partition パーティション番号
+     * @return 選択を元に戻すスコープ
+     */
+    public Scope enter(int partition) {
+        if (partitionCount == 1) {
+            return NO_OP_SCOPE;
+        }
+        Integer previous = PartitionContext.current();
+        PartitionContext.set(partition);
+        return () -> PartitionContext.set(previous);
+    }
+
+    /**
+     * 全パーティションで処理を並列に実行
+     * <p>
+     * 各パーティションの処理はそれぞれ別スレッドの読み取り専用トランザクションで実行する。
+     * 呼び出し元にリクエストの処理期限がある場合は各スレッドへ引き継ぎ、結果を待つ時間も期限までとする。
+     *
+     * @param action パーティションごとの処理
+     * @param <T> 結果の型
+     * @return パーティション番号順の結果
+     */
+    public <T> List<T> scatter(Supplier<T> action) {
+        if (partitionCount == 1) {
+            return Collections.singletonList(action.get());
+        }
+
+        RequestDeadline requestDeadline = RequestDeadline.current();
+        List<Future<T>> futures = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            int partition = i;
+            futures.add(executor.submit(() -> {
+                // 呼び出し元のリクエストの処理期限を引き継ぐ
+                RequestDeadline.set(requestDeadline);
+                try (Scope ignored = enter(partition)) {
+                    return readOnlyTransaction.execute(status -> action.get());
+                } finally {
+                    RequestDeadline.set(null);
+                }
+            }));
+        }
+
+        long timeoutNanos = scatterTimeout.toNanos();
+        boolean boundedByRequest = requestDeadline != null && requestDeadline.remainingNanos() < timeoutNanos;
+        long deadline = System.nanoTime() + (boundedByRequest ? requestDeadline.remainingNanos() : timeoutNanos);
+        List<T> results = new ArrayList<>(partitionCount);
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new InternalServerException("パーティションへの問い合わせに失敗しました", cause);
+        } catch (TimeoutException e) {
+            if (boundedByRequest) {
+                throw requestDeadline.exceeded(e);
+            }
+            throw new InternalServerException("パーティションへの問い合わせがタイムアウトしました", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("パーティションへの問い合わせが中断されました", e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ExecutorService newScatterExecutor(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "partition-scatter-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static TransactionOperations readOnlyTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    /**
+     * パーティション選択のスコープ
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
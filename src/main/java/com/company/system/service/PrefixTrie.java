@@ -0,0 +1,247 @@
+package com.company.system.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 前方一致検索用の圧縮トライ（基数木）
+ * <p>
+ * 分岐のない経路は1つの辺にまとめて保持する。前方一致の列挙は語の短い順に行い、
+ * 呼び出し元が打ち切れるようにする（短い語ほど入力との一致率が高いため、上位の候補から先に見つかる）。
+ * スレッドセーフではないため、呼び出し元で排他制御すること。
+ *
+ * @param <V> 語に関連付ける値の型
+ */
+public class PrefixTrie<V> {
+
+    private final Node<V> root = new Node<>("", 0);
+    private int size;
+
+    /**
+     * 語に値を追加
+     *
+     * @param key 語
+     * @param value 値
+     */
+    public void add(String key, V value) {
+        Node<V> node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int index = node.indexOf(key.charAt(i));
+            if (index < 0) {
+                Node<V> leaf = new Node<>(key.substring(i), key.length());
+                node.insertChild(leaf);
+                node = leaf;
+                break;
+            }
+            Node<V> child = node.children[index];
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                // 辺の途中で分岐するため、共通部分で辺を分割する
+                Node<V> middle = new Node<>(child.label.substring(0, common), node.depth + common);
+                child.label = child.label.substring(common);
+                middle.insertChild(child);
+                node.children[index] = middle;
+                child = middle;
+            }
+            node = child;
+            i += common;
+        }
+        node.addValue(value);
+        size++;
+    }
+
+    /**
+     * 語から値を削除
+     *
+     * @param key 語
+     * @param value 値
+     * @return 削除した場合true
+     */
+    public boolean remove(String key, V value) {
+        List<Node<V>> path = new ArrayList<>();
+        Node<V> node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int index = node.indexOf(key.charAt(i));
+            if (index < 0) {
+                return false;
+            }
+            Node<V> child = node.children[index];
+            if (!key.startsWith(child.label, i)) {
+                return false;
+            }
+            path.add(node);
+            node = child;
+            i += child.label.length();
+        }
+        if (node.values == null || !node.values.remove(value)) {
+            return false;
+        }
+        size--;
+        if (node.values.isEmpty()) {
+            node.values = null;
+        }
+        compact(node, path);
+        return true;
+    }
+
+    /**
+     * 前方一致する語を短い順に列挙
+     *
+     * @param prefix 前方一致させる文字列
+     * @param visitor 語ごとの処理（falseを返すと列挙を打ち切る）
+     */
+    public void visitByPrefix(String prefix, Visitor<V> visitor) {
+        Node<V> start = findPrefixNode(prefix);
+        if (start == null) {
+            return;
+        }
+        PriorityQueue<Node<V>> queue = new PriorityQueue<>(Comparator.comparingInt((Node<V> n) -> n.depth));
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            Node<V> node = queue.poll();
+            if (node.values != null && !visitor.visit(node.depth, node.values)) {
+                return;
+            }
+            for (int i = 0; i < node.childCount; i++) {
+                queue.add(node.children[i]);
+            }
+        }
+    }
+
+    /**
+     * 登録されている値の数を取得
+     *
+     * @return 値の数
+     */
+    public int size() {
+        return size;
+    }
+
+    private Node<V> findPrefixNode(String prefix) {
+        Node<V> node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int index = node.indexOf(prefix.charAt(i));
+            if (index < 0) {
+                return null;
+            }
+            Node<V> child = node.children[index];
+            int common = commonPrefixLength(child.label, prefix, i);
+            if (i + common == prefix.length()) {
+                // 入力が辺の途中で終わる場合も、その辺の先はすべて前方一致する
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            i += common;
+        }
+        return node;
+    }
+
+    /**
+     * 値がなくなった節を削除し、分岐のなくなった節を子とまとめる
+     */
+    private void compact(Node<V> node, List<Node<V>> path) {
+        Node<V> current = node;
+        for (int level = path.size() - 1; level >= 0; level--) {
+            Node<V> parent = path.get(level);
+            if (current.values != null) {
+                return;
+            }
+            if (current.childCount == 0) {
+                parent.removeChild(current.label.charAt(0));
+                current = parent;
+                continue;
+            }
+            if (current.childCount == 1) {
+                Node<V> child = current.children[0];
+                child.label = current.label + child.label;
+                parent.children[parent.indexOf(child.label.charAt(0))] = child;
+            }
+            return;
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 前方一致した語ごとの処理
+     *
+     * @param <V> 値の型
+     */
+    @FunctionalInterface
+    public interface Visitor<V> {
+
+        /**
+         * @param keyLength 語の長さ
+         * @param values 語に関連付けられた値
+         * @return 列挙を続ける場合true
+         */
+        boolean visit(int keyLength, List<V> values);
+    }
+
+    private static final class Node<V> {
+
+        private String label;
+        private final int depth;
+        private char[] childKeys = new char[0];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Node<V>[] children = new Node[0];
+        private int childCount;
+        private List<V> values;
+
+        Node(String label, int depth) {
+            this.label = label;
+            this.depth = depth;
+        }
+
+        int indexOf(char c) {
+            int index = Arrays.binarySearch(childKeys, 0, childCount, c);
+            return index >= 0 ? index : -1;
+        }
+
+        void insertChild(Node<V> child) {
+            char c = child.label.charAt(0);
+            int insertAt = -(Arrays.binarySearch(childKeys, 0, childCount, c) + 1);
+            if (childCount == childKeys.length) {
+                int capacity = Math.max(2, childCount * 2);
+                childKeys = Arrays.copyOf(childKeys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(childKeys, insertAt, childKeys, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            childKeys[insertAt] = c;
+            children[insertAt] = child;
+            childCount++;
+        }
+
+        void removeChild(char c) {
+            int index = indexOf(c);
+            System.arraycopy(childKeys, index + 1, childKeys, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+
+        void addValue(V value) {
+            if (values == null) {
+                values = new ArrayList<>(1);
+            }
+            values.add(value);
+        }
+    }
+}
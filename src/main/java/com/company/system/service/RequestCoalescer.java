@@ -0,0 +1,139 @@
+package com.company.system.service;
+
+import com.company.system.config.RequestDeadline;
+import com.company.system.exception.DeadlineExceededException;
+import com.company.system.exception.InternalServerException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 同一の読み取り要求をまとめるコンポーネント（シングルフライト）
+ * <p>
+ * 同じキーの読み取りが同時に実行中の場合、後続の呼び出しはデータベースへ問い合わせずに
+ * 先行する呼び出しの結果（または例外）を共有する。待機中の呼び出しが接続を保持しないよう、
+ * 読み取り専用トランザクションは先行する呼び出しの中でのみ開始する。
+ */
+@Slf4j
+@Component
+public class RequestCoalescer {
+
+    private static final String METRIC_NAME = "app.coalescing.requests";
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> executedCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> collapsedCounters = new ConcurrentHashMap<>();
+    private final TransactionOperations readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public RequestCoalescer(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this(readOnlyTemplate(transactionManager), meterRegistry);
+    }
+
+    public RequestCoalescer(TransactionOperations readOnlyTransaction, MeterRegistry meterRegistry) {
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 同一キーの実行中の読み取りがあれば結果を共有し、なければ読み取り専用トランザクションで実行
+     *
+     * @param operation 操作名（メトリクスのタグに使用）
+     * @param key 要求を識別するキー（操作名と引数から構成し、equals/hashCodeを実装していること）
+     * @param loader 読み取り処理
+     * @param <T> 結果の型
+     * @return 読み取り結果
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // 呼び出し元のトランザクション内の読み取りは未コミットの変更を含み得るため共有しない
+            return loader.get();
+        }
+
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            counter(collapsedCounters, operation, "collapsed").increment();
+            log.debug("実行中の読み取り結果を共有: operation={}, key={}", operation, key);
+            try {
+                return (T) await(existing);
+            } catch (DeadlineExceededException | QueryTimeoutException e) {
+                // 先行する呼び出しの処理期限で打ち切られた場合は、自身の期限内であれば自身で読み取る
+                RequestDeadline.checkCurrent();
+                log.debug("共有した読み取りが期限切れのため再実行: operation={}, key={}", operation, key);
+                return readOnlyTransaction.execute(status -> loader.get());
+            }
+        }
+
+        counter(executedCounters, operation, "executed").increment();
+        try {
+            T result = readOnlyTransaction.execute(status -> loader.get());
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * 先行する呼び出しの結果を待つ（呼び出し元にリクエストの処理期限がある場合は期限まで）
+     */
+    private Object await(CompletableFuture<Object> future) {
+        RequestDeadline deadline = RequestDeadline.current();
+        try {
+            if (deadline == null) {
+                return future.join();
+            }
+            return future.get(Math.max(0, deadline.remainingNanos()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw deadline.exceeded(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("読み取り結果の待機が中断されました", e);
+        } catch (CompletionException | ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new InternalServerException("読み取りに失敗しました", cause);
+        }
+    }
+
+    private Counter counter(Map<String, Counter> counters, String operation, String outcome) {
+        return counters.computeIfAbsent(operation, op -> Counter.builder(METRIC_NAME)
+                .description("同一読み取りの実行数と共有された数")
+                .tag("operation", op)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private static TransactionOperations readOnlyTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+}
@@ -0,0 +1,115 @@
+package com.company.system.service;
+
+import com.company.system.dto.WarmUpReportDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ウォームアップ中のレイテンシの収束判定
+ * <p>
+ * ラウンドごとに操作別のレイテンシを集め、全操作のp99が前ラウンドから許容割合以内の変化に収まったラウンドが
+ * 指定回数連続した時点で収束とみなす。
+ */
+public final class WarmUpLatencyTracker {
+
+    private final double tolerance;
+    private final int stableRounds;
+
+    private final Map<String, long[]> current = new LinkedHashMap<>();
+    private final Map<String, Integer> currentCounts = new LinkedHashMap<>();
+    private final List<WarmUpReportDto.Round> rounds = new ArrayList<>();
+    private Map<String, Long> previousP99 = Map.of();
+    private int stableStreak;
+
+    /**
+     * @param tolerance 前ラウンドとのp99の差の許容割合
+     * @param stableRounds 収束とみなすために必要な、差が許容範囲内のラウンドの連続数
+     */
+    public WarmUpLatencyTracker(double tolerance, int stableRounds) {
+        if (tolerance < 0 || stableRounds < 1) {
+            throw new IllegalArgumentException("許容割合は0以上、連続ラウンド数は1以上で指定してください");
+        }
+        this.tolerance = tolerance;
+        this.stableRounds = stableRounds;
+    }
+
+    /**
+     * 現在のラウンドに1回分のレイテンシを記録
+     *
+     * @param operation 操作名
+     * @param nanos レイテンシ（ナノ秒）
+     */
+    public void record(String operation, long nanos) {
+        int count = currentCounts.getOrDefault(operation, 0);
+        long[] samples = current.computeIfAbsent(operation, key -> new long[16]);
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+            current.put(operation, samples);
+        }
+        samples[count] = nanos;
+        currentCounts.put(operation, count + 1);
+    }
+
+    /**
+     * 現在のラウンドを締めて集計し、収束したかを判定
+     *
+     * @return 収束した場合はtrue
+     */
+    public boolean completeRound() {
+        List<WarmUpReportDto.OperationLatency> operations = new ArrayList<>();
+        Map<String, Long> p99ByOperation = new LinkedHashMap<>();
+        boolean stable = !previousP99.isEmpty();
+        for (Map.Entry<String, long[]> entry : current.entrySet()) {
+            int count = currentCounts.get(entry.getKey());
+            long[] samples = Arrays.copyOf(entry.getValue(), count);
+            Arrays.sort(samples);
+            long p99 = percentile(samples, 0.99);
+            operations.add(new WarmUpReportDto.OperationLatency(entry.getKey(), count,
+                    toMicros(Arrays.stream(samples).sum() / count), toMicros(percentile(samples, 0.5)),
+                    toMicros(p99)));
+            p99ByOperation.put(entry.getKey(), p99);
+            Long previous = previousP99.get(entry.getKey());
+            if (previous == null || Math.abs(p99 - previous) > previous * tolerance) {
+                stable = false;
+            }
+        }
+        rounds.add(new WarmUpReportDto.Round(rounds.size() + 1, operations));
+        stableStreak = stable ? stableStreak + 1 : 0;
+        previousP99 = p99ByOperation;
+        current.clear();
+        currentCounts.clear();
+        return isConverged();
+    }
+
+    /**
+     * 収束したか
+     *
+     * @return 差が許容範囲内のラウンドが指定回数連続した場合はtrue
+     */
+    public boolean isConverged() {
+        return stableStreak >= stableRounds;
+    }
+
+    /**
+     * 締めたラウンドの集計結果
+     *
+     * @return ラウンドごとのレイテンシ（古い順）
+     */
+    public List<WarmUpReportDto.Round> getRounds() {
+        return List.copyOf(rounds);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,231 @@
+package com.company.system.service;
+
+import com.company.system.config.PartitionedDataSourceConfig;
+import com.company.system.config.WarmUpProperties;
+import com.company.system.dto.DepartmentDto;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.EmployeeListCriteria;
+import com.company.system.dto.WarmUpReportDto;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 起動時のウォームアップ
+ * <p>
+ * アプリケーションの起動完了時（レディネスがトラフィック受け付けに切り替わる前）に、接続プールの接続を事前に開き、
+ * 社員一覧・社員取得の代表的な参照をサービス層から繰り返し実行してJITコンパイル・Hibernateのクエリプランキャッシュを温める。
+ * 実行中はレディネスを受け付け停止とし、レイテンシが収束するか上限に達した時点で受け付けを開始する。
+ * ウォームアップが失敗した場合も受け付けは開始する。結果は /actuator/warmup で参照できる。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarmUpRunner {
+
+    static final String LIST_OPERATION = "getEmployees";
+    static final String GET_OPERATION = "getEmployee";
+
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_NAME_QUERIES = 3;
+
+    private final EmployeeService employeeService;
+    private final DepartmentService departmentService;
+    private final HotKeyTracker hotKeyTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WarmUpProperties properties;
+    private final LoggingSystem loggingSystem;
+    private final ObjectProvider<DataSource> dataSources;
+    private final ObjectProvider<PartitionedDataSourceConfig.PartitionDataSources> partitionDataSources;
+
+    private volatile WarmUpReportDto report;
+
+    /**
+     * 起動完了時にウォームアップを実行（完了するまでレディネスは受け付け停止のまま）
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isEnabled()) {
+            run();
+        }
+    }
+
+    /**
+     * ウォームアップを実行し、完了後にレディネスを受け付け開始に切り替える
+     *
+     * @return ウォームアップの結果
+     */
+    public synchronized WarmUpReportDto run() {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        report = new WarmUpReportDto(WarmUpReportDto.Status.RUNNING, startedAt, 0, false, Map.of(), List.of());
+        log.info("ウォームアップ開始");
+        Map<String, Integer> connections = Map.of();
+        WarmUpLatencyTracker tracker = new WarmUpLatencyTracker(properties.getTolerance(), properties.getStableRounds());
+        WarmUpReportDto.Status status = WarmUpReportDto.Status.COMPLETED;
+        Map<String, LogLevel> logLevels = quietServiceLogs();
+        try {
+            connections = openConnections();
+            hotKeyTracker.untracked(() -> {
+                replay(tracker, start);
+                return null;
+            });
+        } catch (SQLException | RuntimeException e) {
+            status = WarmUpReportDto.Status.FAILED;
+            log.warn("ウォームアップに失敗しました（トラフィックの受け付けは開始します）", e);
+        } finally {
+            logLevels.forEach(loggingSystem::setLogLevel);
+            long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            report = new WarmUpReportDto(status, startedAt, durationMillis, tracker.isConverged(), connections,
+                    tracker.getRounds());
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+        List<WarmUpReportDto.Round> rounds = report.getRounds();
+        log.info("ウォームアップ完了: 状態={}, ラウンド数={}, 収束={}, 所要時間={}ms, 接続数={}, 初回={}, 最終={}",
+                status, rounds.size(), report.isConverged(), report.getDurationMillis(), connections,
+                rounds.isEmpty() ? null : rounds.get(0).getOperations(),
+                rounds.isEmpty() ? null : rounds.get(rounds.size() - 1).getOperations());
+        return report;
+    }
+
+    /**
+     * ウォームアップの結果を取得
+     *
+     * @return ウォームアップの結果（実行中の場合は途中経過なし）
+     */
+    public WarmUpReportDto getReport() {
+        WarmUpReportDto current = report;
+        if (current != null) {
+            return current;
+        }
+        WarmUpReportDto.Status status = properties.isEnabled()
+                ? WarmUpReportDto.Status.PENDING : WarmUpReportDto.Status.DISABLED;
+        return new WarmUpReportDto(status, null, 0, false, Map.of(), List.of());
+    }
+
+    /**
+     * 代表的な参照をラウンドごとに実行し、レイテンシが収束するか上限に達するまで繰り返す
+     */
+    private void replay(WarmUpLatencyTracker tracker, long start) {
+        List<EmployeeDto> firstPage = employeeService.findAll(EmployeeListCriteria.of(null, null), 0, PAGE_SIZE)
+                .getContent();
+        List<Long> employeeIds = firstPage.stream().map(EmployeeDto::getId).toList();
+        List<ListQuery> queries = new ArrayList<>();
+        queries.add(new ListQuery(0, EmployeeListCriteria.of(null, null)));
+        queries.add(new ListQuery(1, EmployeeListCriteria.of(null, null)));
+        for (DepartmentDto department : departmentService.findAll()) {
+            queries.add(new ListQuery(0, EmployeeListCriteria.of(null, department.getId())));
+        }
+        firstPage.stream()
+                .map(EmployeeDto::getName)
+                .filter(name -> name != null && !name.isEmpty())
+                .map(name -> name.substring(0, name.offsetByCodePoints(0, 1)))
+                .distinct()
+                .limit(MAX_NAME_QUERIES)
+                .forEach(name -> queries.add(new ListQuery(0, EmployeeListCriteria.of(name, null))));
+
+        long deadline = start + properties.getMaxDuration().toNanos();
+        for (int round = 0; round < properties.getMaxRounds() && System.nanoTime() < deadline; round++) {
+            for (int i = 0; i < properties.getRequestsPerRound(); i++) {
+                ListQuery query = queries.get(i % queries.size());
+                long listStart = System.nanoTime();
+                employeeService.findAll(query.criteria(), query.page(), PAGE_SIZE);
+                tracker.record(LIST_OPERATION, System.nanoTime() - listStart);
+                if (!employeeIds.isEmpty()) {
+                    long getStart = System.nanoTime();
+                    employeeService.findById(employeeIds.get(i % employeeIds.size()));
+                    tracker.record(GET_OPERATION, System.nanoTime() - getStart);
+                }
+            }
+            if (tracker.completeRound()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 接続プールごとに接続を同時に借りて開き、プールへ返却する
+     *
+     * @return 接続プール名ごとの開いた接続数
+     */
+    private Map<String, Integer> openConnections() throws SQLException {
+        Set<HikariDataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DataSource dataSource : dataSources.orderedStream().toList()) {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                pools.add(dataSource.unwrap(HikariDataSource.class));
+            }
+        }
+        PartitionedDataSourceConfig.PartitionDataSources partitions = partitionDataSources.getIfAvailable();
+        if (partitions != null) {
+            for (int i = 0; i < partitions.size(); i++) {
+                pools.add(partitions.get(i));
+            }
+        }
+        Map<String, Integer> opened = new LinkedHashMap<>();
+        for (HikariDataSource pool : pools) {
+            int count = open(pool);
+            opened.put(pool.getPoolName(), count);
+        }
+        return opened;
+    }
+
+    private int open(HikariDataSource pool) throws SQLException {
+        int target = properties.getConnections() > 0 ? properties.getConnections() : pool.getMinimumIdle();
+        target = Math.max(1, Math.min(target, pool.getMaximumPoolSize()));
+        List<Connection> held = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                Connection connection = pool.getConnection();
+                held.add(connection);
+                connection.isValid(1);
+            }
+            return held.size();
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * ウォームアップ中はサービス層の参照ごとのログを抑止する
+     *
+     * @return 元に戻すログレベル（ロガー名ごと、未設定の場合はnull）
+     */
+    private Map<String, LogLevel> quietServiceLogs() {
+        Map<String, LogLevel> previous = new LinkedHashMap<>();
+        for (Class<?> type : List.of(EmployeeService.class, DepartmentService.class)) {
+            LoggerConfiguration configuration = loggingSystem.getLoggerConfiguration(type.getName());
+            previous.put(type.getName(), configuration != null ? configuration.getConfiguredLevel() : null);
+            loggingSystem.setLogLevel(type.getName(), LogLevel.WARN);
+        }
+        return previous;
+    }
+
+    private record ListQuery(int page, EmployeeListCriteria criteria) {
+    }
+}
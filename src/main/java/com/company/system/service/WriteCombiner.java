@@ -0,0 +1,357 @@
+package com.company.system.service;
+
+import com.company.system.config.ReadYourWritesTracker;
+import com.company.system.config.RequestDeadline;
+import com.company.system.config.WriteCombiningProperties;
+import com.company.system.exception.InternalServerException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 同時に届いた書き込みを1トランザクションにまとめるコンポーネント（グループコミット）
+ * <p>
+ * キーごとの書き込み待ちキューを専用スレッドが取り出し、待ち時間内に届いた書き込みを一括処理で登録して1回でコミットする。
+ * 待ち時間は{@link AdaptiveBatchWindow}で負荷に応じて調整する。一括処理の結果は要求ごとに返し、
+ * 一括処理やコミットが失敗した場合は要求ごとに個別のトランザクションで書き込み直すため、各呼び出し元は自身の結果（または例外）を受け取る。
+ * 呼び出し元のトランザクション内の書き込みはそのトランザクションに含めるため、まとめずにそのまま実行する。
+ * 呼び出し元の処理期限を過ぎた要求は、専用スレッドが取り出す前であれば取り消して書き込まない。
+ * 取り出した後の要求はコミットされ得るため、呼び出し元は期限を過ぎても実際の結果を待つ（期限超過の応答後に登録されることはない）。
+ */
+@Slf4j
+@Component
+public class WriteCombiner implements DisposableBean {
+
+    private static final String METRIC_NAME = "app.write-combining.batch.size";
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final Map<Object, Lane<?, ?>> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger laneSequence = new AtomicInteger();
+    private final TransactionOperations transaction;
+    private final WriteCombiningProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    private volatile boolean closed;
+
+    @Autowired
+    public WriteCombiner(PlatformTransactionManager transactionManager,
+                         WriteCombiningProperties properties,
+                         MeterRegistry meterRegistry,
+                         ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        this(new TransactionTemplate(transactionManager), properties, meterRegistry,
+                readYourWritesTracker.getIfAvailable());
+    }
+
+    public WriteCombiner(TransactionOperations transaction,
+                         WriteCombiningProperties properties,
+                         MeterRegistry meterRegistry,
+                         ReadYourWritesTracker readYourWritesTracker) {
+        this.transaction = transaction;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    /**
+     * 同じキーの書き込みとまとめて実行
+     *
+     * @param operation 操作名（メトリクスのタグに使用）
+     * @param key まとめる単位を識別するキー（同じキーには同じ処理を渡すこと）
+     * @param request 書き込み要求
+     * @param single 1件の書き込み処理（まとめない場合・一括処理が失敗した場合に使用）
+     * @param batch 一括の書き込み処理
+     * @param <R> 要求の型
+     * @param <T> 結果の型
+     * @return 書き込み結果
+     */
+    @SuppressWarnings("unchecked")
+    public <R, T> T execute(String operation, Object key, R request,
+                            Function<R, T> single, BatchWriter<R, T> batch) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return single.apply(request);
+        }
+        if (!properties.isEnabled() || closed) {
+            return transaction.execute(status -> single.apply(request));
+        }
+
+        Lane<R, T> lane = (Lane<R, T>) lanes.computeIfAbsent(key, k -> new Lane<>(operation, k, single, batch));
+        Pending<R, T> pending = new Pending<>(request, RequestDeadline.current(), System.nanoTime());
+        if (!lane.offer(pending)) {
+            log.debug("書き込み待ちキューが満杯のため呼び出し元スレッドで書き込みます: key={}", key);
+            return transaction.execute(status -> single.apply(request));
+        }
+        T result = await(pending);
+        // コミットは別スレッドで行うため、書き込み直後の読み取りの固定は呼び出し元のセッションで記録する
+        if (readYourWritesTracker != null) {
+            readYourWritesTracker.recordWrite();
+        }
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        closed = true;
+        long deadline = System.nanoTime() + properties.getShutdownTimeout().toNanos();
+        for (Lane<?, ?> lane : lanes.values()) {
+            try {
+                lane.thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (lane.thread.isAlive()) {
+                log.warn("書き込み待ちキューの書き出しが時間内に完了しませんでした: key={}", lane.key);
+            }
+        }
+    }
+
+    /**
+     * 書き込みの完了を待つ
+     * <p>
+     * 呼び出し元にリクエストの処理期限がある場合は期限まで待ち、専用スレッドが取り出す前であれば要求を取り消して期限超過とする。
+     * 取り出し済みの場合は書き込みの結果が確定するまで待つ。
+     */
+    private <T> T await(Pending<?, T> pending) {
+        RequestDeadline deadline = pending.deadline();
+        try {
+            if (deadline != null) {
+                try {
+                    return pending.future().get(Math.max(0, deadline.remainingNanos()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (pending.claim()) {
+                        pending.future().cancel(false);
+                        throw deadline.exceeded(e);
+                    }
+                    log.debug("書き込み中のため処理期限を過ぎても結果を待ちます: timeout={}ms", deadline.getTimeout().toMillis());
+                }
+            }
+            return pending.future().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (pending.claim()) {
+                pending.future().cancel(false);
+            }
+            throw new InternalServerException("書き込みの完了待ちが中断されました", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new InternalServerException("書き込みに失敗しました", cause);
+        }
+    }
+
+    /**
+     * 一括の書き込み処理
+     *
+     * @param <R> 要求の型
+     * @param <T> 結果の型
+     */
+    @FunctionalInterface
+    public interface BatchWriter<R, T> {
+
+        /**
+         * 要求をまとめて書き込む（呼び出し元のトランザクション内で実行される）
+         *
+         * @param requests 書き込み要求
+         * @return 要求と同じ順の結果（要求ごとの失敗は例外を持つ結果として返す）
+         */
+        List<Result<T>> write(List<R> requests);
+    }
+
+    /**
+     * 要求ごとの書き込み結果
+     *
+     * @param value 結果（失敗した場合null）
+     * @param error 失敗した場合の例外
+     * @param <T> 結果の型
+     */
+    public record Result<T>(T value, RuntimeException error) {
+
+        public static <T> Result<T> of(T value) {
+            return new Result<>(value, null);
+        }
+
+        public static <T> Result<T> failed(RuntimeException error) {
+            return new Result<>(null, error);
+        }
+    }
+
+    private record Pending<R, T>(R request, RequestDeadline deadline, long enqueuedNanos,
+                                 CompletableFuture<T> future, AtomicBoolean claimed) {
+
+        Pending(R request, RequestDeadline deadline, long enqueuedNanos) {
+            this(request, deadline, enqueuedNanos, new CompletableFuture<>(), new AtomicBoolean());
+        }
+
+        /**
+         * 要求の扱いを確定する（書き込む専用スレッドと、取り消す呼び出し元のうち先に呼んだ側だけがtrueを得る）
+         */
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * キーごとの書き込み待ちキューと、それを取り出して書き込む専用スレッド
+     */
+    private final class Lane<R, T> {
+
+        private final String operation;
+        private final Object key;
+        private final Function<R, T> single;
+        private final BatchWriter<R, T> batch;
+        private final BlockingQueue<Pending<R, T>> queue;
+        private final AdaptiveBatchWindow window;
+        private final DistributionSummary batchSizes;
+        private final Thread thread;
+
+        private boolean stopped;
+
+        Lane(String operation, Object key, Function<R, T> single, BatchWriter<R, T> batch) {
+            this.operation = operation;
+            this.key = key;
+            this.single = single;
+            this.batch = batch;
+            this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+            this.window = new AdaptiveBatchWindow(properties.getMaxWindow().toNanos(),
+                    properties.getLatencyTarget().toNanos());
+            this.batchSizes = DistributionSummary.builder(METRIC_NAME)
+                    .description("1トランザクションにまとめた書き込みの件数")
+                    .tag("operation", operation)
+                    .register(meterRegistry);
+            this.thread = new Thread(this::run, "write-combiner-" + laneSequence.incrementAndGet());
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        synchronized boolean offer(Pending<R, T> pending) {
+            return !stopped && queue.offer(pending);
+        }
+
+        /**
+         * 停止中でキューが空であれば受け付けを終了する
+         */
+        private synchronized boolean stopIfDrained() {
+            if (closed && queue.isEmpty()) {
+                stopped = true;
+                lanes.remove(key, this);
+            }
+            return stopped;
+        }
+
+        private void run() {
+            int maxBatchSize = Math.max(1, properties.getMaxBatchSize());
+            try {
+                while (true) {
+                    Pending<R, T> first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        if (stopIfDrained()) {
+                            return;
+                        }
+                        continue;
+                    }
+                    List<Pending<R, T>> pendings = new ArrayList<>(maxBatchSize);
+                    pendings.add(first);
+                    // 最初の書き込みの受け付けから待ち時間が経過するまで後続の書き込みを集める
+                    long gatherUntil = first.enqueuedNanos() + window.getWindowNanos();
+                    while (pendings.size() < maxBatchSize) {
+                        queue.drainTo(pendings, maxBatchSize - pendings.size());
+                        long remaining = gatherUntil - System.nanoTime();
+                        if (pendings.size() >= maxBatchSize || remaining <= 0) {
+                            break;
+                        }
+                        Pending<R, T> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        pendings.add(next);
+                    }
+                    write(pendings);
+                    window.update(pendings.size(), System.nanoTime() - first.enqueuedNanos());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                List<Pending<R, T>> remaining = new ArrayList<>();
+                queue.drainTo(remaining);
+                remaining.stream().filter(Pending::claim).forEach(this::writeIndividually);
+            }
+        }
+
+        private void write(List<Pending<R, T>> pendings) {
+            // 呼び出し元が取り消した要求・処理期限を過ぎた要求は書き込まない
+            List<Pending<R, T>> live = new ArrayList<>(pendings.size());
+            for (Pending<R, T> pending : pendings) {
+                if (!pending.claim()) {
+                    continue;
+                }
+                if (pending.deadline() != null && pending.deadline().isExpired()) {
+                    pending.future().completeExceptionally(pending.deadline().exceeded(null));
+                } else {
+                    live.add(pending);
+                }
+            }
+            if (live.isEmpty()) {
+                return;
+            }
+            batchSizes.record(live.size());
+            if (live.size() == 1) {
+                writeIndividually(live.get(0));
+                return;
+            }
+
+            List<R> requests = live.stream().map(Pending::request).toList();
+            List<Result<T>> results;
+            try {
+                results = transaction.execute(status -> batch.write(requests));
+            } catch (RuntimeException e) {
+                log.warn("まとめた書き込みに失敗したため個別に書き込みます: operation={}, 件数={}", operation, live.size(), e);
+                live.forEach(this::writeIndividually);
+                return;
+            }
+            for (int i = 0; i < live.size(); i++) {
+                Result<T> result = results.get(i);
+                if (result.error() != null) {
+                    live.get(i).future().completeExceptionally(result.error());
+                } else {
+                    live.get(i).future().complete(result.value());
+                }
+            }
+            log.debug("書き込みをまとめてコミット: operation={}, 件数={}", operation, live.size());
+        }
+
+        private void writeIndividually(Pending<R, T> pending) {
+            try {
+                pending.future().complete(transaction.execute(status -> single.apply(pending.request())));
+            } catch (RuntimeException | Error e) {
+                pending.future().completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.company.system.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 観測したレイテンシに基づいて同時実行数の上限を調整する制限
+ * <p>
+ * 長期平均レイテンシと直近のレイテンシの比（勾配）で上限を増減する。
+ * レイテンシが悪化すると上限を縮め、待ち行列ができる前にリクエストを拒否する。
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * 長期平均レイテンシの平滑化係数
+     */
+    private static final double LONG_RTT_ALPHA = 0.01;
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double tolerance, double smoothing) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("minLimitとmaxLimitの指定が不正です");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * 実行枠を1つ取得
+     *
+     * @return 取得できた場合true
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 実行枠を返却し、レイテンシを上限の計算に反映
+     *
+     * @param latencyNanos 処理にかかった時間（ナノ秒）
+     */
+    public void release(long latencyNanos) {
+        int inFlightAtStart = inFlight.getAndDecrement();
+        if (latencyNanos > 0) {
+            update(latencyNanos, inFlightAtStart);
+        }
+    }
+
+    /**
+     * 現在の同時実行数上限を取得
+     *
+     * @return 同時実行数上限
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * 現在の実行中リクエスト数を取得
+     *
+     * @return 実行中リクエスト数
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long sampleRttNanos, int inFlightAtStart) {
+        if (longRttNanos == 0) {
+            longRttNanos = sampleRttNanos;
+        } else {
+            longRttNanos += (sampleRttNanos - longRttNanos) * LONG_RTT_ALPHA;
+        }
+
+        // 上限の半分も使っていない場合、レイテンシは上限の妥当性を示さないため更新しない
+        if (inFlightAtStart < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / sampleRttNanos));
+        double queueAllowance = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueAllowance;
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,97 @@
+package com.company.system.web;
+
+import com.company.system.config.AdmissionControlProperties;
+import com.company.system.exception.ServiceUnavailableException;
+import com.company.system.exception.TooManyRequestsException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.security.Principal;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 流量制御インターセプター
+ * <p>
+ * クライアントごとのレート制限と適応型の同時実行数制限を行い、処理できないリクエストは
+ * 待たせずに即座に429/503として拒否する（レスポンスはGlobalExceptionHandlerで生成）。
+ * <p>
+ * クライアントは認証済みの利用者、認証されていない場合は接続元アドレスで識別し、クライアントが自由に設定できるヘッダーは使用しない。
+ * プロキシ配下では{@code server.forward-headers-strategy=native}により、信頼するプロキシ
+ * （{@code server.tomcat.remoteip.internal-proxies}）が付与した X-Forwarded-For から接続元アドレスを解決する。
+ */
+@Slf4j
+public class AdmissionControlInterceptor implements HandlerInterceptor, AutoCloseable {
+
+    private static final String START_NANOS_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".START";
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final long concurrencyRetryAfterSeconds;
+    private final ScheduledExecutorService purger;
+
+    public AdmissionControlInterceptor(AdmissionControlProperties properties) {
+        AdmissionControlProperties.RateLimit rateLimit = properties.getRateLimit();
+        AdmissionControlProperties.Concurrency concurrency = properties.getConcurrency();
+        this.rateLimiter = new TokenBucketRateLimiter(rateLimit.getPermitsPerSecond(), rateLimit.getBurst(),
+                rateLimit.getMaxClients());
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(
+                concurrency.getInitialLimit(),
+                concurrency.getMinLimit(),
+                concurrency.getMaxLimit(),
+                concurrency.getTolerance(),
+                concurrency.getSmoothing());
+        this.concurrencyRetryAfterSeconds = Math.max(1, concurrency.getRetryAfter().toSeconds());
+        this.purger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-purger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long purgeMillis = Math.max(1, rateLimit.getPurgeInterval().toMillis());
+        purger.scheduleWithFixedDelay(rateLimiter::purgeIdleBuckets, purgeMillis, purgeMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String clientKey = resolveClientKey(request);
+        long waitNanos = rateLimiter.tryAcquire(clientKey);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            log.debug("レート制限超過: clientKey={}, retryAfter={}s", clientKey, retryAfterSeconds);
+            throw new TooManyRequestsException("リクエスト数が上限を超えました", retryAfterSeconds);
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            log.warn("同時実行数の上限により拒否: limit={}, inFlight={}",
+                    concurrencyLimiter.getLimit(), concurrencyLimiter.getInFlight());
+            throw new ServiceUnavailableException("サーバーが混雑しています", concurrencyRetryAfterSeconds);
+        }
+        request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object startNanos = request.getAttribute(START_NANOS_ATTRIBUTE);
+        if (startNanos instanceof Long start) {
+            request.removeAttribute(START_NANOS_ATTRIBUTE);
+            concurrencyLimiter.release(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void close() {
+        purger.shutdownNow();
+    }
+
+    private static String resolveClientKey(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "principal:" + principal.getName();
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,67 @@
+package com.company.system.web;
+
+import com.company.system.config.DeadlineProperties;
+import com.company.system.config.RequestDeadline;
+import com.company.system.exception.ValidationException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * リクエストの処理期限を設定するインターセプター
+ * <p>
+ * 処理時間の上限はリクエストヘッダー（ミリ秒）、APIごとの既定値、全体の既定値の順に決定し、
+ * リクエストを処理するスレッドに期限として設定する。期限を過ぎたSQLは取り消され、504として応答する。
+ */
+@Slf4j
+public class DeadlineInterceptor implements HandlerInterceptor {
+
+    private final DeadlineProperties properties;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public DeadlineInterceptor(DeadlineProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestDeadline.set(RequestDeadline.after(resolveTimeout(request)));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestDeadline.set(null);
+    }
+
+    private Duration resolveTimeout(HttpServletRequest request) {
+        String header = request.getHeader(properties.getHeader());
+        if (header != null && !header.isBlank()) {
+            long millis;
+            try {
+                millis = Long.parseLong(header.trim());
+            } catch (NumberFormatException e) {
+                throw new ValidationException(properties.getHeader() + "ヘッダーはミリ秒の整数で指定してください");
+            }
+            if (millis < 1) {
+                throw new ValidationException(properties.getHeader() + "ヘッダーは1以上で指定してください");
+            }
+            Duration requested = Duration.ofMillis(millis);
+            return requested.compareTo(properties.getMaxTimeout()) > 0 ? properties.getMaxTimeout() : requested;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, Duration> endpoint : properties.getEndpoints().entrySet()) {
+            if (pathMatcher.match(endpoint.getKey(), path)) {
+                return endpoint.getValue();
+            }
+        }
+        return properties.getDefaultTimeout();
+    }
+}
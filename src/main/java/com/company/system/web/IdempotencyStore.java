@@ -0,0 +1,245 @@
+package com.company.system.web;
+
+import com.company.system.config.IdempotencyProperties;
+import com.company.system.exception.DuplicateResourceException;
+import com.company.system.exception.InternalServerException;
+import com.company.system.exception.ValidationException;
+import com.company.system.model.IdempotencyRecord;
+import com.company.system.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Keyごとの処理結果ストア
+ * <p>
+ * キーのハッシュで分割したセグメントごとにロックを持ち、処理中のキーと処理済みの結果を保持する。
+ * 処理済みの結果はテーブルにも登録し、再起動後やメモリから追い出された後の再送にも同じ結果を返す。
+ * ロックは状態の確認と更新の間だけ保持し、処理そのものはロックの外で実行する。
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final int KEY_MAX_LENGTH = 255;
+
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final Segment[] segments;
+    private final AtomicReference<LocalDateTime> nextPurgeAt = new AtomicReference<>(LocalDateTime.MIN);
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            ObjectMapper objectMapper,
+                            IdempotencyProperties properties) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        int stripes = Math.max(1, properties.getStripes());
+        int maxEntriesPerSegment = Math.max(1, properties.getMaxEntries() / stripes);
+        this.segments = new Segment[stripes];
+        for (int i = 0; i < stripes; i++) {
+            segments[i] = new Segment(maxEntriesPerSegment);
+        }
+    }
+
+    /**
+     * キーに対する処理を1回だけ実行
+     * <p>
+     * 処理済みのキーは保存済みの結果を返し、処理を実行しない。処理が例外で終了した場合は結果を保存せず、再送で再実行する。
+     *
+     * @param key Idempotency-Key（nullの場合はそのまま実行）
+     * @param request リクエスト内容（同じキーで異なる内容が送られていないかの確認に使用）
+     * @param action 処理
+     * @return 処理結果
+     * @throws ValidationException 同じキーが異なるリクエスト内容で使用された場合
+     * @throws DuplicateResourceException 同じキーのリクエストを処理中の場合
+     */
+    public IdempotentResponse execute(String key, Object request, Supplier<IdempotentResponse> action) {
+        if (key == null || !properties.isEnabled()) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > KEY_MAX_LENGTH) {
+            throw new ValidationException("Idempotency-Keyは1〜" + KEY_MAX_LENGTH + "文字で指定してください");
+        }
+
+        String requestHash = hash(request);
+        LocalDateTime now = LocalDateTime.now();
+        Segment segment = segmentFor(key);
+        Completed completed = segment.begin(key, requestHash, now);
+        if (completed != null) {
+            return replay(key, completed, requestHash);
+        }
+
+        // このスレッドがキーを処理中として確保した
+        try {
+            completed = load(key, now);
+            if (completed != null) {
+                segment.complete(key, completed, now);
+                return replay(key, completed, requestHash);
+            }
+            IdempotentResponse response = action.get();
+            completed = new Completed(requestHash, response.status(), response.body(), now.plus(properties.getTtl()));
+            persist(key, completed, now);
+            segment.complete(key, completed, now);
+            return response;
+        } catch (RuntimeException e) {
+            segment.abort(key);
+            throw e;
+        }
+    }
+
+    private IdempotentResponse replay(String key, Completed completed, String requestHash) {
+        if (!completed.requestHash().equals(requestHash)) {
+            throw new ValidationException("Idempotency-Keyが異なるリクエスト内容で使用されています");
+        }
+        log.debug("処理済みのリクエストの結果を返却: key={}", key);
+        return new IdempotentResponse(completed.status(), completed.body(), true);
+    }
+
+    private Completed load(String key, LocalDateTime now) {
+        Optional<IdempotencyRecord> record = repository.findById(key);
+        if (record.isEmpty() || record.get().getExpiresAt().isBefore(now)) {
+            return null;
+        }
+        IdempotencyRecord found = record.get();
+        byte[] body = found.getResponseBody() != null ? found.getResponseBody().getBytes(StandardCharsets.UTF_8) : null;
+        return new Completed(found.getRequestHash(), found.getStatusCode(), body, found.getExpiresAt());
+    }
+
+    private void persist(String key, Completed completed, LocalDateTime now) {
+        try {
+            String body = completed.body() != null ? new String(completed.body(), StandardCharsets.UTF_8) : null;
+            repository.upsert(new IdempotencyRecord(key, completed.requestHash(), completed.status(), body, now,
+                    completed.expiresAt()));
+            purgeIfDue(now);
+        } catch (RuntimeException e) {
+            // 処理自体は完了しているため、メモリ上の結果のみで再送に応答する
+            log.warn("冪等キーの処理結果を登録できませんでした: key={}", key, e);
+        }
+    }
+
+    private void purgeIfDue(LocalDateTime now) {
+        LocalDateTime due = nextPurgeAt.get();
+        if (now.isBefore(due) || !nextPurgeAt.compareAndSet(due, now.plus(properties.getPurgeInterval()))) {
+            return;
+        }
+        int deleted = repository.deleteExpired(now);
+        if (deleted > 0) {
+            log.info("期限切れの冪等キーを削除: 件数={}", deleted);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new InternalServerException("リクエスト内容のハッシュ計算に失敗しました", e);
+        }
+    }
+
+    private Segment segmentFor(String key) {
+        int h = key.hashCode();
+        return segments[Math.floorMod(h ^ (h >>> 16), segments.length)];
+    }
+
+    /**
+     * 処理結果
+     *
+     * @param status HTTPステータスコード
+     * @param body レスポンスボディ（JSON）
+     * @param replayed 保存済みの結果を返した場合true
+     */
+    public record IdempotentResponse(int status, byte[] body, boolean replayed) {
+    }
+
+    private record Completed(String requestHash, int status, byte[] body, LocalDateTime expiresAt) {
+    }
+
+    /**
+     * ロックを共有するキーの集合
+     * <p>
+     * 有効期限は登録順に並ぶため、処理済みの結果は登録順に保持し、期限切れと件数超過を先頭から追い出す。
+     */
+    private static final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, String> inFlight = new HashMap<>();
+        private final LinkedHashMap<String, Completed> completed = new LinkedHashMap<>();
+        private final int maxEntries;
+
+        Segment(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        /**
+         * 処理済みの結果を取得し、未処理の場合はキーを処理中として確保
+         *
+         * @return 処理済みの結果（確保した場合null）
+         */
+        Completed begin(String key, String requestHash, LocalDateTime now) {
+            lock.lock();
+            try {
+                Completed result = completed.get(key);
+                if (result != null && !result.expiresAt().isBefore(now)) {
+                    return result;
+                }
+                if (inFlight.containsKey(key)) {
+                    throw new DuplicateResourceException("同じIdempotency-Keyのリクエストを処理中です");
+                }
+                inFlight.put(key, requestHash);
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void complete(String key, Completed result, LocalDateTime now) {
+            lock.lock();
+            try {
+                inFlight.remove(key);
+                completed.remove(key);
+                completed.put(key, result);
+                evict(now);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void abort(String key) {
+            lock.lock();
+            try {
+                inFlight.remove(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void evict(LocalDateTime now) {
+            Iterator<Completed> iterator = completed.values().iterator();
+            while (iterator.hasNext()) {
+                Completed eldest = iterator.next();
+                if (completed.size() <= maxEntries && !eldest.expiresAt().isBefore(now)) {
+                    return;
+                }
+                iterator.remove();
+            }
+        }
+    }
+}
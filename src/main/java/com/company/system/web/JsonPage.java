@@ -0,0 +1,100 @@
+package com.company.system.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * ページ形式のレスポンス
+ * <p>
+ * API仕様書のページ形式（content / totalElements / totalPages / currentPage）をJsonGeneratorで直接書き出す。
+ * 要素はレスポンス出力時に1件ずつJSONへ変換するため、変換後の一覧やPageImplのBeanシリアライズを経由しない。
+ *
+ * @param <T> 要素の型
+ */
+@JsonSerialize(using = JsonPage.Serializer.class)
+public final class JsonPage<T> {
+
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializableString CURRENT_PAGE = new SerializedString("currentPage");
+
+    private final Page<T> page;
+    private final ItemWriter<T> itemWriter;
+
+    private JsonPage(Page<T> page, ItemWriter<T> itemWriter) {
+        this.page = page;
+        this.itemWriter = itemWriter;
+    }
+
+    /**
+     * シリアライズ済みのJSONを要素として埋め込むページ
+     *
+     * @param page ページ
+     * @param json 要素からシリアライズ済みJSONを取得する関数
+     * @param <T> 要素の型
+     * @return ページ形式のレスポンス
+     */
+    public static <T> JsonPage<T> ofRaw(Page<T> page, Function<T, SerializableString> json) {
+        return new JsonPage<>(page, (generator, item) -> generator.writeRawValue(json.apply(item)));
+    }
+
+    /**
+     * 要素を通常のJSONシリアライズで書き出すページ
+     *
+     * @param page ページ
+     * @param <T> 要素の型
+     * @return ページ形式のレスポンス
+     */
+    public static <T> JsonPage<T> of(Page<T> page) {
+        return new JsonPage<>(page, JsonGenerator::writeObject);
+    }
+
+    /**
+     * 要素の書き出し
+     */
+    @FunctionalInterface
+    private interface ItemWriter<T> {
+
+        void write(JsonGenerator generator, T item) throws IOException;
+    }
+
+    static final class Serializer extends StdSerializer<JsonPage<?>> {
+
+        Serializer() {
+            super(JsonPage.class, false);
+        }
+
+        @Override
+        public void serialize(JsonPage<?> value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            write(value, generator);
+        }
+
+        private static <T> void write(JsonPage<T> value, JsonGenerator generator) throws IOException {
+            Page<T> page = value.page;
+            generator.writeStartObject();
+            generator.writeFieldName(CONTENT);
+            generator.writeStartArray();
+            for (T item : page.getContent()) {
+                value.itemWriter.write(generator, item);
+            }
+            generator.writeEndArray();
+            generator.writeFieldName(TOTAL_ELEMENTS);
+            generator.writeNumber(page.getTotalElements());
+            generator.writeFieldName(TOTAL_PAGES);
+            generator.writeNumber(page.getTotalPages());
+            generator.writeFieldName(CURRENT_PAGE);
+            generator.writeNumber(page.getNumber());
+            generator.writeEndObject();
+        }
+    }
+}
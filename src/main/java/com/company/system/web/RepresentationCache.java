@@ -0,0 +1,294 @@
+package com.company.system.web;
+
+import com.company.system.config.RepresentationCacheProperties;
+import com.company.system.dto.DepartmentDto;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.event.EmployeeCacheRefreshEvent;
+import com.company.system.event.EmployeeChangedEvent;
+import com.company.system.exception.InternalServerException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 社員・部署のレスポンスJSONキャッシュ
+ * <p>
+ * 社員・部署ごとにシリアライズ済みのUTF-8 JSONを保持し、レスポンスへそのまま書き出す。
+ * 社員は変更イベントの変更日時をバージョンとして新しい内容に置き換え（削除時は無効化）、
+ * 古い読み取り結果で上書きされないようにする。
+ * 保持件数は種別ごとに最大保持件数までとし、読み取り・変更のどちらで登録する場合も超えた分を古いものから削除する。
+ */
+@Slf4j
+@Component
+public class RepresentationCache {
+
+    private final ObjectWriter employeeWriter;
+    private final ObjectWriter departmentWriter;
+    private final RepresentationCacheProperties properties;
+    private final Region employees = new Region();
+    private final Region departments = new Region();
+
+    public RepresentationCache(ObjectMapper objectMapper, RepresentationCacheProperties properties) {
+        this.employeeWriter = objectMapper.writerFor(EmployeeDto.class);
+        this.departmentWriter = objectMapper.writerFor(DepartmentDto.class);
+        this.properties = properties;
+    }
+
+    /**
+     * キャッシュ済みの社員JSONを取得
+     *
+     * @param id 社員ID
+     * @return UTF-8 JSON（未キャッシュまたは削除済みの場合null）
+     */
+    public byte[] findEmployee(Long id) {
+        SerializedString json = employees.get(id);
+        return json != null ? json.asUnquotedUTF8() : null;
+    }
+
+    /**
+     * 社員JSONを取得（未キャッシュの場合はシリアライズして保持）
+     *
+     * @param employee 社員DTO
+     * @return シリアライズ済みJSON
+     */
+    public SerializedString employeeJson(EmployeeDto employee) {
+        SerializedString json = employees.get(employee.getId());
+        if (json == null) {
+            json = serialize(employeeWriter, employee);
+            employees.putIfAbsent(employee.getId(), json);
+        }
+        return json;
+    }
+
+    /**
+     * キャッシュ済みの部署JSONを取得
+     *
+     * @param id 部署ID
+     * @return UTF-8 JSON（未キャッシュの場合null）
+     */
+    public byte[] findDepartment(Long id) {
+        SerializedString json = departments.get(id);
+        return json != null ? json.asUnquotedUTF8() : null;
+    }
+
+    /**
+     * 部署JSONを取得（未キャッシュの場合はシリアライズして保持）
+     *
+     * @param department 部署DTO
+     * @return シリアライズ済みJSON
+     */
+    public SerializedString departmentJson(DepartmentDto department) {
+        SerializedString json = departments.get(department.getId());
+        if (json == null) {
+            json = serialize(departmentWriter, department);
+            departments.putIfAbsent(department.getId(), json);
+        }
+        return json;
+    }
+
+    /**
+     * 保持している社員のエントリ数（削除の記録を含む）
+     *
+     * @return エントリ数
+     */
+    public int getEmployeeEntryCount() {
+        return employees.size();
+    }
+
+    /**
+     * コミット済みの社員変更をキャッシュへ反映
+     *
+     * @param event 社員変更イベント
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        SerializedString json = event.getAfter() != null ? serialize(employeeWriter, event.getAfter()) : null;
+        employees.putIfNewer(event.getEmployeeId(), event.getChangedAt(), json);
+        log.debug("社員JSONキャッシュを更新: id={}, changeType={}", event.getEmployeeId(), event.getChangeType());
+    }
+
+    /**
+     * 無効化ログから読み取った社員の現在の内容をキャッシュへ反映（他ノードでの変更の反映）
+     * <p>
+     * 内容は無効化ログの読み取り後にデータベースから取得したものであるため、バージョンに関わらず置き換える。
+     *
+     * @param event 社員キャッシュの再読み込みイベント
+     */
+    @EventListener
+    public void onEmployeeCacheRefresh(EmployeeCacheRefreshEvent event) {
+        if (event.isAll()) {
+            employees.clear();
+            log.debug("社員JSONキャッシュをすべて破棄");
+            return;
+        }
+        for (EmployeeCacheRefreshEvent.Refresh refresh : event.getRefreshes()) {
+            SerializedString json = refresh.isDeleted() ? null : serialize(employeeWriter, refresh.getCurrent());
+            employees.replace(refresh.getEmployeeId(), refresh.getChangedAt(), json);
+        }
+        log.debug("社員JSONキャッシュを再読み込み: 件数={}", event.getRefreshes().size());
+    }
+
+    private SerializedString serialize(ObjectWriter writer, Object value) {
+        try {
+            SerializedString json = new SerializedString(writer.writeValueAsString(value));
+            // UTF-8のバイト列を先に生成しておき、以降のレスポンスでは再エンコードしない
+            json.asUnquotedUTF8();
+            return json;
+        } catch (JsonProcessingException e) {
+            throw new InternalServerException("JSONの生成に失敗しました", e);
+        }
+    }
+
+    /**
+     * 種別ごとのキャッシュ領域
+     * <p>
+     * 登録順に保持し、最大保持件数を超えた場合は古いものから削除する。削除の記録（jsonがnullのエントリ）は
+     * 削除前に読み取った内容での復活を防ぐためのもので、保持期間を過ぎたら削除する。
+     * 読み取りは登録順を変えないため、共有ロックで並行に行う。
+     */
+    private final class Region {
+
+        private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>();
+        private final ArrayDeque<Tombstone> tombstones = new ArrayDeque<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        SerializedString get(Long id) {
+            if (!properties.isEnabled()) {
+                return null;
+            }
+            lock.readLock().lock();
+            try {
+                Entry entry = entries.get(id);
+                return entry != null ? entry.json() : null;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * 読み取り結果を保持（変更イベントで登録済みの内容は上書きしない）
+         */
+        void putIfAbsent(Long id, SerializedString json) {
+            if (!properties.isEnabled()) {
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                expireTombstones();
+                if (!entries.containsKey(id)) {
+                    store(id, new Entry(null, json));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * 変更内容を保持（より新しいバージョンが登録済みの場合は何もしない、jsonがnullの場合は無効化）
+         */
+        void putIfNewer(Long id, LocalDateTime version, SerializedString json) {
+            if (!properties.isEnabled()) {
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                expireTombstones();
+                Entry current = entries.get(id);
+                if (current == null || current.version() == null || !version.isBefore(current.version())) {
+                    store(id, new Entry(version, json));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * 内容を置き換え（バージョンは新しい方を残す、jsonがnullの場合は無効化）
+         */
+        void replace(Long id, LocalDateTime version, SerializedString json) {
+            if (!properties.isEnabled()) {
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                expireTombstones();
+                Entry current = entries.get(id);
+                store(id, new Entry(current == null || current.version() == null || version.isAfter(current.version())
+                        ? version : current.version(), json));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void clear() {
+            lock.writeLock().lock();
+            try {
+                entries.clear();
+                tombstones.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * エントリを登録順の末尾へ保持し、最大保持件数を超えた分を古いものから削除（書き込みロック内で呼び出す）
+         */
+        private void store(Long id, Entry entry) {
+            entries.remove(id);
+            entries.put(id, entry);
+            if (entry.json() == null) {
+                tombstones.addLast(new Tombstone(id, entry, System.nanoTime() + properties.getTombstoneTtl().toNanos()));
+            }
+            int maxEntries = Math.max(1, properties.getMaxEntries());
+            Iterator<Long> oldest = entries.keySet().iterator();
+            while (entries.size() > maxEntries && oldest.hasNext()) {
+                oldest.next();
+                oldest.remove();
+            }
+        }
+
+        /**
+         * 保持期間を過ぎた削除の記録を削除（書き込みロック内で呼び出す）
+         */
+        private void expireTombstones() {
+            long now = System.nanoTime();
+            while (!tombstones.isEmpty() && tombstones.peekFirst().expiresAtNanos() - now <= 0) {
+                Tombstone tombstone = tombstones.pollFirst();
+                // 後から登録し直された内容は残す
+                entries.remove(tombstone.id(), tombstone.entry());
+            }
+        }
+    }
+
+    /**
+     * 削除の記録と保持期限
+     */
+    private record Tombstone(Long id, Entry entry, long expiresAtNanos) {
+    }
+
+    /**
+     * キャッシュエントリ（versionは変更日時、読み取り時に登録したものはnull）
+     */
+    private record Entry(LocalDateTime version, SerializedString json) {
+    }
+}
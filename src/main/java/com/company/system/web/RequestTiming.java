@@ -0,0 +1,246 @@
+package com.company.system.web;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * リクエスト処理の区間ごとの所要時間
+ * <p>
+ * リクエストを処理するスレッドに紐づけて区間ごとの合計時間と回数を記録し、Server-Timingヘッダーの形式で出力する。
+ * 同じ区間の呼び出しが入れ子になった場合は最も外側の呼び出しだけを計上する。
+ * 計測中でないスレッド（バックグラウンド処理や、パーティションごとに並列実行する問い合わせ）の処理は記録しない。
+ */
+public final class RequestTiming {
+
+    /**
+     * 計測対象外を示す開始時刻
+     */
+    public static final long NOT_MEASURED = Long.MIN_VALUE;
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] nanos = new long[Phase.values().length];
+    private final int[] counts = new int[Phase.values().length];
+    private final int[] depths = new int[Phase.values().length];
+    private final int maxStatements;
+    private final List<Statement> statements;
+    private String pendingSql;
+    private long statementStartNanos = NOT_MEASURED;
+
+    private RequestTiming(int maxStatements) {
+        this.maxStatements = maxStatements;
+        this.statements = maxStatements > 0 ? new ArrayList<>() : null;
+    }
+
+    /**
+     * 現在のスレッドで計測を開始
+     *
+     * @param maxStatements 記録するSQL文の最大数（0の場合はSQL文を記録しない）
+     * @return 計測
+     */
+    public static RequestTiming start(int maxStatements) {
+        RequestTiming timing = new RequestTiming(maxStatements);
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * 現在のスレッドの計測を終了
+     */
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 区間の開始
+     *
+     * @param phase 区間
+     * @return 開始時刻（計測中でない場合や入れ子の呼び出しの場合は{@link #NOT_MEASURED}）
+     */
+    public static long begin(Phase phase) {
+        RequestTiming timing = CURRENT.get();
+        if (timing == null || timing.depths[phase.ordinal()]++ > 0) {
+            return NOT_MEASURED;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * 区間の終了
+     *
+     * @param phase 区間
+     * @param startNanos {@link #begin(Phase)}の戻り値
+     */
+    public static void end(Phase phase, long startNanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing == null) {
+            return;
+        }
+        timing.depths[phase.ordinal()]--;
+        if (startNanos != NOT_MEASURED) {
+            timing.add(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * 実行するSQL文を記録（Hibernateの StatementInspector から呼び出す）
+     *
+     * @param sql SQL文
+     * @return 変更しないSQL文
+     */
+    public static String onStatementPrepared(String sql) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.pendingSql = sql;
+        }
+        return sql;
+    }
+
+    /**
+     * SQL文の実行開始
+     */
+    public static void onStatementStart() {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.statementStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * SQL文の実行終了
+     * <p>
+     * リポジトリの呼び出しとフラッシュの外で実行されたSQL（エンティティの遅延読み込み）は別区間としても計上する。
+     */
+    public static void onStatementEnd() {
+        RequestTiming timing = CURRENT.get();
+        if (timing == null || timing.statementStartNanos == NOT_MEASURED) {
+            return;
+        }
+        long elapsed = System.nanoTime() - timing.statementStartNanos;
+        timing.statementStartNanos = NOT_MEASURED;
+        timing.add(Phase.SQL, elapsed);
+        if (timing.depths[Phase.REPOSITORY.ordinal()] == 0 && timing.depths[Phase.FLUSH.ordinal()] == 0) {
+            timing.add(Phase.LAZY_LOAD, elapsed);
+        }
+        if (timing.statements != null && timing.statements.size() < timing.maxStatements) {
+            timing.statements.add(new Statement(timing.pendingSql, elapsed));
+        }
+        timing.pendingSql = null;
+    }
+
+    /**
+     * 計測開始からの経過時間
+     *
+     * @return 経過時間（ナノ秒）
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Server-Timingヘッダーの値を生成
+     *
+     * @return Server-Timingヘッダーの値（例: {@code ctrl;dur=1.20, db;dur=0.35;desc="2 statements", total;dur=1.52}）
+     */
+    public String toServerTiming() {
+        StringBuilder builder = new StringBuilder(160);
+        for (Phase phase : Phase.values()) {
+            int count = counts[phase.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            appendMetric(builder, phase.getMetricName(), nanos[phase.ordinal()]);
+            if (phase.isCounted()) {
+                builder.append(";desc=\"").append(count).append(count == 1 ? " statement\"" : " statements\"");
+            }
+        }
+        appendMetric(builder, "total", elapsedNanos());
+        return builder.toString();
+    }
+
+    /**
+     * 記録したSQL文（実行順）
+     *
+     * @return SQL文と所要時間（SQL文を記録しない設定の場合は空）
+     */
+    public List<Statement> getStatements() {
+        return statements != null ? statements : List.of();
+    }
+
+    private void add(Phase phase, long elapsedNanos) {
+        nanos[phase.ordinal()] += elapsedNanos;
+        counts[phase.ordinal()]++;
+    }
+
+    private static void appendMetric(StringBuilder builder, String name, long elapsedNanos) {
+        if (!builder.isEmpty()) {
+            builder.append(", ");
+        }
+        builder.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.2f", elapsedNanos / 1_000_000.0));
+    }
+
+    /**
+     * 計測する区間
+     */
+    public enum Phase {
+        /**
+         * コントローラーの処理（サービスの処理を含む）
+         */
+        CONTROLLER("ctrl", false),
+        /**
+         * サービスの処理（リポジトリの処理を含む）
+         */
+        SERVICE("svc", false),
+        /**
+         * リポジトリの処理（SQLの実行を含む）
+         */
+        REPOSITORY("repo", false),
+        /**
+         * データベース接続の取得
+         */
+        CONNECTION("conn", false),
+        /**
+         * 永続化コンテキストのフラッシュ（更新系SQLの実行を含む）
+         */
+        FLUSH("flush", false),
+        /**
+         * SQLの実行
+         */
+        SQL("db", true),
+        /**
+         * リポジトリとフラッシュの外で実行されたSQL（エンティティの遅延読み込み）
+         */
+        LAZY_LOAD("lazy", true),
+        /**
+         * レスポンスのJSONシリアライズ
+         */
+        SERIALIZATION("ser", false);
+
+        private final String metricName;
+        private final boolean counted;
+
+        Phase(String metricName, boolean counted) {
+            this.metricName = metricName;
+            this.counted = counted;
+        }
+
+        public String getMetricName() {
+            return metricName;
+        }
+
+        public boolean isCounted() {
+            return counted;
+        }
+    }
+
+    /**
+     * 実行したSQL文
+     *
+     * @param sql SQL文
+     * @param elapsedNanos 所要時間（ナノ秒）
+     */
+    public record Statement(String sql, long elapsedNanos) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.company.system.web;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * コントローラー・サービス・リポジトリのメソッド呼び出しの所要時間を記録するインターセプター
+ */
+public class RequestTimingMethodInterceptor implements MethodInterceptor {
+
+    private final RequestTiming.Phase phase;
+
+    public RequestTimingMethodInterceptor(RequestTiming.Phase phase) {
+        this.phase = phase;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long start = RequestTiming.begin(phase);
+        try {
+            return invocation.proceed();
+        } finally {
+            RequestTiming.end(phase, start);
+        }
+    }
+}
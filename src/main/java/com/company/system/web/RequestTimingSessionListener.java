@@ -0,0 +1,66 @@
+package com.company.system.web;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernateのセッションイベントからデータベース接続の取得・フラッシュ・SQLの実行時間を記録するリスナー
+ * <p>
+ * セッションごとにHibernateが生成する（hibernate.session.events.autoで登録）。
+ */
+public class RequestTimingSessionListener implements SessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient long connectionStartNanos = RequestTiming.NOT_MEASURED;
+    private transient long flushStartNanos = RequestTiming.NOT_MEASURED;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionStartNanos = RequestTiming.begin(RequestTiming.Phase.CONNECTION);
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestTiming.end(RequestTiming.Phase.CONNECTION, connectionStartNanos);
+    }
+
+    @Override
+    public void flushStart() {
+        flushStartNanos = RequestTiming.begin(RequestTiming.Phase.FLUSH);
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        RequestTiming.end(RequestTiming.Phase.FLUSH, flushStartNanos);
+    }
+
+    @Override
+    public void partialFlushStart() {
+        flushStartNanos = RequestTiming.begin(RequestTiming.Phase.FLUSH);
+    }
+
+    @Override
+    public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+        RequestTiming.end(RequestTiming.Phase.FLUSH, flushStartNanos);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        RequestTiming.onStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTiming.onStatementEnd();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        RequestTiming.onStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTiming.onStatementEnd();
+    }
+}
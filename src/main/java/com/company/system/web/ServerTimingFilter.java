@@ -0,0 +1,134 @@
+package com.company.system.web;
+
+import com.company.system.config.ServerTimingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 処理区間ごとの所要時間を集計するフィルター
+ * <p>
+ * 閾値を超えたリクエストは、区間ごとの所要時間（JSONシリアライズを含む）と実行したSQL文をログに出力する。
+ * ヘッダーの返却を有効にした場合のみ、レスポンスの書き出し開始時（ヘッダー送信前）にその時点までの計測結果を
+ * Server-Timingヘッダーに設定する。
+ */
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    /**
+     * 処理区間ごとの所要時間を返すレスポンスヘッダー
+     */
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final long slowRequestThresholdNanos;
+    private final int maxLoggedStatements;
+    private final boolean exposeHeader;
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        this.slowRequestThresholdNanos = properties.getSlowRequestThreshold().toNanos();
+        this.maxLoggedStatements = slowRequestThresholdNanos > 0 ? properties.getMaxLoggedStatements() : 0;
+        this.exposeHeader = properties.isExposeHeader();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.start(maxLoggedStatements);
+        try {
+            if (exposeHeader) {
+                TimingResponse timingResponse = new TimingResponse(response, timing);
+                filterChain.doFilter(request, timingResponse);
+                // ボディのないレスポンス（204など）はここでヘッダーを設定する
+                timingResponse.writeServerTiming();
+            } else {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            RequestTiming.stop();
+            logIfSlow(request, response, timing);
+        }
+    }
+
+    private void logIfSlow(HttpServletRequest request, HttpServletResponse response, RequestTiming timing) {
+        long elapsed = timing.elapsedNanos();
+        if (slowRequestThresholdNanos <= 0 || elapsed < slowRequestThresholdNanos) {
+            return;
+        }
+        String statements = timing.getStatements().stream()
+                .map(statement -> String.format("%n  %dus %s",
+                        TimeUnit.NANOSECONDS.toMicros(statement.elapsedNanos()),
+                        statement.sql() != null ? statement.sql().replaceAll("\\s+", " ").trim() : "(不明)"))
+                .collect(Collectors.joining());
+        log.warn("低速リクエスト: {} {} status={}, 所要時間={}ms, 内訳=[{}], SQL={}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed), timing.toServerTiming(), statements);
+    }
+
+    /**
+     * ボディの書き出し開始前にServer-Timingヘッダーを設定するレスポンス
+     */
+    private static final class TimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTiming timing;
+        private boolean written;
+
+        TimingResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        void writeServerTiming() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(SERVER_TIMING_HEADER, timing.toServerTiming());
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.company.system.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * JSONシリアライズの所要時間を記録するメッセージコンバーター
+ * <p>
+ * JSONはバッファを経由せずにそのまま送信するため、シリアライズの所要時間は送信済みのServer-Timingヘッダーには含まれず、
+ * 低速リクエストログの内訳にのみ出力する。
+ */
+public class TimedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = RequestTiming.begin(RequestTiming.Phase.SERIALIZATION);
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTiming.end(RequestTiming.Phase.SERIALIZATION, start);
+        }
+    }
+}
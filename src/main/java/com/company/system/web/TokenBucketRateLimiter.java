@@ -0,0 +1,95 @@
+package com.company.system.web;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * クライアントキーごとのトークンバケット型レート制限
+ * <p>
+ * 各バケットはGCRA（Generic Cell Rate Algorithm）で表現し、理論到着時刻を1つの{@link AtomicLong}で
+ * CAS更新するため、リクエスト処理経路でロックを取得しない。
+ * <p>
+ * 保持するバケット数は上限までとし、上限に達した後の新しいクライアントは共有のバケット1つで制限する。
+ * 満タンまで回復したバケットの削除は{@link #purgeIdleBuckets()}で定期的に行い、リクエスト処理経路では走査しない。
+ */
+public class TokenBucketRateLimiter {
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflowBucket;
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final int maxBuckets;
+    private final LongSupplier nanoClock;
+
+    /**
+     * @param permitsPerSecond 1秒あたりの許可リクエスト数
+     * @param burst 瞬間的に許可するリクエスト数
+     * @param maxBuckets 保持するバケット数の上限
+     * @param nanoClock 時刻取得関数（ナノ秒）
+     */
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, int maxBuckets, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1 || maxBuckets < 1) {
+            throw new IllegalArgumentException("permitsPerSecond・burst・maxBucketsは正の値を指定してください");
+        }
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.toleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.maxBuckets = maxBuckets;
+        this.nanoClock = nanoClock;
+        this.overflowBucket = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, int maxBuckets) {
+        this(permitsPerSecond, burst, maxBuckets, System::nanoTime);
+    }
+
+    /**
+     * トークンを1つ取得
+     *
+     * @param clientKey クライアントキー
+     * @return 取得できた場合は0、できなかった場合は次に取得可能になるまでのナノ秒
+     */
+    public long tryAcquire(String clientKey) {
+        long now = nanoClock.getAsLong();
+        AtomicLong theoreticalArrival = buckets.get(clientKey);
+        if (theoreticalArrival == null) {
+            theoreticalArrival = buckets.size() < maxBuckets
+                    ? buckets.computeIfAbsent(clientKey, key -> new AtomicLong(now))
+                    : overflowBucket;
+        }
+        while (true) {
+            long current = theoreticalArrival.get();
+            long arrival = Math.max(current, now);
+            long waitNanos = arrival - now - toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, arrival + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 満タンまで回復したバケットを削除（削除しても次のリクエストで満タンのバケットが作られるため制限は変わらない）
+     *
+     * @return 削除したバケット数
+     */
+    public int purgeIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(theoreticalArrival -> theoreticalArrival.get() <= now);
+        return before - buckets.size();
+    }
+
+    /**
+     * 保持しているバケット数
+     *
+     * @return バケット数（共有のバケットを除く）
+     */
+    public int getBucketCount() {
+        return buckets.size();
+    }
+}
@@ -26,6 +26,99 @@ CREATE INDEX IF NOT EXISTS idx_employee_email ON employees(email);
 CREATE INDEX IF NOT EXISTS idx_employee_number ON employees(employee_number);
 CREATE INDEX IF NOT EXISTS idx_employee_department ON employees(department_id);
 CREATE INDEX IF NOT EXISTS idx_employee_name ON employees(name);
+CREATE INDEX IF NOT EXISTS idx_employee_updated_at ON employees(updated_at);
+CREATE INDEX IF NOT EXISTS idx_employee_join_date ON employees(join_date, id);
 CREATE INDEX IF NOT EXISTS idx_department_code ON departments(code);
 
+-- 社員番号の採番（パーティション分割時はパーティション0のシーケンスを全パーティションで共有する）
+CREATE SEQUENCE IF NOT EXISTS employee_number_seq START WITH 1;
 
+-- メールアドレスの予約（パーティション分割時にパーティション0で全パーティションのメールアドレスの一意性を保証する）
+CREATE TABLE IF NOT EXISTS employee_email_reservations (
+    email VARCHAR(255) PRIMARY KEY,
+    reserved_at TIMESTAMP NOT NULL
+);
+
+-- 社員参照テーブル（参照専用の非正規化ビュー、削除されていない社員のみ・部署名/部署コードを含む）
+-- 社員の書き込みと同じトランザクションで更新する
+CREATE TABLE IF NOT EXISTS employee_view (
+    id BIGINT PRIMARY KEY,
+    employee_number VARCHAR(20) NOT NULL UNIQUE,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    department_id BIGINT NOT NULL,
+    department_name VARCHAR(100) NOT NULL,
+    department_code VARCHAR(20) NOT NULL,
+    join_date DATE NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_employee_view_department ON employee_view(department_id, id);
+CREATE INDEX IF NOT EXISTS idx_employee_view_join_date ON employee_view(join_date, id);
+
+-- 社員テーブルとの差分を反映（本テーブル追加前のデータ・社員テーブルを直接更新した場合の復旧）
+MERGE INTO employee_view (id, employee_number, name, email, department_id, department_name, department_code, join_date, created_at)
+    KEY (id)
+    SELECT e.id, e.employee_number, e.name, e.email, e.department_id, d.name, d.code, e.join_date, e.created_at
+    FROM employees e JOIN departments d ON d.id = e.department_id
+    WHERE e.deleted_at IS NULL;
+DELETE FROM employee_view v
+    WHERE NOT EXISTS (SELECT 1 FROM employees e WHERE e.id = v.id AND e.deleted_at IS NULL);
+
+-- 社員変更履歴テーブル
+CREATE TABLE IF NOT EXISTS employee_history (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    employee_id BIGINT NOT NULL,
+    change_type VARCHAR(10) NOT NULL,
+    changed_by VARCHAR(100) NOT NULL,
+    changed_at TIMESTAMP NOT NULL,
+    before_data CLOB NULL,
+    after_data CLOB NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_employee_history_employee_changed ON employee_history(employee_id, changed_at);
+
+-- 非同期ジョブテーブル
+CREATE TABLE IF NOT EXISTS jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_type VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    parameters CLOB NULL,
+    checkpoint VARCHAR(255) NULL,
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    total_count BIGINT NULL,
+    result_path VARCHAR(500) NULL,
+    error_message VARCHAR(1000) NULL,
+    owner VARCHAR(255) NULL,
+    heartbeat_at TIMESTAMP NULL,
+    created_at TIMESTAMP NOT NULL,
+    started_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_jobs_status ON jobs(status);
+
+-- 冪等キーテーブル
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    status_code INT NOT NULL,
+    response_body CLOB NULL,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
+
+-- キャッシュ無効化ログテーブル（ノード間のキャッシュ整合、各ノードがseq順に読み取る）
+CREATE TABLE IF NOT EXISTS cache_invalidation (
+    seq BIGINT AUTO_INCREMENT PRIMARY KEY,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    origin_node VARCHAR(100) NOT NULL,
+    changed_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_cache_invalidation_created_at ON cache_invalidation(created_at);
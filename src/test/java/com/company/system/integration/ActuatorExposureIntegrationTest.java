@@ -0,0 +1,89 @@
+package com.company.system.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 管理用エンドポイントの公開範囲の結合テスト
+ * <p>
+ * 検索条件などを含むhotkeysは既定ではアプリケーションのポートに公開せず、managementプロファイルでは管理ポートにのみ公開することを確認する。
+ */
+@DisplayName("管理用エンドポイントの公開範囲 結合テスト")
+class ActuatorExposureIntegrationTest {
+
+    @Nested
+    @SpringBootTest(properties = {
+            "spring.datasource.url=jdbc:h2:mem:actuator-default",
+            "app.representation-cache.enabled=false",
+            "app.admission.enabled=false"
+    })
+    @AutoConfigureMockMvc
+    @ActiveProfiles("test")
+    @DisplayName("既定の設定")
+    class DefaultExposure {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Test
+        @DisplayName("IT-040-1: /actuator/hotkeys - 既定ではWebに公開しない（healthは公開）")
+        void hotkeys非公開() throws Exception {
+            mockMvc.perform(get("/actuator/hotkeys")).andExpect(status().isNotFound());
+            mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+        }
+    }
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.datasource.url=jdbc:h2:mem:actuator-management",
+            "management.server.port=0",
+            "app.representation-cache.enabled=false",
+            "app.admission.enabled=false"
+    })
+    @ActiveProfiles({"test", "management"})
+    @DisplayName("managementプロファイル")
+    class ManagementPortExposure {
+
+        @Autowired
+        private TestRestTemplate restTemplate;
+
+        @LocalServerPort
+        private int serverPort;
+
+        @LocalManagementPort
+        private int managementPort;
+
+        @Test
+        @DisplayName("IT-040-2: /actuator/hotkeys - 管理ポートにのみ公開し、アプリケーションのポートには公開しない")
+        void hotkeys管理ポートのみ() {
+            // Given
+            assertNotEquals(serverPort, managementPort);
+
+            // When
+            ResponseEntity<String> onManagementPort = restTemplate.getForEntity(
+                    "http://127.0.0.1:" + managementPort + "/actuator/hotkeys", String.class);
+            ResponseEntity<String> onServerPort = restTemplate.getForEntity(
+                    "http://127.0.0.1:" + serverPort + "/actuator/hotkeys", String.class);
+
+            // Then
+            assertEquals(HttpStatus.OK, onManagementPort.getStatusCode());
+            assertTrue(onManagementPort.getBody().contains("\"window\""));
+            assertEquals(HttpStatus.NOT_FOUND, onServerPort.getStatusCode());
+        }
+    }
+}
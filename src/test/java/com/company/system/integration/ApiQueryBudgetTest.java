@@ -0,0 +1,158 @@
+package com.company.system.integration;
+
+import com.company.system.dto.CreateEmployeeRequest;
+import com.company.system.repository.EmployeeRepository;
+import com.company.system.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * APIごとのSQL発行数の結合テスト
+ * <p>
+ * 実際のH2データベースに対してリクエストを実行し、1リクエストで発行するSQLが{@link QueryBudget}の上限以内であることを確認する。
+ * N+1問題や不要な問い合わせの追加を検出するため、レスポンスJSONキャッシュは無効にしてデータベースへの問い合わせを必ず行う。
+ */
+@SpringBootTest(properties = {
+        "app.representation-cache.enabled=false",
+        "app.admission.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(QueryCountingConfig.class)
+@ExtendWith(QueryBudgetExtension.class)
+@DisplayName("APIごとのSQL発行数 結合テスト")
+class ApiQueryBudgetTest {
+
+    private static final int EMPLOYEE_COUNT = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 3部署に社員を登録（全テストで共有）
+        if (employeeRepository.count() >= EMPLOYEE_COUNT) {
+            return;
+        }
+        for (int i = 1; i <= EMPLOYEE_COUNT; i++) {
+            employeeService.create(new CreateEmployeeRequest(
+                    "社員" + i, "budget" + i + "@example.com", (long) (i % 3) + 1, LocalDate.of(2020, 4, 1)));
+        }
+    }
+
+    @Test
+    @QueryBudget(statements = 2, rows = 21)
+    @DisplayName("IT-037-1: getEmployees - 社員一覧（1ページ20件）")
+    void getEmployees() throws Exception {
+        mockMvc.perform(get("/api/v1/employees").param("size", "20"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(statements = 2, rows = 21)
+    @DisplayName("IT-037-2: getEmployees - 社員名・部署で絞り込んだ社員一覧")
+    void getEmployees_絞り込み() throws Exception {
+        mockMvc.perform(get("/api/v1/employees").param("name", "社員").param("departmentId", "2"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(statements = 1, rows = 1)
+    @DisplayName("IT-037-3: getEmployee - 社員詳細")
+    void getEmployee() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/3"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(statements = 5, rows = 12)
+    @DisplayName("IT-037-4: createEmployee - 社員作成（社員参照テーブルの更新を含む）")
+    void createEmployee() throws Exception {
+        mockMvc.perform(post("/api/v1/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"新入社員\",\"email\":\"new-budget@example.com\","
+                                + "\"departmentId\":1,\"joinDate\":\"2024-04-01\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @QueryBudget(statements = 4, rows = 2)
+    @DisplayName("IT-037-5: updateEmployee - 社員更新（部署変更、社員参照テーブルの更新を含む）")
+    void updateEmployee() throws Exception {
+        mockMvc.perform(put("/api/v1/employees/5")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"departmentId\":1}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(statements = 3, rows = 1)
+    @DisplayName("IT-037-6: deleteEmployee - 社員削除（社員参照テーブルの更新を含む）")
+    void deleteEmployee() throws Exception {
+        mockMvc.perform(delete("/api/v1/employees/30"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @QueryBudget(statements = 2, rows = EMPLOYEE_COUNT + 21)
+    @DisplayName("IT-037-7: searchEmployees - 社員複合条件検索（初回は検索インデックスの構築を含む）")
+    void searchEmployees() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/search").param("departmentId", "1").param("size", "20"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(statements = 2, rows = 21)
+    @DisplayName("IT-037-8: getHistory - 社員変更履歴")
+    void getHistory() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/2/history"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(statements = 1, rows = 3)
+    @DisplayName("IT-037-9: getDepartments - 部署一覧")
+    void getDepartments() throws Exception {
+        mockMvc.perform(get("/api/v1/departments"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(statements = 1, rows = 1)
+    @DisplayName("IT-037-10: getDepartment - 部署詳細")
+    void getDepartment() throws Exception {
+        mockMvc.perform(get("/api/v1/departments/1"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(statements = 1, rows = 15)
+    @DisplayName("IT-049-1: getDepartments - 所属社員付き部署一覧（部署ごとの件数・社員一覧を1回で取得）")
+    void getDepartments_所属社員付き() throws Exception {
+        mockMvc.perform(get("/api/v1/departments").param("include", "employees").param("employeesLimit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].employees.length()").value(5))
+                .andExpect(jsonPath("$[0].employeeCount").isNumber());
+    }
+}
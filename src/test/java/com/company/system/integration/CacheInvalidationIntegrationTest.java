@@ -0,0 +1,133 @@
+package com.company.system.integration;
+
+import com.company.system.EmployeeManagementSystemApplication;
+import com.company.system.dto.CreateEmployeeRequest;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.EmployeeSuggestionDto;
+import com.company.system.dto.UpdateEmployeeRequest;
+import com.company.system.service.EmployeeService;
+import com.company.system.web.RepresentationCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ノード間のキャッシュ整合の結合テスト
+ * <p>
+ * 1つのH2サーバーを共有する2つのアプリケーションコンテキストを起動し、一方のノードでの変更が
+ * 無効化ログを介してもう一方のノードのキャッシュへ上限時間内に反映されることを確認する。
+ */
+@DisplayName("ノード間のキャッシュ整合 結合テスト")
+class CacheInvalidationIntegrationTest {
+
+    private static final Duration MAX_PROPAGATION = Duration.ofSeconds(5);
+
+    private static Server server;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        String url = "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:cache-invalidation;DB_CLOSE_DELAY=-1";
+        nodeA = startNode(url, "node-a", "always");
+        nodeB = startNode(url, "node-b", "never");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("IT-041-1: 他ノードでの更新・削除がレスポンスキャッシュと候補検索インデックスへ反映される")
+    void 他ノードの変更の反映() {
+        // Given（ノードBで社員を読み取り、キャッシュとインデックスに載せる）
+        EmployeeDto created = service(nodeA).create(new CreateEmployeeRequest(
+                "整合太郎", "coherence@example.com", 1L, LocalDate.of(2024, 4, 1)));
+        EmployeeDto read = service(nodeB).findById(created.getId());
+        cache(nodeB).employeeJson(read);
+        assertEquals(1, service(nodeB).suggest("整合太郎", 10).size());
+
+        // When
+        service(nodeA).update(created.getId(), new UpdateEmployeeRequest("整合次郎", null, null));
+
+        // Then
+        awaitTrue(() -> cachedJson(created.getId()).contains("\"name\":\"整合次郎\""));
+        awaitTrue(() -> names(service(nodeB).suggest("整合", 10)).equals(List.of("整合次郎")));
+        assertTrue(nodeB.getBean(MeterRegistry.class)
+                .get("app.cache.invalidation.lag").tag("origin", "remote").timer().count() >= 1);
+
+        // When
+        service(nodeA).delete(created.getId());
+
+        // Then
+        awaitTrue(() -> cache(nodeB).findEmployee(created.getId()) == null);
+        awaitTrue(() -> service(nodeB).suggest("整合", 10).isEmpty());
+    }
+
+    private static ConfigurableApplicationContext startNode(String url, String nodeId, String sqlInitMode) {
+        return new SpringApplicationBuilder(EmployeeManagementSystemApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + url,
+                        "--spring.sql.init.mode=" + sqlInitMode,
+                        "--spring.jmx.enabled=false",
+                        "--app.admission.enabled=false",
+                        "--app.cache-invalidation.enabled=true",
+                        "--app.cache-invalidation.node-id=" + nodeId,
+                        "--app.cache-invalidation.poll-interval=50ms");
+    }
+
+    private static EmployeeService service(ConfigurableApplicationContext node) {
+        return node.getBean(EmployeeService.class);
+    }
+
+    private static RepresentationCache cache(ConfigurableApplicationContext node) {
+        return node.getBean(RepresentationCache.class);
+    }
+
+    private static String cachedJson(Long id) {
+        byte[] json = cache(nodeB).findEmployee(id);
+        return json != null ? new String(json, StandardCharsets.UTF_8) : "";
+    }
+
+    private static List<String> names(List<EmployeeSuggestionDto> suggestions) {
+        return suggestions.stream().map(EmployeeSuggestionDto::getName).toList();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + MAX_PROPAGATION.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "変更が上限時間内に反映されませんでした");
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.company.system.integration;
+
+import com.company.system.dto.EmployeeListCriteria;
+import com.company.system.service.EmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 社員一覧の実行計画の結合テスト
+ * <p>
+ * 絞り込み条件ごとに発行される社員一覧のSQL（社員参照テーブル employee_view への問い合わせ）を取得し、
+ * H2のEXPLAINでインデックスを使用する実行計画になることを確認する。
+ * 外部キー・一意制約の列はH2が制約用に作成したインデックスを選ぶことがあるため、インデックス名ではなく索引条件で確認する。
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan",
+        "app.representation-cache.enabled=false",
+        "app.admission.enabled=false"
+})
+@ActiveProfiles("test")
+@Import(QueryCountingConfig.class)
+@DisplayName("社員一覧の実行計画 結合テスト")
+class EmployeeQueryPlanTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("IT-046-1: findAll - 部署で絞り込むと部署のインデックスを使用")
+    void findAll_部署() {
+        // When
+        String plan = explain(EmployeeListCriteria.of(null, 1L));
+
+        // Then
+        assertTrue(usesIndexOn(plan, "DEPARTMENT_ID = ?"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    @DisplayName("IT-046-2: findAll - 複数の部署で絞り込むと部署のインデックスを使用")
+    void findAll_複数部署() {
+        // When
+        String plan = explain(new EmployeeListCriteria(null, List.of(1L, 2L), null, null, null));
+
+        // Then
+        assertTrue(usesIndexOn(plan, "DEPARTMENT_ID IN("), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    @DisplayName("IT-046-3: findAll - 入社日の範囲・入社日順はインデックスで絞り込み、整列を省略")
+    void findAll_入社日順() {
+        // When
+        String plan = explain(new EmployeeListCriteria(null, null,
+                LocalDate.of(2020, 1, 1), LocalDate.of(2024, 12, 31), "joinDate"));
+
+        // Then
+        assertTrue(plan.contains("IDX_EMPLOYEE_VIEW_JOIN_DATE"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    @DisplayName("IT-046-4: findAll - 社員番号順は社員番号のインデックス順に読み、整列を省略")
+    void findAll_社員番号順() {
+        // When
+        String plan = explain(new EmployeeListCriteria(null, null, null, null, "employeeNumber"));
+
+        // Then
+        assertTrue(plan.contains("index sorted"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    /**
+     * 社員テーブルの読み取りが指定した索引条件でインデックスを使用しているか
+     */
+    private static boolean usesIndexOn(String plan, String condition) {
+        return plan.lines().anyMatch(line -> line.trim().startsWith("/* PUBLIC.") && line.contains(": " + condition));
+    }
+
+    /**
+     * 社員一覧を取得した際に発行された一覧取得のSQLの実行計画を取得
+     */
+    private String explain(EmployeeListCriteria criteria) {
+        QueryCounter.start();
+        List<String> statements;
+        try {
+            employeeService.findAll(criteria, 0, 20);
+        } finally {
+            statements = QueryCounter.stop().getStatements();
+        }
+        String sql = statements.stream()
+                .filter(statement -> statement.startsWith("select") && !statement.startsWith("select count"))
+                .findFirst()
+                .orElseThrow();
+        // パラメータは未設定のままEXPLAINする（H2は値に依存しない実行計画を返す）
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+                 ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        });
+    }
+}
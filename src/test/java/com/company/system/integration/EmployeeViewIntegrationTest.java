@@ -0,0 +1,167 @@
+package com.company.system.integration;
+
+import com.company.system.dto.CreateEmployeeRequest;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.EmployeeListCriteria;
+import com.company.system.dto.EmployeeSearchCriteria;
+import com.company.system.dto.UpdateEmployeeRequest;
+import com.company.system.exception.ResourceNotFoundException;
+import com.company.system.service.EmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 社員参照テーブル（employee_view）の結合テスト
+ * <p>
+ * 社員の作成・更新・削除が同じトランザクションで参照テーブルへ反映され、社員の参照が参照テーブルのみから取得されることを確認する。
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:employee-view",
+        "app.representation-cache.enabled=false",
+        "app.admission.enabled=false"
+})
+@ActiveProfiles("test")
+@Import(QueryCountingConfig.class)
+@DisplayName("社員参照テーブル 結合テスト")
+class EmployeeViewIntegrationTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("IT-048-1: create/update/delete - 社員の変更を部署名・部署コードと合わせて参照テーブルへ反映し、削除した社員は取り除く")
+    void 変更の反映() {
+        // Given & When（作成）
+        EmployeeDto created = employeeService.create(
+                new CreateEmployeeRequest("参照太郎", "view@example.com", 1L, LocalDate.of(2023, 4, 1)));
+
+        // Then
+        Map<String, Object> row = viewRow(created.getId());
+        assertEquals(created.getEmployeeNumber(), row.get("EMPLOYEE_NUMBER"));
+        assertEquals("参照太郎", row.get("NAME"));
+        assertEquals(1L, row.get("DEPARTMENT_ID"));
+        assertEquals(created.getDepartment().getName(), row.get("DEPARTMENT_NAME"));
+        assertEquals(created.getDepartment().getCode(), row.get("DEPARTMENT_CODE"));
+
+        // When（部署変更）
+        EmployeeDto updated = employeeService.update(created.getId(), new UpdateEmployeeRequest(null, null, 2L));
+
+        // Then
+        row = viewRow(created.getId());
+        assertEquals(2L, row.get("DEPARTMENT_ID"));
+        assertEquals(updated.getDepartment().getName(), row.get("DEPARTMENT_NAME"));
+        assertEquals(updated.getDepartment().getCode(), row.get("DEPARTMENT_CODE"));
+        assertEquals(updated.getDepartment().getName(), employeeService.findById(created.getId()).getDepartment().getName());
+
+        // When（削除）
+        employeeService.delete(created.getId());
+
+        // Then
+        assertEquals(0, viewCount(created.getId()));
+        assertThrows(ResourceNotFoundException.class, () -> employeeService.findById(created.getId()));
+    }
+
+    @Test
+    @DisplayName("IT-048-2: update - 社員の変更がロールバックされた場合は参照テーブルも変更しない")
+    void ロールバック() {
+        // Given
+        EmployeeDto created = employeeService.create(
+                new CreateEmployeeRequest("参照次郎", "view-rollback@example.com", 1L, LocalDate.of(2023, 4, 1)));
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            employeeService.update(created.getId(), new UpdateEmployeeRequest("変更後", null, 3L));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        Map<String, Object> row = viewRow(created.getId());
+        assertEquals("参照次郎", row.get("NAME"));
+        assertEquals(1L, row.get("DEPARTMENT_ID"));
+    }
+
+    @Test
+    @DisplayName("IT-048-3: findAll/findById - 社員の参照は参照テーブルのみから取得し、社員・部署テーブルを結合しない")
+    void 参照テーブルから取得() {
+        // Given
+        EmployeeDto created = employeeService.create(
+                new CreateEmployeeRequest("参照三郎", "view-read@example.com", 2L, LocalDate.of(2023, 4, 1)));
+
+        // When
+        QueryCounter.start();
+        List<String> statements;
+        try {
+            employeeService.findAll(EmployeeListCriteria.of("参照", 2L), 0, 20);
+            employeeService.findById(created.getId());
+        } finally {
+            statements = QueryCounter.stop().getStatements();
+        }
+
+        // Then
+        assertFalse(statements.isEmpty());
+        for (String statement : statements) {
+            assertTrue(statement.contains(" from employee_view "), statement);
+            assertFalse(statement.contains(" employees ") || statement.contains(" departments "), statement);
+            assertFalse(statement.contains(" join "), statement);
+        }
+    }
+
+    @Test
+    @DisplayName("IT-048-4: search - 削除済みの社員を含む検索は参照テーブルにない社員も社員テーブルから取得して返す")
+    void 削除済みの社員の検索() {
+        // Given
+        EmployeeDto deleted = employeeService.create(
+                new CreateEmployeeRequest("参照四郎", "view-deleted@example.com", 3L, LocalDate.of(2023, 4, 1)));
+        EmployeeDto active = employeeService.create(
+                new CreateEmployeeRequest("参照五郎", "view-active@example.com", 3L, LocalDate.of(2023, 4, 1)));
+        employeeService.delete(deleted.getId());
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setName("参照");
+        criteria.setDepartmentIds(List.of(3L));
+
+        // When
+        criteria.setStatus(EmployeeSearchCriteria.Status.DELETED);
+        Page<EmployeeDto> deletedPage = employeeService.search(criteria, 0, 20);
+        criteria.setStatus(EmployeeSearchCriteria.Status.ALL);
+        Page<EmployeeDto> allPage = employeeService.search(criteria, 0, 20);
+
+        // Then
+        assertEquals(1, deletedPage.getTotalElements());
+        assertEquals(1, deletedPage.getContent().size());
+        EmployeeDto found = deletedPage.getContent().get(0);
+        assertEquals(deleted.getId(), found.getId());
+        assertEquals("参照四郎", found.getName());
+        assertEquals(deleted.getDepartment().getName(), found.getDepartment().getName());
+        assertEquals(0, viewCount(deleted.getId()));
+        assertEquals(List.of(deleted.getId(), active.getId()),
+                allPage.getContent().stream().map(EmployeeDto::getId).sorted().toList());
+    }
+
+    private Map<String, Object> viewRow(Long id) {
+        return jdbcTemplate.queryForMap("SELECT * FROM employee_view WHERE id = ?", id);
+    }
+
+    private int viewCount(Long id) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee_view WHERE id = ?", Integer.class, id);
+    }
+}
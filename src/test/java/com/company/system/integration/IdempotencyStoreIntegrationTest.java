@@ -0,0 +1,83 @@
+package com.company.system.integration;
+
+import com.company.system.config.IdempotencyProperties;
+import com.company.system.model.IdempotencyRecord;
+import com.company.system.repository.IdempotencyRecordRepository;
+import com.company.system.web.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 冪等キーの処理結果ストアの結合テスト
+ * <p>
+ * 処理結果をテーブルへ登録し、メモリ上の結果を持たない別のストア（再起動後・別ノード相当）から復元できることを確認する。
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:idempotency-store",
+        "app.representation-cache.enabled=false",
+        "app.admission.enabled=false"
+})
+@ActiveProfiles("test")
+@DisplayName("冪等キーの処理結果ストア 結合テスト")
+class IdempotencyStoreIntegrationTest {
+
+    private static final Map<String, Object> REQUEST = Map.of("name", "山田太郎", "email", "yamada@example.com");
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IdempotencyProperties properties;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("IT-035-1: execute_正常系 - 期限切れで削除前の行が残るキーを再利用した場合も結果を登録し、別のストアから復元する")
+    void 期限切れの行が残るキーの再利用() {
+        // Given（期限切れで削除前の行）
+        LocalDateTime past = LocalDateTime.now().minusDays(2);
+        repository.upsert(new IdempotencyRecord("key-expired", "0".repeat(64), 500, "{\"old\":true}",
+                past, past.plusDays(1)));
+
+        // When
+        IdempotencyStore.IdempotentResponse first = idempotencyStore.execute("key-expired", REQUEST, this::create);
+
+        // Then
+        assertFalse(first.replayed());
+        IdempotencyRecord stored = repository.findById("key-expired").orElseThrow();
+        assertEquals(201, stored.getStatusCode());
+        assertEquals("{\"id\":1}", stored.getResponseBody());
+        assertTrue(stored.getExpiresAt().isAfter(LocalDateTime.now()));
+
+        // When（メモリ上の結果を持たないストアへの再送）
+        IdempotencyStore restarted = new IdempotencyStore(repository, objectMapper, properties);
+        IdempotencyStore.IdempotentResponse replayed = restarted.execute("key-expired", REQUEST, this::create);
+
+        // Then
+        assertTrue(replayed.replayed());
+        assertEquals(201, replayed.status());
+        assertEquals(1, executions.get());
+    }
+
+    private IdempotencyStore.IdempotentResponse create() {
+        executions.incrementAndGet();
+        return new IdempotencyStore.IdempotentResponse(201, "{\"id\":1}".getBytes(StandardCharsets.UTF_8), false);
+    }
+}
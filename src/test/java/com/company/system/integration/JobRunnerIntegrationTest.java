@@ -0,0 +1,176 @@
+package com.company.system.integration;
+
+import com.company.system.config.JobProperties;
+import com.company.system.model.Job;
+import com.company.system.model.JobStatus;
+import com.company.system.repository.JobRepository;
+import com.company.system.service.JobHandler;
+import com.company.system.service.JobRunner;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 非同期ジョブの実行担当の結合テスト
+ * <p>
+ * 同じデータベースを共有する2つのノードのJobRunnerを起動し、担当中のジョブを他のノードが実行しないこと、
+ * 担当の生存通知が途絶えたジョブを引き継ぐこと、同時に起動しても1つのノードだけが実行することを確認する
+ * （アプリケーションのJobRunnerが試験用のジョブを取得しないよう、生存通知の間隔を長くする）。
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:job-runner",
+        "app.jobs.heartbeat-interval=1h",
+        "app.representation-cache.enabled=false",
+        "app.admission.enabled=false"
+})
+@ActiveProfiles("test")
+@DisplayName("非同期ジョブの実行担当 結合テスト")
+class JobRunnerIntegrationTest {
+
+    private static final int TOTAL = 5;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final CountingJobHandler handler = new CountingJobHandler();
+    private final List<JobRunner> runners = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        runners.forEach(JobRunner::stop);
+    }
+
+    @Test
+    @DisplayName("IT-034-1: start_正常系/異常系 - 他のノードが担当中のジョブは実行せず、生存通知が途絶えた後に引き継ぐ")
+    void 担当中のジョブの引き継ぎ() throws InterruptedException {
+        // Given（ノードAが担当中）
+        Job job = newJob(JobStatus.RUNNING, "node-a", LocalDateTime.now());
+        JobRunner nodeB = startRunner("node-b");
+
+        // When
+        Thread.sleep(300);
+
+        // Then
+        Job notTaken = jobRepository.findById(job.getId()).orElseThrow();
+        assertEquals("node-a", notTaken.getOwner());
+        assertEquals(JobStatus.RUNNING, notTaken.getStatus());
+        assertTrue(handler.receivedCheckpoints.isEmpty());
+
+        // When（ノードAの生存通知が途絶える）
+        jdbcTemplate.update("UPDATE jobs SET heartbeat_at = ? WHERE id = ?",
+                LocalDateTime.now().minusMinutes(5), job.getId());
+
+        // Then
+        Job taken = awaitSucceeded(job.getId());
+        assertEquals("node-b", taken.getOwner());
+        assertEquals(TOTAL, taken.getProcessedCount());
+        assertTrue(nodeB.isRunning());
+    }
+
+    @Test
+    @DisplayName("IT-034-2: start_正常系 - 複数ノードが同時に起動しても担当のいないジョブは1つのノードだけが実行する")
+    void 同時起動での重複実行の防止() throws InterruptedException {
+        // Given
+        Job job = newJob(JobStatus.QUEUED, null, null);
+
+        // When
+        startRunner("node-c");
+        startRunner("node-d");
+
+        // Then
+        Job finished = awaitSucceeded(job.getId());
+        assertEquals(List.of("null", "2", "4"), handler.receivedCheckpoints);
+        assertEquals(TOTAL, finished.getProcessedCount());
+    }
+
+    private JobRunner startRunner(String nodeId) {
+        JobProperties properties = new JobProperties();
+        properties.setWorkerThreads(1);
+        properties.setChunkSize(2);
+        properties.setNodeId(nodeId);
+        properties.setHeartbeatInterval(Duration.ofMillis(50));
+        properties.setLeaseTimeout(Duration.ofMinutes(1));
+        JobRunner runner = new JobRunner(jobRepository, List.of(handler), objectMapper, transactionManager, properties);
+        runners.add(runner);
+        runner.start();
+        return runner;
+    }
+
+    private Job newJob(JobStatus status, String owner, LocalDateTime heartbeatAt) {
+        Job job = new Job();
+        job.setJobType(CountingJobHandler.TYPE);
+        job.setStatus(status);
+        job.setParameters("{}");
+        job.setOwner(owner);
+        job.setHeartbeatAt(heartbeatAt);
+        return jobRepository.save(job);
+    }
+
+    private Job awaitSucceeded(Long id) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            Job job = jobRepository.findById(id).orElseThrow();
+            if (job.getStatus() == JobStatus.SUCCEEDED) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+        return fail("ジョブが完了しませんでした: id=" + id);
+    }
+
+    /**
+     * 0からTOTALまでの数を数えるだけのジョブ（チェックポイントは処理済みの数）
+     */
+    private static class CountingJobHandler implements JobHandler {
+
+        static final String TYPE = "IT_COUNT";
+
+        final List<String> receivedCheckpoints = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String getType() {
+            return TYPE;
+        }
+
+        @Override
+        public void validate(JsonNode parameters) {
+        }
+
+        @Override
+        public long countTotal(JsonNode parameters) {
+            return TOTAL;
+        }
+
+        @Override
+        public ChunkResult processChunk(Long jobId, JsonNode parameters, String checkpoint, int chunkSize) {
+            receivedCheckpoints.add(String.valueOf(checkpoint));
+            int done = checkpoint == null ? 0 : Integer.parseInt(checkpoint);
+            int next = Math.min(TOTAL, done + chunkSize);
+            return new ChunkResult(String.valueOf(next), next - done, next == TOTAL, null);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.company.system.integration;
+
+import com.company.system.config.RepresentationCacheProperties;
+import com.company.system.dto.DepartmentDto;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.web.JsonPage;
+import com.company.system.web.RepresentationCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.RawValue;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ページ形式のレスポンス出力の割り当て量の計測テスト
+ * <p>
+ * キャッシュ済みの社員JSON 20件のページを、変更前の方式（{@code Page<RawValue>}をBeanとしてシリアライズ）と
+ * {@link JsonPage}で繰り返し出力し、1ページあたりの割り当てバイト数をスレッドの割り当て量から計測する。
+ * 計測対象はレスポンスの出力のみで、サービスが{@code Page<EmployeeDto>}を生成する分は含まない。
+ */
+@Slf4j
+@DisplayName("ページ形式のレスポンス出力の割り当て量 計測テスト")
+class JsonPageAllocationTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int WARM_UP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 50_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private ObjectWriter pageWriter;
+    private RepresentationCache representationCache;
+    private Page<EmployeeDto> page;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        pageWriter = objectMapper.writer();
+        representationCache = new RepresentationCache(objectMapper, new RepresentationCacheProperties());
+        List<EmployeeDto> employees = new ArrayList<>();
+        DepartmentDto department = new DepartmentDto(1L, "営業部", "SALES");
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            EmployeeDto employee = new EmployeeDto(id, String.format("EMP%03d", id), "社員" + id,
+                    "employee" + id + "@example.com", department, LocalDate.of(2020, 4, 1),
+                    LocalDateTime.of(2020, 4, 1, 9, 0));
+            representationCache.employeeJson(employee);
+            employees.add(employee);
+        }
+        page = new PageImpl<>(employees, PageRequest.of(0, PAGE_SIZE), 100);
+    }
+
+    @Test
+    @DisplayName("IT-036-1: JsonPage - キャッシュ済みの要素のページ出力は変更前の方式の半分未満の割り当てで済む")
+    void ページ出力の割り当て量() throws IOException {
+        // Given
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+            log.warn("スレッドの割り当て量を計測できないため省略します");
+            return;
+        }
+
+        // When
+        long before = measure(() -> pageWriter.writeValue(OutputStream.nullOutputStream(),
+                page.map(employee -> new RawValue(representationCache.employeeJson(employee)))));
+        long after = measure(() -> pageWriter.writeValue(OutputStream.nullOutputStream(),
+                JsonPage.ofRaw(page, representationCache::employeeJson)));
+
+        // Then
+        log.info("ページ出力の割り当て量: 変更前(Page<RawValue>)={}B/ページ, JsonPage={}B/ページ", before, after);
+        assertTrue(after * 2 < before,
+                "JsonPageの割り当て量が想定より多い: 変更前=" + before + "B, JsonPage=" + after + "B");
+    }
+
+    /**
+     * ウォームアップ後の1回あたりの割り当てバイト数を計測
+     */
+    private long measure(Render render) throws IOException {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            render.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long start = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            render.run();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - start) / MEASURED_ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface Render {
+
+        void run() throws IOException;
+    }
+}
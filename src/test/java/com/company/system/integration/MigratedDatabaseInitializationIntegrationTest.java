@@ -0,0 +1,95 @@
+package com.company.system.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 移行済みデータベースのSQLスクリプト初期化の結合テスト
+ * <p>
+ * 部署・社員テーブルのみを持つ（後から追加されたテーブルがない）データベースに対して
+ * {@code app.sql-init.skip-if-migrated=true}で起動し、schema.sqlで不足するテーブルを作成し、data.sqlは実行しないことを確認する。
+ */
+@SpringBootTest(properties = {
+        "app.sql-init.skip-if-migrated=true",
+        "app.representation-cache.enabled=false",
+        "app.admission.enabled=false"
+})
+@ActiveProfiles("test")
+@DisplayName("移行済みデータベースのSQLスクリプト初期化 結合テスト")
+class MigratedDatabaseInitializationIntegrationTest {
+
+    private static final String URL = "jdbc:h2:mem:migrated-database;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * アプリケーションの起動前に、部署・社員テーブルのみのデータベースを用意する
+     */
+    @DynamicPropertySource
+    static void migratedDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE departments (
+                        id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        name VARCHAR(100) NOT NULL UNIQUE,
+                        code VARCHAR(20) NOT NULL UNIQUE,
+                        created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                        updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+                    )""");
+            statement.execute("""
+                    CREATE TABLE employees (
+                        id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        employee_number VARCHAR(20) NOT NULL UNIQUE,
+                        name VARCHAR(100) NOT NULL,
+                        email VARCHAR(255) NOT NULL UNIQUE,
+                        department_id BIGINT NOT NULL,
+                        join_date DATE NOT NULL,
+                        created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                        updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                        deleted_at TIMESTAMP NULL,
+                        FOREIGN KEY (department_id) REFERENCES departments(id)
+                    )""");
+            statement.execute("INSERT INTO departments (id, name, code) VALUES (10, '移行部', 'MIGRATED')");
+            statement.execute("INSERT INTO employees (id, employee_number, name, email, department_id, join_date) "
+                    + "VALUES (100, 'EMP100', '移行太郎', 'migrated@example.com', 10, DATE '2020-04-01')");
+        }
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Test
+    @DisplayName("IT-027-1: initializeDatabase_正常系 - 移行済みのデータベースでも後から追加されたテーブルを作成し、初期データは投入しない")
+    void 移行済みデータベースの初期化() {
+        // Then（schema.sqlで不足するテーブル・シーケンスを作成する）
+        for (String table : List.of("EMPLOYEE_VIEW", "EMPLOYEE_HISTORY", "JOBS", "IDEMPOTENCY_KEYS",
+                "CACHE_INVALIDATION", "EMPLOYEE_EMAIL_RESERVATIONS")) {
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = ?", Integer.class, table), table);
+        }
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'EMPLOYEE_NUMBER_SEQ'",
+                Integer.class));
+
+        // 既存の社員を参照テーブルへ反映する
+        assertEquals("移行部", jdbcTemplate.queryForObject(
+                "SELECT department_name FROM employee_view WHERE id = 100", String.class));
+
+        // data.sqlは実行しない
+        assertEquals(List.of(10L), jdbcTemplate.queryForList("SELECT id FROM departments ORDER BY id", Long.class));
+    }
+}
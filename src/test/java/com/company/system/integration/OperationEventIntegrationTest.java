@@ -0,0 +1,98 @@
+package com.company.system.integration;
+
+import com.company.system.dto.CreateEmployeeRequest;
+import com.company.system.dto.EmployeeListCriteria;
+import com.company.system.jfr.RecordingAnalyzer;
+import com.company.system.jfr.RecordingAnalyzer.OperationSummary;
+import com.company.system.repository.EmployeeRepository;
+import com.company.system.service.DepartmentService;
+import com.company.system.service.EmployeeService;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JFRイベントの記録の結合テスト
+ * <p>
+ * 同梱のJFCで記録した間のサービス・リポジトリの呼び出しが、SQL発行数・件数とともに記録・集計されることを確認する。
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:operation-event",
+        "app.jfr.enabled=true",
+        "app.representation-cache.enabled=false",
+        "app.admission.enabled=false"
+})
+@ActiveProfiles("test")
+@DisplayName("JFRイベント 結合テスト")
+class OperationEventIntegrationTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("IT-050-1: findAll/findAllWithEmployees/count - 同梱のJFCで記録し、操作ごとの件数・SQL発行数を集計")
+    void 記録と集計() throws Exception {
+        // Given
+        employeeService.create(new CreateEmployeeRequest("記録太郎", "jfr@example.com", 1L, LocalDate.of(2023, 4, 1)));
+        Path file = tempDir.resolve("operations.jfr");
+        Configuration configuration;
+        try (Reader reader = new InputStreamReader(
+                new ClassPathResource("jfr/employee-management.jfc").getInputStream(), StandardCharsets.UTF_8)) {
+            configuration = Configuration.create(reader);
+        }
+
+        // When
+        try (Recording recording = new Recording(configuration)) {
+            recording.start();
+            employeeService.findAll(EmployeeListCriteria.of(null, null), 0, 20);
+            departmentService.findAllWithEmployees(5);
+            employeeRepository.count();
+            recording.stop();
+            recording.dump(file);
+        }
+        List<OperationSummary> summaries = RecordingAnalyzer.summarize(file);
+
+        // Then
+        Map<String, OperationSummary> byOperation = summaries.stream()
+                .collect(Collectors.toMap(OperationSummary::operation, Function.identity()));
+        OperationSummary findAll = byOperation.get("EmployeeService.findAll");
+        assertNotNull(findAll);
+        assertEquals("service", findAll.layer());
+        assertEquals(1, findAll.count());
+        assertEquals(0, findAll.failures());
+        assertEquals(1, findAll.averageRows());
+        assertTrue(findAll.averageStatements() >= 1);
+        assertEquals(3, byOperation.get("DepartmentService.findAllWithEmployees").averageRows());
+        OperationSummary count = byOperation.get("EmployeeRepository.count");
+        assertEquals("repository", count.layer());
+        assertEquals(1, count.averageStatements());
+        assertTrue(RecordingAnalyzer.format(summaries).contains("EmployeeService.findAll"));
+    }
+}
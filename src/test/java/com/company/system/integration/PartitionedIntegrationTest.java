@@ -0,0 +1,202 @@
+package com.company.system.integration;
+
+import com.company.system.config.PartitionedDataSourceConfig;
+import com.company.system.dto.CreateEmployeeRequest;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.EmployeeListCriteria;
+import com.company.system.dto.UpdateEmployeeRequest;
+import com.company.system.exception.DuplicateResourceException;
+import com.company.system.service.EmployeeService;
+import com.company.system.service.PartitionTemplate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * パーティション分割の結合テスト
+ * <p>
+ * partitionedプロファイルで3つのH2データベースを起動し、IDの採番と格納先、パーティションをまたぐページ分割、
+ * 全パーティションでの社員番号・メールアドレスの一意性を確認する（他のテストのコンテキストと分けるためDB名を変える）。
+ */
+@SpringBootTest(properties = {
+        "app.partitioning.partitions[0].url=jdbc:h2:mem:partitioned-it-0;DB_CLOSE_DELAY=-1",
+        "app.partitioning.partitions[1].url=jdbc:h2:mem:partitioned-it-1;DB_CLOSE_DELAY=-1",
+        "app.partitioning.partitions[2].url=jdbc:h2:mem:partitioned-it-2;DB_CLOSE_DELAY=-1",
+        "app.representation-cache.enabled=false",
+        "app.admission.enabled=false"
+})
+@ActiveProfiles({"test", "partitioned"})
+@DisplayName("パーティション分割 結合テスト")
+class PartitionedIntegrationTest {
+
+    private static final int PARTITION_COUNT = 3;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private PartitionTemplate partitionTemplate;
+
+    @Autowired
+    private PartitionedDataSourceConfig.PartitionDataSources partitionDataSources;
+
+    @Test
+    @DisplayName("IT-032-1: create_正常系 - 部署のパーティションへ登録し、IDの剰余が格納先のパーティションと一致する")
+    void IDの採番と格納先() {
+        for (long departmentId = 1; departmentId <= PARTITION_COUNT; departmentId++) {
+            // Given
+            int expectedPartition = partitionTemplate.partitionForNewEmployee(departmentId);
+
+            // When
+            EmployeeDto created = employeeService.create(new CreateEmployeeRequest(
+                    "配置" + departmentId, "layout" + departmentId + "@example.com", departmentId, LocalDate.of(2023, 4, 1)));
+
+            // Then
+            assertEquals(expectedPartition, Math.floorMod(created.getId() - 1, (long) PARTITION_COUNT));
+            assertEquals(expectedPartition, partitionTemplate.partitionForEmployee(created.getId()));
+            for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+                assertEquals(partition == expectedPartition ? 1 : 0, countEmployee(partition, created.getId()));
+            }
+            assertEquals(created.getEmployeeNumber(), employeeService.findById(created.getId()).getEmployeeNumber());
+        }
+    }
+
+    @Test
+    @DisplayName("IT-032-2: findAll_正常系 - 全パーティションの社員をID順にページ分割する")
+    void パーティションをまたぐページ分割() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            long departmentId = i % PARTITION_COUNT + 1;
+            ids.add(employeeService.create(new CreateEmployeeRequest(
+                    "頁送り" + i, "paging" + i + "@example.com", departmentId, LocalDate.of(2023, 4, 1))).getId());
+        }
+        ids.sort(null);
+
+        // When
+        List<Long> pagedIds = new ArrayList<>();
+        Page<EmployeeDto> page;
+        int pageNumber = 0;
+        do {
+            page = employeeService.findAll(EmployeeListCriteria.of("頁送り", null), pageNumber++, 3);
+            page.getContent().forEach(employee -> pagedIds.add(employee.getId()));
+        } while (page.hasNext());
+
+        // Then
+        assertEquals(7, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+        assertEquals(ids, pagedIds);
+    }
+
+    @Test
+    @DisplayName("IT-032-3: create/update_異常系 - 別パーティションの社員と同じメールアドレスは登録・変更できず、変更後の旧アドレスは再利用できる")
+    void パーティションをまたぐメールアドレスの一意性() {
+        // Given
+        EmployeeDto first = employeeService.create(
+                new CreateEmployeeRequest("一意一郎", "unique@example.com", 1L, LocalDate.of(2023, 4, 1)));
+        EmployeeDto other = employeeService.create(
+                new CreateEmployeeRequest("一意二郎", "unique2@example.com", 2L, LocalDate.of(2023, 4, 1)));
+
+        // When & Then
+        assertThrows(DuplicateResourceException.class, () -> employeeService.create(
+                new CreateEmployeeRequest("一意三郎", "unique@example.com", 2L, LocalDate.of(2023, 4, 1))));
+        assertThrows(DuplicateResourceException.class, () -> employeeService.update(
+                other.getId(), new UpdateEmployeeRequest(null, "unique@example.com", null)));
+
+        // When（メールアドレスを変更すると旧アドレスの予約を取り消す）
+        employeeService.update(first.getId(), new UpdateEmployeeRequest(null, "unique-renamed@example.com", null));
+        EmployeeDto reused = employeeService.create(
+                new CreateEmployeeRequest("一意四郎", "unique@example.com", 3L, LocalDate.of(2023, 4, 1)));
+
+        // Then
+        assertEquals("unique@example.com", reused.getEmail());
+    }
+
+    @Test
+    @DisplayName("IT-032-4: create_正常系/異常系 - 別パーティションへの同時の作成でも社員番号は重複せず、同じメールアドレスは1件のみ登録できる")
+    void 同時の作成() throws Exception {
+        // Given
+        int threads = 9;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // When（異なるメールアドレス）
+            List<EmployeeDto> created = new ArrayList<>();
+            for (Future<EmployeeDto> future : startTogether(executor, threads, i -> new CreateEmployeeRequest(
+                    "同時" + i, "concurrent" + i + "@example.com", (long) (i % PARTITION_COUNT + 1), LocalDate.of(2023, 4, 1)))) {
+                created.add(future.get(10, TimeUnit.SECONDS));
+            }
+
+            // Then
+            Set<String> employeeNumbers = new HashSet<>();
+            created.forEach(employee -> employeeNumbers.add(employee.getEmployeeNumber()));
+            assertEquals(threads, employeeNumbers.size());
+
+            // When（同じメールアドレス）
+            int succeeded = 0;
+            int duplicated = 0;
+            for (Future<EmployeeDto> future : startTogether(executor, threads, i -> new CreateEmployeeRequest(
+                    "競合" + i, "contended@example.com", (long) (i % PARTITION_COUNT + 1), LocalDate.of(2023, 4, 1)))) {
+                try {
+                    future.get(10, TimeUnit.SECONDS);
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(DuplicateResourceException.class, e.getCause());
+                    duplicated++;
+                }
+            }
+
+            // Then
+            assertEquals(1, succeeded);
+            assertEquals(threads - 1, duplicated);
+            int stored = 0;
+            for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+                stored += new JdbcTemplate(partitionDataSources.get(partition)).queryForObject(
+                        "SELECT COUNT(*) FROM employees WHERE email = 'contended@example.com'", Integer.class);
+            }
+            assertEquals(1, stored);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Future<EmployeeDto>> startTogether(ExecutorService executor, int count,
+                                                    IntFunction<CreateEmployeeRequest> requests) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<EmployeeDto>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            CreateEmployeeRequest request = requests.apply(i);
+            Callable<EmployeeDto> create = () -> {
+                start.await();
+                return employeeService.create(request);
+            };
+            futures.add(executor.submit(create));
+        }
+        start.countDown();
+        return futures;
+    }
+
+    private int countEmployee(int partition, Long id) {
+        return new JdbcTemplate(partitionDataSources.get(partition))
+                .queryForObject("SELECT COUNT(*) FROM employees WHERE id = ?", Integer.class, id);
+    }
+}
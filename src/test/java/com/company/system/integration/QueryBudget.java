@@ -0,0 +1,27 @@
+package com.company.system.integration;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * テストメソッド内で発行してよいSQLの上限
+ * <p>
+ * {@link QueryBudgetExtension}がテストメソッドの実行中（@BeforeEachを除く）にテストスレッドで発行されたSQLを数え、
+ * 上限を超えた場合はテストを失敗させる。
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * SQLの最大発行数
+     */
+    int statements();
+
+    /**
+     * 取得する最大行数
+     */
+    int rows() default Integer.MAX_VALUE;
+}
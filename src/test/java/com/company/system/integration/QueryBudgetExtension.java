@@ -0,0 +1,35 @@
+package com.company.system.integration;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * {@link QueryBudget}で宣言したSQL発行数の上限を検証するJUnit拡張
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (context.getRequiredTestMethod().isAnnotationPresent(QueryBudget.class)) {
+            QueryCounter.start();
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryBudget budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+        QueryCounter.Counts counts = QueryCounter.stop();
+        if (budget == null || counts == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+        if (counts.getStatementCount() > budget.statements() || counts.getRowCount() > budget.rows()) {
+            throw new AssertionFailedError(String.format(
+                    "SQL発行数の上限を超えました: statements=%d (上限%d), rows=%d (上限%s)%n  %s",
+                    counts.getStatementCount(), budget.statements(),
+                    counts.getRowCount(), budget.rows() == Integer.MAX_VALUE ? "なし" : budget.rows(),
+                    String.join(System.lineSeparator() + "  ", counts.getStatements())));
+        }
+    }
+}
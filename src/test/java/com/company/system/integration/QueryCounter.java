@@ -0,0 +1,132 @@
+package com.company.system.integration;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBCのSQL発行数と取得行数を数える
+ * <p>
+ * データソースをJDKプロキシで包み、{@link #start()}したスレッドで実行されたSQLだけを数える。
+ * バックグラウンドスレッド（変更履歴の書き出しなど）のSQLは対象外。
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 現在のスレッドで計測を開始
+     */
+    public static void start() {
+        CURRENT.set(new Counts());
+    }
+
+    /**
+     * 現在のスレッドの計測を終了
+     *
+     * @return 計測結果（計測していない場合null）
+     */
+    public static Counts stop() {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        return counts;
+    }
+
+    /**
+     * データソースを計測用のプロキシで包む
+     *
+     * @param dataSource データソース
+     * @return 計測用のデータソース
+     */
+    public static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, args, result) -> {
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, connection, QueryCounter::onConnection);
+            }
+            return result;
+        });
+    }
+
+    private static Object onConnection(Method method, Object[] args, Object result) {
+        if (result instanceof PreparedStatement statement) {
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+            return proxy(PreparedStatement.class, statement, (m, a, r) -> onStatement(sql, m, a, r));
+        }
+        if (result instanceof Statement statement) {
+            return proxy(Statement.class, statement, (m, a, r) -> onStatement(null, m, a, r));
+        }
+        return result;
+    }
+
+    private static Object onStatement(String preparedSql, Method method, Object[] args, Object result) {
+        Counts counts = CURRENT.get();
+        String name = method.getName();
+        if (counts == null || !name.startsWith("execute")) {
+            return result;
+        }
+        String sql = preparedSql != null ? preparedSql
+                : args != null && args.length > 0 && args[0] instanceof String s ? s : "(batch)";
+        counts.statements.add(sql.replaceAll("\\s+", " ").trim());
+        if (result instanceof ResultSet resultSet) {
+            return proxy(ResultSet.class, resultSet, (m, a, r) -> {
+                if (m.getName().equals("next") && Boolean.TRUE.equals(r)) {
+                    counts.rows++;
+                }
+                return r;
+            });
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, AfterInvocation after) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return after.apply(method, args, result);
+        };
+        return (T) Proxy.newProxyInstance(QueryCounter.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface AfterInvocation {
+
+        Object apply(Method method, Object[] args, Object result);
+    }
+
+    /**
+     * 計測結果
+     */
+    public static final class Counts {
+
+        private final List<String> statements = new ArrayList<>();
+        private long rows;
+
+        public int getStatementCount() {
+            return statements.size();
+        }
+
+        public long getRowCount() {
+            return rows;
+        }
+
+        public List<String> getStatements() {
+            return statements;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.company.system.integration;
+
+import com.company.system.config.ReadYourWritesTracker;
+import com.company.system.config.ReplicaSynchronizer;
+import com.company.system.dto.CreateEmployeeRequest;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.repository.EmployeeViewRepository;
+import com.company.system.service.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 読み取りレプリカ振り分けの結合テスト
+ * <p>
+ * プライマリとは別のH2データベースをレプリカとし、複製前のレプリカからの古い読み取りと、
+ * 書き込んだセッションの読み取りがプライマリへ固定されることを確認する（自動の複製は起動時のみとなるよう間隔を長くする）。
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-primary",
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=jdbc:h2:mem:replica-replica;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.password=",
+        "app.datasource.replica.read-your-writes-window=1h",
+        "app.datasource.replica.sync-interval=1h",
+        "app.representation-cache.enabled=false",
+        "app.admission.enabled=false"
+})
+@ActiveProfiles("test")
+@DisplayName("読み取りレプリカ 結合テスト")
+class ReadReplicaIntegrationTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeViewRepository employeeViewRepository;
+
+    @Autowired
+    private ReplicaSynchronizer replicaSynchronizer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesTracker.clearCurrentSession();
+    }
+
+    @Test
+    @DisplayName("IT-026-1: 読み取り専用トランザクション - 複製前は他のセッションにレプリカの古い内容を返し、書き込んだセッションはプライマリから読む")
+    void 古い読み取りと書き込み直後の固定() {
+        // Given
+        ReadYourWritesTracker.setCurrentSession("writer");
+        EmployeeDto created = employeeService.create(
+                new CreateEmployeeRequest("複製太郎", "replica@example.com", 1L, LocalDate.of(2023, 4, 1)));
+
+        // When & Then（書き込んだセッションはプライマリへ固定）
+        assertTrue(existsInReadOnlyTransaction("writer", created.getId()));
+
+        // When & Then（他のセッションは複製前のレプリカを読む）
+        assertFalse(existsInReadOnlyTransaction("reader", created.getId()));
+
+        // When & Then（セッションを識別できない読み取りもレプリカを読む）
+        assertFalse(existsInReadOnlyTransaction(null, created.getId()));
+    }
+
+    @Test
+    @DisplayName("IT-026-2: synchronize - 複製後は他のセッションもレプリカから新しい内容を読む")
+    void 複製後の読み取り() {
+        // Given
+        ReadYourWritesTracker.setCurrentSession("writer-2");
+        EmployeeDto created = employeeService.create(
+                new CreateEmployeeRequest("複製花子", "replica2@example.com", 2L, LocalDate.of(2023, 4, 1)));
+        assertFalse(existsInReadOnlyTransaction("reader-2", created.getId()));
+
+        // When
+        long rows = replicaSynchronizer.synchronize();
+
+        // Then
+        assertTrue(rows > 0);
+        assertTrue(existsInReadOnlyTransaction("reader-2", created.getId()));
+    }
+
+    private boolean existsInReadOnlyTransaction(String session, Long id) {
+        ReadYourWritesTracker.setCurrentSession(session);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Boolean exists = readOnly.execute(status -> employeeViewRepository.findById(id).isPresent());
+        return Boolean.TRUE.equals(exists);
+    }
+}
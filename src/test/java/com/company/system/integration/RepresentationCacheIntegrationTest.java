@@ -0,0 +1,71 @@
+package com.company.system.integration;
+
+import com.company.system.dto.CreateEmployeeRequest;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.UpdateEmployeeRequest;
+import com.company.system.service.EmployeeService;
+import com.company.system.web.RepresentationCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * レスポンスJSONキャッシュの結合テスト
+ * <p>
+ * 作成・更新時にキャッシュへ登録したJSONが、データベースから読み直した社員のJSONと一致することを確認する。
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:representation-cache",
+        "app.representation-cache.enabled=true",
+        "app.admission.enabled=false"
+})
+@ActiveProfiles("test")
+@DisplayName("レスポンスJSONキャッシュ 結合テスト")
+class RepresentationCacheIntegrationTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private RepresentationCache representationCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("IT-031-1: create/update - キャッシュしたJSONはデータベースから読み直した内容（作成日時の精度を含む）と一致")
+    void 保存した内容との一致() throws Exception {
+        // Given & When（作成）
+        EmployeeDto created = employeeService.create(
+                new CreateEmployeeRequest("表現太郎", "representation@example.com", 1L, LocalDate.of(2023, 4, 1)));
+
+        // Then
+        assertEquals(persistedJson(created.getId()), cachedJson(created.getId()));
+
+        // When（更新）
+        employeeService.update(created.getId(), new UpdateEmployeeRequest("表現次郎", null, 2L));
+
+        // Then
+        String cached = cachedJson(created.getId());
+        assertTrue(cached.contains("\"name\":\"表現次郎\""));
+        assertEquals(persistedJson(created.getId()), cached);
+    }
+
+    private String cachedJson(Long id) {
+        byte[] json = representationCache.findEmployee(id);
+        assertNotNull(json);
+        return new String(json, StandardCharsets.UTF_8);
+    }
+
+    private String persistedJson(Long id) throws Exception {
+        return objectMapper.writeValueAsString(employeeService.findById(id));
+    }
+}
@@ -0,0 +1,129 @@
+package com.company.system.integration;
+
+import com.company.system.config.RequestDeadline;
+import com.company.system.dto.CreateEmployeeRequest;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.exception.DeadlineExceededException;
+import com.company.system.service.EmployeeService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 同時書き込みのまとめと処理期限の結合テスト
+ * <p>
+ * 待ち時間の上限をリクエストの処理期限より長くし、期限を過ぎた要求が期限超過の応答後に登録されないこと、
+ * 書き込みを始めた要求は期限を過ぎても実際の結果を返すことを確認する。
+ * 書き込みの専用スレッドを止めるため、接続プールの接続をすべて借りたままにする。
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:write-combining-deadline",
+        "app.write-combining.enabled=true",
+        "app.write-combining.max-window=10s",
+        "app.write-combining.latency-target=1m",
+        "app.representation-cache.enabled=false",
+        "app.admission.enabled=false"
+})
+@ActiveProfiles("test")
+@DisplayName("同時書き込みのまとめと処理期限 結合テスト")
+class WriteCombiningDeadlineIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(200);
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("IT-047-2: create_正常系/異常系 - 待ち時間が処理期限より長い場合、取り出し前の要求は登録せず再送でき、書き込み中の要求は結果を返す")
+    void create_処理期限() throws Exception {
+        // Given（接続を借りたままにして、最初の要求の書き込みを止める）
+        List<Connection> held = holdAllConnections();
+        Future<EmployeeDto> writing = submit("writing@example.com", TIMEOUT);
+        Thread.sleep(100);
+        // 止めている間に届いた2件はまとめて登録され、待ち時間が1段階（1秒）延びる
+        Future<EmployeeDto> batched1 = submit("batched1@example.com", null);
+        Future<EmployeeDto> batched2 = submit("batched2@example.com", null);
+        Thread.sleep(TIMEOUT.toMillis() * 2);
+        release(held);
+
+        // Then（書き込み中の要求は期限を過ぎても登録結果を返す）
+        assertEquals("writing@example.com", writing.get(10, TimeUnit.SECONDS).getEmail());
+        assertEquals("batched1@example.com", batched1.get(10, TimeUnit.SECONDS).getEmail());
+        assertEquals("batched2@example.com", batched2.get(10, TimeUnit.SECONDS).getEmail());
+
+        // When（待ち時間が処理期限より長いため、取り出される前に期限を過ぎる）
+        long start = System.nanoTime();
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> submit("timed-out@example.com", TIMEOUT).get(10, TimeUnit.SECONDS));
+
+        // Then（期限超過の応答後に登録されず、同じ内容の再送が重複とならない）
+        assertInstanceOf(DeadlineExceededException.class, e.getCause());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        Thread.sleep(1_500);
+        assertEquals(0, countByEmail("timed-out@example.com"));
+        EmployeeDto retried = submit("timed-out@example.com", null).get(10, TimeUnit.SECONDS);
+        assertEquals("timed-out@example.com", retried.getEmail());
+        assertEquals(1, countByEmail("timed-out@example.com"));
+    }
+
+    private Future<EmployeeDto> submit(String email, Duration timeout) {
+        return executor.submit(() -> {
+            RequestDeadline.set(timeout == null ? null : RequestDeadline.after(timeout));
+            try {
+                return employeeService.create(new CreateEmployeeRequest("期限", email, 1L, LocalDate.of(2024, 4, 1)));
+            } finally {
+                RequestDeadline.set(null);
+            }
+        });
+    }
+
+    private List<Connection> holdAllConnections() throws SQLException {
+        int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        List<Connection> held = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            held.add(dataSource.getConnection());
+        }
+        return held;
+    }
+
+    private static void release(List<Connection> held) throws SQLException {
+        for (Connection connection : held) {
+            connection.close();
+        }
+    }
+
+    private int countByEmail(String email) {
+        return new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM employees WHERE email = ?", Integer.class, email);
+    }
+}
@@ -0,0 +1,131 @@
+package com.company.system.integration;
+
+import com.company.system.dto.CreateEmployeeRequest;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.exception.DuplicateResourceException;
+import com.company.system.model.EmployeeHistory;
+import com.company.system.repository.EmployeeHistoryRepository;
+import com.company.system.service.EmployeeService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 同時書き込みのまとめの結合テスト
+ * <p>
+ * 同時に届いた社員作成が少ないトランザクションにまとめて登録され、各呼び出し元が自身の結果を受け取ることを確認する。
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:write-combining",
+        "app.write-combining.enabled=true",
+        "app.representation-cache.enabled=false",
+        "app.admission.enabled=false"
+})
+@ActiveProfiles("test")
+@DisplayName("同時書き込みのまとめ 結合テスト")
+class WriteCombiningIntegrationTest {
+
+    private static final int CALLERS = 16;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeHistoryRepository employeeHistoryRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("IT-047-1: create - 同時の社員作成をまとめて登録し、重複は該当する呼び出し元のみエラー")
+    void create_同時作成() throws Exception {
+        // Given
+        employeeService.create(new CreateEmployeeRequest("既存社員", "taken@example.com", 1L, LocalDate.of(2020, 4, 1)));
+        DistributionSummary batchSizes = meterRegistry.find("app.write-combining.batch.size").summary();
+        long batchesBefore = batchSizes.count();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When（1件は既存社員とメールアドレスが重複する）
+        List<Future<EmployeeDto>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            String email = i == 0 ? "taken@example.com" : "burst" + i + "@example.com";
+            String operator = "operator-" + i;
+            results.add(executor.submit(() -> {
+                MockHttpServletRequest request = new MockHttpServletRequest();
+                request.setUserPrincipal(() -> operator);
+                RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+                try {
+                    start.await();
+                    return employeeService.create(new CreateEmployeeRequest("社員", email, 2L, LocalDate.of(2024, 4, 1)));
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            }));
+        }
+        start.countDown();
+
+        // Then
+        ExecutionException e = assertThrows(ExecutionException.class, () -> results.get(0).get(10, TimeUnit.SECONDS));
+        assertInstanceOf(DuplicateResourceException.class, e.getCause());
+        Set<Long> ids = new HashSet<>();
+        Set<String> employeeNumbers = new HashSet<>();
+        for (int i = 1; i < CALLERS; i++) {
+            EmployeeDto employee = results.get(i).get(10, TimeUnit.SECONDS);
+            assertEquals("burst" + i + "@example.com", employee.getEmail());
+            assertEquals("開発部", employee.getDepartment().getName());
+            ids.add(employee.getId());
+            employeeNumbers.add(employee.getEmployeeNumber());
+            assertEquals(employee.getEmployeeNumber(), employeeService.findById(employee.getId()).getEmployeeNumber());
+        }
+        assertEquals(CALLERS - 1, ids.size());
+        assertEquals(CALLERS - 1, employeeNumbers.size());
+        // まとめて登録したため、トランザクション数は要求数より少ない
+        long batches = batchSizes.count() - batchesBefore;
+        assertTrue(batches < CALLERS, "トランザクション数: " + batches);
+        assertTrue(batchSizes.max() > 1);
+
+        // 変更履歴の操作者は各呼び出し元のもの（履歴は非同期に記録される）
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (int i = 1; i < CALLERS; i++) {
+            Long id = results.get(i).get().getId();
+            List<EmployeeHistory> histories = List.of();
+            while (histories.isEmpty() && System.nanoTime() < deadline) {
+                histories = employeeHistoryRepository.findByEmployeeId(id, PageRequest.of(0, 10)).getContent();
+                if (histories.isEmpty()) {
+                    Thread.sleep(10);
+                }
+            }
+            assertEquals(List.of("operator-" + i), histories.stream().map(EmployeeHistory::getChangedBy).toList());
+        }
+    }
+}
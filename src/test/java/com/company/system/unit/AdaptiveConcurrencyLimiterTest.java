@@ -0,0 +1,62 @@
+package com.company.system.unit;
+
+import com.company.system.web.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdaptiveConcurrencyLimiterの単体テスト
+ */
+@DisplayName("AdaptiveConcurrencyLimiter単体テスト")
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("UT-029-3: tryAcquire_異常系 - 上限に達すると拒否し、返却で再取得可能")
+    void tryAcquire_異常系_上限到達() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 2.0, 0.2);
+
+        // When & Then
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        limiter.release(0);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("UT-029-4: release_正常系 - レイテンシが悪化すると上限を縮小")
+    void release_正常系_レイテンシ悪化で縮小() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 100, 2.0, 0.5);
+        long baseline = TimeUnit.MILLISECONDS.toNanos(10);
+        for (int i = 0; i < 50; i++) {
+            saturateAndRelease(limiter, baseline);
+        }
+        int limitBefore = limiter.getLimit();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            saturateAndRelease(limiter, baseline * 20);
+        }
+
+        // Then
+        assertTrue(limiter.getLimit() < limitBefore);
+        assertTrue(limiter.getLimit() >= 5);
+    }
+
+    private void saturateAndRelease(AdaptiveConcurrencyLimiter limiter, long latencyNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        limiter.release(latencyNanos);
+        for (int i = 1; i < acquired; i++) {
+            limiter.release(0);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.company.system.unit;
+
+import com.company.system.config.AdmissionControlProperties;
+import com.company.system.exception.TooManyRequestsException;
+import com.company.system.web.AdmissionControlInterceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdmissionControlInterceptorの単体テスト
+ */
+@DisplayName("AdmissionControlInterceptor単体テスト")
+class AdmissionControlInterceptorTest {
+
+    private AdmissionControlInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionControlProperties properties = new AdmissionControlProperties();
+        properties.getRateLimit().setPermitsPerSecond(1);
+        properties.getRateLimit().setBurst(2);
+        interceptor = new AdmissionControlInterceptor(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        interceptor.close();
+    }
+
+    @Test
+    @DisplayName("UT-029-5: preHandle_異常系 - リクエストごとにクライアント識別ヘッダーを変えても接続元アドレスで制限")
+    void preHandle_異常系_ヘッダー変更() {
+        // Given
+        admit(request("10.0.0.1", "client-1", null));
+        admit(request("10.0.0.1", "client-2", null));
+
+        // When & Then
+        assertThrows(TooManyRequestsException.class,
+                () -> interceptor.preHandle(request("10.0.0.1", "client-3", null), new MockHttpServletResponse(), null));
+        admit(request("10.0.0.2", null, null));
+    }
+
+    @Test
+    @DisplayName("UT-029-6: preHandle_正常系 - 認証済みの利用者は同じ接続元アドレスでも利用者ごとに制限")
+    void preHandle_正常系_認証済み() {
+        // Given
+        admit(request("10.0.0.1", null, "alice"));
+        admit(request("10.0.0.1", null, "alice"));
+
+        // When & Then
+        assertThrows(TooManyRequestsException.class,
+                () -> interceptor.preHandle(request("10.0.0.1", null, "alice"), new MockHttpServletResponse(), null));
+        admit(request("10.0.0.1", null, "bob"));
+    }
+
+    private void admit(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(request, response, null));
+        interceptor.afterCompletion(request, response, null, null);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress, String clientId, String user) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employees");
+        request.setRemoteAddr(remoteAddress);
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        if (user != null) {
+            request.setUserPrincipal(() -> user);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,88 @@
+package com.company.system.unit;
+
+import com.company.system.model.CacheInvalidation;
+import com.company.system.service.CacheInvalidationCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CacheInvalidationCursorの単体テスト
+ */
+@DisplayName("CacheInvalidationCursor単体テスト")
+class CacheInvalidationCursorTest {
+
+    private static final long GAP_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private long now;
+    private CacheInvalidationCursor cursor;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        cursor = new CacheInvalidationCursor(10, GAP_TIMEOUT_NANOS, () -> now);
+    }
+
+    @Test
+    @DisplayName("UT-041-1: accept_正常系 - 読み取り位置より後のログだけを番号順に返す")
+    void accept_正常系_番号順() {
+        // When
+        List<CacheInvalidation> first = cursor.accept(List.of(row(12), row(11), row(9)));
+        List<CacheInvalidation> second = cursor.accept(List.of(row(12), row(13)));
+
+        // Then
+        assertEquals(List.of(11L, 12L), seqs(first));
+        assertEquals(List.of(13L), seqs(second));
+        assertEquals(13, cursor.getMaxSeen());
+        assertEquals(0, cursor.gapCount());
+    }
+
+    @Test
+    @DisplayName("UT-041-2: accept_正常系 - 後からコミットされた欠番のログを読み落とさない")
+    void accept_正常系_欠番() {
+        // Given（12と13は読み取り時点で未コミット）
+        cursor.accept(List.of(row(11), row(14)));
+
+        // When
+        List<CacheInvalidation> late = cursor.accept(List.of(row(13)));
+
+        // Then
+        assertEquals(List.of(13L), seqs(late));
+        assertEquals(List.of(12L), cursor.pendingGaps(10));
+        assertEquals(14, cursor.getMaxSeen());
+    }
+
+    @Test
+    @DisplayName("UT-041-3: expireGaps_正常系 - 待ち時間を過ぎた欠番はロールバック済みとして破棄する")
+    void expireGaps_正常系_待ち時間経過() {
+        // Given
+        cursor.accept(List.of(row(12)));
+
+        // When
+        now += GAP_TIMEOUT_NANOS - 1;
+        int notExpired = cursor.expireGaps();
+        now += 1;
+        int expired = cursor.expireGaps();
+
+        // Then
+        assertEquals(0, notExpired);
+        assertEquals(1, expired);
+        assertEquals(0, cursor.gapCount());
+        assertTrue(cursor.accept(List.of(row(11))).isEmpty());
+    }
+
+    private static CacheInvalidation row(long seq) {
+        LocalDateTime at = LocalDateTime.of(2024, 4, 1, 9, 0);
+        return new CacheInvalidation(seq, CacheInvalidation.ENTITY_EMPLOYEE, seq * 100, "node-a", at, at);
+    }
+
+    private static List<Long> seqs(List<CacheInvalidation> rows) {
+        return rows.stream().map(CacheInvalidation::getSeq).toList();
+    }
+}
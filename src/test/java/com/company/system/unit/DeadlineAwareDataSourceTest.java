@@ -0,0 +1,97 @@
+package com.company.system.unit;
+
+import com.company.system.config.DeadlineAwareDataSource;
+import com.company.system.config.RequestDeadline;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DeadlineAwareDataSourceの単体テスト
+ */
+@DisplayName("DeadlineAwareDataSource単体テスト")
+class DeadlineAwareDataSourceTest {
+
+    /**
+     * 数秒以上かかる問い合わせ
+     */
+    private static final String SLOW_QUERY = "SELECT SUM(X) FROM SYSTEM_RANGE(1, 10000000000)";
+
+    private DeadlineAwareDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:deadline;DB_CLOSE_DELAY=-1");
+        dataSource = new DeadlineAwareDataSource(h2);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        RequestDeadline.set(null);
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("UT-042-1: execute_異常系 - 期限を過ぎた実行中のSQLを取り消し、同じ接続の以降のSQLには影響しない")
+    void execute_異常系_期限超過で取り消し() throws SQLException {
+        // Given
+        RequestDeadline.set(RequestDeadline.after(Duration.ofMillis(200)));
+        try (Connection connection = dataSource.getConnection()) {
+            long start = System.nanoTime();
+
+            // When
+            SQLTimeoutException exception = assertThrows(SQLTimeoutException.class, () -> {
+                try (PreparedStatement statement = connection.prepareStatement(SLOW_QUERY)) {
+                    statement.executeQuery();
+                }
+            });
+
+            // Then
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            assertTrue(elapsedMillis < 2000, "期限後すぐに取り消されること: " + elapsedMillis + "ms");
+            assertEquals("57014", exception.getSQLState());
+
+            // When（期限のないスレッド状態では同じ接続で通常どおり実行できる）
+            RequestDeadline.set(null);
+            try (PreparedStatement statement = connection.prepareStatement("SELECT 1");
+                 ResultSet resultSet = statement.executeQuery()) {
+                // Then
+                assertTrue(resultSet.next());
+                assertEquals(1, resultSet.getInt(1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("UT-042-2: getConnection_正常系/異常系 - 期限内は実行し、期限切れでは接続を取得しない")
+    void getConnection_正常系_異常系() throws Exception {
+        // Given
+        RequestDeadline.set(RequestDeadline.after(Duration.ofSeconds(5)));
+
+        // When & Then（期限内のSQLはそのまま実行する）
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT 1");
+             ResultSet resultSet = statement.executeQuery()) {
+            assertTrue(resultSet.next());
+        }
+
+        // Given
+        RequestDeadline.set(RequestDeadline.after(Duration.ofMillis(1)));
+        Thread.sleep(5);
+
+        // When & Then
+        assertThrows(SQLTimeoutException.class, () -> dataSource.getConnection());
+    }
+}
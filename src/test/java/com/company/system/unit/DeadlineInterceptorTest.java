@@ -0,0 +1,68 @@
+package com.company.system.unit;
+
+import com.company.system.config.DeadlineProperties;
+import com.company.system.config.RequestDeadline;
+import com.company.system.exception.ValidationException;
+import com.company.system.web.DeadlineInterceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DeadlineInterceptorの単体テスト
+ */
+@DisplayName("DeadlineInterceptor単体テスト")
+class DeadlineInterceptorTest {
+
+    private DeadlineInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        DeadlineProperties properties = new DeadlineProperties();
+        properties.getEndpoints().put("/api/v1/employees/suggest", Duration.ofSeconds(1));
+        interceptor = new DeadlineInterceptor(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.set(null);
+    }
+
+    @Test
+    @DisplayName("UT-042-3: preHandle_正常系/異常系 - ヘッダー（上限で丸める）、APIごとの既定値、全体の既定値の順に期限を決定")
+    void preHandle_正常系_異常系() {
+        // When & Then（ヘッダー指定）
+        assertEquals(Duration.ofMillis(1500), timeoutFor("/api/v1/employees/suggest", "1500"));
+        assertEquals(Duration.ofSeconds(30), timeoutFor("/api/v1/employees", "600000"));
+
+        // When & Then（APIごとの既定値と全体の既定値）
+        assertEquals(Duration.ofSeconds(1), timeoutFor("/api/v1/employees/suggest", null));
+        assertEquals(Duration.ofSeconds(10), timeoutFor("/api/v1/employees", null));
+
+        // When & Then（不正なヘッダー）
+        assertThrows(ValidationException.class, () -> timeoutFor("/api/v1/employees", "2s"));
+        assertThrows(ValidationException.class, () -> timeoutFor("/api/v1/employees", "0"));
+    }
+
+    private Duration timeoutFor(String path, String header) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (header != null) {
+            request.addHeader("X-Request-Timeout", header);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, new Object());
+        try {
+            return RequestDeadline.current().getTimeout();
+        } finally {
+            interceptor.afterCompletion(request, response, new Object(), null);
+            assertNull(RequestDeadline.current());
+        }
+    }
+}
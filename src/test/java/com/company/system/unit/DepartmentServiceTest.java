@@ -0,0 +1,103 @@
+package com.company.system.unit;
+
+import com.company.system.config.DepartmentPartitionRoutingStrategy;
+import com.company.system.config.PartitionContext;
+import com.company.system.dto.DepartmentRosterDto;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.exception.ValidationException;
+import com.company.system.repository.DepartmentRepository;
+import com.company.system.repository.DepartmentRosterRepository.RosterRow;
+import com.company.system.service.DepartmentService;
+import com.company.system.service.HotKeyTracker;
+import com.company.system.service.PartitionTemplate;
+import com.company.system.service.RequestCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DepartmentServiceの単体テスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DepartmentService単体テスト")
+class DepartmentServiceTest {
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private HotKeyTracker hotKeyTracker;
+
+    private PartitionTemplate partitionTemplate;
+    private DepartmentService departmentService;
+
+    @BeforeEach
+    void setUp() {
+        partitionTemplate = new PartitionTemplate(2, new DepartmentPartitionRoutingStrategy(),
+                TransactionOperations.withoutTransaction(), 2, Duration.ofSeconds(5));
+        departmentService = new DepartmentService(departmentRepository,
+                new RequestCoalescer(TransactionOperations.withoutTransaction(), new SimpleMeterRegistry()),
+                hotKeyTracker, partitionTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        partitionTemplate.destroy();
+    }
+
+    @Test
+    @DisplayName("UT-049-1: findAllWithEmployees_正常系 - 全パーティションの行を部署ごとにまとめ、社員数を合算して上限件数までID順に並べる")
+    void findAllWithEmployees_正常系() {
+        // Given（部署1の社員は両パーティション、部署2の社員はパーティション0のみ、部署3は社員なし）
+        when(departmentRepository.findRosters(2)).thenAnswer(invocation -> PartitionContext.current() == 0
+                ? List.of(row(1, 3, 1L), row(1, 3, 3L), row(2, 1, 2L), row(3, 0, null))
+                : List.of(row(1, 2, 4L), row(1, 2, 6L), row(2, 0, null), row(3, 0, null)));
+
+        // When
+        List<DepartmentRosterDto> result = departmentService.findAllWithEmployees(2);
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L), result.stream().map(DepartmentRosterDto::getId).toList());
+        assertEquals(5, result.get(0).getEmployeeCount());
+        assertEquals(List.of(1L, 3L), result.get(0).getEmployees().stream().map(EmployeeDto::getId).toList());
+        assertEquals("部署1", result.get(0).getEmployees().get(0).getDepartment().getName());
+        assertEquals(1, result.get(1).getEmployeeCount());
+        assertEquals(List.of(2L), result.get(1).getEmployees().stream().map(EmployeeDto::getId).toList());
+        assertEquals(0, result.get(2).getEmployeeCount());
+        assertTrue(result.get(2).getEmployees().isEmpty());
+        verify(departmentRepository, times(2)).findRosters(2);
+    }
+
+    @Test
+    @DisplayName("UT-049-2: findAllWithEmployees_異常系 - 部署ごとの社員数が範囲外の場合はエラー")
+    void findAllWithEmployees_異常系() {
+        // When & Then
+        assertThrows(ValidationException.class, () -> departmentService.findAllWithEmployees(0));
+        assertThrows(ValidationException.class,
+                () -> departmentService.findAllWithEmployees(DepartmentService.MAX_ROSTER_LIMIT + 1));
+        verifyNoInteractions(departmentRepository);
+    }
+
+    private static RosterRow row(long departmentId, long employeeCount, Long employeeId) {
+        return new RosterRow(departmentId, "部署" + departmentId, "DEPT" + departmentId, employeeCount, employeeId,
+                employeeId != null ? String.format("EMP%03d", employeeId) : null,
+                employeeId != null ? "社員" + employeeId : null,
+                employeeId != null ? "employee" + employeeId + "@example.com" : null,
+                employeeId != null ? LocalDate.of(2024, 4, 1) : null,
+                employeeId != null ? LocalDateTime.of(2024, 4, 1, 9, 0) : null);
+    }
+}
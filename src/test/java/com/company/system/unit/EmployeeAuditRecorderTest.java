@@ -0,0 +1,236 @@
+package com.company.system.unit;
+
+import com.company.system.config.AuditProperties;
+import com.company.system.dto.DepartmentDto;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.event.EmployeeChangedEvent;
+import com.company.system.model.EmployeeHistory;
+import com.company.system.repository.EmployeeHistoryRepository;
+import com.company.system.service.EmployeeAuditRecorder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * EmployeeAuditRecorderの単体テスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeAuditRecorder単体テスト")
+class EmployeeAuditRecorderTest {
+
+    @Mock
+    private EmployeeHistoryRepository employeeHistoryRepository;
+
+    private AuditProperties properties;
+    private EmployeeAuditRecorder recorder;
+    private List<List<EmployeeHistory>> writtenBatches;
+    private AtomicInteger failuresRemaining;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuditProperties();
+        properties.setQueueCapacity(100);
+        properties.setBatchSize(3);
+        properties.setFlushInterval(Duration.ofMinutes(1));
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        recorder = new EmployeeAuditRecorder(employeeHistoryRepository, objectMapper, properties);
+
+        writtenBatches = new CopyOnWriteArrayList<>();
+        failuresRemaining = new AtomicInteger();
+        lenient().doAnswer(invocation -> {
+            if (failuresRemaining.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                throw new DataAccessResourceFailureException("接続が切断されました");
+            }
+            writtenBatches.add(List.copyOf(invocation.getArgument(0)));
+            return null;
+        }).when(employeeHistoryRepository).batchInsert(anyList());
+    }
+
+    @Test
+    @DisplayName("UT-028-1: onEmployeeChanged_正常系 - 変更内容と操作者を履歴に変換")
+    void onEmployeeChanged_正常系() {
+        // Given
+        EmployeeDto after = new EmployeeDto(1L, "EMP001", "山田太郎", "yamada@example.com",
+                new DepartmentDto(1L, "営業部", "SALES"), LocalDate.of(2024, 1, 1), LocalDateTime.now());
+        EmployeeChangedEvent event = new EmployeeChangedEvent(
+                EmployeeChangedEvent.ChangeType.CREATE, 1L, null, after, LocalDateTime.now());
+
+        // When（未開始のため呼び出し元スレッドで登録される）
+        recorder.onEmployeeChanged(event);
+
+        // Then
+        assertEquals(1, writtenBatches.size());
+        EmployeeHistory history = writtenBatches.get(0).get(0);
+        assertEquals(1L, history.getEmployeeId());
+        assertEquals("CREATE", history.getChangeType());
+        assertEquals("system", history.getChangedBy());
+        assertNull(history.getBeforeData());
+        assertTrue(history.getAfterData().contains("\"employeeNumber\":\"EMP001\""));
+    }
+
+    @Test
+    @DisplayName("UT-028-2: record_正常系 - バッチ件数ごとに一括登録し、停止時に残りを書き出す")
+    void record_正常系_一括登録と停止時の書き出し() {
+        // Given
+        recorder.start();
+
+        // When
+        for (long i = 1; i <= 5; i++) {
+            recorder.record(history(i));
+        }
+        recorder.stop();
+
+        // Then
+        int total = writtenBatches.stream().mapToInt(List::size).sum();
+        assertEquals(5, total);
+        assertTrue(writtenBatches.stream().allMatch(batch -> batch.size() <= 3));
+        assertEquals(0, recorder.getQueuedCount());
+        assertFalse(recorder.isRunning());
+    }
+
+    @Test
+    @DisplayName("UT-028-3: record_異常系 - 一括登録が失敗した場合も1件ずつ登録し直し、履歴を破棄しない")
+    void record_異常系_一括登録の失敗() {
+        // Given（最初の一括登録のみ失敗する）
+        failuresRemaining.set(1);
+        recorder.start();
+
+        // When
+        for (long i = 1; i <= 3; i++) {
+            recorder.record(history(i));
+        }
+        recorder.stop();
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L), writtenBatches.stream()
+                .flatMap(List::stream)
+                .map(EmployeeHistory::getEmployeeId)
+                .sorted()
+                .toList());
+        assertEquals(0, recorder.getQueuedCount());
+    }
+
+    @Test
+    @DisplayName("UT-028-4: record_異常系 - 1件ずつの登録も失敗した履歴はキューへ戻し、次回の書き出しで登録する")
+    void record_異常系_再登録() {
+        // Given（最初の一括登録と、1件目の個別登録が失敗する）
+        failuresRemaining.set(2);
+        recorder.start();
+
+        // When
+        recorder.record(history(1));
+        recorder.record(history(2));
+        recorder.record(history(3));
+        recorder.stop();
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L), writtenBatches.stream()
+                .flatMap(List::stream)
+                .map(EmployeeHistory::getEmployeeId)
+                .sorted()
+                .toList());
+        assertEquals(0, recorder.getQueuedCount());
+    }
+
+    @Test
+    @DisplayName("UT-028-6: record_正常系 - 書き出しスレッドの停止時の書き出し中にキューの空きを得た履歴も登録する")
+    void record_正常系_停止と同時の記録() throws Exception {
+        // Given（キューは1件のみ。1回目の登録を止め、2回目以降の登録は時間をかける）
+        properties.setQueueCapacity(1);
+        properties.setOfferTimeout(Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger inserts = new AtomicInteger();
+        doAnswer(invocation -> {
+            int call = inserts.incrementAndGet();
+            if (call == 1) {
+                release.await(5, TimeUnit.SECONDS);
+            } else {
+                Thread.sleep(200);
+            }
+            writtenBatches.add(List.copyOf(invocation.getArgument(0)));
+            return null;
+        }).when(employeeHistoryRepository).batchInsert(anyList());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            recorder.start();
+            recorder.record(history(1));
+            // 1件目の登録中に2件目がキューに入り、3件目・4件目は空きを待つ（停止前に記録を開始している）
+            executor.submit(() -> recorder.record(history(2))).get(5, TimeUnit.SECONDS);
+            List<Future<?>> waiting = List.of(
+                    executor.submit(() -> recorder.record(history(3))),
+                    executor.submit(() -> recorder.record(history(4))));
+            Thread.sleep(50);
+
+            // When（停止してから1件目の登録を再開する。待っていた履歴は停止後の書き出しが取り出した後にキューへ入る）
+            Future<?> stopping = executor.submit(() -> recorder.stop());
+            Thread.sleep(50);
+            release.countDown();
+            for (Future<?> future : waiting) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+            stopping.get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertEquals(List.of(1L, 2L, 3L, 4L), writtenBatches.stream()
+                    .flatMap(List::stream)
+                    .map(EmployeeHistory::getEmployeeId)
+                    .sorted()
+                    .toList());
+            assertEquals(0, recorder.getQueuedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("UT-028-5: currentOperator_正常系 - 認証済みユーザーを操作者とし、クライアントが指定したヘッダーは使用しない")
+    void currentOperator_正常系() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-User-Id", "spoofed");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            // When & Then（未認証の場合はヘッダーがあってもsystem）
+            assertEquals("system", EmployeeAuditRecorder.currentOperator());
+
+            // When & Then（認証済みの場合はユーザー名）
+            request.setUserPrincipal(() -> "yamada");
+            assertEquals("yamada", EmployeeAuditRecorder.currentOperator());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        // リクエスト外（ジョブなど）の場合はsystem
+        assertEquals("system", EmployeeAuditRecorder.currentOperator());
+    }
+
+    private EmployeeHistory history(long employeeId) {
+        return new EmployeeHistory(null, employeeId, "UPDATE", "tester", LocalDateTime.now(), "{}", "{}");
+    }
+}
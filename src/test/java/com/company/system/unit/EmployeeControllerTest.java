@@ -1,10 +1,17 @@
 package com.company.system.unit;
 
+import com.company.system.config.IdempotencyProperties;
+import com.company.system.config.RepresentationCacheProperties;
 import com.company.system.controller.EmployeeController;
 import com.company.system.dto.CreateEmployeeRequest;
 import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.EmployeeListCriteria;
 import com.company.system.dto.DepartmentDto;
+import com.company.system.repository.IdempotencyRecordRepository;
 import com.company.system.service.EmployeeService;
+import com.company.system.service.HotKeyTracker;
+import com.company.system.web.IdempotencyStore;
+import com.company.system.web.RepresentationCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,11 +19,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -25,6 +34,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -39,6 +51,18 @@ class EmployeeControllerTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private HotKeyTracker hotKeyTracker;
+
+    @Spy
+    private RepresentationCache representationCache =
+            new RepresentationCache(Jackson2ObjectMapperBuilder.json().build(), new RepresentationCacheProperties());
+
+    @Spy
+    private IdempotencyStore idempotencyStore = new IdempotencyStore(
+            mock(IdempotencyRecordRepository.class), new ObjectMapper().findAndRegisterModules(),
+            new IdempotencyProperties());
+
     @InjectMocks
     private EmployeeController employeeController;
 
@@ -69,7 +93,7 @@ class EmployeeControllerTest {
     void getEmployees_正常系() throws Exception {
         // Given
         Page<EmployeeDto> page = new PageImpl<>(List.of(employeeDto), PageRequest.of(0, 20), 1);
-        when(employeeService.findAll(0, 20, null, null)).thenReturn(page);
+        when(employeeService.findAll(new EmployeeListCriteria(), 0, 20)).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/api/v1/employees"))
@@ -78,6 +102,43 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
 
+    @Test
+    @DisplayName("UT-036-1: getEmployees_正常系 - API仕様書のページ形式で返却")
+    void getEmployees_正常系_ページ形式() throws Exception {
+        // Given
+        Page<EmployeeDto> page = new PageImpl<>(List.of(employeeDto), PageRequest.of(1, 1), 3);
+        when(employeeService.findAll(new EmployeeListCriteria(), 1, 1)).thenReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employees").param("page", "1").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].employeeNumber").value("EMP001"))
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.totalPages").value(3))
+                .andExpect(jsonPath("$.currentPage").value(1))
+                .andExpect(jsonPath("$.pageable").doesNotExist())
+                .andExpect(jsonPath("$.sort").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("UT-046-3: getEmployees_正常系 - 部署の複数指定・入社日の範囲・並び順を絞り込み条件に渡す")
+    void getEmployees_正常系_絞り込み条件() throws Exception {
+        // Given
+        EmployeeListCriteria criteria = new EmployeeListCriteria(null, List.of(1L, 2L),
+                LocalDate.of(2024, 4, 1), LocalDate.of(2025, 3, 31), "joinDate");
+        Page<EmployeeDto> page = new PageImpl<>(List.of(employeeDto), PageRequest.of(0, 20), 1);
+        when(employeeService.findAll(criteria, 0, 20)).thenReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employees")
+                        .param("departmentId", "1", "2")
+                        .param("joinedFrom", "2024-04-01")
+                        .param("joinedTo", "2025-03-31")
+                        .param("sort", "joinDate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("山田太郎"));
+    }
+
     @Test
     @DisplayName("UT-012: getEmployee_正常系 - 社員詳細取得API")
     void getEmployee_正常系() throws Exception {
@@ -92,6 +153,23 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.email").value("yamada@example.com"));
     }
 
+    @Test
+    @DisplayName("UT-031-1: getEmployee_正常系 - 2回目以降はキャッシュ済みのJSONを返却")
+    void getEmployee_正常系_キャッシュ() throws Exception {
+        // Given
+        when(employeeService.findById(1L)).thenReturn(employeeDto);
+
+        // When & Then
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/employees/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.name").value("山田太郎"))
+                    .andExpect(jsonPath("$.department.code").value("SALES"));
+        }
+        verify(employeeService, times(1)).findById(1L);
+    }
+
     @Test
     @DisplayName("UT-014: createEmployee_正常系 - 社員作成API")
     void createEmployee_正常系() throws Exception {
@@ -122,6 +200,45 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.employeeNumber").value("EMP002"));
     }
 
+    @Test
+    @DisplayName("UT-035-1: createEmployee_正常系 - 同じIdempotency-Keyの再送は社員を作成せず初回の結果を返却")
+    void createEmployee_正常系_再送() throws Exception {
+        // Given
+        CreateEmployeeRequest request = new CreateEmployeeRequest(
+                "佐藤花子",
+                "sato@example.com",
+                1L,
+                LocalDate.of(2024, 1, 1)
+        );
+        EmployeeDto createdDto = new EmployeeDto(
+                2L,
+                "EMP002",
+                "佐藤花子",
+                "sato@example.com",
+                new DepartmentDto(1L, "営業部", "SALES"),
+                LocalDate.of(2024, 1, 1),
+                LocalDateTime.now()
+        );
+        when(employeeService.create(any(CreateEmployeeRequest.class))).thenReturn(createdDto);
+        String body = objectMapper.writeValueAsString(request);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/employees")
+                        .header(EmployeeController.IDEMPOTENCY_KEY_HEADER, "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(EmployeeController.IDEMPOTENT_REPLAYED_HEADER));
+        mockMvc.perform(post("/api/v1/employees")
+                        .header(EmployeeController.IDEMPOTENCY_KEY_HEADER, "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(EmployeeController.IDEMPOTENT_REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.employeeNumber").value("EMP002"));
+        verify(employeeService, times(1)).create(any(CreateEmployeeRequest.class));
+    }
+
     @Test
     @DisplayName("UT-015: createEmployee_異常系_バリデーション - 無効なリクエスト")
     void createEmployee_異常系_バリデーション() throws Exception {
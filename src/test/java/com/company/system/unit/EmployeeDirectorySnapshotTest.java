@@ -0,0 +1,173 @@
+package com.company.system.unit;
+
+import com.company.system.config.DepartmentPartitionRoutingStrategy;
+import com.company.system.repository.EmployeeRepository;
+import com.company.system.service.EmployeeDirectory;
+import com.company.system.service.EmployeeDirectorySnapshot;
+import com.company.system.service.PartitionTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmployeeDirectorySnapshotの単体テスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeDirectorySnapshot単体テスト")
+class EmployeeDirectorySnapshotTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @TempDir
+    private Path directory;
+
+    private PartitionTemplate partitionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        partitionTemplate = new PartitionTemplate(1, new DepartmentPartitionRoutingStrategy(),
+                TransactionOperations.withoutTransaction(), 1, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("UT-044-1: write/read_正常系 - 保存した内容を読み込み、破損したファイルは拒否")
+    void writeRead_正常系() throws IOException {
+        // Given
+        Path path = directory.resolve("employee-directory.snapshot");
+        LocalDateTime capturedAt = LocalDateTime.of(2024, 4, 1, 9, 30, 15, 123_456_789);
+        List<EmployeeDirectory.Entry> entries = List.of(
+                new EmployeeDirectory.Entry(1L, "EMP001", "山田 太郎", "yamada@example.com", 1L,
+                        LocalDate.of(2019, 4, 1), false),
+                new EmployeeDirectory.Entry(2L, "EMP002", "𠮷野 花子", "yoshino@example.com", 2L,
+                        LocalDate.of(2020, 4, 1), true));
+
+        // When
+        EmployeeDirectorySnapshot.write(path, 1, new EmployeeDirectory.Capture(capturedAt, 1L, entries));
+        EmployeeDirectorySnapshot snapshot = EmployeeDirectorySnapshot.read(path);
+
+        // Then
+        assertEquals(capturedAt, snapshot.getCapturedAt());
+        assertEquals(1, snapshot.getPartitionCount());
+        assertEquals(entries, snapshot.getEntries());
+        try (var files = Files.list(directory)) {
+            assertEquals(List.of(path), files.toList());
+        }
+
+        // When（本体の1バイトを書き換える）
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(path, bytes);
+
+        // Then
+        assertThrows(IOException.class, () -> EmployeeDirectorySnapshot.read(path));
+    }
+
+    @Test
+    @DisplayName("UT-044-2: restore_正常系 - 保存後の変更を反映し、社員数が一致しない場合は全件読み込み")
+    void restore_正常系() throws IOException {
+        // Given
+        Path path = directory.resolve("employee-directory.snapshot");
+        LocalDateTime capturedAt = LocalDateTime.of(2024, 4, 1, 9, 0);
+        EmployeeDirectorySnapshot.write(path, 1, new EmployeeDirectory.Capture(capturedAt, 1L, List.of(
+                new EmployeeDirectory.Entry(1L, "EMP001", "山田太郎", "yamada@example.com", 1L,
+                        LocalDate.of(2019, 4, 1), false),
+                new EmployeeDirectory.Entry(2L, "EMP002", "佐藤花子", "sato@example.com", 2L,
+                        LocalDate.of(2020, 4, 1), false))));
+        EmployeeDirectorySnapshot snapshot = EmployeeDirectorySnapshot.read(path);
+        // 保存後に社員2が削除され、社員3が登録された
+        when(employeeRepository.findDirectoryChangedSince(capturedAt.minusMinutes(1))).thenReturn(List.of(
+                new Row(2L, "EMP002", "佐藤花子", "sato@example.com", 2L, LocalDate.of(2020, 4, 1),
+                        LocalDateTime.of(2024, 4, 1, 10, 0)),
+                new Row(3L, "EMP003", "鈴木一郎", "suzuki@example.com", 1L, LocalDate.of(2024, 4, 1), null)));
+        when(employeeRepository.count()).thenReturn(3L);
+        EmployeeDirectory employeeDirectory = new EmployeeDirectory(employeeRepository, partitionTemplate);
+
+        // When
+        boolean restored = employeeDirectory.restore(snapshot, Duration.ofMinutes(1));
+
+        // Then（データベースから全件は読み込まない）
+        assertTrue(restored);
+        assertEquals(List.of("1:false", "2:true", "3:false"), employeeDirectory.entries().stream()
+                .sorted(Comparator.comparingLong(EmployeeDirectory.Entry::id))
+                .map(entry -> entry.id() + ":" + entry.deleted())
+                .toList());
+        verify(employeeRepository, never()).findAllForDirectory();
+
+        // Given（物理削除などで社員数が一致しない）
+        when(employeeRepository.count()).thenReturn(4L);
+        when(employeeRepository.findAllForDirectory()).thenReturn(List.of(
+                new Row(1L, "EMP001", "山田太郎", "yamada@example.com", 1L, LocalDate.of(2019, 4, 1), null)));
+        EmployeeDirectory mismatched = new EmployeeDirectory(employeeRepository, partitionTemplate);
+
+        // When
+        boolean fallback = mismatched.restore(snapshot, Duration.ofMinutes(1));
+
+        // Then（復元せず、初回参照時にデータベースから読み込む）
+        assertFalse(fallback);
+        assertNull(mismatched.capture());
+        assertEquals(1, mismatched.entries().size());
+        verify(employeeRepository, times(1)).findAllForDirectory();
+        verify(employeeRepository, times(2)).findDirectoryChangedSince(any());
+    }
+
+    private record Row(Long id, String employeeNumber, String name, String email, Long departmentId,
+                       LocalDate joinDate, LocalDateTime deletedAt) implements EmployeeRepository.DirectoryRow {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getEmployeeNumber() {
+            return employeeNumber;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+
+        @Override
+        public Long getDepartmentId() {
+            return departmentId;
+        }
+
+        @Override
+        public LocalDate getJoinDate() {
+            return joinDate;
+        }
+
+        @Override
+        public LocalDateTime getDeletedAt() {
+            return deletedAt;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.company.system.unit;
+
+import com.company.system.config.DepartmentPartitionRoutingStrategy;
+import com.company.system.config.ReportProperties;
+import com.company.system.dto.DepartmentDto;
+import com.company.system.dto.HeadcountReportDto;
+import com.company.system.dto.HiringAttritionReportDto;
+import com.company.system.dto.TenureReportDto;
+import com.company.system.event.EmployeeChangedEvent;
+import com.company.system.exception.ValidationException;
+import com.company.system.repository.EmployeeRepository;
+import com.company.system.service.DepartmentService;
+import com.company.system.service.EmployeeReportService;
+import com.company.system.service.PartitionTemplate;
+import com.company.system.service.RequestCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmployeeReportServiceの単体テスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeReportService単体テスト")
+class EmployeeReportServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private DepartmentService departmentService;
+
+    private final List<Row> rows = new ArrayList<>();
+
+    private EmployeeReportService reportService;
+
+    @BeforeEach
+    void setUp() {
+        PartitionTemplate partitionTemplate = new PartitionTemplate(1, new DepartmentPartitionRoutingStrategy(),
+                TransactionOperations.withoutTransaction(), 1, Duration.ofSeconds(5));
+        RequestCoalescer requestCoalescer =
+                new RequestCoalescer(TransactionOperations.withoutTransaction(), new SimpleMeterRegistry());
+        ReportProperties properties = new ReportProperties();
+        properties.setParallelism(4);
+        // 少ない件数でも分割して並列に集計させる
+        properties.setSplitThreshold(2);
+        reportService = new EmployeeReportService(employeeRepository, departmentService, partitionTemplate,
+                requestCoalescer, properties);
+        doAnswer(invocation -> {
+            EmployeeRepository.ReportRowHandler handler = invocation.getArgument(0);
+            rows.forEach(row -> handler.accept(row.departmentId(), row.joinDate(), row.deletedAt()));
+            return null;
+        }).when(employeeRepository).scanForReport(any());
+        lenient().when(departmentService.findAll()).thenReturn(List.of(
+                new DepartmentDto(1L, "営業部", "SALES"), new DepartmentDto(2L, "開発部", "DEV")));
+
+        rows.add(new Row(1L, LocalDate.of(2019, 4, 1), null));
+        rows.add(new Row(1L, LocalDate.of(2019, 10, 1), null));
+        rows.add(new Row(1L, LocalDate.of(2022, 4, 1), null));
+        rows.add(new Row(2L, LocalDate.of(2020, 4, 1), LocalDateTime.of(2024, 3, 31, 18, 0)));
+        rows.add(new Row(2L, LocalDate.of(2023, 4, 1), null));
+        rows.add(new Row(2L, LocalDate.of(2024, 2, 1), null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportService.destroy();
+    }
+
+    @Test
+    @DisplayName("UT-043-1: headcount/tenure_正常系 - 在籍者を部署・入社年別、勤続年数別に集計")
+    void headcountAndTenure_正常系() {
+        // When
+        HeadcountReportDto headcount = reportService.headcount();
+        TenureReportDto tenure = reportService.tenure(LocalDate.of(2024, 4, 1));
+
+        // Then（削除済みの社員は在籍人数に含めない）
+        assertEquals(5, headcount.getTotal());
+        assertEquals(List.of("SALES:2019:2", "SALES:2022:1", "DEV:2023:1", "DEV:2024:1"), headcount.getRows().stream()
+                .map(row -> row.getDepartment().getCode() + ":" + row.getJoinYear() + ":" + row.getHeadcount())
+                .toList());
+        // 2019-04-01入社は満5年、2019-10-01入社は満4年、2024-03-31削除は基準日時点で退職済み
+        assertEquals(5, tenure.getTotal());
+        assertEquals(List.of("0:1", "1:1", "2:1", "4:1", "5:1"), tenure.getBuckets().stream()
+                .map(bucket -> bucket.getYears() + ":" + bucket.getHeadcount())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("UT-043-2: hiringAttrition_正常系 - 月ごとの入社数・退職数と月末の在籍人数を集計")
+    void hiringAttrition_正常系() {
+        // When
+        HiringAttritionReportDto report = reportService.hiringAttrition(YearMonth.of(2024, 1), YearMonth.of(2024, 4));
+
+        // Then（2024-01時点の在籍者は2019〜2023年入社の5人）
+        assertEquals(5, report.getOpeningHeadcount());
+        assertEquals(List.of("2024-01:0:0:5", "2024-02:1:0:6", "2024-03:0:1:5", "2024-04:0:0:5"),
+                report.getMonths().stream()
+                        .map(month -> month.getMonth() + ":" + month.getHires() + ":" + month.getLeavers()
+                                + ":" + month.getHeadcount())
+                        .toList());
+        assertThrows(ValidationException.class,
+                () -> reportService.hiringAttrition(YearMonth.of(2024, 5), YearMonth.of(2024, 4)));
+    }
+
+    @Test
+    @DisplayName("UT-043-3: headcount_正常系 - 社員が変更されるまで集計結果を再利用し、変更後は読み込み直す")
+    void headcount_正常系_集計結果の再利用() {
+        // Given
+        HeadcountReportDto first = reportService.headcount();
+
+        // When
+        HeadcountReportDto cached = reportService.headcount();
+        reportService.tenure(LocalDate.of(2024, 4, 1));
+        rows.add(new Row(2L, LocalDate.of(2024, 4, 1), null));
+        reportService.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.ChangeType.CREATE,
+                7L, null, null, LocalDateTime.now()));
+        HeadcountReportDto reloaded = reportService.headcount();
+
+        // Then（変更までは1回の読み込みを全レポートで共有する）
+        assertSame(first, cached);
+        assertEquals(6, reloaded.getTotal());
+        verify(employeeRepository, times(2)).scanForReport(any());
+    }
+
+    private record Row(long departmentId, LocalDate joinDate, LocalDateTime deletedAt) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.company.system.unit;
+
+import com.company.system.config.DepartmentPartitionRoutingStrategy;
+import com.company.system.dto.DepartmentDto;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.EmployeeSearchCriteria;
+import com.company.system.event.EmployeeChangedEvent;
+import com.company.system.repository.EmployeeRepository;
+import com.company.system.service.EmployeeDirectory;
+import com.company.system.service.EmployeeSearchIndex;
+import com.company.system.service.PartitionTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmployeeSearchIndexの単体テスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeSearchIndex単体テスト")
+class EmployeeSearchIndexTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        PartitionTemplate partitionTemplate = new PartitionTemplate(1, new DepartmentPartitionRoutingStrategy(),
+                TransactionOperations.withoutTransaction(), 1, Duration.ofSeconds(5));
+        searchIndex = new EmployeeSearchIndex(new EmployeeDirectory(employeeRepository, partitionTemplate));
+        when(employeeRepository.findAllForDirectory()).thenReturn(List.of(
+                new Row(1L, 1L, LocalDate.of(2019, 4, 1), "yamada@example.com", "山田太郎", null),
+                new Row(2L, 2L, LocalDate.of(2020, 4, 1), "sato@example.co.jp", "佐藤花子", null),
+                new Row(3L, 3L, LocalDate.of(2020, 10, 1), "suzuki@example.com", "鈴木一郎", null),
+                new Row(4L, 1L, LocalDate.of(2021, 4, 1), "tanaka@example.com", "田中次郎", LocalDateTime.now()),
+                new Row(5L, 2L, LocalDate.of(2022, 4, 1), "takahashi@Example.com", "高橋三郎", null)
+        ));
+    }
+
+    @Test
+    @DisplayName("UT-033-1: search_正常系 - 複数部署・入社日範囲・ドメインの組み合わせで絞り込み")
+    void search_正常系_複合条件() {
+        // Given
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria(List.of(1L, 2L),
+                LocalDate.of(2019, 10, 1), LocalDate.of(2022, 12, 31), List.of("example.com"), null,
+                EmployeeSearchCriteria.Status.ACTIVE);
+
+        // When
+        EmployeeSearchIndex.SearchResult result = searchIndex.search(criteria, 0, 20);
+
+        // Then（ID 1は入社日、ID 2はドメイン、ID 3は部署、ID 4は削除済みのため除外）
+        assertEquals(List.of(5L), result.ids());
+        assertEquals(1, result.totalElements());
+    }
+
+    @Test
+    @DisplayName("UT-033-2: search_正常系 - 在籍状態と社員名で絞り込み、ページ分割")
+    void search_正常系_在籍状態とページ分割() {
+        // When
+        EmployeeSearchIndex.SearchResult deleted = searchIndex.search(
+                new EmployeeSearchCriteria(null, null, null, null, "田中", EmployeeSearchCriteria.Status.DELETED), 0, 20);
+        EmployeeSearchIndex.SearchResult secondPage = searchIndex.search(
+                new EmployeeSearchCriteria(null, null, null, null, null, EmployeeSearchCriteria.Status.ALL), 1, 2);
+
+        // Then
+        assertEquals(List.of(4L), deleted.ids());
+        assertEquals(List.of(3L, 4L), secondPage.ids());
+        assertEquals(5, secondPage.totalElements());
+        verify(employeeRepository, times(1)).findAllForDirectory();
+    }
+
+    @Test
+    @DisplayName("UT-033-3: onEmployeeChanged_正常系 - 作成・更新・削除をインデックスへ反映")
+    void onEmployeeChanged_正常系() {
+        // Given
+        EmployeeSearchCriteria sales = new EmployeeSearchCriteria(List.of(1L), null, null, null, null,
+                EmployeeSearchCriteria.Status.ACTIVE);
+        assertEquals(List.of(1L), searchIndex.search(sales, 0, 20).ids());
+
+        // When
+        searchIndex.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.ChangeType.CREATE,
+                6L, null, employee(6L, 1L), LocalDateTime.now()));
+        searchIndex.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.ChangeType.UPDATE,
+                2L, employee(2L, 2L), employee(2L, 1L), LocalDateTime.now()));
+        searchIndex.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.ChangeType.DELETE,
+                1L, employee(1L, 1L), null, LocalDateTime.now()));
+
+        // Then
+        assertEquals(List.of(2L, 6L), searchIndex.search(sales, 0, 20).ids());
+        assertEquals(6, searchIndex.size());
+    }
+
+    private static EmployeeDto employee(Long id, Long departmentId) {
+        return new EmployeeDto(id, String.format("EMP%03d", id), "社員" + id, "employee" + id + "@example.com",
+                new DepartmentDto(departmentId, "部署" + departmentId, "D" + departmentId),
+                LocalDate.of(2024, 4, 1), LocalDateTime.now());
+    }
+
+    private record Row(Long id, Long departmentId, LocalDate joinDate, String email, String name,
+                       LocalDateTime deletedAt) implements EmployeeRepository.DirectoryRow {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getEmployeeNumber() {
+            return String.format("EMP%03d", id);
+        }
+
+        @Override
+        public Long getDepartmentId() {
+            return departmentId;
+        }
+
+        @Override
+        public LocalDate getJoinDate() {
+            return joinDate;
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public LocalDateTime getDeletedAt() {
+            return deletedAt;
+        }
+    }
+}
@@ -1,26 +1,49 @@
 package com.company.system.unit;
 
+import com.company.system.config.DepartmentPartitionRoutingStrategy;
+import com.company.system.config.PartitionContext;
+import com.company.system.config.SuggestProperties;
+import com.company.system.config.WriteCombiningProperties;
 import com.company.system.dto.CreateEmployeeRequest;
 import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.EmployeeListCriteria;
+import com.company.system.event.EmployeeChangedEvent;
 import com.company.system.exception.DuplicateResourceException;
 import com.company.system.exception.ResourceNotFoundException;
+import com.company.system.exception.ValidationException;
 import com.company.system.model.Department;
 import com.company.system.model.Employee;
+import com.company.system.model.EmployeeView;
 import com.company.system.repository.DepartmentRepository;
 import com.company.system.repository.EmployeeRepository;
+import com.company.system.repository.EmployeeViewRepository;
+import com.company.system.service.EmployeeKeyAllocator;
+import com.company.system.service.EmployeeSearchIndex;
 import com.company.system.service.EmployeeService;
+import com.company.system.service.EmployeeSuggestIndex;
+import com.company.system.service.HotKeyTracker;
+import com.company.system.service.PartitionTemplate;
+import com.company.system.service.RequestCoalescer;
+import com.company.system.service.WriteCombiner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -29,6 +52,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -41,14 +65,48 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EmployeeViewRepository employeeViewRepository;
+
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private RequestCoalescer requestCoalescer =
+            new RequestCoalescer(TransactionOperations.withoutTransaction(), new SimpleMeterRegistry());
+
+    @Mock
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @Mock
+    private EmployeeSuggestIndex employeeSuggestIndex;
+
+    @Spy
+    private SuggestProperties suggestProperties = new SuggestProperties();
+
+    @Mock
+    private HotKeyTracker hotKeyTracker;
+
+    @Mock
+    private EmployeeKeyAllocator employeeKeyAllocator;
+
+    @Spy
+    private WriteCombiner writeCombiner = new WriteCombiner(TransactionOperations.withoutTransaction(),
+            writeCombiningDisabled(), new SimpleMeterRegistry(), null);
+
+    @Spy
+    private PartitionTemplate partitionTemplate = new PartitionTemplate(1, new DepartmentPartitionRoutingStrategy(),
+            TransactionOperations.withoutTransaction(), 1, Duration.ofSeconds(5));
+
     @InjectMocks
     private EmployeeService employeeService;
 
     private Department department;
     private Employee employee;
+    private EmployeeView employeeView;
 
     @BeforeEach
     void setUp() {
@@ -64,31 +122,34 @@ class EmployeeServiceTest {
                 LocalDateTime.now(),
                 null
         );
+        employeeView = new EmployeeView(1L, "EMP001", "山田太郎", "yamada@example.com", 1L, "営業部", "SALES",
+                LocalDate.of(2024, 1, 1), LocalDateTime.now());
     }
 
     @Test
     @DisplayName("UT-001: findAll_正常系 - 全社員を取得")
     void findAll_正常系() {
         // Given
-        Pageable pageable = PageRequest.of(0, 20);
-        Page<Employee> employeePage = new PageImpl<>(List.of(employee), pageable, 1);
-        when(employeeRepository.findAllActive(pageable)).thenReturn(employeePage);
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("id"));
+        Page<EmployeeView> employeePage = new PageImpl<>(List.of(employeeView), pageable, 1);
+        when(employeeViewRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(employeePage);
 
         // When
-        Page<EmployeeDto> result = employeeService.findAll(0, 20, null, null);
+        Page<EmployeeDto> result = employeeService.findAll(new EmployeeListCriteria(), 0, 20);
 
         // Then
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals("山田太郎", result.getContent().get(0).getName());
-        verify(employeeRepository, times(1)).findAllActive(pageable);
+        verify(employeeViewRepository, times(1)).findAll(any(Specification.class), eq(pageable));
+        verifyNoInteractions(employeeRepository);
     }
 
     @Test
     @DisplayName("UT-002: findById_正常系 - 存在するIDで社員取得")
     void findById_正常系() {
         // Given
-        when(employeeRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(employee));
+        when(employeeViewRepository.findById(1L)).thenReturn(Optional.of(employeeView));
 
         // When
         EmployeeDto result = employeeService.findById(1L);
@@ -98,20 +159,22 @@ class EmployeeServiceTest {
         assertEquals(1L, result.getId());
         assertEquals("山田太郎", result.getName());
         assertEquals("yamada@example.com", result.getEmail());
-        verify(employeeRepository, times(1)).findByIdAndNotDeleted(1L);
+        assertEquals("営業部", result.getDepartment().getName());
+        verify(employeeViewRepository, times(1)).findById(1L);
+        verifyNoInteractions(employeeRepository);
     }
 
     @Test
     @DisplayName("UT-003: findById_異常系 - 存在しないIDで社員取得")
     void findById_異常系() {
         // Given
-        when(employeeRepository.findByIdAndNotDeleted(999L)).thenReturn(Optional.empty());
+        when(employeeViewRepository.findById(999L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(ResourceNotFoundException.class, () -> {
             employeeService.findById(999L);
         });
-        verify(employeeRepository, times(1)).findByIdAndNotDeleted(999L);
+        verify(employeeViewRepository, times(1)).findById(999L);
     }
 
     @Test
@@ -125,8 +188,9 @@ class EmployeeServiceTest {
                 LocalDate.of(2024, 1, 1)
         );
         when(employeeRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(employeeKeyAllocator.reserveEmail("sato@example.com")).thenReturn(true);
         when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
-        when(employeeRepository.findAll()).thenReturn(List.of());
+        when(employeeKeyAllocator.allocateEmployeeNumbers(1)).thenReturn(List.of("EMP002"));
         when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
 
         // When
@@ -136,7 +200,8 @@ class EmployeeServiceTest {
         assertNotNull(result);
         verify(employeeRepository, times(1)).findByEmail(request.getEmail());
         verify(departmentRepository, times(1)).findById(1L);
-        verify(employeeRepository, times(1)).save(any(Employee.class));
+        verify(employeeRepository, times(1)).save(argThat(saved -> "EMP002".equals(saved.getEmployeeNumber())));
+        verify(eventPublisher, times(1)).publishEvent(any(EmployeeChangedEvent.class));
     }
 
     @Test
@@ -157,6 +222,7 @@ class EmployeeServiceTest {
         });
         verify(employeeRepository, times(1)).findByEmail("yamada@example.com");
         verify(employeeRepository, never()).save(any(Employee.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -170,6 +236,7 @@ class EmployeeServiceTest {
                 LocalDate.of(2024, 1, 1)
         );
         when(employeeRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(employeeKeyAllocator.reserveEmail("sato@example.com")).thenReturn(true);
         when(departmentRepository.findById(999L)).thenReturn(Optional.empty());
 
         // When & Then
@@ -180,6 +247,25 @@ class EmployeeServiceTest {
         verify(employeeRepository, never()).save(any(Employee.class));
     }
 
+    @Test
+    @DisplayName("UT-032-4: create_異常系_メール予約済み - 別パーティションの社員が予約済みのメールアドレスで作成")
+    void create_異常系_メール予約済み() {
+        // Given
+        CreateEmployeeRequest request = new CreateEmployeeRequest(
+                "佐藤花子",
+                "sato@example.com",
+                1L,
+                LocalDate.of(2024, 1, 1)
+        );
+        when(employeeRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(employeeKeyAllocator.reserveEmail("sato@example.com")).thenReturn(false);
+
+        // When & Then
+        assertThrows(DuplicateResourceException.class, () -> employeeService.create(request));
+        verify(employeeKeyAllocator, never()).allocateEmployeeNumbers(anyInt());
+        verify(employeeRepository, never()).save(any(Employee.class));
+    }
+
     @Test
     @DisplayName("UT-009: delete_正常系 - 既存社員を削除")
     void delete_正常系() {
@@ -194,6 +280,7 @@ class EmployeeServiceTest {
         verify(employeeRepository, times(1)).findByIdAndNotDeleted(1L);
         verify(employeeRepository, times(1)).save(any(Employee.class));
         assertNotNull(employee.getDeletedAt());
+        verify(eventPublisher, times(1)).publishEvent(any(EmployeeChangedEvent.class));
     }
 
     @Test
@@ -209,6 +296,95 @@ class EmployeeServiceTest {
         verify(employeeRepository, times(1)).findByIdAndNotDeleted(999L);
         verify(employeeRepository, never()).save(any(Employee.class));
     }
-}
 
+    @Test
+    @DisplayName("UT-032-3: findAll_正常系_パーティション分割 - 全パーティションの結果をID順にマージしてページ分割")
+    void findAll_正常系_パーティション分割() {
+        // Given（パーティション0にID 1,3,5、パーティション1にID 2,4,6）
+        PartitionTemplate partitioned = new PartitionTemplate(2, new DepartmentPartitionRoutingStrategy(),
+                TransactionOperations.withoutTransaction(), 2, Duration.ofSeconds(5));
+        EmployeeService service = new EmployeeService(employeeRepository, employeeViewRepository, departmentRepository,
+                eventPublisher, requestCoalescer, partitioned, employeeSearchIndex, employeeSuggestIndex, suggestProperties,
+                hotKeyTracker, writeCombiner, employeeKeyAllocator);
+        Pageable partitionPageable = PageRequest.of(0, 4, Sort.by("id"));
+        when(employeeViewRepository.findAll(any(Specification.class), eq(partitionPageable))).thenAnswer(invocation -> {
+            long first = PartitionContext.current() + 1;
+            List<EmployeeView> employees = List.of(employeeWithId(first), employeeWithId(first + 2), employeeWithId(first + 4));
+            return new PageImpl<>(employees, partitionPageable, employees.size());
+        });
+
+        try {
+            // When
+            Page<EmployeeDto> result = service.findAll(new EmployeeListCriteria(), 1, 2);
 
+            // Then
+            assertEquals(6, result.getTotalElements());
+            assertEquals(3, result.getTotalPages());
+            assertEquals(List.of(3L, 4L), result.getContent().stream().map(EmployeeDto::getId).toList());
+        } finally {
+            partitioned.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("UT-046-1: findAll_正常系_並び順 - 入社日順はインデックスと同じ列順（入社日・ID）で整列")
+    void findAll_正常系_入社日順() {
+        // Given
+        EmployeeListCriteria criteria = new EmployeeListCriteria(null, List.of(1L, 2L),
+                LocalDate.of(2024, 1, 1), null, "joinDate");
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("joinDate", "id"));
+        when(employeeViewRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(employeeView), pageable, 1));
+
+        // When
+        Page<EmployeeDto> result = employeeService.findAll(criteria, 0, 20);
+
+        // Then
+        assertEquals(List.of(1L), result.getContent().stream().map(EmployeeDto::getId).toList());
+        verify(hotKeyTracker).record(HotKeyTracker.Category.EMPLOYEE_QUERY,
+                "departmentId=1&departmentId=2&joinedFrom=2024-01-01&sort=joinDate");
+    }
+
+    @Test
+    @DisplayName("UT-046-2: findAll_異常系 - インデックスで整列できない並び順・逆転した入社日の範囲はエラー")
+    void findAll_異常系_絞り込み条件() {
+        // Given
+        EmployeeListCriteria unknownSort = new EmployeeListCriteria(null, null, null, null, "name");
+        EmployeeListCriteria reversed = new EmployeeListCriteria(null, null,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2024, 1, 1), null);
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> employeeService.findAll(unknownSort, 0, 20));
+        assertThrows(ValidationException.class, () -> employeeService.findAll(reversed, 0, 20));
+        verifyNoInteractions(employeeViewRepository);
+    }
+
+    @Test
+    @DisplayName("UT-038-5: suggest_異常系 - 検索文字列が長すぎる場合はエラー、件数は上限に丸める")
+    void suggest_異常系_検索文字列と件数() {
+        // Given
+        when(employeeSuggestIndex.suggest("山", 50)).thenReturn(List.of());
+
+        // When
+        employeeService.suggest("山", 1000);
+
+        // Then
+        verify(employeeSuggestIndex).suggest("山", 50);
+        assertTrue(employeeService.suggest(" ", null).isEmpty());
+        assertThrows(ValidationException.class, () -> employeeService.suggest("a".repeat(101), null));
+        assertThrows(ValidationException.class, () -> employeeService.suggest("山", 0));
+        verifyNoMoreInteractions(employeeSuggestIndex);
+    }
+
+    private static WriteCombiningProperties writeCombiningDisabled() {
+        WriteCombiningProperties properties = new WriteCombiningProperties();
+        properties.setEnabled(false);
+        return properties;
+    }
+
+    private EmployeeView employeeWithId(long id) {
+        return new EmployeeView(id, String.format("EMP%03d", id), "社員" + id, "employee" + id + "@example.com",
+                department.getId(), department.getName(), department.getCode(), LocalDate.of(2024, 1, 1),
+                LocalDateTime.now());
+    }
+}
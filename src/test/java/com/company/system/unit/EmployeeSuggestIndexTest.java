@@ -0,0 +1,197 @@
+package com.company.system.unit;
+
+import com.company.system.config.DepartmentPartitionRoutingStrategy;
+import com.company.system.config.SuggestProperties;
+import com.company.system.dto.DepartmentDto;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.EmployeeSuggestionDto;
+import com.company.system.event.EmployeeChangedEvent;
+import com.company.system.repository.EmployeeRepository;
+import com.company.system.service.EmployeeDirectory;
+import com.company.system.service.EmployeeSuggestIndex;
+import com.company.system.service.PartitionTemplate;
+import com.company.system.service.PrefixTrie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmployeeSuggestIndexの単体テスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeSuggestIndex単体テスト")
+class EmployeeSuggestIndexTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeSuggestIndex suggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        PartitionTemplate partitionTemplate = new PartitionTemplate(1, new DepartmentPartitionRoutingStrategy(),
+                TransactionOperations.withoutTransaction(), 1, Duration.ofSeconds(5));
+        suggestIndex = new EmployeeSuggestIndex(new EmployeeDirectory(employeeRepository, partitionTemplate),
+                new SuggestProperties());
+    }
+
+    @Test
+    @DisplayName("UT-038-1: suggest_正常系 - 短い語への一致を優先し、同点は社員名順")
+    void suggest_正常系_順位付け() {
+        // Given
+        givenEmployees();
+
+        // When
+        List<Long> exact = ids(suggestIndex.suggest("山田", 10));
+        List<Long> prefix = ids(suggestIndex.suggest("山", 10));
+        List<Long> first = ids(suggestIndex.suggest("山", 1));
+
+        // Then（「山田」は語全体に一致した社員1のみ、「山」は各社員の2文字の語に同点で一致）
+        assertEquals(List.of(1L), exact);
+        assertEquals(List.of(2L, 1L, 3L), prefix);
+        assertEquals(List.of(2L), first);
+        verify(employeeRepository, times(1)).findAllForDirectory();
+    }
+
+    @Test
+    @DisplayName("UT-038-2: suggest_正常系 - 全角英字・カタカナ・メールアドレスのローカル部で検索")
+    void suggest_正常系_表記ゆれとメールアドレス() {
+        // Given
+        givenEmployees();
+
+        // When
+        List<EmployeeSuggestionDto> email = suggestIndex.suggest("ＹＡＭＡ", 10);
+        List<Long> kana = ids(suggestIndex.suggest("やまだ", 10));
+        List<Long> token = ids(suggestIndex.suggest("ichi", 10));
+
+        // Then（「yamada」は「yamamoto」より短いため上位）
+        assertEquals(List.of(1L, 2L), ids(email));
+        assertEquals("EMP001", email.get(0).getEmployeeNumber());
+        assertEquals(List.of(5L), kana);
+        assertEquals(List.of(4L), token);
+        assertTrue(suggestIndex.suggest("   ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("UT-038-3: onEmployeeChanged_正常系 - 作成・更新・削除をインデックスへ反映")
+    void onEmployeeChanged_正常系() {
+        // Given
+        givenEmployees();
+        assertEquals(List.of(1L), ids(suggestIndex.suggest("山田", 10)));
+
+        // When
+        suggestIndex.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.ChangeType.UPDATE,
+                1L, employee(1L, "山田 太郎", "yamada.taro@example.com"),
+                employee(1L, "小林 太郎", "kobayashi.taro@example.com"), LocalDateTime.now()));
+        suggestIndex.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.ChangeType.CREATE,
+                6L, null, employee(6L, "山田 次郎", "jiro@example.com"), LocalDateTime.now()));
+        suggestIndex.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.ChangeType.DELETE,
+                2L, employee(2L, "山本 花子", "hanako.yamamoto@example.com"), null, LocalDateTime.now()));
+
+        // Then
+        assertEquals(List.of(6L), ids(suggestIndex.suggest("山田", 10)));
+        assertEquals(List.of(1L), ids(suggestIndex.suggest("kob", 10)));
+        assertTrue(suggestIndex.suggest("山本", 10).isEmpty());
+        assertEquals(5, suggestIndex.size());
+    }
+
+    @Test
+    @DisplayName("UT-038-4: PrefixTrie_正常系 - 削除後に辺をまとめても前方一致を維持")
+    void prefixTrie_正常系_削除と圧縮() {
+        // Given
+        PrefixTrie<Long> trie = new PrefixTrie<>();
+        trie.add("abcd", 1L);
+        trie.add("ab", 2L);
+        trie.add("abc", 3L);
+
+        // When / Then（短い語から順に列挙）
+        assertEquals(List.of(2, 3, 4), keyLengths(trie, "a"));
+        assertTrue(trie.remove("abc", 3L));
+        assertFalse(trie.remove("abc", 3L));
+        assertEquals(List.of(2, 4), keyLengths(trie, "ab"));
+        assertTrue(trie.remove("ab", 2L));
+        // 「ab」「c」「d」の辺がまとめられた後も、辺の途中までの入力で一致する
+        assertEquals(List.of(4), keyLengths(trie, "abc"));
+        assertEquals(List.of(), keyLengths(trie, "abx"));
+        assertEquals(1, trie.size());
+    }
+
+    private void givenEmployees() {
+        when(employeeRepository.findAllForDirectory()).thenReturn(List.of(
+                new Row(1L, "EMP001", "山田 太郎", "yamada.taro@example.com"),
+                new Row(2L, "EMP002", "山本 花子", "hanako.yamamoto@example.com"),
+                new Row(3L, "EMP003", "田中 山男", "tanaka@example.com"),
+                new Row(4L, "EMP004", "佐藤 一郎", "ichiro.sato@example.com"),
+                new Row(5L, "EMP005", "ヤマダ ハナ", "hana@example.com")
+        ));
+    }
+
+    private static List<Long> ids(List<EmployeeSuggestionDto> suggestions) {
+        return suggestions.stream().map(EmployeeSuggestionDto::getId).toList();
+    }
+
+    private static List<Integer> keyLengths(PrefixTrie<Long> trie, String prefix) {
+        List<Integer> lengths = new ArrayList<>();
+        trie.visitByPrefix(prefix, (keyLength, values) -> lengths.add(keyLength));
+        return lengths;
+    }
+
+    private static EmployeeDto employee(Long id, String name, String email) {
+        return new EmployeeDto(id, String.format("EMP%03d", id), name, email,
+                new DepartmentDto(1L, "部署1", "D1"), LocalDate.of(2024, 4, 1), LocalDateTime.now());
+    }
+
+    private record Row(Long id, String employeeNumber, String name, String email)
+            implements EmployeeRepository.DirectoryRow {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getEmployeeNumber() {
+            return employeeNumber;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+
+        @Override
+        public Long getDepartmentId() {
+            return 1L;
+        }
+
+        @Override
+        public LocalDate getJoinDate() {
+            return LocalDate.of(2024, 4, 1);
+        }
+
+        @Override
+        public LocalDateTime getDeletedAt() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.company.system.unit;
+
+import com.company.system.service.HeavyHitterSketch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HeavyHitterSketchの単体テスト
+ */
+@DisplayName("HeavyHitterSketch単体テスト")
+class HeavyHitterSketchTest {
+
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("UT-040-1: top_正常系 - 多数の低頻度キーに埋もれた高頻度キーを推定回数の多い順に返す")
+    void top_正常系_高頻度キーの検出() {
+        // Given（5000種類のキーを各2回、高頻度キーを500/300/100回、交互に記録）
+        HeavyHitterSketch sketch = new HeavyHitterSketch(3, 2048, 4, WINDOW_NANOS, clock::get);
+        for (int i = 0; i < 10_000; i++) {
+            sketch.record("key" + (i % 5000));
+            if (i % 20 == 0) {
+                sketch.record("hot-a");
+            }
+            if (i % 100 >= 1 && i % 100 <= 3) {
+                sketch.record("hot-b");
+            }
+            if (i % 100 == 5) {
+                sketch.record("hot-c");
+            }
+        }
+
+        // When
+        List<HeavyHitterSketch.HotKey> top = sketch.top();
+
+        // Then（カウントミンスケッチは過大推定のみ。誤差は全体の回数 × e / 幅 程度）
+        assertEquals(List.of("hot-a", "hot-b", "hot-c"), top.stream().map(HeavyHitterSketch.HotKey::key).toList());
+        double tolerance = 10_900 * Math.E / 2048;
+        assertEquals(500, top.get(0).estimatedCount(), tolerance);
+        assertTrue(top.get(0).estimatedCount() >= 500);
+        assertEquals(500.0 / 60, top.get(0).ratePerSecond(), tolerance / 60);
+        assertEquals(500.0 / 10_900, top.get(0).share(), 0.01);
+    }
+
+    @Test
+    @DisplayName("UT-040-2: top_正常系 - 直前の窓の回数は経過時間に応じて減衰し、2窓経過で消える")
+    void top_正常系_窓の減衰() {
+        // Given
+        HeavyHitterSketch sketch = new HeavyHitterSketch(2, 256, 4, WINDOW_NANOS, clock::get);
+        record(sketch, "old", 100);
+
+        // When（1.5窓経過後に別のキーを記録）
+        clock.addAndGet(WINDOW_NANOS * 3 / 2);
+        record(sketch, "new", 80);
+        List<HeavyHitterSketch.HotKey> halfway = sketch.top();
+        clock.addAndGet(WINDOW_NANOS);
+        List<HeavyHitterSketch.HotKey> later = sketch.top();
+
+        // Then
+        assertEquals(List.of("new", "old"), halfway.stream().map(HeavyHitterSketch.HotKey::key).toList());
+        assertEquals(80, halfway.get(0).estimatedCount(), 0.001);
+        assertEquals(50, halfway.get(1).estimatedCount(), 0.001);
+        assertEquals(List.of("new"), later.stream().map(HeavyHitterSketch.HotKey::key).toList());
+        assertEquals(40, later.get(0).estimatedCount(), 0.001);
+    }
+
+    @Test
+    @DisplayName("UT-040-3: record_正常系 - 複数スレッドからの同時記録で回数を取りこぼさない")
+    void record_正常系_同時記録() throws Exception {
+        // Given
+        HeavyHitterSketch sketch = new HeavyHitterSketch(5, 1024, 4, WINDOW_NANOS, clock::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When（各スレッドが共通のキーと固有のキーを交互に記録）
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        sketch.record("shared");
+                        sketch.record("thread" + thread + "-" + (i % 100));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        HeavyHitterSketch.HotKey shared = sketch.top().get(0);
+        assertEquals("shared", shared.key());
+        assertTrue(shared.estimatedCount() >= 80_000);
+        assertEquals(80_000, shared.estimatedCount(), 160_000 * Math.E / 1024);
+    }
+
+    private static void record(HeavyHitterSketch sketch, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            sketch.record(key);
+        }
+    }
+}
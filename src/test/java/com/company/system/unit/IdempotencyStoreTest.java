@@ -0,0 +1,148 @@
+package com.company.system.unit;
+
+import com.company.system.config.IdempotencyProperties;
+import com.company.system.exception.DuplicateResourceException;
+import com.company.system.exception.ValidationException;
+import com.company.system.model.IdempotencyRecord;
+import com.company.system.repository.IdempotencyRecordRepository;
+import com.company.system.web.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * IdempotencyStoreの単体テスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyStore単体テスト")
+class IdempotencyStoreTest {
+
+    private static final Map<String, Object> REQUEST = Map.of("name", "山田太郎", "email", "yamada@example.com");
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    private IdempotencyStore store;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setStripes(4);
+        store = new IdempotencyStore(repository, new ObjectMapper(), properties);
+        executions = new AtomicInteger();
+        lenient().when(repository.findById(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("UT-035-2: execute_異常系 - 同じキーを異なるリクエスト内容で使用")
+    void execute_異常系_内容不一致() {
+        // Given
+        store.execute("key-1", REQUEST, this::create);
+
+        // When & Then
+        assertThrows(ValidationException.class,
+                () -> store.execute("key-1", Map.of("name", "佐藤花子"), this::create));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("UT-035-3: execute_異常系 - 処理中のキーへの同時リクエストは待たずに拒否")
+    void execute_異常系_処理中() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<IdempotencyStore.IdempotentResponse> first = executor.submit(() ->
+                    store.execute("key-1", REQUEST, () -> {
+                        started.countDown();
+                        await(release);
+                        return create();
+                    }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // When & Then
+            assertThrows(DuplicateResourceException.class, () -> store.execute("key-1", REQUEST, this::create));
+            release.countDown();
+            assertFalse(first.get(5, TimeUnit.SECONDS).replayed());
+            assertTrue(store.execute("key-1", REQUEST, this::create).replayed());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("UT-035-4: execute_正常系 - メモリにない処理結果はテーブルから復元し処理を実行しない")
+    void execute_正常系_テーブルから復元() {
+        // Given（別のストアで処理し、テーブルに登録された内容を取得）
+        store.execute("key-1", REQUEST, this::create);
+        ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(repository).upsert(captor.capture());
+        IdempotencyRecord record = captor.getValue();
+        assertTrue(record.getExpiresAt().isAfter(LocalDateTime.now().plusHours(23)));
+        when(repository.findById("key-1")).thenReturn(Optional.of(record));
+        IdempotencyStore restarted = new IdempotencyStore(repository, new ObjectMapper(), new IdempotencyProperties());
+
+        // When
+        IdempotencyStore.IdempotentResponse response = restarted.execute("key-1", REQUEST, this::create);
+
+        // Then
+        assertTrue(response.replayed());
+        assertEquals(201, response.status());
+        assertEquals("{\"id\":1}", new String(response.body(), StandardCharsets.UTF_8));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("UT-035-5: execute_異常系 - 失敗した処理の結果は保存せず再送で再実行")
+    void execute_異常系_失敗は再実行() {
+        // Given
+        assertThrows(IllegalStateException.class, () -> store.execute("key-1", REQUEST, () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("失敗");
+        }));
+
+        // When
+        IdempotencyStore.IdempotentResponse response = store.execute("key-1", REQUEST, this::create);
+
+        // Then
+        assertFalse(response.replayed());
+        assertEquals(2, executions.get());
+    }
+
+    private IdempotencyStore.IdempotentResponse create() {
+        executions.incrementAndGet();
+        return new IdempotencyStore.IdempotentResponse(201, "{\"id\":1}".getBytes(StandardCharsets.UTF_8), false);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
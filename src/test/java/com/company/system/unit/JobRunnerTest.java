@@ -0,0 +1,306 @@
+package com.company.system.unit;
+
+import com.company.system.config.JobProperties;
+import com.company.system.model.Job;
+import com.company.system.model.JobStatus;
+import com.company.system.repository.JobRepository;
+import com.company.system.service.JobHandler;
+import com.company.system.service.JobRunner;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JobRunnerの単体テスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobRunner単体テスト")
+class JobRunnerTest {
+
+    private static final int TOTAL = 5;
+
+    private static final String OWNER = "node-a";
+
+    @Mock
+    private JobRepository jobRepository;
+
+    private CountingJobHandler handler;
+    private JobRunner runner;
+    private List<Job> savedJobs;
+    private CountDownLatch succeeded;
+
+    @BeforeEach
+    void setUp() {
+        handler = new CountingJobHandler();
+        runner = newRunner(100);
+
+        savedJobs = new CopyOnWriteArrayList<>();
+        succeeded = new CountDownLatch(1);
+        lenient().when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> {
+            Job job = invocation.getArgument(0);
+            savedJobs.add(copy(job));
+            if (job.getStatus() == JobStatus.SUCCEEDED) {
+                succeeded.countDown();
+            }
+            return job;
+        });
+        lenient().when(jobRepository.claim(anyLong(), anyCollection(), eq(OWNER), any(), any())).thenReturn(1);
+        lenient().when(jobRepository.renew(anyLong(), eq(OWNER), any())).thenReturn(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.stop();
+    }
+
+    @Test
+    @DisplayName("UT-034-1: run_正常系 - チャンクごとにチェックポイントを保存して完了")
+    void run_正常系() {
+        // Given
+        Job job = newJob(JobStatus.QUEUED, null, 0);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        runner.start();
+
+        // When
+        runner.run(1L);
+
+        // Then
+        assertEquals(List.of("RUNNING:null:0", "RUNNING:2:2", "RUNNING:4:4", "SUCCEEDED:5:5"),
+                savedJobs.stream().map(JobRunnerTest::describe).toList());
+        assertEquals(TOTAL, job.getTotalCount());
+        assertNotNull(job.getStartedAt());
+        assertNotNull(job.getFinishedAt());
+    }
+
+    @Test
+    @DisplayName("UT-034-2: run_異常系 - チャンクの処理に失敗した場合はFAILEDとして記録")
+    void run_異常系_チャンク失敗() {
+        // Given
+        handler.failAtCheckpoint = "2";
+        Job job = newJob(JobStatus.QUEUED, null, 0);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        runner.start();
+
+        // When
+        runner.run(1L);
+
+        // Then（失敗したチャンクの進捗は保存されない）
+        Job last = savedJobs.get(savedJobs.size() - 1);
+        assertEquals(JobStatus.FAILED, last.getStatus());
+        assertEquals("2", last.getCheckpoint());
+        assertEquals(2, last.getProcessedCount());
+        assertEquals("処理に失敗しました", last.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("UT-034-3: start_正常系 - 担当のいない実行中のジョブを取得してチェックポイントから再開し、停止時に担当を解放")
+    void start_正常系_再開() throws InterruptedException {
+        // Given
+        Job job = newJob(JobStatus.RUNNING, "2", 2);
+        job.setTotalCount((long) TOTAL);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        stubClaimable(job);
+
+        // When
+        runner.start();
+
+        // Then
+        assertTrue(succeeded.await(5, TimeUnit.SECONDS));
+        assertEquals("2", handler.receivedCheckpoints.get(0));
+        assertEquals(List.of("RUNNING:4:4", "SUCCEEDED:5:5"),
+                savedJobs.stream().map(JobRunnerTest::describe).toList());
+        verify(jobRepository).claim(eq(1L), anyCollection(), eq(OWNER), any(), any());
+
+        // When
+        runner.stop();
+
+        // Then
+        verify(jobRepository).releaseAll(eq(OWNER), anyCollection());
+    }
+
+    @Test
+    @DisplayName("UT-034-4: start_異常系 - 他のノードが担当を取得済みのジョブは実行しない")
+    void start_異常系_他ノードが担当() {
+        // Given
+        Job job = newJob(JobStatus.RUNNING, "2", 2);
+        stubClaimable(job);
+        when(jobRepository.claim(eq(1L), anyCollection(), eq(OWNER), any(), any())).thenReturn(0);
+
+        // When
+        runner.start();
+
+        // Then（生存通知の間隔ごとに取得を試みるが、実行しない）
+        verify(jobRepository, timeout(2000).atLeast(2)).claim(eq(1L), anyCollection(), eq(OWNER), any(), any());
+        verify(jobRepository, never()).findById(1L);
+        assertTrue(handler.receivedCheckpoints.isEmpty());
+    }
+
+    @Test
+    @DisplayName("UT-034-5: start_正常系 - キューが満杯で再開できなかったジョブは担当を解放し、次回の確認で再開")
+    void start_正常系_満杯時の再開() throws InterruptedException {
+        // Given（ワーカー1つ・キュー1件で、1件目の実行中に3件目が受け付けられない）
+        runner = newRunner(1);
+        List<Job> jobs = List.of(newJob(1L, JobStatus.QUEUED), newJob(2L, JobStatus.QUEUED), newJob(3L, JobStatus.QUEUED));
+        for (Job job : jobs) {
+            when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        }
+        stubClaimable(jobs.toArray(Job[]::new));
+        handler.gate = new CountDownLatch(1);
+        succeeded = new CountDownLatch(jobs.size());
+
+        // When
+        runner.start();
+
+        // Then
+        verify(jobRepository, timeout(2000)).release(3L, OWNER);
+
+        // When
+        handler.gate.countDown();
+
+        // Then
+        assertTrue(succeeded.await(5, TimeUnit.SECONDS));
+        jobs.forEach(job -> assertEquals(JobStatus.SUCCEEDED, job.getStatus()));
+    }
+
+    @Test
+    @DisplayName("UT-034-6: run_異常系 - 他のノードに担当を引き継がれた場合は次のチャンクを処理せずに中断")
+    void run_異常系_担当の喪失() {
+        // Given
+        Job job = newJob(JobStatus.QUEUED, null, 0);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(jobRepository.renew(eq(1L), eq(OWNER), any())).thenReturn(1, 0);
+        runner.start();
+
+        // When
+        runner.run(1L);
+
+        // Then
+        assertEquals(List.of("null"), handler.receivedCheckpoints);
+        assertEquals(List.of("RUNNING:null:0", "RUNNING:2:2"),
+                savedJobs.stream().map(JobRunnerTest::describe).toList());
+    }
+
+    private JobRunner newRunner(int queueCapacity) {
+        JobProperties properties = new JobProperties();
+        properties.setWorkerThreads(1);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setChunkSize(2);
+        properties.setNodeId(OWNER);
+        properties.setHeartbeatInterval(Duration.ofMillis(50));
+        return new JobRunner(jobRepository, List.of(handler), new ObjectMapper(),
+                TransactionOperations.withoutTransaction(), properties);
+    }
+
+    /**
+     * 未完了のジョブを担当のいないジョブとして返す
+     */
+    private void stubClaimable(Job... jobs) {
+        when(jobRepository.findClaimable(anyCollection(), eq(OWNER), any())).thenAnswer(invocation -> List.of(jobs).stream()
+                .filter(job -> job.getStatus() == JobStatus.QUEUED || job.getStatus() == JobStatus.RUNNING)
+                .toList());
+    }
+
+    private static Job newJob(Long id, JobStatus status) {
+        Job job = newJob(status, null, 0);
+        job.setId(id);
+        return job;
+    }
+
+    private static Job newJob(JobStatus status, String checkpoint, long processedCount) {
+        Job job = new Job();
+        job.setId(1L);
+        job.setJobType(CountingJobHandler.TYPE);
+        job.setStatus(status);
+        job.setParameters("{}");
+        job.setCheckpoint(checkpoint);
+        job.setProcessedCount(processedCount);
+        return job;
+    }
+
+    private static Job copy(Job job) {
+        return new Job(job.getId(), job.getJobType(), job.getStatus(), job.getParameters(), job.getCheckpoint(),
+                job.getProcessedCount(), job.getTotalCount(), job.getResultPath(), job.getErrorMessage(),
+                job.getOwner(), job.getHeartbeatAt(), job.getCreatedAt(), job.getStartedAt(), job.getUpdatedAt(),
+                job.getFinishedAt());
+    }
+
+    private static String describe(Job job) {
+        return job.getStatus() + ":" + job.getCheckpoint() + ":" + job.getProcessedCount();
+    }
+
+    /**
+     * 0からTOTALまでの数を数えるだけのジョブ（チェックポイントは処理済みの数）
+     */
+    private static class CountingJobHandler implements JobHandler {
+
+        static final String TYPE = "COUNT";
+
+        final List<String> receivedCheckpoints = new CopyOnWriteArrayList<>();
+        volatile String failAtCheckpoint;
+        volatile CountDownLatch gate;
+
+        @Override
+        public String getType() {
+            return TYPE;
+        }
+
+        @Override
+        public void validate(JsonNode parameters) {
+        }
+
+        @Override
+        public long countTotal(JsonNode parameters) {
+            return TOTAL;
+        }
+
+        @Override
+        public ChunkResult processChunk(Long jobId, JsonNode parameters, String checkpoint, int chunkSize) {
+            receivedCheckpoints.add(String.valueOf(checkpoint));
+            awaitGate();
+            if (checkpoint != null && checkpoint.equals(failAtCheckpoint)) {
+                throw new IllegalStateException("処理に失敗しました");
+            }
+            int done = checkpoint == null ? 0 : Integer.parseInt(checkpoint);
+            int next = Math.min(TOTAL, done + chunkSize);
+            return new ChunkResult(String.valueOf(next), next - done, next == TOTAL, null);
+        }
+
+        private void awaitGate() {
+            CountDownLatch current = gate;
+            if (current == null) {
+                return;
+            }
+            try {
+                current.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
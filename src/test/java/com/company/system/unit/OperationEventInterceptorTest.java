@@ -0,0 +1,122 @@
+package com.company.system.unit;
+
+import com.company.system.dto.EmployeeListCriteria;
+import com.company.system.exception.ResourceNotFoundException;
+import com.company.system.jfr.OperationEvent;
+import com.company.system.jfr.OperationEventInterceptor;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OperationEventInterceptorの単体テスト
+ */
+@DisplayName("OperationEventInterceptor単体テスト")
+class OperationEventInterceptorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final OperationEventInterceptor interceptor = new OperationEventInterceptor("service", "EmployeeService");
+
+    @Test
+    @DisplayName("UT-050-1: invoke_正常系/異常系 - 操作名・絞り込み条件・件数・SQL発行数・割り当てをイベントとして記録")
+    void invoke_正常系_記録() throws Throwable {
+        // Given
+        EmployeeListCriteria criteria = EmployeeListCriteria.of("山田", 1L);
+        MethodInvocation findAll = invocation("findAll", new Object[]{criteria, 0, 20}, () -> {
+            OperationEventInterceptor.onStatementPrepared("select ...");
+            OperationEventInterceptor.onStatementPrepared("select count(*) ...");
+            return new PageImpl<>(List.of("a", "b", "c"), PageRequest.of(0, 20), 3);
+        });
+        MethodInvocation findById = invocation("findById", new Object[]{999L}, () -> {
+            throw new ResourceNotFoundException("社員が見つかりません");
+        });
+        Path file = tempDir.resolve("operations.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(OperationEvent.NAME);
+            recording.start();
+            interceptor.invoke(findAll);
+            assertThrows(ResourceNotFoundException.class, () -> interceptor.invoke(findById));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(OperationEvent.NAME))
+                .toList();
+        assertEquals(2, events.size());
+        RecordedEvent listed = events.get(0);
+        assertEquals("service", listed.getString("layer"));
+        assertEquals("EmployeeService.findAll", listed.getString("operation"));
+        assertEquals(criteria + ", 0, 20", listed.getString("parameters"));
+        assertEquals(3, listed.getLong("rows"));
+        assertEquals(2, listed.getLong("statements"));
+        assertTrue(listed.getLong("allocated") > 0);
+        assertNull(listed.getString("failure"));
+        RecordedEvent failed = events.get(1);
+        assertEquals("EmployeeService.findById", failed.getString("operation"));
+        assertEquals("999", failed.getString("parameters"));
+        assertEquals(0, failed.getLong("statements"));
+        assertEquals(ResourceNotFoundException.class.getName(), failed.getString("failure"));
+    }
+
+    @Test
+    @DisplayName("UT-050-2: invoke_正常系 - イベントが無効な場合は計測せずに呼び出しを続ける")
+    void invoke_正常系_無効() throws Throwable {
+        // Given
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.proceed()).thenReturn("result");
+
+        // When
+        Object result = interceptor.invoke(invocation);
+
+        // Then
+        assertEquals("result", result);
+        verify(invocation).proceed();
+        verifyNoMoreInteractions(invocation);
+    }
+
+    private static MethodInvocation invocation(String methodName, Object[] arguments, ThrowingSupplier body)
+            throws Throwable {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(TargetMethods.class.getDeclaredMethod(methodName));
+        when(invocation.getArguments()).thenReturn(arguments);
+        when(invocation.proceed()).thenAnswer(answer -> body.get());
+        return invocation;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingSupplier {
+
+        Object get() throws Throwable;
+    }
+
+    /**
+     * 操作名の取得に使うメソッド
+     */
+    @SuppressWarnings("unused")
+    private static final class TargetMethods {
+
+        void findAll() {
+        }
+
+        void findById() {
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.company.system.unit;
+
+import com.company.system.config.DepartmentPartitionRoutingStrategy;
+import com.company.system.config.PartitionContext;
+import com.company.system.exception.ResourceNotFoundException;
+import com.company.system.service.PartitionTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PartitionTemplateの単体テスト
+ */
+@DisplayName("PartitionTemplate単体テスト")
+class PartitionTemplateTest {
+
+    private PartitionTemplate partitionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        partitionTemplate = new PartitionTemplate(3, new DepartmentPartitionRoutingStrategy(),
+                TransactionOperations.withoutTransaction(), 3, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        partitionTemplate.destroy();
+        PartitionContext.set(null);
+    }
+
+    @Test
+    @DisplayName("UT-032-1: enter_正常系 - 社員IDと部署IDからパーティションを選択し、スコープ終了時に元に戻す")
+    void enter_正常系_パーティション選択() {
+        // Given
+        assertEquals(0, partitionTemplate.partitionForEmployee(1L));
+        assertEquals(1, partitionTemplate.partitionForEmployee(5L));
+        assertEquals(2, partitionTemplate.partitionForNewEmployee(2L));
+
+        // When & Then
+        try (PartitionTemplate.Scope ignored = partitionTemplate.enter(partitionTemplate.partitionForEmployee(6L))) {
+            assertEquals(2, PartitionContext.current());
+        }
+        assertNull(PartitionContext.current());
+    }
+
+    @Test
+    @DisplayName("UT-032-2: scatter_正常系/異常系 - 全パーティションで実行し、失敗したパーティションの例外を伝播")
+    void scatter_正常系_異常系() {
+        // When
+        List<Integer> partitions = partitionTemplate.scatter(PartitionContext::current);
+
+        // Then
+        assertEquals(List.of(0, 1, 2), partitions);
+        assertThrows(ResourceNotFoundException.class, () -> partitionTemplate.scatter(() -> {
+            if (PartitionContext.current() == 1) {
+                throw new ResourceNotFoundException("社員が見つかりません");
+            }
+            return PartitionContext.current();
+        }));
+    }
+}
@@ -0,0 +1,111 @@
+package com.company.system.unit;
+
+import com.company.system.config.ReadWriteRoutingDataSource;
+import com.company.system.config.ReadYourWritesTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ReadWriteRoutingDataSourceの単体テスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadWriteRoutingDataSource単体テスト")
+class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primaryDataSource;
+
+    @Mock
+    private DataSource replicaDataSource;
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReadWriteRoutingDataSource(new ReadYourWritesTracker(Duration.ofMinutes(1)));
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReadWriteRoutingDataSource.Route.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWritesTracker.clearCurrentSession();
+    }
+
+    @Test
+    @DisplayName("UT-026-1: getConnection_正常系 - 読み取り専用トランザクションはレプリカへ振り分け")
+    void getConnection_正常系_読み取り専用() throws Exception {
+        // Given
+        beginTransaction(true);
+
+        // When
+        routingDataSource.getConnection();
+
+        // Then
+        verify(replicaDataSource).getConnection();
+        verify(primaryDataSource, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("UT-026-2: getConnection_正常系 - 書き込みトランザクションはプライマリへ振り分け")
+    void getConnection_正常系_書き込み() throws Exception {
+        // Given
+        beginTransaction(false);
+
+        // When
+        routingDataSource.getConnection();
+
+        // Then
+        verify(primaryDataSource).getConnection();
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("UT-026-3: getConnection_正常系 - 書き込み直後の同一セッションの読み取りはプライマリへ固定")
+    void getConnection_正常系_書き込み後の固定() throws Exception {
+        // Given
+        ReadYourWritesTracker.setCurrentSession("session-1");
+        beginTransaction(false);
+        routingDataSource.getConnection();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        beginTransaction(true);
+
+        // When
+        routingDataSource.getConnection();
+
+        // Then
+        verify(primaryDataSource, times(2)).getConnection();
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,183 @@
+package com.company.system.unit;
+
+import com.company.system.config.RepresentationCacheProperties;
+import com.company.system.dto.DepartmentDto;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.event.EmployeeCacheRefreshEvent;
+import com.company.system.event.EmployeeChangedEvent;
+import com.company.system.web.RepresentationCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RepresentationCacheの単体テスト
+ */
+@DisplayName("RepresentationCache単体テスト")
+class RepresentationCacheTest {
+
+    private RepresentationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RepresentationCache(Jackson2ObjectMapperBuilder.json().build(), new RepresentationCacheProperties());
+    }
+
+    @Test
+    @DisplayName("UT-031-2: onEmployeeChanged_正常系 - 変更後の内容に置き換え、古い読み取り結果では上書きしない")
+    void onEmployeeChanged_正常系_変更の反映() {
+        // Given
+        LocalDateTime changedAt = LocalDateTime.of(2024, 4, 1, 9, 0);
+        cache.employeeJson(employee("山田太郎"));
+
+        // When（更新のコミット後に、更新前に読み取った内容が届く）
+        cache.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.ChangeType.UPDATE,
+                1L, employee("山田太郎"), employee("山田次郎"), changedAt));
+        cache.employeeJson(employee("山田太郎"));
+
+        // Then
+        assertTrue(json(cache.findEmployee(1L)).contains("\"name\":\"山田次郎\""));
+
+        // When（前後して届いた古い変更は反映しない）
+        cache.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.ChangeType.UPDATE,
+                1L, employee("山田太郎"), employee("山田三郎"), changedAt.minusSeconds(1)));
+
+        // Then
+        assertTrue(json(cache.findEmployee(1L)).contains("\"name\":\"山田次郎\""));
+    }
+
+    @Test
+    @DisplayName("UT-031-3: onEmployeeChanged_正常系 - 削除後はキャッシュを返さず、読み取り結果でも復活しない")
+    void onEmployeeChanged_正常系_削除() {
+        // Given
+        cache.employeeJson(employee("山田太郎"));
+
+        // When
+        cache.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.ChangeType.DELETE,
+                1L, employee("山田太郎"), null, LocalDateTime.now()));
+        cache.employeeJson(employee("山田太郎"));
+
+        // Then
+        assertNull(cache.findEmployee(1L));
+    }
+
+    @Test
+    @DisplayName("UT-031-4: employeeJson_正常系 - 無効時は保持しない")
+    void employeeJson_正常系_無効時() {
+        // Given
+        RepresentationCacheProperties properties = new RepresentationCacheProperties();
+        properties.setEnabled(false);
+        RepresentationCache disabled = new RepresentationCache(Jackson2ObjectMapperBuilder.json().build(), properties);
+
+        // When
+        String result = disabled.employeeJson(employee("山田太郎")).getValue();
+
+        // Then
+        assertTrue(result.contains("\"name\":\"山田太郎\""));
+        assertNull(disabled.findEmployee(1L));
+    }
+
+    @Test
+    @DisplayName("UT-041-4: onEmployeeCacheRefresh_正常系 - 無効化ログの再読み込み内容はバージョンに関わらず反映し、以降の古い読み取り結果では上書きしない")
+    void onEmployeeCacheRefresh_正常系_再読み込み() {
+        // Given（他ノードより進んだ時刻の変更イベントが反映済み）
+        LocalDateTime changedAt = LocalDateTime.of(2024, 4, 1, 9, 0);
+        cache.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.ChangeType.UPDATE,
+                1L, employee("山田太郎"), employee("山田次郎"), changedAt));
+
+        // When（データベースから読み直した内容が、より古い変更日時で届く）
+        cache.onEmployeeCacheRefresh(new EmployeeCacheRefreshEvent(false, List.of(
+                new EmployeeCacheRefreshEvent.Refresh(1L, changedAt.minusSeconds(1), employee("山田三郎"), false))));
+        cache.employeeJson(employee("山田太郎"));
+
+        // Then
+        assertTrue(json(cache.findEmployee(1L)).contains("\"name\":\"山田三郎\""));
+
+        // When（削除済みの再読み込みとすべて破棄）
+        cache.onEmployeeCacheRefresh(new EmployeeCacheRefreshEvent(false, List.of(
+                new EmployeeCacheRefreshEvent.Refresh(1L, changedAt, employee("山田三郎"), true))));
+
+        // Then
+        assertNull(cache.findEmployee(1L));
+
+        // When
+        cache.onEmployeeCacheRefresh(EmployeeCacheRefreshEvent.all());
+        cache.employeeJson(employee("山田太郎"));
+
+        // Then
+        assertTrue(json(cache.findEmployee(1L)).contains("\"name\":\"山田太郎\""));
+    }
+
+    @Test
+    @DisplayName("UT-031-5: onEmployeeChanged_正常系 - 変更による登録も最大保持件数までとし、古いものから削除して読み取り結果の保持を続ける")
+    void onEmployeeChanged_正常系_最大保持件数() {
+        // Given
+        RepresentationCacheProperties properties = new RepresentationCacheProperties();
+        properties.setMaxEntries(2);
+        RepresentationCache bounded = new RepresentationCache(Jackson2ObjectMapperBuilder.json().build(), properties);
+        LocalDateTime changedAt = LocalDateTime.of(2024, 4, 1, 9, 0);
+
+        // When（作成・更新・削除が続く）
+        for (long id = 1; id <= 5; id++) {
+            bounded.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.ChangeType.CREATE,
+                    id, null, employee(id, "社員" + id), changedAt));
+        }
+        bounded.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.ChangeType.DELETE,
+                5L, employee(5L, "社員5"), null, changedAt.plusSeconds(1)));
+
+        // Then
+        assertEquals(2, bounded.getEmployeeEntryCount());
+        assertNull(bounded.findEmployee(1L));
+        assertNull(bounded.findEmployee(5L));
+        assertTrue(json(bounded.findEmployee(4L)).contains("\"name\":\"社員4\""));
+
+        // When（上限に達した後の読み取り結果も保持する）
+        bounded.employeeJson(employee(6L, "社員6"));
+
+        // Then
+        assertEquals(2, bounded.getEmployeeEntryCount());
+        assertTrue(json(bounded.findEmployee(6L)).contains("\"name\":\"社員6\""));
+    }
+
+    @Test
+    @DisplayName("UT-031-6: onEmployeeChanged_正常系 - 保持期間を過ぎた削除の記録は次の登録時に削除")
+    void onEmployeeChanged_正常系_削除の記録の期限() {
+        // Given
+        RepresentationCacheProperties properties = new RepresentationCacheProperties();
+        properties.setTombstoneTtl(Duration.ZERO);
+        RepresentationCache expiring = new RepresentationCache(Jackson2ObjectMapperBuilder.json().build(), properties);
+        expiring.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.ChangeType.DELETE,
+                1L, employee("山田太郎"), null, LocalDateTime.now()));
+        assertEquals(1, expiring.getEmployeeEntryCount());
+
+        // When
+        expiring.employeeJson(employee(2L, "佐藤花子"));
+
+        // Then
+        assertEquals(1, expiring.getEmployeeEntryCount());
+        assertNull(expiring.findEmployee(1L));
+        assertNotNull(expiring.findEmployee(2L));
+    }
+
+    private static EmployeeDto employee(String name) {
+        return employee(1L, name);
+    }
+
+    private static EmployeeDto employee(Long id, String name) {
+        return new EmployeeDto(id, "EMP00" + id, name, "yamada@example.com",
+                new DepartmentDto(1L, "営業部", "SALES"), LocalDate.of(2024, 1, 1), LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+
+    private static String json(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
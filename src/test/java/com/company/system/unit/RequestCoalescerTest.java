@@ -0,0 +1,134 @@
+package com.company.system.unit;
+
+import com.company.system.exception.ResourceNotFoundException;
+import com.company.system.service.RequestCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RequestCoalescerの単体テスト
+ */
+@DisplayName("RequestCoalescer単体テスト")
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer coalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RequestCoalescer(TransactionOperations.withoutTransaction(), meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("UT-030-1: execute_正常系 - 同一キーの同時読み取りは1回だけ実行し結果を共有")
+    void execute_正常系_同時読み取りの共有() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> coalescer.execute("employee.findById", List.of(1L), () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "山田太郎";
+            })));
+        }
+        waitForCollapsed(CALLERS - 1);
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertEquals("山田太郎", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1.0, count("executed"));
+        assertEquals(CALLERS - 1, count("collapsed"));
+    }
+
+    @Test
+    @DisplayName("UT-030-2: execute_異常系 - 先行する読み取りの例外を待機中の呼び出しにも伝播")
+    void execute_異常系_例外の共有() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> coalescer.execute("employee.findById", List.of(999L), () -> {
+                await(release);
+                throw new ResourceNotFoundException("社員が見つかりません");
+            })));
+        }
+        waitForCollapsed(CALLERS - 1);
+        release.countDown();
+
+        // Then
+        for (Future<Object> result : results) {
+            Exception e = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ResourceNotFoundException.class, e.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("UT-030-3: execute_正常系 - 完了後の呼び出しとキーの異なる呼び出しは共有しない")
+    void execute_正常系_完了後は再実行() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        coalescer.execute("employee.findById", List.of(1L), loads::incrementAndGet);
+        coalescer.execute("employee.findById", List.of(1L), loads::incrementAndGet);
+        coalescer.execute("employee.findById", List.of(2L), loads::incrementAndGet);
+
+        // Then
+        assertEquals(3, loads.get());
+        assertEquals(0.0, count("collapsed"));
+    }
+
+    private double count(String outcome) {
+        var counter = meterRegistry.find("app.coalescing.requests").tag("outcome", outcome).counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+
+    private void waitForCollapsed(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("collapsed") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.company.system.unit;
+
+import com.company.system.config.ServerTimingProperties;
+import com.company.system.web.RequestTiming;
+import com.company.system.web.ServerTimingFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ServerTimingFilterの単体テスト
+ */
+@DisplayName("ServerTimingFilter単体テスト")
+class ServerTimingFilterTest {
+
+    private ServerTimingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ServerTimingProperties properties = new ServerTimingProperties();
+        properties.setExposeHeader(true);
+        filter = new ServerTimingFilter(properties);
+    }
+
+    @Test
+    @DisplayName("UT-039-1: doFilter_正常系 - ボディの書き出し前に区間ごとの所要時間をヘッダーに設定")
+    void doFilter_正常系_区間ごとの所要時間() throws Exception {
+        // Given（リポジトリ内で1件、リポジトリの外で1件のSQLを実行し、入れ子のサービス呼び出しを含む）
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            long controller = RequestTiming.begin(RequestTiming.Phase.CONTROLLER);
+            long service = RequestTiming.begin(RequestTiming.Phase.SERVICE);
+            long nestedService = RequestTiming.begin(RequestTiming.Phase.SERVICE);
+            long repository = RequestTiming.begin(RequestTiming.Phase.REPOSITORY);
+            executeStatement("select 1");
+            RequestTiming.end(RequestTiming.Phase.REPOSITORY, repository);
+            RequestTiming.end(RequestTiming.Phase.SERVICE, nestedService);
+            executeStatement("select 2");
+            RequestTiming.end(RequestTiming.Phase.SERVICE, service);
+            RequestTiming.end(RequestTiming.Phase.CONTROLLER, controller);
+            assertNull(((HttpServletResponse) res).getHeader(ServerTimingFilter.SERVER_TIMING_HEADER));
+            res.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employees"), response, chain);
+
+        // Then
+        String serverTiming = response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER);
+        assertNotNull(serverTiming);
+        assertTrue(serverTiming.matches("ctrl;dur=\\d+\\.\\d{2}, svc;dur=\\d+\\.\\d{2}, repo;dur=\\d+\\.\\d{2}, "
+                + "db;dur=\\d+\\.\\d{2};desc=\"2 statements\", lazy;dur=\\d+\\.\\d{2};desc=\"1 statement\", "
+                + "total;dur=\\d+\\.\\d{2}"), serverTiming);
+        assertEquals("{}", response.getContentAsString());
+        // リクエスト終了後は計測しない
+        assertEquals(RequestTiming.NOT_MEASURED, RequestTiming.begin(RequestTiming.Phase.CONTROLLER));
+    }
+
+    @Test
+    @DisplayName("UT-039-2: doFilter_正常系 - ボディのないレスポンスにもヘッダーを設定")
+    void doFilter_正常系_ボディなし() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) ->
+                ((HttpServletResponse) res).setStatus(HttpServletResponse.SC_NO_CONTENT);
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/v1/employees/1"), response, chain);
+
+        // Then
+        assertEquals(204, response.getStatus());
+        assertTrue(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER).startsWith("total;dur="));
+    }
+
+    @Test
+    @DisplayName("UT-039-3: doFilter_正常系 - ヘッダーの返却が無効の場合（既定）は計測のみ行いヘッダーを設定しない")
+    void doFilter_正常系_ヘッダー無効() throws Exception {
+        // Given
+        ServerTimingFilter defaultFilter = new ServerTimingFilter(new ServerTimingProperties());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            assertNotEquals(RequestTiming.NOT_MEASURED, RequestTiming.begin(RequestTiming.Phase.CONTROLLER));
+            res.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        // When
+        defaultFilter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employees"), response, chain);
+
+        // Then
+        assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER));
+        assertEquals("{}", response.getContentAsString());
+    }
+
+    private static void executeStatement(String sql) {
+        RequestTiming.onStatementPrepared(sql);
+        RequestTiming.onStatementStart();
+        RequestTiming.onStatementEnd();
+    }
+}
@@ -0,0 +1,93 @@
+package com.company.system.unit;
+
+import com.company.system.web.TokenBucketRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TokenBucketRateLimiterの単体テスト
+ */
+@DisplayName("TokenBucketRateLimiter単体テスト")
+class TokenBucketRateLimiterTest {
+
+    private AtomicLong clock;
+    private TokenBucketRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        // 1秒あたり10件、バースト3件、バケット2個まで
+        rateLimiter = new TokenBucketRateLimiter(10, 3, 2, clock::get);
+    }
+
+    @Test
+    @DisplayName("UT-029-1: tryAcquire_正常系 - バースト件数まで即時に許可")
+    void tryAcquire_正常系_バースト() {
+        assertEquals(0, rateLimiter.tryAcquire("client-a"));
+        assertEquals(0, rateLimiter.tryAcquire("client-a"));
+        assertEquals(0, rateLimiter.tryAcquire("client-a"));
+    }
+
+    @Test
+    @DisplayName("UT-029-2: tryAcquire_異常系 - バースト超過で待ち時間を返し、時間経過で回復")
+    void tryAcquire_異常系_バースト超過() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("client-a");
+        }
+
+        // When
+        long waitNanos = rateLimiter.tryAcquire("client-a");
+
+        // Then
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), waitNanos);
+        assertEquals(0, rateLimiter.tryAcquire("client-b"));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(0, rateLimiter.tryAcquire("client-a"));
+    }
+
+    @Test
+    @DisplayName("UT-029-3: tryAcquire_異常系 - バケット数の上限を超えた新しいクライアントは共有のバケットで制限")
+    void tryAcquire_異常系_バケット数上限() {
+        // Given
+        rateLimiter.tryAcquire("client-a");
+        rateLimiter.tryAcquire("client-b");
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("client-" + (char) ('c' + i)));
+        }
+        long waitNanos = rateLimiter.tryAcquire("client-z");
+
+        // Then
+        assertEquals(2, rateLimiter.getBucketCount());
+        assertTrue(waitNanos > 0);
+        assertEquals(0, rateLimiter.tryAcquire("client-a"));
+    }
+
+    @Test
+    @DisplayName("UT-029-4: purgeIdleBuckets_正常系 - 満タンまで回復したバケットだけを削除")
+    void purgeIdleBuckets_正常系() {
+        // Given
+        rateLimiter.tryAcquire("client-a");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        rateLimiter.tryAcquire("client-b");
+
+        // When
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(60));
+        int purged = rateLimiter.purgeIdleBuckets();
+
+        // Then（client-aは回復済み、client-bは回復途中）
+        assertEquals(1, purged);
+        assertEquals(1, rateLimiter.getBucketCount());
+        assertEquals(0, rateLimiter.tryAcquire("client-c"));
+        assertEquals(2, rateLimiter.getBucketCount());
+    }
+}
@@ -0,0 +1,190 @@
+package com.company.system.unit;
+
+import com.company.system.config.HotKeyProperties;
+import com.company.system.config.PartitionedDataSourceConfig;
+import com.company.system.config.WarmUpProperties;
+import com.company.system.dto.DepartmentDto;
+import com.company.system.dto.EmployeeDto;
+import com.company.system.dto.EmployeeListCriteria;
+import com.company.system.dto.WarmUpReportDto;
+import com.company.system.service.DepartmentService;
+import com.company.system.service.EmployeeService;
+import com.company.system.service.HotKeyTracker;
+import com.company.system.service.WarmUpLatencyTracker;
+import com.company.system.service.WarmUpRunner;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * WarmUpRunnerの単体テスト
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WarmUpRunner単体テスト")
+class WarmUpRunnerTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private DepartmentService departmentService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LoggingSystem loggingSystem;
+
+    private HikariDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setPoolName("warm-up-test");
+        dataSource.setJdbcUrl("jdbc:h2:mem:warmup");
+        dataSource.setMinimumIdle(0);
+        dataSource.setMaximumPoolSize(5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("UT-045-1: completeRound_正常系 - p99の変化が許容範囲内のラウンドが連続すると収束")
+    void completeRound_正常系() {
+        // Given
+        WarmUpLatencyTracker tracker = new WarmUpLatencyTracker(0.2, 2);
+
+        // When（p99が10ms → 4ms → 2ms と短縮した後、2msで安定する）
+        boolean[] converged = new boolean[5];
+        long[] p99Millis = {10, 4, 2, 2, 2};
+        for (int round = 0; round < p99Millis.length; round++) {
+            for (int i = 0; i < 98; i++) {
+                tracker.record("getEmployee", TimeUnit.MILLISECONDS.toNanos(1));
+            }
+            tracker.record("getEmployee", TimeUnit.MILLISECONDS.toNanos(p99Millis[round]));
+            tracker.record("getEmployee", TimeUnit.MILLISECONDS.toNanos(p99Millis[round]));
+            converged[round] = tracker.completeRound();
+        }
+
+        // Then（4ラウンド目から差が許容範囲内となり、2ラウンド連続した5ラウンド目で収束）
+        assertArrayEquals(new boolean[]{false, false, false, false, true}, converged);
+        List<WarmUpReportDto.Round> rounds = tracker.getRounds();
+        assertEquals(5, rounds.size());
+        WarmUpReportDto.OperationLatency first = rounds.get(0).getOperations().get(0);
+        assertEquals("getEmployee", first.getOperation());
+        assertEquals(100, first.getCount());
+        assertEquals(1000, first.getP50Micros());
+        assertEquals(10000, first.getP99Micros());
+        assertEquals(1180, first.getMeanMicros());
+    }
+
+    @Test
+    @DisplayName("UT-045-2: run_正常系 - 接続を事前に開き、参照を記録せずに実行してからレディネスを受け付け開始に切り替え")
+    void run_正常系() {
+        // Given
+        WarmUpProperties properties = new WarmUpProperties();
+        properties.setConnections(3);
+        properties.setRequestsPerRound(4);
+        properties.setMaxRounds(2);
+        HotKeyTracker hotKeyTracker = new HotKeyTracker(new HotKeyProperties());
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("dataSource", dataSource));
+        WarmUpRunner runner = new WarmUpRunner(employeeService, departmentService, hotKeyTracker, eventPublisher,
+                properties, loggingSystem, beanFactory.getBeanProvider(DataSource.class),
+                beanFactory.getBeanProvider(PartitionedDataSourceConfig.PartitionDataSources.class));
+        when(employeeService.findAll(any(EmployeeListCriteria.class), anyInt(), anyInt())).thenReturn(new PageImpl<>(List.of(
+                employee(1L, "山田太郎"), employee(2L, "佐藤花子"))));
+        when(departmentService.findAll()).thenReturn(List.of(new DepartmentDto(1L, "営業部", "SALES")));
+        when(employeeService.findById(anyLong())).thenAnswer(invocation -> {
+            hotKeyTracker.record(HotKeyTracker.Category.EMPLOYEE, invocation.getArgument(0));
+            return null;
+        });
+        assertEquals(WarmUpReportDto.Status.PENDING, runner.getReport().getStatus());
+
+        // When
+        WarmUpReportDto report = runner.run();
+
+        // Then
+        assertEquals(WarmUpReportDto.Status.COMPLETED, report.getStatus());
+        assertEquals(Map.of("warm-up-test", 3), report.getConnections());
+        assertEquals(3, dataSource.getHikariPoolMXBean().getIdleConnections());
+        assertEquals(2, report.getRounds().size());
+        assertEquals(List.of("getEmployees:4", "getEmployee:4"), report.getRounds().get(0).getOperations().stream()
+                .map(operation -> operation.getOperation() + ":" + operation.getCount())
+                .toList());
+        verify(employeeService, times(4)).findById(1L);
+        assertEquals(List.of(), hotKeyTracker.top(HotKeyTracker.Category.EMPLOYEE));
+        verify(employeeService, atLeastOnce()).findAll(EmployeeListCriteria.of(null, 1L), 0, 20);
+        verify(employeeService, atLeastOnce()).findAll(EmployeeListCriteria.of("山", null), 0, 20);
+        // サービス層のログは実行中のみ抑止し、元の設定に戻す
+        verify(loggingSystem).setLogLevel(EmployeeService.class.getName(), LogLevel.WARN);
+        verify(loggingSystem).setLogLevel(EmployeeService.class.getName(), null);
+        ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC),
+                events.getAllValues().stream()
+                        .map(event -> ((AvailabilityChangeEvent<?>) event).getState())
+                        .toList());
+    }
+
+    @Test
+    @DisplayName("UT-045-3: run_異常系 - 参照に失敗してもレディネスを受け付け開始に切り替え")
+    void run_異常系_参照失敗() {
+        // Given
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("dataSource", dataSource));
+        WarmUpRunner runner = new WarmUpRunner(employeeService, departmentService,
+                new HotKeyTracker(new HotKeyProperties()), eventPublisher, new WarmUpProperties(), loggingSystem,
+                beanFactory.getBeanProvider(DataSource.class),
+                beanFactory.getBeanProvider(PartitionedDataSourceConfig.PartitionDataSources.class));
+        when(employeeService.findAll(any(EmployeeListCriteria.class), anyInt(), anyInt()))
+                .thenThrow(new IllegalStateException("接続できません"));
+
+        // When
+        WarmUpReportDto report = runner.run();
+
+        // Then
+        assertEquals(WarmUpReportDto.Status.FAILED, report.getStatus());
+        verify(employeeService, times(0)).findById(anyLong());
+        ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC,
+                ((AvailabilityChangeEvent<?>) events.getAllValues().get(1)).getState());
+    }
+
+    private static EmployeeDto employee(Long id, String name) {
+        return new EmployeeDto(id, String.format("EMP%03d", id), name, "employee" + id + "@example.com",
+                new DepartmentDto(1L, "営業部", "SALES"), LocalDate.of(2024, 4, 1), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,269 @@
+package com.company.system.unit;
+
+import com.company.system.config.ReadYourWritesTracker;
+import com.company.system.config.RequestDeadline;
+import com.company.system.config.WriteCombiningProperties;
+import com.company.system.exception.DeadlineExceededException;
+import com.company.system.exception.DuplicateResourceException;
+import com.company.system.service.AdaptiveBatchWindow;
+import com.company.system.service.WriteCombiner;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WriteCombinerの単体テスト
+ */
+@DisplayName("WriteCombiner単体テスト")
+class WriteCombinerTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WriteCombiningProperties properties;
+    private ReadYourWritesTracker readYourWritesTracker;
+    private WriteCombiner combiner;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new WriteCombiningProperties();
+        properties.setMaxWindow(Duration.ofMillis(5));
+        readYourWritesTracker = new ReadYourWritesTracker(Duration.ofSeconds(10));
+        combiner = new WriteCombiner(TransactionOperations.withoutTransaction(), properties, meterRegistry,
+                readYourWritesTracker);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        combiner.destroy();
+    }
+
+    @Test
+    @DisplayName("UT-047-1: update_正常系 - まとまる間は待ち時間を延ばし、1件のみ・目標超過の場合は半分に縮める")
+    void update_正常系() {
+        // Given（上限5ms、目標50ms、1段階0.5ms）
+        AdaptiveBatchWindow window = new AdaptiveBatchWindow(
+                TimeUnit.MILLISECONDS.toNanos(5), TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(0, window.getWindowNanos());
+
+        // When & Then（同時の書き込みがまとまる間は上限まで延ばす）
+        window.update(3, TimeUnit.MILLISECONDS.toNanos(2));
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(500), window.getWindowNanos());
+        for (int i = 0; i < 20; i++) {
+            window.update(3, TimeUnit.MILLISECONDS.toNanos(2));
+        }
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(5), window.getWindowNanos());
+
+        // 目標を超えた場合は半分に縮める
+        window.update(10, TimeUnit.MILLISECONDS.toNanos(60));
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(2500), window.getWindowNanos());
+
+        // 1件しか届かない場合は縮め続け、1段階未満になった時点で0にする
+        window.update(1, TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(1250), window.getWindowNanos());
+        window.update(1, TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(625), window.getWindowNanos());
+        window.update(1, TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(0, window.getWindowNanos());
+    }
+
+    @Test
+    @DisplayName("UT-047-2: execute_正常系 - 書き込み中に届いた要求を1回の一括処理にまとめ、要求ごとに結果を返す")
+    void execute_正常系_一括処理() throws Exception {
+        // Given（最初の書き込みを止めている間に残りの要求を届ける）
+        CountDownLatch release = new CountDownLatch(1);
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+        Function<String, String> single = request -> {
+            await(release);
+            return request.toUpperCase();
+        };
+        WriteCombiner.BatchWriter<String, String> batch = requests -> {
+            batches.add(requests);
+            return requests.stream()
+                    .map(request -> request.equals("dup")
+                            ? WriteCombiner.Result.<String>failed(new DuplicateResourceException("メールアドレスが重複しています"))
+                            : WriteCombiner.Result.of(request.toUpperCase()))
+                    .toList();
+        };
+
+        // When
+        List<String> requests = new ArrayList<>(List.of("first", "dup"));
+        for (int i = 2; i < CALLERS; i++) {
+            requests.add("employee" + i);
+        }
+        List<Future<String>> results = new ArrayList<>();
+        results.add(submit("first", single, batch, 0));
+        Thread.sleep(100);
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(submit(requests.get(i), single, batch, i));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // Then
+        assertEquals("FIRST|true", results.get(0).get(5, TimeUnit.SECONDS));
+        Exception e = assertThrows(Exception.class, () -> results.get(1).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DuplicateResourceException.class, e.getCause());
+        for (int i = 2; i < CALLERS; i++) {
+            assertEquals("EMPLOYEE" + i + "|true", results.get(i).get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, batches.size());
+        assertEquals(Set.copyOf(requests.subList(1, CALLERS)), Set.copyOf(batches.get(0)));
+        DistributionSummary batchSizes = meterRegistry.find("app.write-combining.batch.size").summary();
+        assertNotNull(batchSizes);
+        assertEquals(2, batchSizes.count());
+        assertEquals(CALLERS - 1, batchSizes.max());
+    }
+
+    @Test
+    @DisplayName("UT-047-3: execute_異常系 - 一括処理が失敗した場合は要求ごとに個別に書き込み、それぞれの結果を返す")
+    void execute_異常系_個別に書き込み() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> singles = new CopyOnWriteArrayList<>();
+        Function<String, String> single = request -> {
+            singles.add(request);
+            await(release);
+            if (request.equals("dup")) {
+                throw new DuplicateResourceException("メールアドレスが重複しています");
+            }
+            return request.toUpperCase();
+        };
+        WriteCombiner.BatchWriter<String, String> batch = requests -> {
+            throw new IllegalStateException("一意制約違反");
+        };
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        results.add(submit("first", single, batch, 0));
+        Thread.sleep(100);
+        results.add(submit("dup", single, batch, 1));
+        results.add(submit("second", single, batch, 2));
+        Thread.sleep(200);
+        release.countDown();
+
+        // Then
+        assertEquals("FIRST|true", results.get(0).get(5, TimeUnit.SECONDS));
+        Exception e = assertThrows(Exception.class, () -> results.get(1).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DuplicateResourceException.class, e.getCause());
+        assertEquals("SECOND|true", results.get(2).get(5, TimeUnit.SECONDS));
+        assertEquals(3, singles.size());
+    }
+
+    @Test
+    @DisplayName("UT-047-4: execute_正常系 - 無効な場合・呼び出し元のトランザクション内の場合はまとめずに呼び出し元スレッドで実行")
+    void execute_正常系_まとめない() {
+        // Given
+        Thread caller = Thread.currentThread();
+        WriteCombiner.BatchWriter<String, String> batch = requests -> {
+            throw new AssertionError("一括処理は呼ばれない");
+        };
+        Function<String, String> single = request -> {
+            assertSame(caller, Thread.currentThread());
+            return request.toUpperCase();
+        };
+
+        // When & Then
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertEquals("A", combiner.execute("employee.create", List.of(0), "a", single, batch));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        properties.setEnabled(false);
+        assertEquals("B", combiner.execute("employee.create", List.of(0), "b", single, batch));
+        assertNull(meterRegistry.find("app.write-combining.batch.size").summary());
+    }
+
+    @Test
+    @DisplayName("UT-047-5: execute_正常系/異常系 - 取り出し済みの要求は期限を過ぎても結果を返し、取り出し前に期限を過ぎた要求は書き込まない")
+    void execute_処理期限() throws Exception {
+        // Given（最初の書き込みを止めている間に、処理期限の短い要求を届ける）
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> written = new CopyOnWriteArrayList<>();
+        Function<String, String> single = request -> {
+            await(release);
+            written.add(request);
+            return request.toUpperCase();
+        };
+        WriteCombiner.BatchWriter<String, String> batch = requests -> {
+            written.addAll(requests);
+            return requests.stream().map(request -> WriteCombiner.Result.of(request.toUpperCase())).toList();
+        };
+
+        // When
+        Future<String> claimed = submit("claimed", single, batch, Duration.ofMillis(100));
+        Thread.sleep(100);
+        Future<String> queued = submit("queued", single, batch, Duration.ofMillis(100));
+
+        // Then（取り出し前の要求は期限超過となり、書き込まれない）
+        Exception e = assertThrows(Exception.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DeadlineExceededException.class, e.getCause());
+        release.countDown();
+        assertEquals("CLAIMED", claimed.get(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(List.of("claimed"), written);
+    }
+
+    /**
+     * 別スレッドから処理期限付きで書き込み、結果を返す
+     */
+    private Future<String> submit(String request, Function<String, String> single,
+                                  WriteCombiner.BatchWriter<String, String> batch, Duration timeout) {
+        return executor.submit(() -> {
+            RequestDeadline.set(RequestDeadline.after(timeout));
+            try {
+                return combiner.execute("employee.create", List.of(0), request, single, batch);
+            } finally {
+                RequestDeadline.set(null);
+            }
+        });
+    }
+
+    /**
+     * 別スレッドから書き込み、結果と書き込み直後の読み取りがプライマリへ固定されたかを返す
+     */
+    private Future<String> submit(String request, Function<String, String> single,
+                                  WriteCombiner.BatchWriter<String, String> batch, int session) {
+        return executor.submit(() -> {
+            ReadYourWritesTracker.setCurrentSession("session-" + session);
+            try {
+                String result = combiner.execute("employee.create", List.of(0), request, single, batch);
+                return result + "|" + readYourWritesTracker.isPinnedToPrimary();
+            } finally {
+                ReadYourWritesTracker.clearCurrentSession();
+            }
+        });
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}